@@ -0,0 +1,40 @@
+package com.snippethub.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${events.executor.core-size:4}")
+    private int coreSize;
+
+    @Value("${events.executor.max-size:8}")
+    private int maxSize;
+
+    @Value("${events.executor.queue-capacity:10000}")
+    private int queueCapacity;
+
+    /**
+     * 도메인 이벤트 후속 처리용 스레드 풀.
+     * 큐가 가득 차면 이벤트를 버리지 않고 커밋한 요청 스레드에서 직접 처리한다 (자연스러운 배압).
+     */
+    @Bean(name = "domainEventExecutor")
+    public ThreadPoolTaskExecutor domainEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("domain-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
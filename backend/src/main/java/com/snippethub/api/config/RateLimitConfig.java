@@ -1,8 +1,13 @@
 package com.snippethub.api.config;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import com.snippethub.api.security.DistributedRateLimiter;
+import com.snippethub.api.security.RedisRateLimitBucketStore;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,53 +15,61 @@ import org.springframework.context.annotation.Configuration;
 import java.time.Duration;
 
 @Configuration
+@Slf4j
 public class RateLimitConfig {
 
-    @Value("${rate.limiting.default-limit:100}")
-    private int defaultLimit;
+    @Value("${rate.limiting.redis.enabled:false}")
+    private boolean redisEnabled;
 
-    @Value("${rate.limiting.default-window:60}")
-    private int defaultWindow;
+    @Value("${spring.data.redis.host:localhost}")
+    private String redisHost;
 
-    @Value("${rate.limiting.ai-api-limit:10}")
-    private int aiApiLimit;
+    @Value("${spring.data.redis.port:6379}")
+    private int redisPort;
 
-    @Value("${rate.limiting.ai-api-window:60}")
-    private int aiApiWindow;
+    @Value("${spring.data.redis.password:}")
+    private String redisPassword;
 
-    @Value("${rate.limiting.code-execution-limit:5}")
-    private int codeExecutionLimit;
+    @Value("${rate.limiting.redis.timeout-ms:200}")
+    private long redisTimeoutMs;
 
-    @Value("${rate.limiting.code-execution-window:60}")
-    private int codeExecutionWindow;
+    // Redis 동기화 전 로컬에서 미리 소비할 수 있는 최대 토큰 수
+    @Value("${rate.limiting.redis.local-batch-size:5}")
+    private long localBatchSize;
 
-    @Value("${rate.limiting.auth-limit:5}")
-    private int authLimit;
+    @Value("${rate.limiting.redis.local-sync-interval-ms:500}")
+    private long localSyncIntervalMs;
 
-    @Value("${rate.limiting.auth-window:300}")
-    private int authWindow;
+    // Redis 장애 시 로컬 버킷으로 대체하는 시간
+    @Value("${rate.limiting.redis.retry-interval-ms:30000}")
+    private long retryIntervalMs;
 
-    @Bean
-    public Bucket defaultBucket() {
-        Bandwidth limit = Bandwidth.classic(defaultLimit, Refill.greedy(defaultLimit, Duration.ofSeconds(defaultWindow)));
-        return Bucket.builder().addLimit(limit).build();
-    }
+    @Bean(destroyMethod = "shutdown")
+    public DistributedRateLimiter distributedRateLimiter() {
+        Duration retryInterval = Duration.ofMillis(retryIntervalMs);
+        if (!redisEnabled) {
+            log.info("Rate limiting uses node-local buckets (rate.limiting.redis.enabled=false)");
+            return new DistributedRateLimiter(null, retryInterval);
+        }
 
-    @Bean
-    public Bucket aiApiBucket() {
-        Bandwidth limit = Bandwidth.classic(aiApiLimit, Refill.greedy(aiApiLimit, Duration.ofSeconds(aiApiWindow)));
-        return Bucket.builder().addLimit(limit).build();
-    }
+        Duration timeout = Duration.ofMillis(redisTimeoutMs);
+        RedisURI.Builder uri = RedisURI.builder()
+                .withHost(redisHost)
+                .withPort(redisPort)
+                .withTimeout(timeout);
+        if (!redisPassword.isEmpty()) {
+            uri.withPassword(redisPassword.toCharArray());
+        }
 
-    @Bean
-    public Bucket codeExecutionBucket() {
-        Bandwidth limit = Bandwidth.classic(codeExecutionLimit, Refill.greedy(codeExecutionLimit, Duration.ofSeconds(codeExecutionWindow)));
-        return Bucket.builder().addLimit(limit).build();
-    }
+        // Redis 장애가 요청 지연으로 번지지 않도록 연결/명령 타임아웃을 짧게 둔다
+        RedisClient redisClient = RedisClient.create(uri.build());
+        redisClient.setOptions(ClientOptions.builder()
+                .socketOptions(SocketOptions.builder().connectTimeout(timeout).build())
+                .timeoutOptions(TimeoutOptions.enabled(timeout))
+                .build());
 
-    @Bean
-    public Bucket authBucket() {
-        Bandwidth limit = Bandwidth.classic(authLimit, Refill.greedy(authLimit, Duration.ofSeconds(authWindow)));
-        return Bucket.builder().addLimit(limit).build();
+        RedisRateLimitBucketStore store = new RedisRateLimitBucketStore(
+                redisClient, localBatchSize, Duration.ofMillis(localSyncIntervalMs));
+        return new DistributedRateLimiter(store, retryInterval);
     }
 }
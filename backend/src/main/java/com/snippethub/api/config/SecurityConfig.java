@@ -13,6 +13,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
 import static org.springframework.security.config.Customizer.withDefaults;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -58,7 +59,7 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .formLogin(form -> form.disable())
             .httpBasic(basic -> basic.disable())
-            .authorizeHttpRequests(authorize -> authorize
+            .authorizeHttpRequests(authorize -> adminEndpoints(authorize)
                 // API 엔드포인트들
                 .requestMatchers("/ws/**").permitAll()
                 .requestMatchers("/api/health").permitAll()
@@ -71,6 +72,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/snippets/**").permitAll()
                 .requestMatchers("/api/daily-problems/**").permitAll()
                 .requestMatchers("/api/problems/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/tags/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/posts/{postId}/comments").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/snippets/{snippetId}/comments").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/posts/{postId}/comments").permitAll()
@@ -110,6 +112,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 관리 기능 경로는 ADMIN 권한으로 제한한다.
+     * 메서드 보안(@EnableMethodSecurity)이 켜져 있지 않아 컨트롤러의 @PreAuthorize 만으로는 막히지 않으므로 URL 규칙으로 건다.
+     */
+    static AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry adminEndpoints(
+            AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry authorize) {
+        return authorize
+                .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                .requestMatchers("/api/badges/admin/**").hasRole("ADMIN");
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -23,6 +23,8 @@ import java.util.Map;
 @RequestMapping("/api/auth")
 public class AuthController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthService authService;
 
     public AuthController(AuthService authService) {
@@ -66,6 +68,22 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success("토큰 재발급 성공", tokenDto));
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<String>> logout(@RequestHeader("Authorization") String accessToken) {
+        authService.logout(bearerToken(accessToken));
+        return ResponseEntity.ok(ApiResponse.success("로그아웃되었습니다."));
+    }
+
+    /**
+     * "Bearer " 를 뗀 토큰. 형식이 다르면 500 대신 401 로 응답한다.
+     */
+    private static String bearerToken(String header) {
+        if (header == null || !header.startsWith(BEARER_PREFIX) || header.length() == BEARER_PREFIX.length()) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+        return header.substring(BEARER_PREFIX.length());
+    }
+
     @PostMapping("/forgot-password")
     public ResponseEntity<ApiResponse<String>> forgotPassword(@RequestBody Map<String, String> request) {
         String email = request.get("email");
@@ -3,26 +3,43 @@ package com.snippethub.api.controller;
 import com.snippethub.api.domain.Badge;
 import com.snippethub.api.domain.UserBadge;
 import com.snippethub.api.dto.ApiResponse;
+import com.snippethub.api.service.BadgeCatalog;
 import com.snippethub.api.service.BadgeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/badges")
 @RequiredArgsConstructor
 public class BadgeController {
 
+    private static final String CATALOG_VERSION_HEADER = "X-Badge-Catalog-Version";
+
     private final BadgeService badgeService;
+    private final BadgeCatalog badgeCatalog;
 
     /**
      * 전체 뱃지 목록 조회 (모든 사용자 공통)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<BadgeInfoDto>>> getAllBadges(@RequestParam(required = false) String category) {
+    public ResponseEntity<ApiResponse<List<BadgeInfoDto>>> getAllBadges(
+            @RequestParam(required = false) String category,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 카탈로그 버전이 같으면 본문 없이 304 (클라이언트 캐시 재사용)
+        String version = badgeCatalog.getVersion();
+        String eTag = "\"" + version + "\"";
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         try {
             List<Badge> badges;
             if (category != null && !category.isEmpty()) {
@@ -40,13 +57,30 @@ public class BadgeController {
             for (Badge badge : badges) {
                 badgeInfoList.add(convertToBadgeInfoDto(badge));
             }
-            return ResponseEntity.ok(ApiResponse.success("전체 뱃지 목록을 조회했습니다.", badgeInfoList));
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .header(CATALOG_VERSION_HEADER, version)
+                    .body(ApiResponse.success("전체 뱃지 목록을 조회했습니다.", badgeInfoList));
         } catch (Exception e) {
             // 오류 발생 시 빈 리스트 반환
             return ResponseEntity.ok(ApiResponse.success("전체 뱃지 목록을 조회했습니다.", new java.util.ArrayList<>()));
         }
     }
 
+    /**
+     * 뱃지 카탈로그 재로딩 (관리자, 뱃지 데이터 변경 후)
+     */
+    @PostMapping("/admin/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> reloadCatalog() {
+        boolean changed = badgeCatalog.reload();
+        Map<String, Object> result = new HashMap<>();
+        result.put("changed", changed);
+        result.put("version", badgeCatalog.getVersion());
+        result.put("badgeCount", badgeCatalog.getAll().size());
+        return ResponseEntity.ok(ApiResponse.success("뱃지 카탈로그를 다시 불러왔습니다.", result));
+    }
+
     /**
      * 사용자의 뱃지 목록 조회
      */
@@ -155,7 +189,11 @@ public class BadgeController {
 
     private BadgeResponseDto convertToBadgeResponseDto(UserBadge userBadge) {
         try {
-            Badge badge = userBadge.getBadge();
+            // 뱃지 정의는 카탈로그에서 조회 (지연 로딩 프록시 초기화로 인한 badges 조회 방지)
+            Badge badge = badgeCatalog.getById(userBadge.getBadge().getId());
+            if (badge == null) {
+                badge = userBadge.getBadge();
+            }
             return new BadgeResponseDto(
                     badge.getId(),
                     badge.getName(),
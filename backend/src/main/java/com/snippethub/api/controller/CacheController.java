@@ -0,0 +1,25 @@
+package com.snippethub.api.controller;
+
+import com.snippethub.api.dto.ApiResponse;
+import com.snippethub.api.service.DetailCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final DetailCache detailCache;
+
+    /**
+     * 상세 화면 캐시 적중률과 절약 시간 추정치
+     */
+    @GetMapping("/detail/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<DetailCache.Stats>> getDetailCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success("상세 캐시 통계를 조회했습니다.", detailCache.getStats()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.snippethub.api.controller;
 
 import com.snippethub.api.dto.CommentDto;
+import com.snippethub.api.dto.CursorPageResponseDto;
 import com.snippethub.api.service.CommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -77,6 +78,24 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    // 게시글의 댓글 커서 페이지 (작성순, 무한 스크롤)
+    @GetMapping("/posts/{postId}/comments/feed")
+    public ResponseEntity<CursorPageResponseDto<CommentDto.CommentResponseDto>> getPostCommentFeed(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getPostCommentFeed(postId, cursor, size));
+    }
+
+    // 스니펫의 댓글 커서 페이지 (작성순, 무한 스크롤)
+    @GetMapping("/snippets/{snippetId}/comments/feed")
+    public ResponseEntity<CursorPageResponseDto<CommentDto.CommentResponseDto>> getSnippetCommentFeed(
+            @PathVariable Long snippetId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getSnippetCommentFeed(snippetId, cursor, size));
+    }
+
     // 게시글의 모든 댓글 목록 조회 (페이징 없음)
     @GetMapping("/posts/{postId}/comments/all")
     public ResponseEntity<List<CommentDto.CommentResponseDto>> getAllPostComments(
@@ -169,6 +188,24 @@ class CommentControllerV2 {
         return ResponseEntity.ok(comments);
     }
 
+    // 게시글의 댓글 커서 페이지 (프론트엔드 호환성)
+    @GetMapping("/posts/{postId}/comments/feed")
+    public ResponseEntity<CursorPageResponseDto<CommentDto.CommentResponseDto>> getPostCommentFeed(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getPostCommentFeed(postId, cursor, size));
+    }
+
+    // 스니펫의 댓글 커서 페이지 (프론트엔드 호환성)
+    @GetMapping("/snippets/{snippetId}/comments/feed")
+    public ResponseEntity<CursorPageResponseDto<CommentDto.CommentResponseDto>> getSnippetCommentFeed(
+            @PathVariable Long snippetId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getSnippetCommentFeed(snippetId, cursor, size));
+    }
+
     // 게시글의 모든 댓글 목록 조회 (프론트엔드 호환성, 페이징 없음)
     @GetMapping("/posts/{postId}/comments/all")
     public ResponseEntity<List<CommentDto.CommentResponseDto>> getAllPostComments(
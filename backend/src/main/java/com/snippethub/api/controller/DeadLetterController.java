@@ -0,0 +1,40 @@
+package com.snippethub.api.controller;
+
+import com.snippethub.api.dto.ApiResponse;
+import com.snippethub.api.event.DomainEventRetrier;
+import com.snippethub.api.service.PointLedger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/dead-letters")
+@RequiredArgsConstructor
+public class DeadLetterController {
+
+    private static final int MAX_REPLAY = 1000;
+
+    private final PointLedger pointLedger;
+    private final DomainEventRetrier domainEventRetrier;
+
+    /**
+     * 반영하지 못한 포인트 지급 내역을 오래된 순으로 원장에 다시 등록
+     */
+    @PostMapping("/points/replay")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> replayPointAwards(@RequestParam(defaultValue = "100") int limit) {
+        int replayed = pointLedger.replayDeadLetters(Math.max(1, Math.min(limit, MAX_REPLAY)));
+        return ResponseEntity.ok(ApiResponse.success("포인트 지급 dead-letter 를 재처리 대기열에 등록했습니다.", replayed));
+    }
+
+    /**
+     * 재시도 끝에 실패한 도메인 이벤트를 오래된 순으로 해당 핸들러에 다시 전달
+     */
+    @PostMapping("/events/replay")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> replayDomainEvents(@RequestParam(defaultValue = "100") int limit) {
+        int replayed = domainEventRetrier.replayDeadLetters(Math.max(1, Math.min(limit, MAX_REPLAY)));
+        return ResponseEntity.ok(ApiResponse.success("도메인 이벤트 dead-letter 를 재처리했습니다.", replayed));
+    }
+}
@@ -2,6 +2,7 @@ package com.snippethub.api.controller;
 
 import com.snippethub.api.domain.NotificationType;
 import com.snippethub.api.domain.User;
+import com.snippethub.api.dto.CursorPageResponseDto;
 import com.snippethub.api.dto.NotificationDto;
 import com.snippethub.api.repository.UserRepository;
 import com.snippethub.api.service.NotificationService;
@@ -29,6 +30,15 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    // 내 알림 커서 페이지 (최신순, 무한 스크롤)
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponseDto<NotificationDto>> getMyNotificationFeed(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationService.getMyNotificationFeed(userDetails.getUsername(), cursor, size));
+    }
+
     // 알림 읽음 처리
     @PostMapping("/{notificationId}/read")
     public ResponseEntity<Void> markAsRead(
@@ -75,6 +85,15 @@ class NotificationControllerV2 {
         return ResponseEntity.ok(notifications);
     }
 
+    // 내 알림 커서 페이지 (프론트엔드 호환성)
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponseDto<NotificationDto>> getMyNotificationFeed(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationService.getMyNotificationFeed(userDetails.getUsername(), cursor, size));
+    }
+
     // 알림 읽음 처리 (프론트엔드 호환성)
     @PostMapping("/{notificationId}/read")
     public ResponseEntity<Void> markAsRead(
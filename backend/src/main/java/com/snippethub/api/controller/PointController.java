@@ -2,6 +2,7 @@ package com.snippethub.api.controller;
 
 import com.snippethub.api.domain.PointHistory;
 import com.snippethub.api.dto.ApiResponse;
+import com.snippethub.api.dto.CursorPageResponseDto;
 import com.snippethub.api.dto.PageResponseDto;
 import com.snippethub.api.service.PointService;
 import com.snippethub.api.service.UserService;
@@ -47,6 +48,22 @@ public class PointController {
         return ResponseEntity.ok(ApiResponse.success("포인트 히스토리를 조회했습니다.", responseDto));
     }
 
+    /**
+     * 내 포인트 히스토리 커서 페이지 (최신순, 무한 스크롤)
+     */
+    @GetMapping("/my/history/feed")
+    public ResponseEntity<ApiResponse<CursorPageResponseDto<PointHistoryResponseDto>>> getMyPointHistoryFeed(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userId = getUserIdFromAuthentication(authentication);
+        CursorPageResponseDto<PointHistoryResponseDto> responseDto = pointService
+                .getUserPointHistoryFeed(userId, cursor, size)
+                .map(PointHistoryResponseDto::new);
+
+        return ResponseEntity.ok(ApiResponse.success("포인트 히스토리를 조회했습니다.", responseDto));
+    }
+
     /**
      * 내 포인트 통계 조회
      */
@@ -2,7 +2,9 @@ package com.snippethub.api.controller;
 
 import com.snippethub.api.domain.Post;
 import com.snippethub.api.dto.ApiResponse;
+import com.snippethub.api.dto.CursorPageResponseDto;
 import com.snippethub.api.dto.PageResponseDto;
+import com.snippethub.api.dto.RawJson;
 import com.snippethub.api.dto.post.PostCreateRequestDto;
 import com.snippethub.api.dto.post.PostResponseDto;
 import com.snippethub.api.dto.post.PostUpdateRequestDto;
@@ -39,10 +41,9 @@ public class PostController {
     }
 
     @GetMapping("/{postId}")
-    public ResponseEntity<ApiResponse<PostResponseDto>> getPost(@PathVariable Long postId) {
-        Post post = postService.getPost(postId);
-        PostResponseDto responseDto = new PostResponseDto(post);
-        return ResponseEntity.ok(ApiResponse.success(responseDto));
+    public ResponseEntity<ApiResponse<RawJson>> getPost(@PathVariable Long postId) {
+        // PostResponseDto 를 직렬화해 캐시한 JSON
+        return ResponseEntity.ok(ApiResponse.success(postService.getPostDetail(postId)));
     }
 
     @GetMapping
@@ -72,6 +73,18 @@ public class PostController {
         return ResponseEntity.ok(ApiResponse.success(responseDto));
     }
 
+    /**
+     * 무한 스크롤용 커서 목록 (sort: LATEST, POPULAR). 첫 요청은 cursor 없이, 다음부터 응답의 nextCursor 를 넘긴다.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<CursorPageResponseDto<PostResponseDto>>> getPostFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "LATEST") String sort) {
+        return ResponseEntity.ok(ApiResponse.success(postService.getPostFeed(sort, category, cursor, size)));
+    }
+
     @PutMapping("/{postId}")
     public ResponseEntity<ApiResponse<PostResponseDto>> updatePost(
             @PathVariable Long postId,
@@ -1,6 +1,7 @@
 package com.snippethub.api.controller;
 
 import com.snippethub.api.dto.ApiResponse;
+import com.snippethub.api.security.AuditLogWriter;
 import com.snippethub.api.security.CodeExecutionSecurityFilter;
 import com.snippethub.api.security.SecurityTestUtils;
 import com.snippethub.api.security.RateLimitFilter;
@@ -60,6 +61,7 @@ public class SecurityController {
     private final CodeExecutionSecurityFilter codeExecutionSecurityFilter;
     private final SecurityTestUtils securityTestUtils;
     private final RateLimitFilter rateLimitFilter;
+    private final AuditLogWriter auditLogWriter;
 
     @GetMapping("/status")
     @PreAuthorize("hasRole('ADMIN')")
@@ -84,6 +86,9 @@ public class SecurityController {
         stats.put("blockedRequests", 0);
         stats.put("rateLimitExceeded", 0);
         stats.put("maliciousCodeBlocked", 0);
+        stats.put("auditEventsWritten", auditLogWriter.getWrittenCount());
+        stats.put("auditEventsDropped", auditLogWriter.getDroppedCount());
+        stats.put("auditEventsPending", auditLogWriter.getPendingCount());
         stats.put("lastUpdated", System.currentTimeMillis());
         
         return ResponseEntity.ok(ApiResponse.success("보안 통계를 조회했습니다.", stats));
@@ -2,6 +2,7 @@ package com.snippethub.api.controller;
 
 import com.snippethub.api.domain.Snippet;
 import com.snippethub.api.dto.ApiResponse;
+import com.snippethub.api.dto.CursorPageResponseDto;
 import com.snippethub.api.dto.snippet.SnippetCreateRequestDto;
 import com.snippethub.api.dto.snippet.SnippetResponseDto;
 import com.snippethub.api.service.SnippetService;
@@ -14,9 +15,14 @@ import org.springframework.security.core.userdetails.UserDetails;
 import com.snippethub.api.domain.Snippet;
 import com.snippethub.api.dto.ApiResponse;
 import com.snippethub.api.dto.PageResponseDto;
+import com.snippethub.api.dto.RawJson;
+import com.snippethub.api.dto.snippet.CodeSearchResponseDto;
 import com.snippethub.api.dto.snippet.SnippetCreateRequestDto;
 import com.snippethub.api.dto.snippet.SnippetResponseDto;
+import com.snippethub.api.dto.snippet.SnippetSummaryDto;
 import com.snippethub.api.dto.snippet.SnippetUpdateRequestDto;
+import com.snippethub.api.exception.BusinessException;
+import com.snippethub.api.exception.ErrorCode;
 import com.snippethub.api.service.SnippetService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +41,9 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class SnippetController {
 
+    // 깊은 페이지는 앞 페이지 후보를 모두 다시 확인해야 하므로 제한한다
+    private static final int MAX_CODE_SEARCH_PAGE = 20;
+
     private final SnippetService snippetService;
 
     @PostMapping
@@ -59,14 +68,13 @@ public class SnippetController {
     }
 
     @GetMapping("/{snippetId}")
-    public ResponseEntity<ApiResponse<SnippetResponseDto>> getSnippet(@PathVariable Long snippetId) {
-        Snippet snippet = snippetService.getSnippet(snippetId);
-        SnippetResponseDto responseDto = new SnippetResponseDto(snippet);
-        return ResponseEntity.ok(ApiResponse.success(responseDto));
+    public ResponseEntity<ApiResponse<RawJson>> getSnippet(@PathVariable Long snippetId) {
+        // SnippetResponseDto 를 직렬화해 캐시한 JSON
+        return ResponseEntity.ok(ApiResponse.success(snippetService.getSnippetDetail(snippetId)));
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<PageResponseDto<SnippetResponseDto>>> getSnippets(
+    public ResponseEntity<ApiResponse<PageResponseDto<SnippetSummaryDto>>> getSnippets(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String language,
@@ -83,12 +91,46 @@ public class SnippetController {
         }
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortProperty));
-        Page<Snippet> snippetsPage = snippetService.getSnippets(pageable, language, search);
+        Page<SnippetSummaryDto> snippetsPage = snippetService.getSnippetSummaries(pageable, language, search);
+        PageResponseDto<SnippetSummaryDto> responseDto = new PageResponseDto<>(snippetsPage);
+
+        return ResponseEntity.ok(ApiResponse.success(responseDto));
+    }
+
+    /**
+     * 무한 스크롤용 커서 목록 (sort: LATEST, POPULAR). 첫 요청은 cursor 없이, 다음부터 응답의 nextCursor 를 넘긴다.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<CursorPageResponseDto<SnippetSummaryDto>>> getSnippetFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String language,
+            @RequestParam(defaultValue = "LATEST") String sort) {
+        return ResponseEntity.ok(ApiResponse.success(snippetService.getSnippetFeed(sort, language, cursor, size)));
+    }
 
-        PageResponseDto<SnippetResponseDto> responseDto = new PageResponseDto<>(
-                snippetsPage.map(SnippetResponseDto::new)
-        );
+    /**
+     * 코드 본문 검색. 정규식 모드는 매칭 비용이 커서 로그인 사용자만 쓸 수 있고, 페이지는 MAX_CODE_SEARCH_PAGE 까지만 허용한다.
+     */
+    @GetMapping("/code-search")
+    public ResponseEntity<ApiResponse<CodeSearchResponseDto>> searchCode(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "false") boolean regex,
+            @RequestParam(defaultValue = "false") boolean ignoreCase,
+            @RequestParam(required = false) String language,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
 
+        if (regex && userDetails == null) {
+            throw new BusinessException(ErrorCode.CODE_SEARCH_LOGIN_REQUIRED);
+        }
+        if (page > MAX_CODE_SEARCH_PAGE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        int safePage = Math.max(0, page);
+        int safeSize = Math.max(1, Math.min(size, 50));
+        CodeSearchResponseDto responseDto = snippetService.searchCode(q, regex, ignoreCase, language, safePage, safeSize);
         return ResponseEntity.ok(ApiResponse.success(responseDto));
     }
 
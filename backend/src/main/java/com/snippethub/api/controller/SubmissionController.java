@@ -3,6 +3,7 @@ package com.snippethub.api.controller;
 import com.snippethub.api.domain.SubmissionStatus;
 import com.snippethub.api.domain.User;
 import com.snippethub.api.dto.ApiResponse;
+import com.snippethub.api.dto.CursorPageResponseDto;
 import com.snippethub.api.dto.PageResponseDto;
 import com.snippethub.api.dto.problem.ProblemSubmissionRequestDto;
 import com.snippethub.api.dto.problem.ProblemSubmissionResponseDto;
@@ -74,6 +75,21 @@ public class SubmissionController {
         return ResponseEntity.ok(ApiResponse.success("내 제출 이력을 조회했습니다.", response));
     }
 
+    /**
+     * 사용자의 제출 이력 커서 페이지 (최신순, 무한 스크롤)
+     */
+    @GetMapping("/my/feed")
+    public ResponseEntity<ApiResponse<CursorPageResponseDto<ProblemSubmissionResponseDto>>> getMySubmissionFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Long userId = getUserIdSafely(userService.getUserByEmail(userDetails.getUsername()));
+        CursorPageResponseDto<ProblemSubmissionResponseDto> response = submissionService.getUserSubmissionFeed(userId, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success("내 제출 이력을 조회했습니다.", response));
+    }
+
     /**
      * 특정 문제의 사용자 제출 이력 조회
      */
@@ -0,0 +1,42 @@
+package com.snippethub.api.controller;
+
+import com.snippethub.api.dto.ApiResponse;
+import com.snippethub.api.dto.CursorPageResponseDto;
+import com.snippethub.api.dto.snippet.SnippetSummaryDto;
+import com.snippethub.api.service.SnippetService;
+import com.snippethub.api.service.TagStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagStatistics tagStatistics;
+    private final SnippetService snippetService;
+
+    /**
+     * 사용 수 상위 태그 (스니펫 + 게시글)
+     */
+    @GetMapping("/cloud")
+    public ResponseEntity<ApiResponse<List<TagStatistics.TagCount>>> getTagCloud(
+            @RequestParam(defaultValue = "50") int limit) {
+        int safeLimit = Math.max(1, Math.min(limit, 200));
+        return ResponseEntity.ok(ApiResponse.success(tagStatistics.getTagCloud(safeLimit)));
+    }
+
+    /**
+     * 태그가 붙은 공개 스니펫 (최신순). 첫 요청은 cursor 없이, 다음부터 응답의 nextCursor 를 넘긴다.
+     */
+    @GetMapping("/{tag}/snippets")
+    public ResponseEntity<ApiResponse<CursorPageResponseDto<SnippetSummaryDto>>> getTaggedSnippets(
+            @PathVariable String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(snippetService.getTaggedSnippetFeed(tag, cursor, size)));
+    }
+}
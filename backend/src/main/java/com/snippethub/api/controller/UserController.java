@@ -22,6 +22,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -122,6 +125,34 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success("사용자 랭킹을 조회했습니다.", responseDto));
     }
 
+    /**
+     * 내 랭킹 조회
+     */
+    @GetMapping("/ranking/me")
+    public ResponseEntity<ApiResponse<UserRankResponseDto>> getMyRanking(
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        UserService.RankedUser me = userService.getMyRank(userDetails.getUsername());
+        UserRankResponseDto responseDto = new UserRankResponseDto(me, userService.getRankedUserCount());
+        return ResponseEntity.ok(ApiResponse.success("내 랭킹을 조회했습니다.", responseDto));
+    }
+
+    /**
+     * 특정 사용자 주변 랭킹 조회 (앞뒤 radius 명)
+     */
+    @GetMapping("/{userId}/ranking/neighbors")
+    public ResponseEntity<ApiResponse<List<UserRankResponseDto>>> getRankingNeighbors(
+            @PathVariable Long userId,
+            @RequestParam(required = false, defaultValue = "5") int radius) {
+
+        long total = userService.getRankedUserCount();
+        List<UserRankResponseDto> responseDto = userService.getRankingNeighbors(userId, Math.max(1, Math.min(radius, 50)))
+                .stream()
+                .map(rankedUser -> new UserRankResponseDto(rankedUser, total))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(ApiResponse.success("주변 랭킹을 조회했습니다.", responseDto));
+    }
+
     /**
      * 등급별 통계 조회
      */
@@ -221,6 +252,38 @@ public class UserController {
     }
 
 
+    public static class UserRankResponseDto {
+        private long rank;
+        private long totalUsers;
+        private Long userId;
+        private String nickname;
+        private String profileImage;
+        private String currentLevel;
+        private String levelEmoji;
+        private int currentPoints;
+
+        public UserRankResponseDto(UserService.RankedUser rankedUser, long totalUsers) {
+            User user = rankedUser.getUser();
+            this.rank = rankedUser.getRank();
+            this.totalUsers = totalUsers;
+            this.userId = user.getId();
+            this.nickname = user.getNickname();
+            this.profileImage = user.getProfileImage();
+            this.currentLevel = user.getCurrentLevel().getDisplayName();
+            this.levelEmoji = user.getCurrentLevel().getEmoji();
+            this.currentPoints = user.getPoints();
+        }
+
+        // Getters
+        public long getRank() { return rank; }
+        public long getTotalUsers() { return totalUsers; }
+        public Long getUserId() { return userId; }
+        public String getNickname() { return nickname; }
+        public String getProfileImage() { return profileImage; }
+        public String getCurrentLevel() { return currentLevel; }
+        public String getLevelEmoji() { return levelEmoji; }
+        public int getCurrentPoints() { return currentPoints; }
+    }
 
     @GetMapping("/posts")
     public ResponseEntity<ApiResponse<PageResponseDto<PostResponseDto>>> getMyPosts(
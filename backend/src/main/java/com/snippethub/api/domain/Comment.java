@@ -16,7 +16,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 대상별 키셋 페이지네이션 (작성순)
+        @Index(name = "idx_comments_post_created_at_id", columnList = "post_id, created_at, comment_id"),
+        @Index(name = "idx_comments_snippet_created_at_id", columnList = "snippet_id, created_at, comment_id")
+})
 public class Comment {
 
     @Id
@@ -52,6 +56,12 @@ public class Comment {
     @Builder.Default
     private Integer depth = 0; // 0: 원댓글, 1: 대댓글, 2: 대대댓글
 
+    // 바로 아래 대댓글 수 (목록에서 replies 를 읽지 않도록 비정규화, 원자적 UPDATE 로 유지).
+    // 엔티티 flush 가 오래된 값으로 덮어쓰지 않도록 UPDATE 대상에서 뺀다
+    @Column(name = "reply_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int replyCount = 0;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
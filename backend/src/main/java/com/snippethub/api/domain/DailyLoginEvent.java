@@ -0,0 +1,56 @@
+package com.snippethub.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 일일 첫 로그인 기록. (user_id, login_date) 가 멱등 키라 같은 날 여러 번 로그인해도 한 행만 남는다.
+ * 연속 로그인 계산과 보상 지급은 배치 작업(LoginRewardBatch)이 processed 플래그로 한 번만 처리한다.
+ * 처리하지 못한 행은 failed 로 표시해 대기열에서 빼고, 처리된 행은 보관 기간이 지나면 지운다.
+ */
+@Entity
+@Table(name = "daily_login_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_login_events_user_date", columnNames = {"user_id", "login_date"}),
+        indexes = {
+                @Index(name = "idx_daily_login_events_processed", columnList = "processed, event_id"),
+                @Index(name = "idx_daily_login_events_processed_date", columnList = "processed, login_date")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyLoginEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "login_date", nullable = false)
+    private LocalDate loginDate;
+
+    @Column(name = "logged_in_at", nullable = false)
+    private LocalDateTime loggedInAt;
+
+    @Column(name = "processed", nullable = false)
+    private boolean processed;
+
+    // 한 건씩 다시 처리해도 실패한 행 (processed 와 함께 true, 보관 기간 정리 대상에서 제외)
+    @Column(name = "failed", nullable = false)
+    private boolean failed;
+
+    @Builder
+    public DailyLoginEvent(Long userId, LocalDate loginDate, LocalDateTime loggedInAt, boolean processed) {
+        this.userId = userId;
+        this.loginDate = loginDate;
+        this.loggedInAt = loggedInAt;
+        this.processed = processed;
+    }
+}
@@ -0,0 +1,55 @@
+package com.snippethub.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도 후에도 처리하지 못한 도메인 이벤트 (수동 확인/재처리용)
+ */
+@Entity
+@Table(name = "domain_event_dead_letters", indexes = {
+        @Index(name = "idx_domain_event_dead_letters_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DomainEventDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "dead_letter_id")
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "handler", nullable = false, length = 100)
+    private String handler;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public DomainEventDeadLetter(String eventType, String handler, String payload, Integer attempts,
+                                 String lastError, LocalDateTime createdAt) {
+        this.eventType = eventType;
+        this.handler = handler;
+        this.payload = payload;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+    }
+}
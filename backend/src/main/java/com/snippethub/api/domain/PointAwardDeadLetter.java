@@ -0,0 +1,78 @@
+package com.snippethub.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원장에 반영하지 못한 포인트 지급 내역 (확인 후 재처리용)
+ */
+@Entity
+@Table(name = "point_award_dead_letters", indexes = {
+        @Index(name = "idx_point_award_dead_letters_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointAwardDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "dead_letter_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "point_type", nullable = false, length = 50)
+    private String pointType;
+
+    @Column(name = "point_change", nullable = false)
+    private Integer pointChange;
+
+    @Column(name = "description", length = 1000)
+    private String description;
+
+    @Column(name = "related_id")
+    private Long relatedId;
+
+    @Column(name = "related_type", length = 50)
+    private String relatedType;
+
+    // 함께 증가시킬 사용자 활동 카운터 (PointLedger.Counter)
+    @Column(name = "activity_counter", nullable = false, length = 30)
+    private String activityCounter;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // 원래 지급 시각
+    @Column(name = "awarded_at", nullable = false)
+    private LocalDateTime awardedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public PointAwardDeadLetter(Long userId, String pointType, Integer pointChange, String description, Long relatedId,
+                                String relatedType, String activityCounter, Integer attempts, String lastError,
+                                LocalDateTime awardedAt, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.pointType = pointType;
+        this.pointChange = pointChange;
+        this.description = description;
+        this.relatedId = relatedId;
+        this.relatedType = relatedType;
+        this.activityCounter = activityCounter;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.awardedAt = awardedAt;
+        this.createdAt = createdAt;
+    }
+}
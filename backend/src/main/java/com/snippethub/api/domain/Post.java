@@ -13,7 +13,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 키셋 페이지네이션 (최신순, 인기순)
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_posts_like_count_id", columnList = "like_count, id"),
+        @Index(name = "idx_posts_category_created_at_id", columnList = "category, created_at, id"),
+        @Index(name = "idx_posts_category_like_count_id", columnList = "category, like_count, id"),
+        // 검색 색인 따라잡기 (수정 시각순)
+        @Index(name = "idx_posts_updated_at_id", columnList = "updated_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post {
@@ -58,13 +66,14 @@ public class Post {
     @Column(name = "is_public")
     private boolean isPublic = true;
 
-    @Column(name = "view_count")
+    // 조회수/댓글 수는 원자적 UPDATE 로만 바꾼다 (엔티티 전체 UPDATE 가 그 사이 증감을 덮어쓰지 않도록)
+    @Column(name = "view_count", updatable = false)
     private int viewCount = 0;
 
     @Column(name = "like_count")
     private int likeCount = 0;
 
-    @Column(name = "comment_count")
+    @Column(name = "comment_count", updatable = false)
     private int commentCount = 0;
 
     @CreationTimestamp
@@ -91,18 +100,6 @@ public class Post {
         this.isPublic = isPublic;
     }
 
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
-    public void increaseCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decreaseCommentCount() {
-        this.commentCount = Math.max(0, this.commentCount - 1);
-    }
-
     public void increaseLikeCount() {
         this.likeCount++;
     }
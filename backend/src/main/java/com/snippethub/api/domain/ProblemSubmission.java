@@ -10,7 +10,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "problem_submissions", schema = "snippethub_db")
+@Table(name = "problem_submissions", schema = "snippethub_db", indexes = {
+        @Index(name = "idx_problem_submissions_user_submitted_at_id", columnList = "user_id, submitted_at, submission_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProblemSubmission {
@@ -0,0 +1,64 @@
+package com.snippethub.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "security_audit_logs", indexes = {
+        @Index(name = "idx_security_audit_logs_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SecurityAuditLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "audit_log_id")
+    private Long id;
+
+    @Column(name = "method", nullable = false, length = 10)
+    private String method;
+
+    @Column(name = "request_path", nullable = false, length = 500)
+    private String requestPath;
+
+    @Column(name = "client_ip", length = 64)
+    private String clientIp;
+
+    @Column(name = "username", length = 100)
+    private String username;
+
+    @Column(name = "status_code", nullable = false)
+    private Integer statusCode;
+
+    @Column(name = "duration_ms", nullable = false)
+    private Long durationMs;
+
+    @Column(name = "user_agent", length = 100)
+    private String userAgent;
+
+    @Column(name = "high_risk", nullable = false)
+    private boolean highRisk;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public SecurityAuditLog(String method, String requestPath, String clientIp, String username, Integer statusCode,
+                            Long durationMs, String userAgent, boolean highRisk, LocalDateTime createdAt) {
+        this.method = method;
+        this.requestPath = requestPath;
+        this.clientIp = clientIp;
+        this.username = username;
+        this.statusCode = statusCode;
+        this.durationMs = durationMs;
+        this.userAgent = userAgent;
+        this.highRisk = highRisk;
+        this.createdAt = createdAt;
+    }
+}
@@ -13,7 +13,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "snippets")
+@Table(name = "snippets", indexes = {
+        // 키셋 페이지네이션 (최신순, 인기순)
+        @Index(name = "idx_snippets_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_snippets_like_count_id", columnList = "like_count, id"),
+        @Index(name = "idx_snippets_language_created_at_id", columnList = "language, created_at, id"),
+        @Index(name = "idx_snippets_language_like_count_id", columnList = "language, like_count, id"),
+        // 검색 색인 따라잡기 (수정 시각순)
+        @Index(name = "idx_snippets_updated_at_id", columnList = "updated_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Snippet {
@@ -57,13 +65,14 @@ public class Snippet {
     @Column(name = "is_public")
     private boolean isPublic = true;
 
-    @Column(name = "view_count")
+    // 조회수/댓글 수는 원자적 UPDATE 로만 바꾼다 (엔티티 전체 UPDATE 가 그 사이 증감을 덮어쓰지 않도록)
+    @Column(name = "view_count", updatable = false)
     private int viewCount = 0;
 
     @Column(name = "like_count")
     private int likeCount = 0;
 
-    @Column(name = "comment_count")
+    @Column(name = "comment_count", updatable = false)
     private int commentCount = 0;
 
     @Column(name = "run_count")
@@ -85,18 +94,6 @@ public class Snippet {
         this.isPublic = isPublic;
     }
 
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
-    public void increaseCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decreaseCommentCount() {
-        this.commentCount = Math.max(0, this.commentCount - 1);
-    }
-
     public void increaseLikeCount() {
         this.likeCount++;
     }
@@ -1,17 +1,21 @@
 package com.snippethub.api.domain;
 
+import com.snippethub.api.service.UserLevelStatsListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserLevelStatsListener.class) // 삭제 시 등급 통계 반영
+@DynamicUpdate // 변경된 컬럼만 UPDATE (포인트/활동 카운터는 원장에서 증분 반영)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
@@ -113,11 +117,7 @@ public class User {
     }
 
     // 포인트 및 등급 관련 메서드
-    public void addPoints(int points) {
-        this.points = (this.points == null ? 0 : this.points) + points;
-        updateLevel();
-    }
-
+    // 포인트/활동 카운터 증분은 UserRepository.incrementActivity 로 원자적으로 반영한다
     public void updateLevel() {
         UserLevel newLevel = UserLevel.getLevelByPoints(this.points);
         if (newLevel != this.level) {
@@ -127,43 +127,6 @@ public class User {
         }
     }
 
-    // 통계 업데이트 메서드
-    public void incrementTotalPosts() {
-        this.totalPosts = (this.totalPosts == null ? 0 : this.totalPosts) + 1;
-    }
-
-    public void incrementTotalSnippets() {
-        this.totalSnippets = (this.totalSnippets == null ? 0 : this.totalSnippets) + 1;
-    }
-
-    public void incrementTotalComments() {
-        this.totalComments = (this.totalComments == null ? 0 : this.totalComments) + 1;
-    }
-
-    public void incrementTotalLikesReceived() {
-        this.totalLikesReceived = (this.totalLikesReceived == null ? 0 : this.totalLikesReceived) + 1;
-    }
-
-    public void incrementTotalCodeExecutions() {
-        this.totalCodeExecutions = (this.totalCodeExecutions == null ? 0 : this.totalCodeExecutions) + 1;
-    }
-
-    public void updateLoginStats() {
-        LocalDateTime now = LocalDateTime.now();
-        if (lastLoginDate != null) {
-            // 연속 로그인 체크 (24시간 이내)
-            if (lastLoginDate.plusDays(1).isAfter(now)) {
-                consecutiveLoginDays++;
-            } else if (lastLoginDate.plusDays(2).isBefore(now)) {
-                consecutiveLoginDays = 1; // 연속 로그인 초기화
-            }
-        } else {
-            consecutiveLoginDays = 1;
-        }
-        this.lastLoginDate = now;
-        this.lastLoginAt = now;
-    }
-
     public UserLevel getCurrentLevel() {
         return this.level;
     }
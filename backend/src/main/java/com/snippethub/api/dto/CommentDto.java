@@ -7,9 +7,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class CommentDto {
 
@@ -46,7 +49,7 @@ public class CommentDto {
                     .createdAt(comment.getCreatedAt())
                     .parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
                     .depth(comment.getDepth() != null ? comment.getDepth() : 0)
-                    .replyCount(comment.getReplies() != null ? comment.getReplies().size() : 0)
+                    .replyCount(comment.getReplyCount())
                     .author(comment.getAuthor() != null ? AuthorInfo.builder()
                             .userId(comment.getAuthor().getId())
                             .nickname(comment.getAuthor().getNickname())
@@ -55,16 +58,39 @@ public class CommentDto {
                     .build();
         }
 
-        public static CommentResponseDto fromWithReplies(Comment comment) {
-            if (comment == null) return null;
-            
-            List<CommentResponseDto> replies = comment.getReplies() != null ? 
-                comment.getReplies().stream()
-                    .map(CommentResponseDto::from)
-                    .filter(reply -> reply != null)
-                    .collect(Collectors.toList()) : 
-                new ArrayList<>();
+        /**
+         * 작성순으로 읽은 스레드 전체를 트리로 조립한다 (원댓글 목록, 각 댓글 replies 에 바로 아래 대댓글).
+         * 부모 ID 별로 한 번 묶은 뒤 위에서부터 내려가며 만들므로 O(n) 이고, 대댓글 수는 실제로 붙은 자식 수로 채운다.
+         */
+        public static List<CommentResponseDto> tree(List<Comment> thread) {
+            Map<Long, List<Comment>> childrenByParent = new HashMap<>();
+            Set<Long> ids = new HashSet<>();
+            for (Comment comment : thread) {
+                ids.add(comment.getId());
+            }
+            List<Comment> roots = new ArrayList<>();
+            for (Comment comment : thread) {
+                Long parentId = comment.getParentComment() != null ? comment.getParentComment().getId() : null;
+                // 부모가 목록에 없으면 (다른 대상의 댓글 등) 원댓글로 보여준다
+                if (parentId == null || !ids.contains(parentId)) {
+                    roots.add(comment);
+                } else {
+                    childrenByParent.computeIfAbsent(parentId, id -> new ArrayList<>()).add(comment);
+                }
+            }
+            List<CommentResponseDto> result = new ArrayList<>(roots.size());
+            for (Comment root : roots) {
+                result.add(withReplies(root, childrenByParent));
+            }
+            return result;
+        }
 
+        private static CommentResponseDto withReplies(Comment comment, Map<Long, List<Comment>> childrenByParent) {
+            List<Comment> children = childrenByParent.getOrDefault(comment.getId(), List.of());
+            List<CommentResponseDto> replies = new ArrayList<>(children.size());
+            for (Comment child : children) {
+                replies.add(withReplies(child, childrenByParent));
+            }
             return CommentResponseDto.builder()
                     .commentId(comment.getId())
                     .content(comment.getContent())
@@ -73,7 +99,7 @@ public class CommentDto {
                     .parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
                     .depth(comment.getDepth() != null ? comment.getDepth() : 0)
                     .replies(replies)
-                    .replyCount(comment.getReplies() != null ? comment.getReplies().size() : 0)
+                    .replyCount(replies.size())
                     .author(comment.getAuthor() != null ? AuthorInfo.builder()
                             .userId(comment.getAuthor().getId())
                             .nickname(comment.getAuthor().getNickname())
@@ -0,0 +1,47 @@
+package com.snippethub.api.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답. 전체 건수/페이지 수 없이 다음 페이지 커서만 준다.
+ */
+@Getter
+public class CursorPageResponseDto<T> {
+
+    private final List<T> content;
+    private final String nextCursor;   // 다음 페이지가 없으면 null
+    private final boolean hasNext;
+
+    public CursorPageResponseDto(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * size + 1 건까지 읽은 rows 로 페이지를 만든다. 한 건이 더 있으면 다음 페이지가 있는 것이고,
+     * 커서는 이번 페이지 마지막 행으로 만든다.
+     */
+    public static <E, T> CursorPageResponseDto<T> of(List<E> rows, int size,
+                                                     Function<E, String> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        List<T> content = new ArrayList<>(page.size());
+        for (E row : page) {
+            content.add(mapper.apply(row));
+        }
+        return new CursorPageResponseDto<>(content, hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null);
+    }
+
+    public <R> CursorPageResponseDto<R> map(Function<T, R> mapper) {
+        List<R> mapped = new ArrayList<>(content.size());
+        for (T item : content) {
+            mapped.add(mapper.apply(item));
+        }
+        return new CursorPageResponseDto<>(mapped, nextCursor);
+    }
+}
@@ -0,0 +1,29 @@
+package com.snippethub.api.dto.snippet;
+
+import com.snippethub.api.search.CodeSearchIndex;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 코드 검색 결과 (전체 건수 대신 다음 페이지 유무만 알려준다)
+ */
+@Getter
+public class CodeSearchResponseDto {
+
+    private final List<SnippetSummaryDto> content;
+    private final int currentPage;
+    private final int size;
+    private final boolean hasNext;
+    private final int candidateCount;
+    private final boolean truncated;
+
+    public CodeSearchResponseDto(List<SnippetSummaryDto> content, int currentPage, int size, CodeSearchIndex.Result result) {
+        this.content = content;
+        this.currentPage = currentPage;
+        this.size = size;
+        this.hasNext = result.isHasNext();
+        this.candidateCount = result.getCandidateCount();
+        this.truncated = result.isTruncated();
+    }
+}
@@ -0,0 +1,53 @@
+package com.snippethub.api.dto.snippet;
+
+import com.snippethub.api.dto.user.UserDto;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스니펫 목록용 요약 (본문 대신 앞부분 미리보기만 포함, 전체 본문은 상세 조회에서)
+ */
+@Getter
+public class SnippetSummaryDto {
+
+    public static final int PREVIEW_LENGTH = 200;
+
+    private final Long snippetId;
+    private final String title;
+    private final String language;
+    private final String description;   // 앞 PREVIEW_LENGTH 자
+    private final String codePreview;   // 앞 PREVIEW_LENGTH 자
+    private final UserDto author;
+    private final int viewCount;
+    private final int likeCount;
+    private final int commentCount;
+    private final int runCount;
+    private final boolean isPublic;
+    private final LocalDateTime createdAt;
+    private List<String> tags = List.of();
+
+    // JPQL 생성자 표현식용
+    public SnippetSummaryDto(Long snippetId, String title, String language, String description, String codePreview,
+                             Long authorId, String authorNickname, String authorProfileImage,
+                             int viewCount, int likeCount, int commentCount, int runCount,
+                             boolean isPublic, LocalDateTime createdAt) {
+        this.snippetId = snippetId;
+        this.title = title;
+        this.language = language;
+        this.description = description;
+        this.codePreview = codePreview;
+        this.author = new UserDto(authorId, authorNickname, authorProfileImage);
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.runCount = runCount;
+        this.isPublic = isPublic;
+        this.createdAt = createdAt;
+    }
+
+    public void attachTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
@@ -14,4 +14,10 @@ public class UserDto {
         this.nickname = user.getNickname();
         this.profileImage = user.getProfileImage();
     }
+
+    public UserDto(Long userId, String nickname, String profileImage) {
+        this.userId = userId;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+    }
 }
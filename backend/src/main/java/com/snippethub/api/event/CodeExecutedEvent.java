@@ -0,0 +1,12 @@
+package com.snippethub.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CodeExecutedEvent implements DomainEvent {
+
+    private final Long executionId;
+    private final Long userId;
+}
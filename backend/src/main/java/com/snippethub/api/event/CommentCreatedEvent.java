@@ -0,0 +1,23 @@
+package com.snippethub.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentCreatedEvent implements DomainEvent {
+
+    private final Long commentId;
+    private final Long authorId;
+    private final String authorNickname;
+    private final String targetType;     // POST 또는 SNIPPET
+    private final Long targetId;
+    private final String targetTitle;
+    private final Long targetAuthorId;
+    private final Long parentCommentId;  // 원댓글이면 null
+    private final Long parentAuthorId;
+
+    public boolean isReply() {
+        return parentCommentId != null;
+    }
+}
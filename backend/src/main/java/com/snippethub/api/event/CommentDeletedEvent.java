@@ -0,0 +1,13 @@
+package com.snippethub.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentDeletedEvent implements DomainEvent {
+
+    private final Long commentId;
+    private final String targetType;     // POST 또는 SNIPPET
+    private final Long targetId;
+}
@@ -0,0 +1,8 @@
+package com.snippethub.api.event;
+
+/**
+ * 트랜잭션 커밋 후 비동기로 후속 처리(포인트, 알림)되는 도메인 이벤트.
+ * 핸들러는 별도 스레드에서 실행되므로 엔티티 대신 ID와 알림에 필요한 값만 담는다.
+ */
+public interface DomainEvent {
+}
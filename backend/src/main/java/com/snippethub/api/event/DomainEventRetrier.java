@@ -0,0 +1,220 @@
+package com.snippethub.api.event;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.snippethub.api.domain.DomainEventDeadLetter;
+import com.snippethub.api.repository.DomainEventDeadLetterRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 이벤트 핸들러 실행기.
+ * 첫 시도는 호출한 스레드에서 하고, 실패하면 지수 백오프 뒤 재시도를 전용 스케줄러에 예약한다
+ * (이벤트 스레드나 CallerRunsPolicy 로 처리 중인 요청 스레드를 sleep 으로 붙잡지 않는다).
+ * 최대 시도 횟수를 넘기거나 종료 시 아직 예약된 재시도는 이벤트를 JSON 으로 dead-letter 테이블에 남기고,
+ * 핸들러가 등록해 둔 리스너로 나중에 다시 처리할 수 있다 ({@link #replayDeadLetters}).
+ * 핸들러는 커밋 이후 별도 스레드에서 돌기 때문에 여기서 실패해도 원래 요청에는 영향이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventRetrier {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final DomainEventDeadLetterRepository deadLetterRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${events.retry.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${events.retry.initial-backoff-ms:200}")
+    private long initialBackoffMs = 200;
+
+    @Value("${events.retry.max-backoff-ms:2000}")
+    private long maxBackoffMs = 2000;
+
+    @Value("${events.retry.scheduler-threads:2}")
+    private int schedulerThreads = 2;
+
+    private final LongAdder deadLettered = new LongAdder();
+    // 핸들러:이벤트 유형 → dead-letter 재처리에 쓸 리스너
+    private final Map<String, Replay<?>> replays = new ConcurrentHashMap<>();
+    // 예약됐지만 아직 실행되지 않은 재시도
+    private final Set<Attempt> scheduled = ConcurrentHashMap.newKeySet();
+
+    private ScheduledThreadPoolExecutor scheduler;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        scheduler = new ScheduledThreadPoolExecutor(schedulerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "domain-event-retry-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 예약된 재시도는 기다리지 않고 dead-letter 로 남긴다 (재처리로 이어서 처리)
+     */
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        for (Attempt attempt : scheduled) {
+            if (scheduled.remove(attempt)) {
+                deadLetter(attempt.handler, attempt.event, attempt.number - 1,
+                        new IllegalStateException("종료 시 재시도 대기 중"));
+            }
+        }
+    }
+
+    /**
+     * 바로 처리에 성공하면 true, 재시도를 예약했거나 dead-letter 로 넘기면 false
+     */
+    public boolean execute(String handler, DomainEvent event, Runnable action) {
+        return run(new Attempt(handler, event, action, 1));
+    }
+
+    /**
+     * dead-letter 재처리용 리스너 등록. 리스너는 평소 이벤트를 받을 때와 같은 처리 (retrier 경유) 를 해야 한다.
+     */
+    public <E extends DomainEvent> void registerReplay(String handler, Class<E> eventType, Consumer<E> listener) {
+        replays.put(replayKey(handler, eventType.getSimpleName()), new Replay<>(eventType, listener));
+    }
+
+    /**
+     * dead-letter 를 오래된 순으로 최대 limit 건 다시 처리하고, 처리를 시작한 건수를 돌려준다.
+     * 다시 실패하면 평소처럼 재시도 후 새 dead-letter 로 남는다. 등록된 리스너가 없거나 읽을 수 없는 행은 그대로 둔다.
+     */
+    public int replayDeadLetters(int limit) {
+        List<DomainEventDeadLetter> deadLetters = deadLetterRepository.findAllByOrderByIdAsc(PageRequest.of(0, limit));
+        int replayed = 0;
+        for (DomainEventDeadLetter deadLetter : deadLetters) {
+            Replay<?> replay = replays.get(replayKey(deadLetter.getHandler(), deadLetter.getEventType()));
+            if (replay == null) {
+                log.warn("dead-letter 재처리 건너뜀 - 등록된 리스너 없음: {}:{}", deadLetter.getHandler(), deadLetter.getEventType());
+                continue;
+            }
+            try {
+                replay.dispatch(objectMapper, deadLetter.getPayload());
+            } catch (Exception e) {
+                log.error("dead-letter 재처리 실패 - ID: {}, 오류: {}", deadLetter.getId(), e.getMessage());
+                continue;
+            }
+            deadLetterRepository.delete(deadLetter);
+            replayed++;
+        }
+        log.info("도메인 이벤트 dead-letter 재처리 - {}건 / 조회 {}건", replayed, deadLetters.size());
+        return replayed;
+    }
+
+    public long getDeadLetteredCount() {
+        return deadLettered.sum();
+    }
+
+    private boolean run(Attempt attempt) {
+        try {
+            attempt.action.run();
+            return true;
+        } catch (Exception e) {
+            if (attempt.number >= maxAttempts) {
+                deadLetter(attempt.handler, attempt.event, attempt.number, e);
+                return false;
+            }
+            long backoff = Math.min(initialBackoffMs << Math.min(attempt.number - 1, 30), maxBackoffMs);
+            log.warn("이벤트 처리 실패, {}ms 후 재시도 예정 - 핸들러: {}, 이벤트: {}, 시도: {}/{}, 오류: {}",
+                    backoff, attempt.handler, attempt.event.getClass().getSimpleName(), attempt.number, maxAttempts,
+                    e.getMessage());
+            Attempt next = attempt.next();
+            scheduled.add(next);
+            try {
+                scheduler.schedule(next, backoff, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException rejected) {
+                scheduled.remove(next);
+                deadLetter(attempt.handler, attempt.event, attempt.number, e);
+            }
+            return false;
+        }
+    }
+
+    private void deadLetter(String handler, DomainEvent event, int attempts, Exception cause) {
+        deadLettered.increment();
+        String eventType = event.getClass().getSimpleName();
+        log.error("이벤트 처리 최종 실패 - 핸들러: {}, 이벤트: {}, 시도: {}, 오류: {}",
+                handler, eventType, attempts, cause.getMessage());
+        try {
+            String error = String.valueOf(cause.getMessage());
+            deadLetterRepository.save(DomainEventDeadLetter.builder()
+                    .eventType(eventType)
+                    .handler(handler)
+                    .payload(objectMapper.writeValueAsString(event))
+                    .attempts(attempts)
+                    .lastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            log.error("dead-letter 저장 실패 - 핸들러: {}, 이벤트: {}, 오류: {}", handler, eventType, e.getMessage());
+        }
+    }
+
+    private static String replayKey(String handler, String eventType) {
+        return handler + ":" + eventType;
+    }
+
+    /**
+     * 한 번의 처리 시도 (스케줄러에 예약되면 그 스레드에서 실행)
+     */
+    private final class Attempt implements Runnable {
+        private final String handler;
+        private final DomainEvent event;
+        private final Runnable action;
+        private final int number;
+
+        private Attempt(String handler, DomainEvent event, Runnable action, int number) {
+            this.handler = handler;
+            this.event = event;
+            this.action = action;
+            this.number = number;
+        }
+
+        private Attempt next() {
+            return new Attempt(handler, event, action, number + 1);
+        }
+
+        @Override
+        public void run() {
+            if (scheduled.remove(this)) {
+                DomainEventRetrier.this.run(this);
+            }
+        }
+    }
+
+    private record Replay<E extends DomainEvent>(Class<E> eventType, Consumer<E> listener) {
+
+        void dispatch(ObjectMapper objectMapper, String payload) throws Exception {
+            E event = objectMapper.readerFor(eventType)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(payload);
+            listener.accept(event);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.snippethub.api.event;
+
+import com.snippethub.api.service.PointService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 활동 이벤트에 대한 포인트 지급.
+ * 뱃지 판정은 포인트 원장이 사용자 카운터를 반영한 뒤 넘어선 임계값 기준으로 수행한다 (PointLedger → BadgeEngine).
+ */
+@Component
+@RequiredArgsConstructor
+public class GamificationEventHandler {
+
+    private static final String HANDLER = "points";
+
+    private final PointService pointService;
+    private final DomainEventRetrier retrier;
+
+    @PostConstruct
+    void registerReplays() {
+        retrier.registerReplay(HANDLER, PostCreatedEvent.class, this::onPostCreated);
+        retrier.registerReplay(HANDLER, SnippetCreatedEvent.class, this::onSnippetCreated);
+        retrier.registerReplay(HANDLER, CommentCreatedEvent.class, this::onCommentCreated);
+        retrier.registerReplay(HANDLER, LikeToggledEvent.class, this::onLikeToggled);
+        retrier.registerReplay(HANDLER, CodeExecutedEvent.class, this::onCodeExecuted);
+        retrier.registerReplay(HANDLER, ProblemSolvedEvent.class, this::onProblemSolved);
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        retrier.execute(HANDLER, event,
+                () -> pointService.awardPointsForPost(event.getAuthorId(), event.getPostId()));
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSnippetCreated(SnippetCreatedEvent event) {
+        retrier.execute(HANDLER, event,
+                () -> pointService.awardPointsForSnippet(event.getAuthorId(), event.getSnippetId()));
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        // 포인트는 원댓글에만 지급
+        if (event.isReply()) {
+            return;
+        }
+        retrier.execute(HANDLER, event,
+                () -> pointService.awardPointsForComment(event.getAuthorId(), event.getCommentId()));
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeToggled(LikeToggledEvent event) {
+        if (!event.isLiked()) {
+            return;
+        }
+        retrier.execute(HANDLER, event,
+                () -> pointService.awardPointsForLikeReceived(event.getTargetAuthorId(), event.getLikeId()));
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCodeExecuted(CodeExecutedEvent event) {
+        retrier.execute(HANDLER, event,
+                () -> pointService.awardPointsForCodeExecution(event.getUserId(), event.getExecutionId()));
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProblemSolved(ProblemSolvedEvent event) {
+        retrier.execute(HANDLER, event, () -> pointService.awardPointsForProblemSolved(
+                event.getUserId(), event.getDifficulty(), event.getSubmissionId()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.snippethub.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LikeToggledEvent implements DomainEvent {
+
+    private final Long likeId;
+    private final Long likerId;
+    private final String likerNickname;
+    private final String targetType;     // POST 또는 SNIPPET
+    private final Long targetId;
+    private final String targetTitle;
+    private final Long targetAuthorId;
+    private final boolean liked;         // false 면 좋아요 취소
+}
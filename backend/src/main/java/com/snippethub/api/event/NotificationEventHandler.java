@@ -0,0 +1,90 @@
+package com.snippethub.api.event;
+
+import com.snippethub.api.domain.NotificationType;
+import com.snippethub.api.domain.User;
+import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.service.NotificationService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * 댓글/좋아요 이벤트에 대한 사용자 알림 (자기 자신에게는 보내지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationEventHandler {
+
+    private static final String HANDLER = "notification";
+
+    private final NotificationService notificationService;
+    private final UserRepository userRepository;
+    private final DomainEventRetrier retrier;
+
+    @PostConstruct
+    void registerReplays() {
+        retrier.registerReplay(HANDLER, CommentCreatedEvent.class, this::onCommentCreated);
+        retrier.registerReplay(HANDLER, LikeToggledEvent.class, this::onLikeToggled);
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        if (event.isReply()) {
+            // 대댓글인 경우 부모 댓글 작성자에게 알림
+            if (Objects.equals(event.getParentAuthorId(), event.getAuthorId())) {
+                return;
+            }
+            String message = event.getAuthorNickname() + "님이 회원님의 댓글에 답글을 남겼습니다.";
+            notify(event, event.getParentAuthorId(), message, NotificationType.COMMENT,
+                    "COMMENT", event.getCommentId(), event.getTargetId());
+            return;
+        }
+
+        // 원댓글인 경우 게시글/스니펫 작성자에게 알림
+        if (Objects.equals(event.getTargetAuthorId(), event.getAuthorId())) {
+            return;
+        }
+        String message = event.getAuthorNickname() + "님이 회원님의 " + targetLabel(event.getTargetType())
+                + "에 댓글을 남겼습니다: " + event.getTargetTitle();
+        notify(event, event.getTargetAuthorId(), message, NotificationType.COMMENT,
+                event.getTargetType(), event.getTargetId(), null);
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeToggled(LikeToggledEvent event) {
+        // 좋아요 취소나 본인 글 좋아요는 알림 X
+        if (!event.isLiked() || Objects.equals(event.getTargetAuthorId(), event.getLikerId())) {
+            return;
+        }
+        String label = "POST".equals(event.getTargetType()) ? "게시물" : "스니펫";
+        String message = String.format("%s님이 회원님의 %s \"%s\"에 좋아요를 눌렀습니다.",
+                event.getLikerNickname(), label, event.getTargetTitle());
+        notify(event, event.getTargetAuthorId(), message, NotificationType.LIKE,
+                event.getTargetType(), event.getTargetId(), null);
+    }
+
+    private void notify(DomainEvent event, Long recipientId, String message, NotificationType type,
+                        String targetType, Long targetId, Long parentId) {
+        retrier.execute(HANDLER, event, () -> {
+            User recipient = userRepository.findById(recipientId).orElse(null);
+            if (recipient == null) {
+                log.warn("알림 대상 사용자가 없어 건너뜀 - 사용자 ID: {}", recipientId);
+                return;
+            }
+            notificationService.createNotification(recipient, message, type, targetType, targetId, parentId);
+        });
+    }
+
+    private static String targetLabel(String targetType) {
+        return "POST".equals(targetType) ? "게시글" : "스니펫";
+    }
+}
@@ -0,0 +1,12 @@
+package com.snippethub.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostCreatedEvent implements DomainEvent {
+
+    private final Long postId;
+    private final Long authorId;
+}
@@ -0,0 +1,15 @@
+package com.snippethub.api.event;
+
+import com.snippethub.api.domain.ProblemDifficulty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProblemSolvedEvent implements DomainEvent {
+
+    private final Long submissionId;
+    private final Long userId;
+    private final Long problemId;
+    private final ProblemDifficulty difficulty;
+}
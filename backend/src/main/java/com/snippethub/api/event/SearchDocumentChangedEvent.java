@@ -0,0 +1,16 @@
+package com.snippethub.api.event;
+
+import com.snippethub.api.search.SearchDocument;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 대상(스니펫/게시글)이 생성, 수정, 삭제됨. 색인은 커밋 이후 DB 의 현재 상태를 다시 읽어 맞춘다.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchDocumentChangedEvent implements DomainEvent {
+
+    private final SearchDocument.Type type;
+    private final Long id;
+}
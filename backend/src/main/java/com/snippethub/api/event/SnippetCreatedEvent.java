@@ -0,0 +1,12 @@
+package com.snippethub.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SnippetCreatedEvent implements DomainEvent {
+
+    private final Long snippetId;
+    private final Long authorId;
+}
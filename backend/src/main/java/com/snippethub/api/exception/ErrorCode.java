@@ -14,6 +14,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C003", "Internal Server Error"),
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "C004", "파일 업로드에 실패했습니다."),
     NO_PERMISSION(HttpStatus.FORBIDDEN, "C005", "권한이 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "C006", "올바르지 않은 페이지 커서입니다."),
 
     // User
     EMAIL_DUPLICATION(HttpStatus.CONFLICT, "U001", "이미 사용중인 이메일입니다."),
@@ -26,6 +27,11 @@ public enum ErrorCode {
     // Snippet
     SNIPPET_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "스니펫을 찾을 수 없습니다."),
     SNIPPET_DELETE_FAILED(HttpStatus.CONFLICT, "S002", "스니펫 삭제에 실패했습니다."),
+    CODE_SEARCH_QUERY_TOO_BROAD(HttpStatus.BAD_REQUEST, "S003", "코드 검색어에는 연속된 3자 이상의 문자가 필요합니다."),
+    INVALID_CODE_SEARCH_PATTERN(HttpStatus.BAD_REQUEST, "S004", "올바르지 않은 정규식입니다."),
+    CODE_SEARCH_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "S005", "코드 검색 색인을 준비 중입니다. 잠시 후 다시 시도해 주세요."),
+    CODE_SEARCH_TOO_EXPENSIVE(HttpStatus.BAD_REQUEST, "S006", "검색 시간이 너무 오래 걸리는 정규식입니다. 검색어를 더 구체적으로 입력해 주세요."),
+    CODE_SEARCH_LOGIN_REQUIRED(HttpStatus.UNAUTHORIZED, "S007", "정규식 코드 검색은 로그인 후 사용할 수 있습니다."),
 
     // Post
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "게시글을 찾을 수 없습니다."),
@@ -4,9 +4,14 @@ import com.snippethub.api.domain.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -25,4 +30,44 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findBySnippetIdAndParentCommentIsNullOrderByCreatedAtAsc(Long snippetId);
     
     List<Comment> findByParentCommentIdOrderByCreatedAtAsc(Long parentCommentId);
+
+    // 스레드 전체 (원댓글 + 대댓글) 를 작성자와 함께 한 번에. 트리는 메모리에서 조립한다
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findThreadByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.snippet.id = :snippetId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findThreadBySnippetId(@Param("snippetId") Long snippetId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.parentComment.id = :parentCommentId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesWithAuthor(@Param("parentCommentId") Long parentCommentId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.id = :commentId")
+    Optional<Comment> findWithAuthorById(@Param("commentId") Long commentId);
+
+    // 댓글과 그 아래 대댓글 전체 (대댓글은 2단계까지)
+    @Query(value = "SELECT COUNT(*) FROM comments c WHERE c.comment_id = :commentId " +
+            "OR c.parent_comment_id = :commentId " +
+            "OR c.parent_comment_id IN (SELECT r.comment_id FROM comments r WHERE r.parent_comment_id = :commentId)",
+            nativeQuery = true)
+    int countSubtree(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = CASE WHEN c.replyCount + :delta < 0 THEN 0 ELSE c.replyCount + :delta END " +
+            "WHERE c.id = :commentId")
+    int addReplyCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findPostCommentsAfter(@Param("postId") Long postId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.snippet.id = :snippetId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findSnippetCommentsAfter(@Param("snippetId") Long snippetId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,17 @@
+package com.snippethub.api.repository;
+
+import com.snippethub.api.domain.DomainEventDeadLetter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DomainEventDeadLetterRepository extends JpaRepository<DomainEventDeadLetter, Long> {
+
+    /**
+     * 오래된 순으로 재처리 대상 조회
+     */
+    List<DomainEventDeadLetter> findAllByOrderByIdAsc(Pageable pageable);
+}
@@ -19,6 +19,16 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
      */
     Page<PointHistory> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    /**
+     * 사용자의 포인트 히스토리 키셋 페이지 (최신순)
+     */
+    @Query("SELECT ph FROM PointHistory ph WHERE ph.user.id = :userId " +
+            "AND (ph.createdAt < :createdAt OR (ph.createdAt = :createdAt AND ph.id < :id)) " +
+            "ORDER BY ph.createdAt DESC, ph.id DESC")
+    List<PointHistory> findCreatedBefore(@Param("userId") Long userId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Pageable pageable);
+
     /**
      * 사용자의 특정 기간 포인트 히스토리 조회
      */
@@ -4,6 +4,12 @@ import com.snippethub.api.domain.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
@@ -14,4 +20,39 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findByCategoryAndTitleContainingIgnoreCase(String category, String search, Pageable pageable);
     
     Page<Post> findByAuthorId(Long authorId, Pageable pageable);
+
+    // 키셋 페이지. 카테고리 조건을 OR 로 묶으면 (category, ...) 인덱스를 못 타므로 전체/카테고리별 쿼리를 나눈다
+    @Query("SELECT p FROM Post p JOIN FETCH p.author " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findCreatedBefore(@Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.author " +
+            "WHERE p.category = :category " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findInCategoryCreatedBefore(@Param("category") String category,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.author " +
+            "WHERE p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.id < :id) " +
+            "ORDER BY p.likeCount DESC, p.id DESC")
+    List<Post> findLikedBelow(@Param("likeCount") int likeCount,
+                              @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.author " +
+            "WHERE p.category = :category " +
+            "AND (p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.id < :id)) " +
+            "ORDER BY p.likeCount DESC, p.id DESC")
+    List<Post> findInCategoryLikedBelow(@Param("category") String category,
+                                        @Param("likeCount") int likeCount,
+                                        @Param("id") Long id, Pageable pageable);
+
+    // 댓글 수 원자적 증감 (엔티티를 읽어 고치지 않으므로 동시 작성에도 유실 없음)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount + :delta < 0 THEN 0 ELSE p.commentCount + :delta END " +
+            "WHERE p.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") int delta);
 }
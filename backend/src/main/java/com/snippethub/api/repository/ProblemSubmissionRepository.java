@@ -16,6 +16,14 @@ public interface ProblemSubmissionRepository extends JpaRepository<ProblemSubmis
 
     // 사용자의 모든 제출 조회
     Page<ProblemSubmission> findByUserIdOrderBySubmittedAtDesc(Long userId, Pageable pageable);
+
+    // 사용자의 제출 키셋 페이지 (최신순)
+    @Query("SELECT ps FROM ProblemSubmission ps JOIN FETCH ps.problem WHERE ps.user.id = :userId " +
+            "AND (ps.submittedAt < :submittedAt OR (ps.submittedAt = :submittedAt AND ps.id < :id)) " +
+            "ORDER BY ps.submittedAt DESC, ps.id DESC")
+    List<ProblemSubmission> findSubmittedBefore(@Param("userId") Long userId,
+                                                @Param("submittedAt") LocalDateTime submittedAt,
+                                                @Param("id") Long id, Pageable pageable);
     
     // 특정 문제의 사용자 제출 조회
     Page<ProblemSubmission> findByUserIdAndProblemIdOrderBySubmittedAtDesc(
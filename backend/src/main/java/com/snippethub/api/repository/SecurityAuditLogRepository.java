@@ -0,0 +1,9 @@
+package com.snippethub.api.repository;
+
+import com.snippethub.api.domain.SecurityAuditLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SecurityAuditLogRepository extends JpaRepository<SecurityAuditLog, Long> {
+}
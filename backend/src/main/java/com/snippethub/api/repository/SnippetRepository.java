@@ -1,9 +1,17 @@
 package com.snippethub.api.repository;
 
 import com.snippethub.api.domain.Snippet;
+import com.snippethub.api.dto.snippet.SnippetSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface SnippetRepository extends JpaRepository<Snippet, Long> {
 
@@ -18,4 +26,64 @@ public interface SnippetRepository extends JpaRepository<Snippet, Long> {
     
     // 작성자별 조회
     Page<Snippet> findByAuthorId(Long authorId, Pageable pageable);
+
+    // 목록용 요약 (LONGTEXT 본문은 앞부분만, 작성자는 조인으로 한 번에)
+    String SUMMARY_SELECT = "SELECT new com.snippethub.api.dto.snippet.SnippetSummaryDto(" +
+            "s.id, s.title, s.language, " +
+            "SUBSTRING(s.description, 1, " + SnippetSummaryDto.PREVIEW_LENGTH + "), " +
+            "SUBSTRING(s.code, 1, " + SnippetSummaryDto.PREVIEW_LENGTH + "), " +
+            "a.id, a.nickname, a.profileImage, " +
+            "s.viewCount, s.likeCount, s.commentCount, s.runCount, s.isPublic, s.createdAt) " +
+            "FROM Snippet s JOIN s.author a ";
+
+    @Query(value = SUMMARY_SELECT +
+            "WHERE (:language IS NULL OR s.language = :language) " +
+            "AND (:search IS NULL OR LOWER(s.title) LIKE LOWER(CONCAT('%', :search, '%')))",
+           countQuery = "SELECT COUNT(s) FROM Snippet s " +
+            "WHERE (:language IS NULL OR s.language = :language) " +
+            "AND (:search IS NULL OR LOWER(s.title) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Page<SnippetSummaryDto> findSummaries(@Param("language") String language, @Param("search") String search, Pageable pageable);
+
+    // 키셋 페이지. 언어 조건을 OR 로 묶으면 (language, ...) 인덱스를 못 타므로 전체/언어별 쿼리를 나눈다
+    @Query(SUMMARY_SELECT +
+            "WHERE s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SnippetSummaryDto> findSummariesCreatedBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE s.language = :language " +
+            "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SnippetSummaryDto> findSummariesInLanguageCreatedBefore(@Param("language") String language,
+                                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                                 @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE s.likeCount < :likeCount OR (s.likeCount = :likeCount AND s.id < :id) " +
+            "ORDER BY s.likeCount DESC, s.id DESC")
+    List<SnippetSummaryDto> findSummariesLikedBelow(@Param("likeCount") int likeCount,
+                                                    @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE s.language = :language " +
+            "AND (s.likeCount < :likeCount OR (s.likeCount = :likeCount AND s.id < :id)) " +
+            "ORDER BY s.likeCount DESC, s.id DESC")
+    List<SnippetSummaryDto> findSummariesInLanguageLikedBelow(@Param("language") String language,
+                                                              @Param("likeCount") int likeCount,
+                                                              @Param("id") Long id, Pageable pageable);
+
+    // 검색 결과 ID 목록의 요약 (순서는 호출하는 쪽에서 맞춤)
+    @Query(SUMMARY_SELECT + "WHERE s.id IN :ids")
+    List<SnippetSummaryDto> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // 여러 스니펫의 태그 이름 (스니펫 ID, 태그 이름)
+    @Query("SELECT s.id, t.name FROM Snippet s JOIN s.tags t WHERE s.id IN :ids")
+    List<Object[]> findTagNamesBySnippetIds(@Param("ids") Collection<Long> ids);
+
+    // 댓글 수 원자적 증감 (엔티티를 읽어 고치지 않으므로 동시 작성에도 유실 없음)
+    @Modifying
+    @Query("UPDATE Snippet s SET s.commentCount = CASE WHEN s.commentCount + :delta < 0 THEN 0 ELSE s.commentCount + :delta END " +
+            "WHERE s.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") int delta);
 }
@@ -2,9 +2,19 @@ package com.snippethub.api.repository;
 
 import com.snippethub.api.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // 잠금 읽기: 트랜잭션 스냅샷이 아니라 최신 커밋을 본다 (다른 트랜잭션이 방금 만든 태그 포함)
+    @Query(value = "SELECT * FROM tags WHERE name IN (:names) LOCK IN SHARE MODE", nativeQuery = true)
+    List<Tag> findByNameInForShare(@Param("names") Collection<String> names);
 }
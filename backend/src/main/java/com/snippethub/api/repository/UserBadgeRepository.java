@@ -25,4 +25,7 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
     Optional<UserBadge> findByUserIdAndBadgeId(Long userId, Long badgeId);
     
     boolean existsByUserIdAndBadgeId(Long userId, Long badgeId);
+
+    @Query("SELECT ub.badge.id FROM UserBadge ub WHERE ub.user.id = :userId")
+    List<Long> findBadgeIdsByUserId(@Param("userId") Long userId);
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.snippethub.api.repository;
 
 import com.snippethub.api.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -47,4 +48,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 등급별 사용자 수 조회
     @Query("SELECT COUNT(u) FROM User u WHERE u.level = :level")
     long countByLevel(@Param("level") String level);
-}
\ No newline at end of file
+
+    // 포인트/활동 카운터 원자적 증분 (엔티티를 읽지 않고 단일 UPDATE 로 반영, 포인트는 0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE User u SET " +
+           "u.points = CASE WHEN COALESCE(u.points, 0) + :points < 0 THEN 0 ELSE COALESCE(u.points, 0) + :points END, " +
+           "u.totalPosts = COALESCE(u.totalPosts, 0) + :posts, " +
+           "u.totalSnippets = COALESCE(u.totalSnippets, 0) + :snippets, " +
+           "u.totalComments = COALESCE(u.totalComments, 0) + :comments, " +
+           "u.totalLikesReceived = COALESCE(u.totalLikesReceived, 0) + :likesReceived, " +
+           "u.totalCodeExecutions = COALESCE(u.totalCodeExecutions, 0) + :codeExecutions " +
+           "WHERE u.id = :userId")
+    int incrementActivity(@Param("userId") Long userId,
+                          @Param("points") int points,
+                          @Param("posts") int posts,
+                          @Param("snippets") int snippets,
+                          @Param("comments") int comments,
+                          @Param("likesReceived") int likesReceived,
+                          @Param("codeExecutions") int codeExecutions);
+}
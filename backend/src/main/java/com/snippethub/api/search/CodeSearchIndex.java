@@ -0,0 +1,294 @@
+package com.snippethub.api.search;
+
+import com.snippethub.api.event.DomainEventRetrier;
+import com.snippethub.api.event.SearchDocumentChangedEvent;
+import com.snippethub.api.exception.BusinessException;
+import com.snippethub.api.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 스니펫 코드 본문 검색.
+ * trigram 색인(TrigramIndex)으로 후보를 좁힌 뒤 후보의 원문을 DB 에서 읽어 정규식으로 확인한다.
+ * 색인은 메모리에 두고, 스니펫 생성/수정/삭제 이벤트로 증분 갱신하며 주기적으로 전체를 다시 만들어 delta 를 합친다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CodeSearchIndex {
+
+    private static final String SELECT_CODE_SQL = "SELECT id, code FROM snippets ";
+    private static final String SELECT_CANDIDATES_SQL = "SELECT id, language, code FROM snippets WHERE id IN (%s)";
+
+    private static final String HANDLER = "code-search";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventRetrier retrier;
+
+    @Value("${code-search.build-batch-size:1000}")
+    private int buildBatchSize = 1000;
+
+    @Value("${code-search.verify-batch-size:200}")
+    private int verifyBatchSize = 200;
+
+    @Value("${code-search.max-candidates:20000}")
+    private int maxCandidates = 20000;
+
+    // 한 요청에서 원문을 확인할 최대 글자 수. 넘으면 거기까지의 결과만 돌려준다 (truncated)
+    @Value("${code-search.max-scan-chars:20000000}")
+    private long maxScanChars = 20_000_000;
+
+    // 한 요청의 정규식 매칭에 쓸 수 있는 총 시간. 넘으면 요청을 거절한다
+    @Value("${code-search.match-timeout-ms:2000}")
+    private long matchTimeoutMs = 2000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private TrigramIndex index = new TrigramIndex();
+    // 재구성 중에 들어온 변경 (ID → 코드, 삭제면 null). 새 색인으로 교체하기 전에 다시 적용
+    private Map<Long, String> pendingDuringRebuild;
+    private volatile boolean ready;
+
+    @PostConstruct
+    void registerReplays() {
+        retrier.registerReplay(HANDLER, SearchDocumentChangedEvent.class, this::onDocumentChanged);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 코드에 query 가 나오는 스니펫 ID (최신순) 중 offset 번째부터 limit 건.
+     * regex 가 false 면 query 를 문자 그대로 찾는다. 매칭은 요청당 match-timeout-ms 안에 끝나야 하고,
+     * 원문은 max-scan-chars 까지만 확인한다.
+     */
+    public Result search(String query, boolean regex, boolean ignoreCase, String language, long offset, int limit) {
+        if (!ready) {
+            throw new BusinessException(ErrorCode.CODE_SEARCH_NOT_READY);
+        }
+        Pattern pattern;
+        try {
+            int flags = ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0;
+            pattern = Pattern.compile(regex ? query : Pattern.quote(query), flags);
+        } catch (PatternSyntaxException e) {
+            throw new BusinessException(ErrorCode.INVALID_CODE_SEARCH_PATTERN);
+        }
+        long[] required = regex ? TrigramIndex.requiredTrigrams(query) : TrigramIndex.trigrams(query);
+        if (required.length == 0) {
+            throw new BusinessException(ErrorCode.CODE_SEARCH_QUERY_TOO_BROAD);
+        }
+
+        long[] candidates;
+        lock.readLock().lock();
+        try {
+            candidates = index.candidates(required);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 최신(큰 ID)부터 원문 확인, 다음 페이지 유무를 알기 위해 한 건 더 찾는다
+        Scan scan = new Scan(pattern, System.nanoTime() + matchTimeoutMs * 1_000_000L);
+        List<Long> matched = new ArrayList<>();
+        long wanted = offset + limit + 1;
+        int scanned = 0;
+        for (int end = candidates.length; end > 0 && matched.size() < wanted && scanned < maxCandidates
+                && scan.chars < maxScanChars; ) {
+            int start = Math.max(0, end - Math.min(verifyBatchSize, maxCandidates - scanned));
+            List<Long> batch = new ArrayList<>(end - start);
+            for (int i = end - 1; i >= start; i--) {
+                batch.add(candidates[i]);
+            }
+            matched.addAll(verify(batch, scan, language));
+            scanned += batch.size();
+            end = start;
+        }
+
+        boolean hasNext = matched.size() > offset + limit;
+        List<Long> page = matched.size() > offset
+                ? new ArrayList<>(matched.subList((int) offset, (int) Math.min(matched.size(), offset + limit)))
+                : Collections.emptyList();
+        return new Result(page, hasNext, candidates.length,
+                (scanned < candidates.length || scan.chars >= maxScanChars) && !hasNext);
+    }
+
+    private List<Long> verify(List<Long> ids, Scan scan, String language) {
+        Map<Long, Boolean> matches = new HashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.query(String.format(SELECT_CANDIDATES_SQL, placeholders), (RowCallbackHandler) rs -> {
+            boolean languageMatches = language == null || language.isBlank()
+                    || language.equalsIgnoreCase(rs.getString("language"));
+            String code = languageMatches && scan.chars < maxScanChars ? rs.getString("code") : null;
+            matches.put(rs.getLong("id"), code != null && scan.find(code));
+        }, ids.toArray());
+        List<Long> matched = new ArrayList<>();
+        for (Long id : ids) {
+            if (Boolean.TRUE.equals(matches.get(id))) {
+                matched.add(id);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 한 요청의 매칭 상태 (읽은 글자 수, 공통 마감 시각)
+     */
+    private static final class Scan {
+        private final Pattern pattern;
+        private final long deadlineNanos;
+        private long chars;
+
+        private Scan(Pattern pattern, long deadlineNanos) {
+            this.pattern = pattern;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private boolean find(String code) {
+            chars += code.length();
+            try {
+                return pattern.matcher(new DeadlineCharSequence(code, deadlineNanos)).find();
+            } catch (DeadlineCharSequence.TimeoutException e) {
+                throw new BusinessException(ErrorCode.CODE_SEARCH_TOO_EXPENSIVE);
+            }
+        }
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDocumentChanged(SearchDocumentChangedEvent event) {
+        if (event.getType() != SearchDocument.Type.SNIPPET) {
+            return;
+        }
+        retrier.execute(HANDLER, event, () -> {
+            List<String> code = jdbcTemplate.queryForList(
+                    "SELECT code FROM snippets WHERE id = ?", String.class, event.getId());
+            apply(event.getId(), code.isEmpty() ? null : code.get(0));
+        });
+    }
+
+    /**
+     * 스니펫 코드 반영 (code 가 null 이면 삭제)
+     */
+    public void apply(Long snippetId, String code) {
+        lock.writeLock().lock();
+        try {
+            if (code == null) {
+                index.remove(snippetId);
+            } else {
+                index.put(snippetId, code);
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(snippetId, code);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Async("domainEventExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        rebuild();
+    }
+
+    /**
+     * DB 의 전체 스니펫으로 색인을 다시 만든다 (delta 합치기). 만드는 동안의 변경은 새 색인에 다시 적용한다.
+     */
+    @Scheduled(fixedDelayString = "${code-search.rebuild-interval-ms:3600000}",
+               initialDelayString = "${code-search.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TrigramIndex.Builder builder = new TrigramIndex.Builder();
+        int documents = 0;
+        try {
+            long lastId = 0;
+            while (true) {
+                List<Object[]> rows = jdbcTemplate.query(SELECT_CODE_SQL + "WHERE id > ? ORDER BY id LIMIT ?",
+                        (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getString("code")}, lastId, buildBatchSize);
+                for (Object[] row : rows) {
+                    builder.add((Long) row[0], (String) row[1]);
+                }
+                documents += rows.size();
+                if (rows.size() < buildBatchSize) {
+                    break;
+                }
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+            }
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("코드 검색 색인 재구성 실패: {}", e.getMessage());
+            return;
+        }
+
+        TrigramIndex rebuilt = builder.build();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach((id, code) -> {
+                if (code == null) {
+                    rebuilt.remove(id);
+                } else {
+                    rebuilt.put(id, code);
+                }
+            });
+            pendingDuringRebuild = null;
+            index = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("코드 검색 색인 재구성 - 스니펫 {}건, trigram {}개, posting {}KB, {}ms", documents,
+                rebuilt.getTrigramCount(), rebuilt.getPostingBytes() / 1024, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 코드 검색 결과
+     */
+    @Getter
+    public static class Result {
+
+        private final List<Long> snippetIds;
+        private final boolean hasNext;
+        private final int candidateCount;   // trigram 으로 좁힌 후보 수
+        private final boolean truncated;    // 후보가 많아 max-candidates / max-scan-chars 까지만 확인함
+
+        public Result(List<Long> snippetIds, boolean hasNext, int candidateCount, boolean truncated) {
+            this.snippetIds = snippetIds;
+            this.hasNext = hasNext;
+            this.candidateCount = candidateCount;
+            this.truncated = truncated;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.snippethub.api.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 코드 본문을 검색용 토큰으로 나눈다.
+ * 식별자는 통째로(소문자) 한 번, camelCase / snake_case 조각으로 한 번 더 내보내 "parseInt", "parse", "int" 어느 쪽으로도 찾을 수 있게 하고,
+ * 언어별 예약어는 거의 모든 스니펫에 나오므로 색인하지 않는다.
+ */
+public final class CodeTokenizer {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[\\p{L}_$][\\p{L}\\p{N}_$]*|\\p{N}+");
+    // camelCase, PascalCase, HTTPServer 경계
+    private static final Pattern CAMEL_BOUNDARY = Pattern.compile("(?<=\\p{Ll})(?=\\p{Lu})|(?<=\\p{Lu})(?=\\p{Lu}\\p{Ll})|(?<=\\p{L})(?=\\p{N})|(?<=\\p{N})(?=\\p{L})");
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private static final Set<String> COMMON_KEYWORDS = words(
+            "if", "else", "for", "while", "do", "return", "break", "continue", "switch", "case", "default",
+            "true", "false", "null", "new", "try", "catch", "finally", "throw", "class", "import");
+
+    private static final Map<String, Set<String>> LANGUAGE_KEYWORDS = new HashMap<>();
+
+    static {
+        Set<String> java = words("public", "private", "protected", "static", "final", "void", "int", "long", "boolean",
+                "char", "double", "float", "byte", "short", "extends", "implements", "interface", "package", "this",
+                "super", "throws", "abstract", "synchronized", "volatile", "transient", "instanceof", "enum", "var");
+        Set<String> python = words("def", "elif", "in", "is", "not", "and", "or", "pass", "lambda", "from", "as",
+                "with", "yield", "none", "self", "global", "nonlocal", "assert", "del", "except", "raise", "print");
+        Set<String> javascript = words("function", "var", "let", "const", "this", "typeof", "instanceof", "undefined",
+                "async", "await", "export", "from", "of", "in", "delete", "void", "yield", "extends", "super");
+        Set<String> c = words("int", "long", "char", "double", "float", "void", "unsigned", "signed", "struct",
+                "typedef", "sizeof", "static", "const", "include", "define", "short", "auto", "extern", "std",
+                "using", "namespace", "template", "typename", "public", "private", "protected", "virtual", "this");
+        Set<String> go = words("func", "package", "var", "const", "type", "struct", "interface", "map", "chan",
+                "go", "defer", "range", "select", "fallthrough", "goto", "nil");
+
+        LANGUAGE_KEYWORDS.put("java", java);
+        LANGUAGE_KEYWORDS.put("kotlin", words("fun", "val", "var", "object", "companion", "when", "is", "in", "this", "override"));
+        LANGUAGE_KEYWORDS.put("python", python);
+        LANGUAGE_KEYWORDS.put("javascript", javascript);
+        LANGUAGE_KEYWORDS.put("typescript", javascript);
+        LANGUAGE_KEYWORDS.put("c", c);
+        LANGUAGE_KEYWORDS.put("cpp", c);
+        LANGUAGE_KEYWORDS.put("c++", c);
+        LANGUAGE_KEYWORDS.put("csharp", c);
+        LANGUAGE_KEYWORDS.put("go", go);
+    }
+
+    private CodeTokenizer() {
+    }
+
+    /**
+     * 중복 없는 토큰 목록 (등장 순서)
+     */
+    public static List<String> tokenize(String code, String language) {
+        if (code == null || code.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<String> keywords = LANGUAGE_KEYWORDS.getOrDefault(
+                language != null ? language.toLowerCase(Locale.ROOT) : "", Collections.emptySet());
+        Set<String> tokens = new LinkedHashSet<>();
+        Matcher matcher = IDENTIFIER.matcher(code);
+        while (matcher.find()) {
+            String identifier = matcher.group();
+            String whole = identifier.toLowerCase(Locale.ROOT);
+            if (COMMON_KEYWORDS.contains(whole) || keywords.contains(whole)) {
+                continue;
+            }
+            add(tokens, whole);
+            for (String snakePart : identifier.split("[_$]+")) {
+                String[] parts = CAMEL_BOUNDARY.split(snakePart);
+                if (parts.length == 1 && snakePart.length() == identifier.length()) {
+                    continue; // 나눌 조각이 없음
+                }
+                for (String part : parts) {
+                    add(tokens, part.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    /**
+     * 색인용 공백 구분 문자열
+     */
+    public static String toIndexText(String code, String language) {
+        return String.join(" ", tokenize(code, language));
+    }
+
+    private static void add(Set<String> tokens, String token) {
+        if (token.length() >= MIN_TOKEN_LENGTH && token.length() <= MAX_TOKEN_LENGTH) {
+            tokens.add(token);
+        }
+    }
+
+    private static Set<String> words(String... words) {
+        return new HashSet<>(Arrays.asList(words));
+    }
+}
@@ -0,0 +1,55 @@
+package com.snippethub.api.search;
+
+/**
+ * 정해진 시각이 지나면 charAt 에서 예외를 던지는 문자열 감싸개.
+ * java.util.regex 는 매칭을 중단할 방법이 없으므로, 역추적이 폭발하는 정규식(ReDoS)도 문자를 읽는 순간 끊을 수 있게 한다.
+ * 시계는 CHECK_INTERVAL 번 읽을 때마다 한 번만 확인한다.
+ */
+final class DeadlineCharSequence implements CharSequence {
+
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final CharSequence text;
+    private final long deadlineNanos;
+    private int untilCheck = CHECK_INTERVAL;
+
+    DeadlineCharSequence(CharSequence text, long deadlineNanos) {
+        this.text = text;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (--untilCheck <= 0) {
+            untilCheck = CHECK_INTERVAL;
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new TimeoutException();
+            }
+        }
+        return text.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new DeadlineCharSequence(text.subSequence(start, end), deadlineNanos);
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+
+    /**
+     * 매칭 시간 초과
+     */
+    static final class TimeoutException extends RuntimeException {
+        TimeoutException() {
+            super("정규식 매칭 시간 초과", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.snippethub.api.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 색인에 들어가는 문서 한 건 (스니펫 또는 게시글)
+ */
+@Getter
+@Builder
+public class SearchDocument {
+
+    public enum Type {
+        SNIPPET, POST
+    }
+
+    private final Type type;
+    private final Long id;
+    private final String title;
+    private final String body;        // 스니펫 설명 또는 게시글 본문
+    private final String code;        // 스니펫 코드 (게시글은 null)
+    private final String category;    // 스니펫 언어 또는 게시글 카테고리 (필터용)
+    private final List<String> tags;
+    private final int likeCount;
+}
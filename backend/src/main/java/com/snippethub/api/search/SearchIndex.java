@@ -0,0 +1,393 @@
+package com.snippethub.api.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoubleDocValuesField;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queries.function.FunctionScoreQuery;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DoubleValuesSource;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스니펫/게시글 전문 검색 색인 (로컬 디스크의 Lucene 색인).
+ * 제목, 설명/본문, 태그, 코드 토큰을 색인하고 관련도에 좋아요 가중치를 곱해 정렬한다.
+ * 쓰기는 바로 IndexWriter 에 반영하고, 검색에 보이는 시점(refresh)과 디스크 커밋은 주기적으로 묶어서 처리한다.
+ * 색인을 열지 못했거나 아직 초기 적재 전이면 isReady() 가 false 이고, 호출하는 쪽은 기존 DB 검색으로 대신한다.
+ * 초기 적재 완료 여부와 마지막 동기화 시각은 커밋 user data 에 남겨, 적재 도중 커밋된 일부 색인을 재시작 후 완성본으로 오인하지 않는다.
+ */
+@Component
+@Slf4j
+public class SearchIndex {
+
+    static final String UID = "uid";
+    static final String TYPE = "type";
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String BODY = "body";
+    static final String TAGS = "tags";
+    static final String CODE = "code";
+    static final String CATEGORY = "category";
+    static final String POPULARITY = "popularity";
+
+    // 커밋 user data 키
+    static final String BOOTSTRAP_COMPLETE_KEY = "bootstrap-complete";
+    static final String SYNCED_THROUGH_KEY = "synced-through";
+
+    private static final int MAX_QUERY_TERMS = 16;
+    private static final float TITLE_BOOST = 3f;
+    private static final float TAGS_BOOST = 2f;
+    private static final float CODE_BOOST = 1f;
+    private static final float BODY_BOOST = 1f;
+    // 좋아요 가중치: 1 + weight * ln(1 + likes)
+    private static final double LIKE_WEIGHT = 0.2;
+
+    @Value("${search.index-dir:./data/search-index}")
+    private String indexDir;
+
+    @Value("${search.max-results:1000}")
+    private int maxResults = 1000;
+
+    private final Analyzer analyzer = new PerFieldAnalyzerWrapper(new StandardAnalyzer(),
+            Map.of(CODE, new WhitespaceAnalyzer()));
+
+    private FSDirectory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile boolean ready;
+    // 이 시각 이전에 수정된 행은 색인에 반영됨 (epoch ms, 0 이면 모름)
+    private volatile long syncedThrough;
+    private volatile boolean commitDataChanged;
+
+    @PostConstruct
+    void init() {
+        try {
+            Path path = Paths.get(indexDir);
+            directory = FSDirectory.open(path);
+            IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            writer = new IndexWriter(directory, config);
+            searcherManager = new SearcherManager(writer, true, false, null);
+            // 초기 적재를 끝까지 마친 색인만 바로 사용, 아니면 초기 적재(SearchIndexer) 이후 사용
+            Map<String, String> commitData = new HashMap<>();
+            Iterable<Map.Entry<String, String>> stored = writer.getLiveCommitData();
+            if (stored != null) {
+                stored.forEach(entry -> commitData.put(entry.getKey(), entry.getValue()));
+            }
+            ready = Boolean.parseBoolean(commitData.get(BOOTSTRAP_COMPLETE_KEY));
+            syncedThrough = parseLong(commitData.get(SYNCED_THROUGH_KEY));
+            log.info("검색 색인 열림 - 경로: {}, 문서 {}건, 초기 적재 완료: {}",
+                    path.toAbsolutePath(), writer.getDocStats().numDocs, ready);
+        } catch (IOException e) {
+            log.error("검색 색인을 열지 못했습니다. DB 검색으로 대체합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 색인을 열었는지 (초기 적재 여부와 무관)
+     */
+    public boolean isAvailable() {
+        return writer != null;
+    }
+
+    /**
+     * 검색에 사용할 수 있는지
+     */
+    public boolean isReady() {
+        return ready && isAvailable();
+    }
+
+    /**
+     * 초기 적재 완료. 완료 표시를 커밋해 재시작 후에도 바로 사용한다.
+     */
+    void markReady() {
+        ready = true;
+        commitDataChanged = true;
+        commit();
+        refresh();
+    }
+
+    public long getSyncedThrough() {
+        return syncedThrough;
+    }
+
+    /**
+     * 주어진 시각 이전 수정분까지 반영했음을 기록 (다음 커밋에 함께 저장)
+     */
+    void markSynced(long syncedThroughMillis) {
+        syncedThrough = syncedThroughMillis;
+        commitDataChanged = true;
+    }
+
+    /**
+     * 문서 추가 또는 교체
+     */
+    public void upsert(SearchDocument document) {
+        if (!isAvailable()) {
+            return;
+        }
+        Document doc = new Document();
+        doc.add(new StringField(UID, uid(document.getType(), document.getId()), Field.Store.NO));
+        doc.add(new StringField(TYPE, document.getType().name(), Field.Store.NO));
+        doc.add(new StoredField(ID, document.getId()));
+        addText(doc, TITLE, document.getTitle());
+        addText(doc, BODY, document.getBody());
+        if (document.getTags() != null) {
+            for (String tag : document.getTags()) {
+                addText(doc, TAGS, tag);
+            }
+        }
+        if (document.getCode() != null) {
+            addText(doc, CODE, CodeTokenizer.toIndexText(document.getCode(), document.getCategory()));
+        }
+        if (document.getCategory() != null) {
+            doc.add(new StringField(CATEGORY, normalize(document.getCategory()), Field.Store.NO));
+        }
+        doc.add(new DoubleDocValuesField(POPULARITY, popularity(document.getLikeCount())));
+        try {
+            writer.updateDocument(new Term(UID, uid(document.getType(), document.getId())), doc);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(SearchDocument.Type type, Long id) {
+        if (!isAvailable()) {
+            return;
+        }
+        try {
+            writer.deleteDocuments(new Term(UID, uid(type, id)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 좋아요 수만 바뀐 경우 문서를 다시 만들지 않고 DocValues 만 갱신
+     */
+    public void updateLikes(SearchDocument.Type type, Long id, int likeCount) {
+        if (!isAvailable()) {
+            return;
+        }
+        try {
+            writer.updateDocValues(new Term(UID, uid(type, id)),
+                    new DoubleDocValuesField(POPULARITY, popularity(likeCount)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 관련도 × 좋아요 가중치 순으로 offset 번째부터 limit 건의 ID.
+     * category 는 스니펫 언어 또는 게시글 카테고리 (null 이면 전체).
+     */
+    public Hits search(SearchDocument.Type type, String text, String category, long offset, int limit) {
+        List<String> terms = analyze(text);
+        if (!isAvailable() || terms.isEmpty() || offset >= maxResults) {
+            return Hits.EMPTY;
+        }
+
+        BooleanQuery.Builder matchAll = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder()
+                    .add(boosted(TITLE, term, TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(boosted(TAGS, term, TAGS_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(boosted(BODY, term, BODY_BOOST), BooleanClause.Occur.SHOULD);
+            if (type == SearchDocument.Type.SNIPPET) {
+                anyField.add(boosted(CODE, term, CODE_BOOST), BooleanClause.Occur.SHOULD);
+            }
+            matchAll.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        BooleanQuery.Builder filtered = new BooleanQuery.Builder()
+                .add(matchAll.build(), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.FILTER);
+        if (category != null && !category.isBlank()) {
+            filtered.add(new TermQuery(new Term(CATEGORY, normalize(category))), BooleanClause.Occur.FILTER);
+        }
+        Query matching = filtered.build();
+        Query ranked = FunctionScoreQuery.boostByValue(matching, DoubleValuesSource.fromDoubleField(POPULARITY));
+
+        int window = (int) Math.min(offset + limit, maxResults);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(ranked, window);
+                long total = top.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                        ? top.totalHits.value
+                        : searcher.count(matching);
+                List<Long> ids = new ArrayList<>();
+                StoredFields storedFields = searcher.storedFields();
+                ScoreDoc[] docs = top.scoreDocs;
+                for (int i = (int) offset; i < docs.length; i++) {
+                    Document doc = storedFields.document(docs[i].doc, Set.of(ID));
+                    ids.add(doc.getField(ID).numericValue().longValue());
+                }
+                return new Hits(Math.min(total, maxResults), ids);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 최근 쓰기를 검색에 반영
+     */
+    @Scheduled(fixedDelayString = "${search.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (!isAvailable()) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("검색 색인 새로고침 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 쌓인 변경을 디스크에 커밋
+     */
+    @Scheduled(fixedDelayString = "${search.commit-interval-ms:30000}",
+               initialDelayString = "${search.commit-interval-ms:30000}")
+    public synchronized void commit() {
+        if (!isAvailable()) {
+            return;
+        }
+        try {
+            if (writer.hasUncommittedChanges() || commitDataChanged) {
+                commitDataChanged = false;
+                Map<String, String> commitData = new HashMap<>();
+                commitData.put(BOOTSTRAP_COMPLETE_KEY, String.valueOf(ready));
+                commitData.put(SYNCED_THROUGH_KEY, String.valueOf(syncedThrough));
+                writer.setLiveCommitData(commitData.entrySet());
+                writer.commit();
+            }
+        } catch (IOException e) {
+            commitDataChanged = true;
+            log.error("검색 색인 커밋 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (!isAvailable()) {
+            return;
+        }
+        commit();
+        try {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (IOException e) {
+            log.error("검색 색인 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private static Query boosted(String field, String term, float boost) {
+        return new BoostQuery(new TermQuery(new Term(field, term)), boost);
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (value != null && !value.isEmpty()) {
+            doc.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private static double popularity(int likeCount) {
+        return 1 + LIKE_WEIGHT * Math.log1p(Math.max(0, likeCount));
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static String uid(SearchDocument.Type type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색 결과 (전체 건수는 search.max-results 까지)
+     */
+    @Getter
+    public static class Hits {
+
+        static final Hits EMPTY = new Hits(0, Collections.emptyList());
+
+        private final long total;
+        private final List<Long> ids;
+
+        public Hits(long total, List<Long> ids) {
+            this.total = total;
+            this.ids = ids;
+        }
+    }
+}
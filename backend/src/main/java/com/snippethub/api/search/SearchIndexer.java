@@ -0,0 +1,232 @@
+package com.snippethub.api.search;
+
+import com.snippethub.api.event.DomainEventRetrier;
+import com.snippethub.api.event.LikeToggledEvent;
+import com.snippethub.api.event.SearchDocumentChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 색인 갱신.
+ * 생성/수정/삭제 이벤트가 오면 커밋 이후 DB 의 현재 행을 다시 읽어 색인을 맞추고 (행이 없으면 삭제),
+ * 좋아요 변경은 좋아요 수만 갱신한다. 초기 적재를 마친 적이 없으면 시작 시 전체를 ID 순으로 나눠 적재하고,
+ * 이벤트를 놓친 경우(처리 실패, 노드 재시작 등)에 대비해 주기적으로 마지막 동기화 이후 updated_at 이 바뀐 행을 다시 색인한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexer {
+
+    private static final String HANDLER = "search";
+
+    private static final String SELECT_SNIPPETS_SQL =
+            "SELECT id, title, description, language, code, like_count FROM snippets ";
+    private static final String SELECT_SNIPPET_TAGS_SQL =
+            "SELECT st.snippet_id AS owner_id, t.name FROM snippet_tags st JOIN tags t ON t.id = st.tag_id " +
+            "WHERE st.snippet_id IN (%s)";
+    private static final String SELECT_POSTS_SQL =
+            "SELECT id, title, content, category, like_count FROM posts ";
+    private static final String SELECT_POST_TAGS_SQL =
+            "SELECT pt.post_id AS owner_id, t.name FROM post_tags pt JOIN tags t ON t.id = pt.tag_id " +
+            "WHERE pt.post_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchIndex searchIndex;
+    private final DomainEventRetrier retrier;
+
+    @Value("${search.reindex-batch-size:500}")
+    private int batchSize = 500;
+
+    // 마지막 동기화 시각보다 이만큼 앞에서부터 다시 본다 (동기화 시점에 아직 커밋되지 않았던 수정 포함)
+    @Value("${search.catch-up-overlap-ms:60000}")
+    private long catchUpOverlapMs = 60000;
+
+    @PostConstruct
+    void registerReplays() {
+        retrier.registerReplay(HANDLER, SearchDocumentChangedEvent.class, this::onDocumentChanged);
+        retrier.registerReplay(HANDLER, LikeToggledEvent.class, this::onLikeToggled);
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDocumentChanged(SearchDocumentChangedEvent event) {
+        retrier.execute(HANDLER, event, () -> reindex(event.getType(), event.getId()));
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeToggled(LikeToggledEvent event) {
+        SearchDocument.Type type = SearchDocument.Type.valueOf(event.getTargetType());
+        String table = type == SearchDocument.Type.SNIPPET ? "snippets" : "posts";
+        retrier.execute(HANDLER, event, () -> {
+            List<Integer> likes = jdbcTemplate.queryForList(
+                    "SELECT like_count FROM " + table + " WHERE id = ?", Integer.class, event.getTargetId());
+            if (!likes.isEmpty()) {
+                searchIndex.updateLikes(type, event.getTargetId(), likes.get(0));
+            }
+        });
+    }
+
+    /**
+     * 색인이 비어 있으면 전체 적재 (기동을 막지 않도록 별도 스레드)
+     */
+    @Async("domainEventExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!searchIndex.isAvailable() || searchIndex.isReady()) {
+            return;
+        }
+        try {
+            reindexAll();
+        } catch (Exception e) {
+            log.error("검색 색인 초기 적재 실패. DB 검색을 계속 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 스니펫과 게시글을 ID 순으로 batchSize 씩 색인
+     */
+    public void reindexAll() {
+        long startedAt = System.currentTimeMillis();
+        int snippets = reindexAll(SearchDocument.Type.SNIPPET);
+        int posts = reindexAll(SearchDocument.Type.POST);
+        searchIndex.markSynced(startedAt);
+        searchIndex.markReady();
+        log.info("검색 색인 적재 완료 - 스니펫 {}건, 게시글 {}건, {}ms",
+                snippets, posts, System.currentTimeMillis() - startedAt);
+    }
+
+    private int reindexAll(SearchDocument.Type type) {
+        int total = 0;
+        long lastId = 0;
+        while (true) {
+            List<SearchDocument> batch = load(type, "WHERE id > ? ORDER BY id LIMIT ?", lastId, batchSize);
+            batch.forEach(searchIndex::upsert);
+            total += batch.size();
+            if (batch.size() < batchSize) {
+                return total;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 수정된 스니펫/게시글을 다시 색인 (초기 적재 전에는 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${search.catch-up-interval-ms:300000}",
+               initialDelayString = "${search.catch-up-interval-ms:300000}")
+    public synchronized void catchUp() {
+        if (!searchIndex.isReady()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        Timestamp since = new Timestamp(Math.max(0, searchIndex.getSyncedThrough() - catchUpOverlapMs));
+        try {
+            int snippets = catchUp(SearchDocument.Type.SNIPPET, since);
+            int posts = catchUp(SearchDocument.Type.POST, since);
+            searchIndex.markSynced(startedAt);
+            if (snippets + posts > 0) {
+                log.info("검색 색인 따라잡기 - {} 이후 수정된 스니펫 {}건, 게시글 {}건, {}ms",
+                        since, snippets, posts, System.currentTimeMillis() - startedAt);
+            }
+        } catch (Exception e) {
+            log.error("검색 색인 따라잡기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * updated_at >= since 인 행을 (updated_at, id) 순으로 batchSize 씩 다시 색인
+     */
+    private int catchUp(SearchDocument.Type type, Timestamp since) {
+        String table = type == SearchDocument.Type.SNIPPET ? "snippets" : "posts";
+        int total = 0;
+        Timestamp lastUpdatedAt = since;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> keys = jdbcTemplate.query("SELECT id, updated_at FROM " + table +
+                            " WHERE updated_at > ? OR (updated_at = ? AND id > ?) ORDER BY updated_at, id LIMIT ?",
+                    (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getTimestamp("updated_at")},
+                    lastUpdatedAt, lastUpdatedAt, lastId, batchSize);
+            if (keys.isEmpty()) {
+                return total;
+            }
+            List<Object> ids = new ArrayList<>(keys.size());
+            keys.forEach(key -> ids.add(key[0]));
+            String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+            load(type, "WHERE id IN (" + placeholders + ")", ids.toArray()).forEach(searchIndex::upsert);
+            total += keys.size();
+            if (keys.size() < batchSize) {
+                return total;
+            }
+            Object[] last = keys.get(keys.size() - 1);
+            lastId = (Long) last[0];
+            lastUpdatedAt = (Timestamp) last[1];
+        }
+    }
+
+    void reindex(SearchDocument.Type type, Long id) {
+        List<SearchDocument> found = load(type, "WHERE id = ?", id);
+        if (found.isEmpty()) {
+            searchIndex.delete(type, id);
+        } else {
+            searchIndex.upsert(found.get(0));
+        }
+    }
+
+    private List<SearchDocument> load(SearchDocument.Type type, String condition, Object... args) {
+        boolean snippet = type == SearchDocument.Type.SNIPPET;
+        List<Object[]> rows = jdbcTemplate.query((snippet ? SELECT_SNIPPETS_SQL : SELECT_POSTS_SQL) + condition,
+                (rs, rowNum) -> snippet
+                        ? new Object[]{rs.getLong("id"), rs.getString("title"), rs.getString("description"),
+                                rs.getString("code"), rs.getString("language"), rs.getInt("like_count")}
+                        : new Object[]{rs.getLong("id"), rs.getString("title"), rs.getString("content"),
+                                null, rs.getString("category"), rs.getInt("like_count")},
+                args);
+        if (rows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> ids = new ArrayList<>(rows.size());
+        rows.forEach(row -> ids.add(row[0]));
+        Map<Long, List<String>> tags = new HashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.query(String.format(snippet ? SELECT_SNIPPET_TAGS_SQL : SELECT_POST_TAGS_SQL, placeholders),
+                (RowCallbackHandler) rs -> tags.computeIfAbsent(rs.getLong("owner_id"), key -> new ArrayList<>())
+                        .add(rs.getString("name")),
+                ids.toArray());
+
+        List<SearchDocument> documents = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            documents.add(SearchDocument.builder()
+                    .type(type)
+                    .id(id)
+                    .title((String) row[1])
+                    .body((String) row[2])
+                    .code((String) row[3])
+                    .category((String) row[4])
+                    .likeCount((Integer) row[5])
+                    .tags(tags.getOrDefault(id, Collections.emptyList()))
+                    .build());
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,362 @@
+package com.snippethub.api.search;
+
+import com.snippethub.api.util.PostingList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 코드 본문 trigram 색인 (codesearch 방식).
+ * 문서마다 소문자로 바꾼 본문의 모든 연속 3글자를 뽑아 trigram → 문서 ID posting list 로 저장하고,
+ * 검색어(정규식)에서 반드시 나와야 하는 리터럴의 trigram 교집합으로 후보를 좁힌다. 최종 일치 여부는 호출하는 쪽이 원문으로 확인한다.
+ *
+ * 전체 적재분(base)은 압축된 불변 posting list 이고, 이후의 추가/수정은 작은 delta 로, 삭제/수정 전 문서는 제외 목록으로 관리한다.
+ * delta 는 주기적인 전체 재구성 때 base 로 합쳐진다. 이 클래스는 스레드 안전하지 않다.
+ */
+public class TrigramIndex {
+
+    public static final int GRAM = 3;
+
+    private final Map<Long, PostingList> base;
+    private final int baseDocs;
+    // base 에 들어 있지만 삭제되었거나 delta 로 다시 들어간 문서
+    private final Set<Long> removed = new HashSet<>();
+    // 적재 이후 추가/수정된 문서의 trigram (정렬됨)
+    private final Map<Long, long[]> delta = new HashMap<>();
+
+    public TrigramIndex() {
+        this(Collections.emptyMap(), 0);
+    }
+
+    private TrigramIndex(Map<Long, PostingList> base, int baseDocs) {
+        this.base = base;
+        this.baseDocs = baseDocs;
+    }
+
+    /**
+     * 문서 추가 또는 교체
+     */
+    public void put(long id, String code) {
+        remove(id);
+        delta.put(id, trigrams(code));
+    }
+
+    public void remove(long id) {
+        delta.remove(id);
+        if (baseDocs > 0) {
+            removed.add(id);
+        }
+    }
+
+    public int getDeltaSize() {
+        return delta.size();
+    }
+
+    public int getTrigramCount() {
+        return base.size();
+    }
+
+    /**
+     * 압축된 posting list 전체 크기 (바이트)
+     */
+    public long getPostingBytes() {
+        long bytes = 0;
+        for (PostingList postings : base.values()) {
+            bytes += postings.byteSize();
+        }
+        return bytes;
+    }
+
+    /**
+     * 주어진 trigram 을 모두 포함하는 문서 ID (오름차순). trigram 이 없으면 빈 배열.
+     */
+    public long[] candidates(long[] required) {
+        if (required.length == 0) {
+            return new long[0];
+        }
+        long[] fromBase = intersectBase(required);
+        List<Long> fromDelta = new ArrayList<>();
+        for (Map.Entry<Long, long[]> entry : delta.entrySet()) {
+            if (containsAll(entry.getValue(), required)) {
+                fromDelta.add(entry.getKey());
+            }
+        }
+        if (fromDelta.isEmpty()) {
+            return fromBase;
+        }
+        long[] merged = Arrays.copyOf(fromBase, fromBase.length + fromDelta.size());
+        for (int i = 0; i < fromDelta.size(); i++) {
+            merged[fromBase.length + i] = fromDelta.get(i);
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private long[] intersectBase(long[] required) {
+        List<PostingList> lists = new ArrayList<>(required.length);
+        for (long trigram : required) {
+            PostingList postings = base.get(trigram);
+            if (postings == null) {
+                return new long[0];
+            }
+            lists.add(postings);
+        }
+        // 가장 짧은 목록부터 나머지 목록으로 걸러낸다
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        long[] result = lists.get(0).toArray();
+        int count = result.length;
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            PostingList.Cursor cursor = lists.get(i).cursor();
+            int kept = 0;
+            for (int j = 0; j < count; j++) {
+                long found = cursor.advance(result[j]);
+                if (found == PostingList.NO_MORE) {
+                    break;
+                }
+                if (found == result[j]) {
+                    result[kept++] = result[j];
+                }
+            }
+            count = kept;
+        }
+        if (removed.isEmpty()) {
+            return Arrays.copyOf(result, count);
+        }
+        int kept = 0;
+        for (int j = 0; j < count; j++) {
+            if (!removed.contains(result[j])) {
+                result[kept++] = result[j];
+            }
+        }
+        return Arrays.copyOf(result, kept);
+    }
+
+    private static boolean containsAll(long[] sorted, long[] required) {
+        for (long trigram : required) {
+            if (Arrays.binarySearch(sorted, trigram) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 본문의 서로 다른 trigram (소문자 기준, 정렬됨)
+     */
+    public static long[] trigrams(String text) {
+        if (text == null || text.length() < GRAM) {
+            return new long[0];
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= lower.length(); i++) {
+            grams.add(key(lower.charAt(i), lower.charAt(i + 1), lower.charAt(i + 2)));
+        }
+        long[] sorted = new long[grams.size()];
+        int i = 0;
+        for (Long gram : grams) {
+            sorted[i++] = gram;
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * 정규식에 반드시 나오는 리터럴들의 trigram. 하나도 없으면 빈 배열 (색인으로 좁힐 수 없음).
+     */
+    public static long[] requiredTrigrams(String regex) {
+        Set<Long> grams = new HashSet<>();
+        for (String literal : requiredLiterals(regex)) {
+            for (long gram : trigrams(literal)) {
+                grams.add(gram);
+            }
+        }
+        long[] sorted = new long[grams.size()];
+        int i = 0;
+        for (Long gram : grams) {
+            sorted[i++] = gram;
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * 정규식의 최상위에서 반드시 일치해야 하는 연속 리터럴 (3자 이상).
+     * 보수적으로 추출한다: 그룹 안, 문자 클래스, 선택적 수량자가 붙은 글자는 제외하고, 최상위 | 가 있으면 아무것도 요구하지 않는다.
+     */
+    static List<String> requiredLiterals(String regex) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int depth = 0;
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\' && i + 1 < regex.length()) {
+                char escaped = regex.charAt(i + 1);
+                // \x41, \u0070, \0101, \cA, \k<name>, \p{L}, \N{..}, \12 처럼 인자가 붙는 escape 는 인자까지 건너뛴다
+                i = skipEscapeArgument(regex, i + 2, escaped);
+                if (depth > 0) {
+                    continue;
+                }
+                if (Character.isLetterOrDigit(escaped)) {
+                    flush(current, literals); // \d, \w, \n, \Q 등은 리터럴로 보지 않음
+                } else {
+                    current.append(escaped);
+                }
+                continue;
+            }
+            switch (c) {
+                case '(':
+                    if (depth == 0) {
+                        flush(current, literals);
+                    }
+                    depth++;
+                    break;
+                case ')':
+                    depth = Math.max(0, depth - 1);
+                    break;
+                case '[':
+                    i = skipCharacterClass(regex, i);
+                    if (depth == 0) {
+                        flush(current, literals);
+                    }
+                    break;
+                case '|':
+                    if (depth == 0) {
+                        return Collections.emptyList();
+                    }
+                    break;
+                case '?':
+                case '*':
+                case '{':
+                    if (depth == 0) {
+                        // 앞 글자는 없을 수도 있다
+                        if (current.length() > 0) {
+                            current.setLength(current.length() - 1);
+                        }
+                        flush(current, literals);
+                    }
+                    if (c == '{') {
+                        int close = regex.indexOf('}', i);
+                        i = close < 0 ? regex.length() - 1 : close;
+                    }
+                    break;
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                    if (depth == 0) {
+                        flush(current, literals);
+                    }
+                    break;
+                default:
+                    if (depth == 0) {
+                        current.append(c);
+                    }
+            }
+            i++;
+        }
+        flush(current, literals);
+        return literals;
+    }
+
+    /**
+     * escape 문자 뒤의 인자 다음 위치. 인자가 없는 escape 면 from 그대로.
+     */
+    private static int skipEscapeArgument(String regex, int from, char escaped) {
+        switch (escaped) {
+            case 'x':
+                if (from < regex.length() && regex.charAt(from) == '{') {
+                    return skipPast(regex, from, '}');
+                }
+                return skipWhile(regex, from, 2, "0123456789abcdefABCDEF");
+            case 'u':
+                return skipWhile(regex, from, 4, "0123456789abcdefABCDEF");
+            case '0':
+                return skipWhile(regex, from, 3, "01234567");
+            case 'c':
+                return Math.min(from + 1, regex.length());
+            case 'k':
+                return from < regex.length() && regex.charAt(from) == '<' ? skipPast(regex, from, '>') : from;
+            case 'p':
+            case 'P':
+            case 'N':
+                if (from < regex.length() && regex.charAt(from) == '{') {
+                    return skipPast(regex, from, '}');
+                }
+                return escaped == 'N' ? from : Math.min(from + 1, regex.length());
+            default:
+                // 역참조 \1, \12 ...
+                return escaped >= '1' && escaped <= '9' ? skipWhile(regex, from, Integer.MAX_VALUE, "0123456789") : from;
+        }
+    }
+
+    private static int skipWhile(String regex, int from, int max, String allowed) {
+        int i = from;
+        while (i < regex.length() && i - from < max && allowed.indexOf(regex.charAt(i)) >= 0) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipPast(String regex, int from, char close) {
+        int end = regex.indexOf(close, from);
+        return end < 0 ? regex.length() : end + 1;
+    }
+
+    private static int skipCharacterClass(String regex, int open) {
+        int i = open + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            i++;
+        }
+        while (i < regex.length() && regex.charAt(i) != ']') {
+            i += regex.charAt(i) == '\\' ? 2 : 1;
+        }
+        return Math.min(i, regex.length() - 1);
+    }
+
+    private static void flush(StringBuilder current, List<String> literals) {
+        if (current.length() >= GRAM) {
+            literals.add(current.toString());
+        }
+        current.setLength(0);
+    }
+
+    private static long key(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    /**
+     * ID 오름차순으로 문서를 넣어 base 를 만드는 빌더
+     */
+    public static class Builder {
+
+        private final Map<Long, PostingList.Builder> postings = new HashMap<>();
+        private int docs;
+
+        public Builder add(long id, String code) {
+            for (long gram : trigrams(code)) {
+                postings.computeIfAbsent(gram, key -> new PostingList.Builder()).add(id);
+            }
+            docs++;
+            return this;
+        }
+
+        public TrigramIndex build() {
+            Map<Long, PostingList> built = new HashMap<>(postings.size() * 2);
+            postings.forEach((gram, builder) -> built.put(gram, builder.build()));
+            return new TrigramIndex(built, docs);
+        }
+    }
+}
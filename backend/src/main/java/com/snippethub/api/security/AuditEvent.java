@@ -0,0 +1,23 @@
+package com.snippethub.api.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청 스레드에서 캡처하는 감사 이벤트.
+ * 시간 포맷팅 등 문자열 가공은 기록 스레드에서 수행하고 여기에는 원본 값만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class AuditEvent {
+
+    private final long timestamp;
+    private final String method;
+    private final String requestPath;
+    private final String clientIp;
+    private final String username;
+    private final int statusCode;
+    private final long duration;
+    private final String userAgent;
+    private final boolean highRisk;
+}
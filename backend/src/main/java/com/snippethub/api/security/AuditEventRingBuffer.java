@@ -0,0 +1,79 @@
+package com.snippethub.api.security;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 다중 생산자 / 단일 소비자 lock-free 링 버퍼.
+ * 생산자는 tail을 CAS로 예약한 뒤 슬롯에 이벤트를 게시하고, 버퍼가 가득 차면 대기하지 않고 버린다.
+ * 소비자는 게시된 슬롯을 순서대로 비우며 head를 전진시킨다.
+ */
+public class AuditEventRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    public AuditEventRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 이벤트를 추가한다. 버퍼가 가득 차면 false를 반환하고 드롭 카운터를 증가시킨다.
+     */
+    public boolean offer(E event) {
+        while (true) {
+            long currentTail = tail.get();
+            if (currentTail - head.get() >= slots.length()) {
+                dropped.increment();
+                return false;
+            }
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                slots.lazySet((int) currentTail & mask, event);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 게시된 이벤트를 최대 maxEvents개까지 꺼낸다. 단일 소비자 스레드에서만 호출해야 한다.
+     */
+    public int drainTo(List<E> target, int maxEvents) {
+        long currentHead = head.get();
+        int drained = 0;
+        while (drained < maxEvents) {
+            int index = (int) currentHead & mask;
+            E event = slots.get(index);
+            if (event == null) {
+                // 예약만 되고 아직 게시되지 않은 슬롯
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(event);
+            currentHead++;
+            drained++;
+        }
+        if (drained > 0) {
+            head.lazySet(currentHead);
+        }
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -12,15 +13,16 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class AuditLogFilter extends OncePerRequestFilter {
 
+    private final AuditLogWriter auditLogWriter;
+
     @Value("${security.audit.enabled:true}")
     private boolean auditEnabled;
 
@@ -69,17 +71,11 @@ public class AuditLogFilter extends OncePerRequestFilter {
         String username = authentication != null && authentication.isAuthenticated() ? 
                          authentication.getName() : "anonymous";
 
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        
-        log.info("[SECURITY_AUDIT] {} | {} {} | IP: {} | User: {} | Status: {} | Duration: {}ms | UA: {}",
-                timestamp, method, requestPath, clientIp, username, statusCode, duration, 
-                userAgent != null ? userAgent.substring(0, Math.min(userAgent.length(), 100)) : "N/A");
-
-        // 보안 위험도가 높은 이벤트는 별도 로그
-        if (isHighRiskEvent(requestPath, method, statusCode)) {
-            log.warn("[SECURITY_WARNING] High risk event detected - {} {} from IP: {} by user: {}",
-                    method, requestPath, clientIp, username);
-        }
+        // 포맷팅과 I/O는 기록 스레드에서 처리 (버퍼가 가득 차면 드롭)
+        auditLogWriter.submit(new AuditEvent(
+                System.currentTimeMillis(), method, requestPath, clientIp, username, statusCode, duration,
+                userAgent != null ? userAgent.substring(0, Math.min(userAgent.length(), 100)) : null,
+                isHighRiskEvent(requestPath, method, statusCode)));
     }
 
     private boolean isHighRiskEvent(String requestPath, String method, int statusCode) {
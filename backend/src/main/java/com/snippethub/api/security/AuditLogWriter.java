@@ -0,0 +1,246 @@
+package com.snippethub.api.security;
+
+import com.snippethub.api.domain.SecurityAuditLog;
+import com.snippethub.api.repository.SecurityAuditLogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 이벤트 비동기 기록기.
+ * 요청 스레드는 링 버퍼에 이벤트를 넣기만 하고, 백그라운드 스레드가 배치 단위로
+ * 로컬 파일(크기/날짜 기준 로테이션)과 선택적으로 DB 테이블에 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogWriter {
+
+    private static final int BATCH_SIZE = 512;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final DateTimeFormatter ROTATED_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final SecurityAuditLogRepository securityAuditLogRepository;
+
+    @Value("${security.audit.buffer-size:8192}")
+    private int bufferSize;
+
+    @Value("${security.audit.file.path:logs/security-audit.log}")
+    private String filePath;
+
+    @Value("${security.audit.file.max-size-mb:50}")
+    private long maxFileSizeMb;
+
+    @Value("${security.audit.file.max-files:10}")
+    private int maxFiles;
+
+    @Value("${security.audit.db.enabled:false}")
+    private boolean dbEnabled;
+
+    private final LongAdder written = new LongAdder();
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    private AuditEventRingBuffer<AuditEvent> buffer;
+    private Thread consumer;
+    private volatile boolean running;
+
+    // 소비자 스레드 전용 상태
+    private BufferedWriter writer;
+    private LocalDate currentFileDate;
+    private long currentFileSize;
+
+    @PostConstruct
+    void start() {
+        buffer = new AuditEventRingBuffer<>(bufferSize);
+        running = true;
+        consumer = new Thread(this::consumeLoop, "security-audit-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 요청 스레드에서 호출. I/O 없이 버퍼에 넣기만 하며, 가득 차면 이벤트를 버린다.
+     */
+    public boolean submit(AuditEvent event) {
+        return buffer.offer(event);
+    }
+
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    private void consumeLoop() {
+        List<AuditEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            if (buffer.drainTo(batch, BATCH_SIZE) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            writeBatch(batch);
+            batch.clear();
+        }
+        // 종료 시 남은 이벤트 기록
+        while (buffer.drainTo(batch, BATCH_SIZE) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+        closeWriter();
+    }
+
+    private void writeBatch(List<AuditEvent> batch) {
+        try {
+            writeToFile(batch);
+        } catch (IOException e) {
+            log.error("감사 로그 파일 기록 실패: {}", e.getMessage());
+            closeWriter();
+        }
+
+        if (dbEnabled) {
+            try {
+                securityAuditLogRepository.saveAll(batch.stream().map(this::toEntity).toList());
+            } catch (Exception e) {
+                log.error("감사 로그 DB 기록 실패: {}", e.getMessage());
+            }
+        }
+
+        for (AuditEvent event : batch) {
+            if (event.isHighRisk()) {
+                log.warn("[SECURITY_WARNING] High risk event detected - {} {} from IP: {} by user: {}",
+                        event.getMethod(), event.getRequestPath(), event.getClientIp(), event.getUsername());
+            }
+        }
+        written.add(batch.size());
+    }
+
+    private void writeToFile(List<AuditEvent> batch) throws IOException {
+        StringBuilder lines = new StringBuilder(batch.size() * 160);
+        for (AuditEvent event : batch) {
+            lines.append("[SECURITY_AUDIT] ")
+                    .append(toDateTime(event.getTimestamp()).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                    .append(" | ").append(event.getMethod()).append(' ').append(event.getRequestPath())
+                    .append(" | IP: ").append(event.getClientIp())
+                    .append(" | User: ").append(event.getUsername())
+                    .append(" | Status: ").append(event.getStatusCode())
+                    .append(" | Duration: ").append(event.getDuration()).append("ms")
+                    .append(" | UA: ").append(event.getUserAgent() != null ? event.getUserAgent() : "N/A")
+                    .append(System.lineSeparator());
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+
+        rotateIfNeeded(bytes.length);
+        writer.write(lines.toString());
+        writer.flush();
+        currentFileSize += bytes.length;
+    }
+
+    private void rotateIfNeeded(int incomingBytes) throws IOException {
+        LocalDate today = LocalDate.now(zoneId);
+        Path path = Paths.get(filePath);
+        if (writer != null && today.equals(currentFileDate)
+                && currentFileSize + incomingBytes <= maxFileSizeMb * 1024 * 1024) {
+            return;
+        }
+
+        closeWriter();
+        if (currentFileDate != null && Files.exists(path) && Files.size(path) > 0) {
+            Path rotated = path.resolveSibling(path.getFileName() + "." + LocalDateTime.now(zoneId).format(ROTATED_SUFFIX));
+            Files.move(path, rotated, StandardCopyOption.REPLACE_EXISTING);
+            deleteOldFiles(path);
+        }
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        currentFileDate = today;
+        currentFileSize = Files.size(path);
+    }
+
+    private void deleteOldFiles(Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        String prefix = path.getFileName() + ".";
+        try (var files = Files.list(directory)) {
+            List<Path> rotatedFiles = files
+                    .filter(file -> file.getFileName().toString().startsWith(prefix))
+                    .sorted()
+                    .toList();
+            for (int i = 0; i < rotatedFiles.size() - maxFiles; i++) {
+                Files.deleteIfExists(rotatedFiles.get(i));
+            }
+        }
+    }
+
+    private void closeWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("감사 로그 파일 닫기 실패: {}", e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    private SecurityAuditLog toEntity(AuditEvent event) {
+        return SecurityAuditLog.builder()
+                .method(event.getMethod())
+                .requestPath(truncate(event.getRequestPath(), 500))
+                .clientIp(event.getClientIp())
+                .username(event.getUsername())
+                .statusCode(event.getStatusCode())
+                .durationMs(event.getDuration())
+                .userAgent(event.getUserAgent())
+                .highRisk(event.isHighRisk())
+                .createdAt(toDateTime(event.getTimestamp()))
+                .build();
+    }
+
+    private String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private LocalDateTime toDateTime(long timestamp) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), zoneId);
+    }
+}
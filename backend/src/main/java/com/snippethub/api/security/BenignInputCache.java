@@ -0,0 +1,38 @@
+package com.snippethub.api.security;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 검증을 통과한 문자열(쿼리 스트링, 헤더 값)을 기억하는 direct-mapped 캐시.
+ * 같은 목록 조회 쿼리가 반복될 때 정규식 검사를 문자열 비교 한 번으로 대체한다.
+ * 충돌 시 기존 값을 덮어쓰며, 잠금 없이 동작한다.
+ */
+final class BenignInputCache {
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+    private final int maxLength;
+
+    BenignInputCache(int capacity, int maxLength) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    boolean contains(String input) {
+        return input.equals(slots.get(indexOf(input)));
+    }
+
+    void add(String input) {
+        // 긴 입력은 비교 비용이 크고 재사용 가능성이 낮아 저장하지 않는다
+        if (input.length() <= maxLength) {
+            slots.lazySet(indexOf(input), input);
+        }
+    }
+
+    private int indexOf(String input) {
+        int h = input.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
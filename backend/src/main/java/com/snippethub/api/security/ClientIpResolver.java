@@ -0,0 +1,161 @@
+package com.snippethub.api.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 클라이언트 IP 확인.
+ * 프록시 헤더(X-Forwarded-For 등)는 누구나 보낼 수 있으므로, 직접 연결한 주소가 신뢰하는 프록시일 때만 헤더를 본다.
+ * X-Forwarded-For 는 오른쪽(가장 가까운 프록시가 덧붙인 값)부터 신뢰하는 프록시를 건너뛰고 처음 나오는 주소를 쓴다.
+ * rate limit, 비용 예산, 조회수 중복 제거가 모두 이 결과를 키로 쓴다.
+ */
+@Component
+@Slf4j
+public class ClientIpResolver {
+
+    // 프록시가 채우는 헤더 (순서대로 확인)
+    private static final String[] HEADER_NAMES = {
+        "X-Forwarded-For",
+        "X-Real-IP",
+        "X-Client-IP",
+        "CF-Connecting-IP", // Cloudflare
+        "True-Client-IP",   // Akamai
+        "X-Cluster-Client-IP"
+    };
+
+    // 호스트 이름이 DNS 조회로 이어지지 않도록 IP 리터럴만 받는다
+    private static final Pattern IP_LITERAL = Pattern.compile("^[0-9a-fA-F:.]{2,45}$");
+
+    // 루프백과 사설 대역 (로드밸런서/인그레스가 사설 주소로 붙는 일반적인 배포)
+    static final String DEFAULT_TRUSTED_PROXIES =
+            "127.0.0.0/8,::1,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16,fc00::/7";
+
+    // 쉼표로 구분한 주소 또는 CIDR (예: 127.0.0.1,10.0.0.0/8)
+    @Value("${security.trusted-proxies:" + DEFAULT_TRUSTED_PROXIES + "}")
+    private String trustedProxies = DEFAULT_TRUSTED_PROXIES;
+
+    private List<Cidr> trustedRanges = List.of();
+
+    @PostConstruct
+    void init() {
+        List<Cidr> ranges = new ArrayList<>();
+        for (String entry : trustedProxies.split(",")) {
+            String value = entry.trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            Cidr cidr = Cidr.parse(value);
+            if (cidr == null) {
+                log.warn("신뢰 프록시 설정 무시 - 잘못된 주소: {}", value);
+            } else {
+                ranges.add(cidr);
+            }
+        }
+        trustedRanges = List.copyOf(ranges);
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+        for (String headerName : HEADER_NAMES) {
+            String headerValue = request.getHeader(headerName);
+            if (headerValue == null || headerValue.isBlank()) {
+                continue;
+            }
+            String[] hops = headerValue.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!IP_LITERAL.matcher(hop).matches()) {
+                    break;
+                }
+                if (!isTrustedProxy(hop)) {
+                    return hop;
+                }
+            }
+        }
+        return remoteAddr;
+    }
+
+    /**
+     * 설정된 프록시 대역의 주소인지 (X-Forwarded-For 가 없는 로드밸런서 헬스 체크 등은 이 주소로 들어온다)
+     */
+    public boolean isTrustedProxy(String address) {
+        if (address == null || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        byte[] bytes = toBytes(address);
+        if (bytes == null) {
+            return false;
+        }
+        for (Cidr range : trustedRanges) {
+            if (range.contains(bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] toBytes(String literal) {
+        try {
+            return InetAddress.getByName(literal).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private record Cidr(byte[] network, int prefixLength) {
+
+        static Cidr parse(String value) {
+            int slash = value.indexOf('/');
+            String address = slash < 0 ? value : value.substring(0, slash);
+            if (!IP_LITERAL.matcher(address).matches()) {
+                return null;
+            }
+            byte[] bytes = toBytes(address);
+            if (bytes == null) {
+                return null;
+            }
+            int prefix = bytes.length * 8;
+            if (slash >= 0) {
+                try {
+                    prefix = Integer.parseInt(value.substring(slash + 1));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                if (prefix < 0 || prefix > bytes.length * 8) {
+                    return null;
+                }
+            }
+            return new Cidr(bytes, prefix);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = (0xFF << (8 - remainingBits)) & 0xFF;
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.snippethub.api.security;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * 비용 기반 rate limiter.
+ * 요청 수 대신 실제로 소비한 자원(코드 실행 시간, AI 토큰)만큼 사용자별 예산을 차감한다.
+ * 실행 전에는 최소 비용(1)만 확인하고, 실행 후 실제 비용을 한도와 무관하게 차감하므로
+ * 예산을 초과해 음수가 되면 충전될 때까지 이후 요청이 거절된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CostBasedRateLimiter {
+
+    public enum CostType {
+        CODE_EXECUTION("execution"),
+        AI_TOKENS("ai");
+
+        private final String keyPrefix;
+
+        CostType(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+    }
+
+    private static final String SYSTEM_SUBJECT = "system";
+
+    private final DistributedRateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
+
+    @Value("${rate.limiting.enabled:true}")
+    private boolean rateLimitingEnabled;
+
+    // 윈도우당 코드 실행 시간 예산 (ms)
+    @Value("${rate.limiting.cost.execution-ms:60000}")
+    private long executionBudgetMs;
+
+    @Value("${rate.limiting.cost.execution-window:600}")
+    private int executionWindow;
+
+    // 윈도우당 AI 토큰 예산
+    @Value("${rate.limiting.cost.ai-tokens:20000}")
+    private long aiTokenBudget;
+
+    @Value("${rate.limiting.cost.ai-window:3600}")
+    private int aiWindow;
+
+    private BucketConfiguration executionConfiguration;
+    private BucketConfiguration aiConfiguration;
+
+    @PostConstruct
+    void initBucketConfigurations() {
+        executionConfiguration = createConfiguration(executionBudgetMs, executionWindow);
+        aiConfiguration = createConfiguration(aiTokenBudget, aiWindow);
+    }
+
+    private static BucketConfiguration createConfiguration(long budget, int windowSeconds) {
+        return BucketConfiguration.builder()
+                .addLimit(Bandwidth.classic(budget, Refill.greedy(budget, Duration.ofSeconds(windowSeconds))))
+                .build();
+    }
+
+    /**
+     * 작업 시작 전 예산이 남아있는지 확인하고 최소 비용 1을 선차감한다.
+     */
+    public boolean tryAcquire(CostType type, String email) {
+        String subject = resolveSubject(email);
+        if (!rateLimitingEnabled || SYSTEM_SUBJECT.equals(subject)) {
+            return true;
+        }
+        boolean acquired = rateLimiter.tryConsume(generateKey(type, subject), 1, getConfiguration(type)).isConsumed();
+        if (!acquired) {
+            log.warn("Cost budget exhausted - type: {}, subject: {}", type, subject);
+        }
+        return acquired;
+    }
+
+    /**
+     * 작업 완료 후 실제 비용을 차감한다. tryAcquire에서 선차감한 1은 제외된다.
+     */
+    public void recordCost(CostType type, String email, long cost) {
+        String subject = resolveSubject(email);
+        if (!rateLimitingEnabled || SYSTEM_SUBJECT.equals(subject) || cost <= 1) {
+            return;
+        }
+        rateLimiter.consumeIgnoringLimits(generateKey(type, subject), cost - 1, getConfiguration(type));
+    }
+
+    /**
+     * 인증된 사용자는 이메일 기준, 비로그인 요청은 클라이언트 IP 기준으로 예산을 관리한다.
+     * 요청 컨텍스트가 없는 내부 작업(스케줄러 등)은 제한하지 않는다.
+     */
+    String resolveSubject(String email) {
+        if (email != null && !email.isBlank()) {
+            return "user:" + email;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return "ip:" + clientIpResolver.resolve(servletAttributes.getRequest());
+        }
+        return SYSTEM_SUBJECT;
+    }
+
+    private String generateKey(CostType type, String subject) {
+        return "cost:" + type.keyPrefix + ":" + subject;
+    }
+
+    private BucketConfiguration getConfiguration(CostType type) {
+        return type == CostType.CODE_EXECUTION ? executionConfiguration : aiConfiguration;
+    }
+}
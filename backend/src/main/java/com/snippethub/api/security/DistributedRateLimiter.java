@@ -0,0 +1,137 @@
+package com.snippethub.api.security;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 키별 토큰 버킷 rate limiter.
+ * 공유 저장소(Redis)를 우선 사용하고, 저장소 장애 시에는 재시도 간격 동안 노드 로컬 버킷으로 대체한다.
+ */
+@Slf4j
+public class DistributedRateLimiter {
+
+    private final RateLimitBucketStore store;
+    private final long retryIntervalMs;
+
+    // 버킷 프록시는 로컬 배치 상태를 가지므로 키별로 재사용해야 한다
+    private final ConcurrentHashMap<String, Bucket> remoteBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Bucket> localBuckets = new ConcurrentHashMap<>();
+
+    private volatile long storeRetryAt = 0L;
+
+    public DistributedRateLimiter(RateLimitBucketStore store, Duration retryInterval) {
+        this.store = store;
+        this.retryIntervalMs = retryInterval.toMillis();
+    }
+
+    public ConsumptionProbe tryConsume(String key, BucketConfiguration configuration) {
+        return tryConsume(key, 1, configuration);
+    }
+
+    public ConsumptionProbe tryConsume(String key, long tokens, BucketConfiguration configuration) {
+        if (isStoreAvailable()) {
+            try {
+                Bucket bucket = remoteBuckets.computeIfAbsent(key, k -> store.resolve(k, configuration));
+                return bucket.tryConsumeAndReturnRemaining(tokens);
+            } catch (RuntimeException e) {
+                markStoreUnavailable(e);
+            }
+        }
+        return getLocalBucket(key, configuration).tryConsumeAndReturnRemaining(tokens);
+    }
+
+    /**
+     * 한도와 무관하게 토큰을 차감한다. 잔량이 음수가 되면 충전될 때까지 이후 요청이 거절된다.
+     */
+    public void consumeIgnoringLimits(String key, long tokens, BucketConfiguration configuration) {
+        if (isStoreAvailable()) {
+            try {
+                Bucket bucket = remoteBuckets.computeIfAbsent(key, k -> store.resolve(k, configuration));
+                bucket.consumeIgnoringRateLimits(tokens);
+                return;
+            } catch (RuntimeException e) {
+                markStoreUnavailable(e);
+            }
+        }
+        getLocalBucket(key, configuration).consumeIgnoringRateLimits(tokens);
+    }
+
+    public boolean isStoreAvailable() {
+        return store != null && System.currentTimeMillis() >= storeRetryAt;
+    }
+
+    public String getBackendName() {
+        return isStoreAvailable() ? store.name() : "local";
+    }
+
+    public Set<String> getTrackedKeys() {
+        Set<String> keys = new HashSet<>(remoteBuckets.keySet());
+        keys.addAll(localBuckets.keySet());
+        return keys;
+    }
+
+    /**
+     * 관리용 조회. 원격 버킷은 저장소 왕복이 발생하므로 요청 처리 경로에서 호출하지 않는다.
+     */
+    public long getAvailableTokens(String key) {
+        Bucket remote = remoteBuckets.get(key);
+        if (remote != null && isStoreAvailable()) {
+            try {
+                return remote.getAvailableTokens();
+            } catch (RuntimeException e) {
+                markStoreUnavailable(e);
+            }
+        }
+        Bucket local = localBuckets.get(key);
+        return local != null ? local.getAvailableTokens() : -1L;
+    }
+
+    public int reset(Predicate<String> keyFilter) {
+        Set<String> keys = getTrackedKeys();
+        keys.removeIf(keyFilter.negate());
+        for (String key : keys) {
+            remoteBuckets.remove(key);
+            localBuckets.remove(key);
+            if (isStoreAvailable()) {
+                try {
+                    store.remove(key);
+                } catch (RuntimeException e) {
+                    markStoreUnavailable(e);
+                }
+            }
+        }
+        return keys.size();
+    }
+
+    public void shutdown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private Bucket getLocalBucket(String key, BucketConfiguration configuration) {
+        return localBuckets.computeIfAbsent(key, k -> {
+            LocalBucketBuilder builder = Bucket.builder();
+            for (Bandwidth bandwidth : configuration.getBandwidths()) {
+                builder.addLimit(bandwidth);
+            }
+            return builder.build();
+        });
+    }
+
+    private void markStoreUnavailable(RuntimeException e) {
+        storeRetryAt = System.currentTimeMillis() + retryIntervalMs;
+        log.warn("Rate limit store '{}' unavailable, falling back to local buckets for {}ms: {}",
+                store.name(), retryIntervalMs, e.getMessage());
+    }
+}
@@ -10,8 +10,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 @Component
@@ -22,30 +23,71 @@ public class InputValidationFilter extends OncePerRequestFilter {
     private boolean inputValidationEnabled;
 
     // SQL Injection 패턴 (더 구체적으로 수정)
-    private static final List<Pattern> SQL_INJECTION_PATTERNS = Arrays.asList(
+    private static final Pattern SQL_INJECTION_PATTERN = combine(
         // SQL 키워드 (문맥을 고려하여 더 구체적으로)
-        Pattern.compile("(?i)\\b(SELECT|INSERT|UPDATE|DELETE|DROP|CREATE|ALTER|EXEC)\\b"),
-        Pattern.compile("(?i)\\b(UNION\\s+ALL|UNION\\s+SELECT)\\b"),
-        Pattern.compile("(?i)(--|;|'|\"|/\\*|\\*/)"),
-        Pattern.compile("(?i)\\b(xp_cmdshell|sp_executesql|EXECUTE)\\b"),
+        "\\b(SELECT|INSERT|UPDATE|DELETE|DROP|CREATE|ALTER|EXEC)\\b",
+        "\\b(UNION\\s+ALL|UNION\\s+SELECT)\\b",
+        "(--|;|'|\"|/\\*|\\*/)",
+        "\\b(xp_cmdshell|sp_executesql|EXECUTE)\\b",
         // OR/AND는 SQL 문맥에서만 차단
-        Pattern.compile("(?i)\\b(OR|AND)\\s*=\\s*['\"]?\\d+['\"]?"),
-        Pattern.compile("(?i)\\b(OR|AND)\\s+\\d+\\s*=\\s*\\d+")
+        "\\b(OR|AND)\\s*=\\s*['\"]?\\d+['\"]?",
+        "\\b(OR|AND)\\s+\\d+\\s*=\\s*\\d+"
     );
 
     // XSS 패턴
-    private static final List<Pattern> XSS_PATTERNS = Arrays.asList(
-        Pattern.compile("(?i)(<script|javascript:|vbscript:|onload=|onerror=|onclick=)"),
-        Pattern.compile("(?i)(<iframe|<object|<embed|<form)"),
-        Pattern.compile("(?i)(document\\.|window\\.|eval\\(|alert\\()")
+    private static final Pattern XSS_PATTERN = combine(
+        "(<script|javascript:|vbscript:|onload=|onerror=|onclick=)",
+        "(<iframe|<object|<embed|<form)",
+        "(document\\.|window\\.|eval\\(|alert\\()"
     );
 
+    // Query 파라미터는 SQL/XSS 패턴을 한 번에 검사
+    private static final Pattern QUERY_PATTERN = combine(SQL_INJECTION_PATTERN.pattern(), XSS_PATTERN.pattern());
+
     // Path Traversal 패턴
-    private static final List<Pattern> PATH_TRAVERSAL_PATTERNS = Arrays.asList(
-        Pattern.compile("(?i)(\\.\\./|\\.\\.\\\\|%2e%2e%2f|%2e%2e%5c)"),
-        Pattern.compile("(?i)(/etc/|/var/|/tmp/|/home/|/root/)")
+    private static final Pattern PATH_TRAVERSAL_PATTERN = combine(
+        "(\\.\\./|\\.\\.\\\\|%2e%2e%2f|%2e%2e%5c)",
+        "(/etc/|/var/|/tmp/|/home/|/root/)"
+    );
+
+    // 허용된 도메인들
+    private static final List<String> ALLOWED_HOSTS = List.of(
+        "snippethub.co.kr",
+        "snippethub-frontend.s3-website.ap-northeast-2.amazonaws.com",
+        "localhost:8080",
+        "localhost:3000"
     );
 
+    // 정상적인 API 경로들은 검증에서 제외, 그 외 경로는 모든 검증 적용
+    private static final RouteCheckTrie ROUTE_CHECKS = createRouteChecks();
+
+    private final BenignInputCache benignQueryCache = new BenignInputCache(1024, 512);
+    private final BenignInputCache benignHeaderCache = new BenignInputCache(256, 512);
+
+    private static Pattern combine(String... regexes) {
+        StringBuilder combined = new StringBuilder();
+        for (String regex : regexes) {
+            if (combined.length() > 0) {
+                combined.append('|');
+            }
+            combined.append("(?:").append(regex).append(')');
+        }
+        return Pattern.compile(combined.toString(), Pattern.CASE_INSENSITIVE);
+    }
+
+    private static RouteCheckTrie createRouteChecks() {
+        RouteCheckTrie trie = new RouteCheckTrie(EnumSet.allOf(RouteCheckTrie.Check.class));
+        Set<RouteCheckTrie.Check> none = EnumSet.noneOf(RouteCheckTrie.Check.class);
+        for (String prefix : List.of(
+                "/api/posts", "/api/snippets", "/api/problems", "/api/users", "/api/comments",
+                "/api/likes", "/api/notifications", "/api/badges", "/api/points", "/api/languages",
+                "/api/daily-problems", "/api/submissions", "/api/executions", "/api/files",
+                "/api/security", "/actuator", "/ws")) {
+            trie.add(prefix, none);
+        }
+        return trie;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -56,15 +98,17 @@ public class InputValidationFilter extends OncePerRequestFilter {
         }
 
         String requestPath = request.getRequestURI();
-        
+        Set<RouteCheckTrie.Check> checks = ROUTE_CHECKS.resolve(requestPath);
+
         // 특정 경로에서는 검증 완화 (정상적인 API 요청)
-        if (isWhitelistedPath(requestPath)) {
+        if (checks.isEmpty()) {
             filterChain.doFilter(request, response);
             return;
         }
 
         // URL 경로 검증
-        if (containsMaliciousPattern(requestPath, PATH_TRAVERSAL_PATTERNS)) {
+        if (checks.contains(RouteCheckTrie.Check.PATH_TRAVERSAL)
+                && PATH_TRAVERSAL_PATTERN.matcher(requestPath).find()) {
             log.warn("Path traversal attempt detected in URL: {}", requestPath);
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             response.getWriter().write("{\"error\":\"Invalid request path\"}");
@@ -73,18 +117,16 @@ public class InputValidationFilter extends OncePerRequestFilter {
 
         // Query 파라미터 검증 (더 정확한 검증)
         String queryString = request.getQueryString();
-        if (queryString != null) {
-            if (containsMaliciousPattern(queryString, SQL_INJECTION_PATTERNS) ||
-                containsMaliciousPattern(queryString, XSS_PATTERNS)) {
-                log.warn("Malicious pattern detected in query string: {}", queryString);
-                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write("{\"error\":\"Invalid query parameters\"}");
-                return;
-            }
+        if (queryString != null && checks.contains(RouteCheckTrie.Check.QUERY)
+                && containsMaliciousPattern(queryString, QUERY_PATTERN, benignQueryCache)) {
+            log.warn("Malicious pattern detected in query string: {}", queryString);
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.getWriter().write("{\"error\":\"Invalid query parameters\"}");
+            return;
         }
 
         // 헤더 검증
-        if (containsMaliciousHeaders(request)) {
+        if (checks.contains(RouteCheckTrie.Check.HEADERS) && containsMaliciousHeaders(request)) {
             log.warn("Malicious headers detected from IP: {}", getClientIpAddress(request));
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             response.getWriter().write("{\"error\":\"Invalid headers\"}");
@@ -94,31 +136,15 @@ public class InputValidationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean isWhitelistedPath(String path) {
-        // 정상적인 API 경로들은 검증에서 제외
-        return path.startsWith("/api/posts") ||
-               path.startsWith("/api/snippets") ||
-               path.startsWith("/api/problems") ||
-               path.startsWith("/api/users") ||
-               path.startsWith("/api/comments") ||
-               path.startsWith("/api/likes") ||
-               path.startsWith("/api/notifications") ||
-               path.startsWith("/api/badges") ||
-               path.startsWith("/api/points") ||
-               path.startsWith("/api/languages") ||
-               path.startsWith("/api/daily-problems") ||
-               path.startsWith("/api/submissions") ||
-               path.startsWith("/api/executions") ||
-               path.startsWith("/api/files") ||
-               path.startsWith("/api/security") ||
-               path.startsWith("/actuator") ||
-               path.startsWith("/ws");
-    }
-
-    private boolean containsMaliciousPattern(String input, List<Pattern> patterns) {
-        if (input == null) return false;
-        
-        return patterns.stream().anyMatch(pattern -> pattern.matcher(input).find());
+    private boolean containsMaliciousPattern(String input, Pattern pattern, BenignInputCache benignCache) {
+        if (input == null || benignCache.contains(input)) {
+            return false;
+        }
+        if (pattern.matcher(input).find()) {
+            return true;
+        }
+        benignCache.add(input);
+        return false;
     }
 
     private boolean containsMaliciousHeaders(HttpServletRequest request) {
@@ -130,13 +156,13 @@ public class InputValidationFilter extends OncePerRequestFilter {
 
         // User-Agent 검증
         String userAgent = request.getHeader("User-Agent");
-        if (userAgent != null && containsMaliciousPattern(userAgent, XSS_PATTERNS)) {
+        if (userAgent != null && containsMaliciousPattern(userAgent, XSS_PATTERN, benignHeaderCache)) {
             return true;
         }
 
         // Referer 검증
         String referer = request.getHeader("Referer");
-        if (referer != null && containsMaliciousPattern(referer, XSS_PATTERNS)) {
+        if (referer != null && containsMaliciousPattern(referer, XSS_PATTERN, benignHeaderCache)) {
             return true;
         }
 
@@ -144,17 +170,12 @@ public class InputValidationFilter extends OncePerRequestFilter {
     }
 
     private boolean isValidHost(String host) {
-        if (host == null) return false;
-        
-        // 허용된 도메인들
-        List<String> allowedHosts = Arrays.asList(
-            "snippethub.co.kr",
-            "snippethub-frontend.s3-website.ap-northeast-2.amazonaws.com",
-            "localhost:8080",
-            "localhost:3000"
-        );
-        
-        return allowedHosts.stream().anyMatch(host::contains);
+        for (String allowedHost : ALLOWED_HOSTS) {
+            if (host.contains(allowedHost)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private String getClientIpAddress(HttpServletRequest request) {
@@ -0,0 +1,82 @@
+package com.snippethub.api.security;
+
+import com.snippethub.api.util.BloomFilter;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 캐시.
+ * 같은 액세스 토큰으로 반복되는 요청은 만료 전까지 HMAC 검증과 JSON 파싱을 건너뛴다.
+ * 키는 서명 구간의 64비트 해시이며, 해시 충돌로 다른 토큰의 클레임을 돌려주지 않도록 원문 토큰을 함께 비교한다.
+ * Claims 는 수정 가능한 맵이므로 읽기 전용 사본을 보관하고, 요청마다 새 Claims 로 복사해 돌려준다.
+ */
+class JwtClaimsCache {
+
+    private final int maxSize;
+    private final ConcurrentHashMap<Long, Entry> cache = new ConcurrentHashMap<>();
+
+    JwtClaimsCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    Claims get(String token) {
+        Long key = keyOf(token);
+        Entry entry = cache.get(key);
+        if (entry == null || !entry.token.equals(token)) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return Jwts.claims(entry.claims);
+    }
+
+    void put(String token, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(entry -> entry.expiresAt <= now);
+            if (cache.size() >= maxSize) {
+                cache.clear();
+            }
+        }
+        cache.put(keyOf(token), new Entry(token, Collections.unmodifiableMap(new LinkedHashMap<>(claims)),
+                claims.getExpiration().getTime()));
+    }
+
+    void evict(String token) {
+        Long key = keyOf(token);
+        Entry entry = cache.get(key);
+        if (entry != null && entry.token.equals(token)) {
+            cache.remove(key, entry);
+        }
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private static Long keyOf(String token) {
+        return BloomFilter.hash64(token, token.lastIndexOf('.') + 1, token.length());
+    }
+
+    private static final class Entry {
+        private final String token;
+        private final Map<String, Object> claims;
+        private final long expiresAt;
+
+        private Entry(String token, Map<String, Object> claims, long expiresAt) {
+            this.token = token;
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
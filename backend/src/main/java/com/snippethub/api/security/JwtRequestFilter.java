@@ -1,10 +1,14 @@
 package com.snippethub.api.security;
 
 import com.snippethub.api.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,16 +19,24 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
+@Slf4j
 public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
     private final TokenBlacklist tokenBlacklist;
+    private final UserDetailsCache userDetailsCache;
 
-    public JwtRequestFilter(CustomUserDetailsService userDetailsService, JwtUtil jwtUtil, TokenBlacklist tokenBlacklist) {
+    // true: 검증된 클레임으로 인증 주체 생성 (사용자 상태는 TTL 캐시로 확인), false: 요청마다 DB 조회
+    @Value("${jwt.stateless-auth.enabled:false}")
+    private boolean statelessAuthEnabled;
+
+    public JwtRequestFilter(CustomUserDetailsService userDetailsService, JwtUtil jwtUtil, TokenBlacklist tokenBlacklist,
+                            UserDetailsCache userDetailsCache) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
         this.tokenBlacklist = tokenBlacklist;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
@@ -45,26 +57,60 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                 response.getWriter().write("{\"error\":\"Token has been blacklisted\"}");
                 return;
             }
+
+            if (statelessAuthEnabled) {
+                authenticateFromClaims(jwt, request);
+                chain.doFilter(request, response);
+                return;
+            }
             
             username = jwtUtil.extractUsername(jwt);
-            System.out.println("[JwtRequestFilter] 추출된 username(email): " + username);
+            log.debug("추출된 username(email): {}", username);
         }
 
         if (username != null) {
-            System.out.println("[JwtRequestFilter] SecurityContext 인증 객체와 무관하게 JWT 인증 시도: " + username);
             UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
 
             if (jwtUtil.validateToken(jwt, userDetails)) {
-                System.out.println("[JwtRequestFilter] JWT 유효성 검증 성공. 인증 객체 세팅: " + username);
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                usernamePasswordAuthenticationToken
-                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+                log.debug("JWT 유효성 검증 성공. 인증 객체 세팅: {}", username);
+                setAuthentication(userDetails, request);
             } else {
-                System.out.println("[JwtRequestFilter] JWT 유효성 검증 실패: " + username);
+                log.debug("JWT 유효성 검증 실패: {}", username);
             }
         }
         chain.doFilter(request, response);
     }
+
+    /**
+     * 서명이 검증된 클레임의 email 로 인증 주체를 만든다.
+     * 사용자 존재/활성 여부와 권한은 UserDetailsCache로 확인하므로 캐시 적중 시 DB 조회가 없고,
+     * 토큰의 auth 클레임은 쓰지 않아 권한이 바뀌면 토큰 만료를 기다리지 않고 캐시 TTL 안에 반영된다.
+     */
+    private void authenticateFromClaims(String jwt, HttpServletRequest request) {
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT 유효성 검증 실패: {}", e.getMessage());
+            return;
+        }
+
+        String email = claims.getSubject();
+        UserDetailsCache.CachedUser cachedUser = email != null ? userDetailsCache.get(email) : null;
+        if (cachedUser == null || !cachedUser.isActive()) {
+            log.debug("존재하지 않거나 비활성화된 사용자 토큰: {}", email);
+            return;
+        }
+
+        JwtUserDetails principal = new JwtUserDetails(cachedUser.getUserId(), email, "", cachedUser.getAuthorities());
+        setAuthentication(principal, request);
+    }
+
+    private void setAuthentication(UserDetails userDetails, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
+                userDetails, null, userDetails.getAuthorities());
+        usernamePasswordAuthenticationToken
+                .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+    }
 }
@@ -0,0 +1,22 @@
+package com.snippethub.api.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 사용자 ID를 함께 담는 인증 주체.
+ * username은 기존과 동일하게 이메일이므로 @AuthenticationPrincipal UserDetails 사용처는 그대로 동작한다.
+ */
+@Getter
+public class JwtUserDetails extends User {
+
+    private final Long userId;
+
+    public JwtUserDetails(Long userId, String email, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, authorities);
+        this.userId = userId;
+    }
+}
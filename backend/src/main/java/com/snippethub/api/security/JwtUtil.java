@@ -1,8 +1,8 @@
 package com.snippethub.api.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,8 +11,6 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Function;
 
 @Component
@@ -21,13 +19,19 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String secret;
 
-    
+    // 검증된 클레임 캐시 사용 여부 (같은 토큰의 반복 요청에서 서명 검증 생략)
+    @Value("${jwt.claims-cache.enabled:true}")
+    private boolean claimsCacheEnabled = true;
 
-    
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize = 10000;
+
+    private volatile JwtParser parser;
+    private volatile JwtClaimsCache claimsCache;
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date()));
     }
 
     public String extractUsername(String token) {
@@ -38,21 +42,63 @@ public class JwtUtil {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    /**
+     * 서명과 만료를 검증한 클레임. 검증 실패 시 JwtException을 던진다.
+     */
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
+    }
+
+    /**
+     * 블랙리스트에 등록된 토큰의 캐시된 클레임 제거
+     */
+    public void evictClaims(String token) {
+        if (claimsCache != null) {
+            claimsCache.evict(token);
+        }
+    }
+
     private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        if (!claimsCacheEnabled) {
+            return getParser().parseClaimsJws(token).getBody();
+        }
+        JwtClaimsCache cache = getClaimsCache();
+        Claims claims = cache.get(token);
+        if (claims == null) {
+            claims = getParser().parseClaimsJws(token).getBody();
+            cache.put(token, claims);
+        }
+        return claims;
+    }
+
+    private JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            // 키 디코딩과 파서 생성은 한 번만 수행
+            current = Jwts.parserBuilder()
+                    .setSigningKey(getSignKey())
+                    .build();
+            parser = current;
+        }
+        return current;
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private JwtClaimsCache getClaimsCache() {
+        JwtClaimsCache current = claimsCache;
+        if (current == null) {
+            synchronized (this) {
+                if (claimsCache == null) {
+                    claimsCache = new JwtClaimsCache(claimsCacheMaxSize);
+                }
+                current = claimsCache;
+            }
+        }
+        return current;
     }
 
     private Key getSignKey() {
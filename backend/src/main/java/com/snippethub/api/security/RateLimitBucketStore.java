@@ -0,0 +1,24 @@
+package com.snippethub.api.security;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+/**
+ * Rate limit 버킷 저장소.
+ * 여러 API 노드가 같은 저장소를 공유하면 키별 한도가 클러스터 전체에 적용된다.
+ */
+public interface RateLimitBucketStore extends AutoCloseable {
+
+    /**
+     * 키에 해당하는 버킷을 반환한다. 저장소에 접근할 수 없으면 RuntimeException을 던진다.
+     */
+    Bucket resolve(String key, BucketConfiguration configuration);
+
+    void remove(String key);
+
+    String name();
+
+    @Override
+    default void close() {
+    }
+}
@@ -1,5 +1,10 @@
 package com.snippethub.api.security;
 
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,8 +15,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.Map;
 import java.util.HashMap;
@@ -20,6 +25,9 @@ import java.util.HashMap;
 @Slf4j
 public class RateLimitFilter extends OncePerRequestFilter {
 
+    private final DistributedRateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
+
     @Value("${rate.limiting.enabled:true}")
     private boolean rateLimitingEnabled;
 
@@ -47,7 +55,29 @@ public class RateLimitFilter extends OncePerRequestFilter {
     @Value("${rate.limiting.auth-window:300}")
     private int authWindow;
 
-    private final ConcurrentHashMap<String, RateLimitInfo> rateLimitMap = new ConcurrentHashMap<>();
+    private BucketConfiguration defaultConfiguration;
+    private BucketConfiguration aiApiConfiguration;
+    private BucketConfiguration codeExecutionConfiguration;
+    private BucketConfiguration authConfiguration;
+
+    public RateLimitFilter(DistributedRateLimiter rateLimiter, ClientIpResolver clientIpResolver) {
+        this.rateLimiter = rateLimiter;
+        this.clientIpResolver = clientIpResolver;
+    }
+
+    @PostConstruct
+    void initBucketConfigurations() {
+        defaultConfiguration = createConfiguration(defaultLimit, defaultWindow);
+        aiApiConfiguration = createConfiguration(aiApiLimit, aiApiWindow);
+        codeExecutionConfiguration = createConfiguration(codeExecutionLimit, codeExecutionWindow);
+        authConfiguration = createConfiguration(authLimit, authWindow);
+    }
+
+    private static BucketConfiguration createConfiguration(int limit, int windowSeconds) {
+        return BucketConfiguration.builder()
+                .addLimit(Bandwidth.classic(limit, Refill.greedy(limit, Duration.ofSeconds(windowSeconds))))
+                .build();
+    }
     
     // IP 주소 검증을 위한 정규식 패턴
     private static final Pattern IPV4_PATTERN = Pattern.compile(
@@ -72,8 +102,8 @@ public class RateLimitFilter extends OncePerRequestFilter {
         String method = request.getMethod();
         String userAgent = request.getHeader("User-Agent");
 
-        // IP 주소 유효성 검증
-        if (!isValidIpAddress(clientIp)) {
+        // IP 주소 유효성 검증 (설정된 프록시 자신의 사설 주소는 허용)
+        if (!isValidIpAddress(clientIp) && !clientIpResolver.isTrustedProxy(clientIp)) {
             log.warn("Invalid IP address detected: {}", clientIp);
             response.setStatus(HttpServletResponse.SC_FORBIDDEN);
             response.setContentType("application/json");
@@ -91,11 +121,13 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
 
         // Rate limiting 적용
-        if (!isAllowed(clientIp, requestPath, method)) {
+        ConsumptionProbe probe = rateLimiter.tryConsume(
+                generateRateLimitKey(clientIp, requestPath, method), getConfiguration(requestPath));
+        if (!probe.isConsumed()) {
             log.warn("Rate limit exceeded for IP: {}, Path: {}, Method: {}", clientIp, requestPath, method);
             response.setStatus(429); // 429 Too Many Requests
             response.setContentType("application/json");
-            response.setHeader("Retry-After", String.valueOf(getRetryAfterSeconds(requestPath)));
+            response.setHeader("Retry-After", String.valueOf(getRetryAfterSeconds(probe)));
             response.getWriter().write("{\"error\":\"Rate limit exceeded. Please try again later.\"}");
             return;
         }
@@ -103,22 +135,6 @@ public class RateLimitFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean isAllowed(String clientIp, String requestPath, String method) {
-        String key = generateRateLimitKey(clientIp, requestPath, method);
-        RateLimitInfo info = rateLimitMap.get(key);
-        
-        long currentTime = System.currentTimeMillis();
-        
-        if (info == null || currentTime - info.getWindowStart() > getWindowMs(requestPath)) {
-            // 새로운 윈도우 시작
-            int limit = getLimit(requestPath);
-            info = new RateLimitInfo(currentTime, new AtomicInteger(limit));
-            rateLimitMap.put(key, info);
-        }
-        
-        return info.decrementAndGet() >= 0;
-    }
-
     private String generateRateLimitKey(String clientIp, String requestPath, String method) {
         // IP + 경로 + 메서드 조합으로 키 생성
         return clientIp + ":" + requestPath + ":" + method;
@@ -150,46 +166,29 @@ public class RateLimitFilter extends OncePerRequestFilter {
         return windowSeconds * 1000L;
     }
 
-    private int getRetryAfterSeconds(String requestPath) {
-        // 경로별로 다른 재시도 시간 설정
+    private BucketConfiguration getConfiguration(String requestPath) {
         if (requestPath.startsWith("/api/ai/")) {
-            return aiApiWindow;
+            return aiApiConfiguration;
         } else if (requestPath.startsWith("/api/v1/execute") || requestPath.startsWith("/api/execute")) {
-            return codeExecutionWindow;
+            return codeExecutionConfiguration;
         } else if (requestPath.startsWith("/api/auth/")) {
-            return authWindow;
+            return authConfiguration;
         } else {
-            return defaultWindow;
+            return defaultConfiguration;
         }
     }
 
+    private long getRetryAfterSeconds(ConsumptionProbe probe) {
+        // 다음 토큰이 충전될 때까지 남은 시간 (최소 1초)
+        return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill() + 999_999_999L));
+    }
+
     /**
      * 보안 강화된 클라이언트 IP 주소 추출
      */
     private String getSecureClientIpAddress(HttpServletRequest request) {
-        // 신뢰할 수 있는 프록시 헤더들 (순서대로 확인)
-        String[] headerNames = {
-            "X-Forwarded-For",
-            "X-Real-IP", 
-            "X-Client-IP",
-            "CF-Connecting-IP", // Cloudflare
-            "True-Client-IP",   // Akamai
-            "X-Cluster-Client-IP"
-        };
-        
-        for (String headerName : headerNames) {
-            String headerValue = request.getHeader(headerName);
-            if (headerValue != null && !headerValue.trim().isEmpty()) {
-                // 쉼표로 구분된 여러 IP 중 첫 번째 IP 사용
-                String firstIp = headerValue.split(",")[0].trim();
-                if (isValidIpAddress(firstIp)) {
-                    return firstIp;
-                }
-            }
-        }
-        
-        // 헤더에서 유효한 IP를 찾지 못한 경우 직접 IP 사용
-        return request.getRemoteAddr();
+        // 신뢰하는 프록시를 거친 요청만 프록시 헤더 사용
+        return clientIpResolver.resolve(request);
     }
 
     /**
@@ -274,59 +273,29 @@ public class RateLimitFilter extends OncePerRequestFilter {
         return hasValidPattern;
     }
 
-    private static class RateLimitInfo {
-        private final long windowStart;
-        private final AtomicInteger remainingTokens;
-
-        public RateLimitInfo(long windowStart, AtomicInteger remainingTokens) {
-            this.windowStart = windowStart;
-            this.remainingTokens = remainingTokens;
-        }
-
-        public long getWindowStart() {
-            return windowStart;
-        }
-
-        public int decrementAndGet() {
-            return remainingTokens.decrementAndGet();
-        }
-
-        public int getRemainingTokens() {
-            return remainingTokens.get();
-        }
-
-        public long getWindowEnd() {
-            return windowStart + 60000; // 60초 윈도우 (기본값)
-        }
-    }
-
     // Rate Limit 모니터링을 위한 메서드들
     public Map<String, Object> getCurrentBucketsStatus() {
         Map<String, Object> status = new HashMap<>();
         
-        status.put("totalBuckets", rateLimitMap.size());
+        status.put("backend", rateLimiter.getBackendName());
         status.put("timestamp", System.currentTimeMillis());
         
         Map<String, Object> bucketDetails = new HashMap<>();
-        for (Map.Entry<String, RateLimitInfo> entry : rateLimitMap.entrySet()) {
-            String key = entry.getKey();
-            RateLimitInfo info = entry.getValue();
-            
+        for (String key : rateLimiter.getTrackedKeys()) {
             String[] parts = key.split(":");
             String ip = parts[0];
             String path = parts[1];
             String method = parts[2];
             
             Map<String, Object> bucketInfo = new HashMap<>();
-            bucketInfo.put("remainingTokens", info.getRemainingTokens());
-            bucketInfo.put("windowStart", info.getWindowStart());
-            bucketInfo.put("windowEnd", info.getWindowEnd());
+            bucketInfo.put("remainingTokens", rateLimiter.getAvailableTokens(key));
             bucketInfo.put("path", path);
             bucketInfo.put("method", method);
             
-            bucketDetails.put(ip, bucketInfo);
+            bucketDetails.put(key, bucketInfo);
         }
         
+        status.put("totalBuckets", bucketDetails.size());
         status.put("buckets", bucketDetails);
         return status;
     }
@@ -339,10 +308,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
         Map<String, Object> ipBuckets = new HashMap<>();
         int totalBuckets = 0;
         
-        for (Map.Entry<String, RateLimitInfo> entry : rateLimitMap.entrySet()) {
-            String key = entry.getKey();
-            RateLimitInfo info = entry.getValue();
-            
+        for (String key : rateLimiter.getTrackedKeys()) {
             if (key.startsWith(ipAddress + ":")) {
                 totalBuckets++;
                 String[] parts = key.split(":");
@@ -350,9 +316,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
                 String method = parts[2];
                 
                 Map<String, Object> bucketInfo = new HashMap<>();
-                bucketInfo.put("remainingTokens", info.getRemainingTokens());
-                bucketInfo.put("windowStart", info.getWindowStart());
-                bucketInfo.put("windowEnd", info.getWindowEnd());
+                bucketInfo.put("remainingTokens", rateLimiter.getAvailableTokens(key));
                 bucketInfo.put("limit", getLimit(path));
                 bucketInfo.put("windowSeconds", getWindowMs(path) / 1000);
                 
@@ -366,13 +330,12 @@ public class RateLimitFilter extends OncePerRequestFilter {
     }
 
     public void resetRateLimitForIp(String ipAddress) {
-        rateLimitMap.entrySet().removeIf(entry -> entry.getKey().startsWith(ipAddress + ":"));
+        rateLimiter.reset(key -> key.startsWith(ipAddress + ":"));
         log.info("Rate limit reset for IP: {}", ipAddress);
     }
 
     public int resetAllRateLimits() {
-        int size = rateLimitMap.size();
-        rateLimitMap.clear();
+        int size = rateLimiter.reset(key -> true);
         log.info("All rate limits reset. Cleared {} buckets.", size);
         return size;
     }
@@ -0,0 +1,106 @@
+package com.snippethub.api.security;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * bucket4j-redis(Lettuce) 기반 분산 버킷 저장소.
+ * 버킷마다 일부 토큰을 로컬에서 먼저 소비하고 일정 개수/시간마다 Redis와 동기화해
+ * 요청 처리 경로에서 Redis 왕복을 줄인다.
+ */
+@Slf4j
+public class RedisRateLimitBucketStore implements RateLimitBucketStore {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    private final RedisClient redisClient;
+    private final long localBatchSize;
+    private final Duration localSyncInterval;
+
+    private volatile StatefulRedisConnection<byte[], byte[]> connection;
+    private volatile ProxyManager<byte[]> proxyManager;
+
+    public RedisRateLimitBucketStore(RedisClient redisClient, long localBatchSize, Duration localSyncInterval) {
+        this.redisClient = redisClient;
+        this.localBatchSize = localBatchSize;
+        this.localSyncInterval = localSyncInterval;
+    }
+
+    @Override
+    public Bucket resolve(String key, BucketConfiguration configuration) {
+        long unsynchronizedTokens = getUnsynchronizedTokens(configuration);
+        if (unsynchronizedTokens <= 0) {
+            return getProxyManager().builder().build(toRedisKey(key), () -> configuration);
+        }
+        // 로컬에서 소비한 토큰이 일정 개수 또는 시간을 넘으면 한 번에 Redis에 반영
+        return getProxyManager().builder()
+                .withOptimization(Optimizations.delaying(new DelayParameters(unsynchronizedTokens, localSyncInterval)))
+                .build(toRedisKey(key), () -> configuration);
+    }
+
+    @Override
+    public void remove(String key) {
+        getProxyManager().removeProxy(toRedisKey(key));
+    }
+
+    @Override
+    public String name() {
+        return "redis";
+    }
+
+    @Override
+    public synchronized void close() {
+        if (connection != null) {
+            connection.close();
+            connection = null;
+            proxyManager = null;
+        }
+        redisClient.shutdown();
+    }
+
+    /**
+     * 작은 한도(인증 5회 등)에서는 노드별로 미동기화 토큰이 쌓이면 한도를 초과할 수 있으므로
+     * 한도의 10% 이내로만 로컬 소비를 허용한다.
+     */
+    private long getUnsynchronizedTokens(BucketConfiguration configuration) {
+        long capacity = Long.MAX_VALUE;
+        for (Bandwidth bandwidth : configuration.getBandwidths()) {
+            capacity = Math.min(capacity, bandwidth.getCapacity());
+        }
+        return Math.min(localBatchSize, capacity / 10);
+    }
+
+    private ProxyManager<byte[]> getProxyManager() {
+        ProxyManager<byte[]> current = proxyManager;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (proxyManager == null) {
+                connection = redisClient.connect(ByteArrayCodec.INSTANCE);
+                proxyManager = LettuceBasedProxyManager.builderFor(connection)
+                        .withExpirationStrategy(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofSeconds(10)))
+                        .build();
+                log.info("Redis rate limit bucket store connected");
+            }
+            return proxyManager;
+        }
+    }
+
+    private byte[] toRedisKey(String key) {
+        return (KEY_PREFIX + key).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,84 @@
+package com.snippethub.api.security;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 경로 prefix별로 적용할 입력 검증 항목을 결정하는 문자 단위 trie.
+ * startsWith 체인과 달리 경로 길이만큼만 탐색하며, 가장 긴 prefix 규칙이 적용된다.
+ */
+final class RouteCheckTrie {
+
+    enum Check {
+        PATH_TRAVERSAL,
+        QUERY,
+        HEADERS
+    }
+
+    private final Node root = new Node();
+    private final Set<Check> defaultChecks;
+
+    RouteCheckTrie(Set<Check> defaultChecks) {
+        this.defaultChecks = immutableCopy(defaultChecks);
+    }
+
+    RouteCheckTrie add(String prefix, Set<Check> checks) {
+        Node node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.getOrCreateChild(prefix.charAt(i));
+        }
+        node.checks = immutableCopy(checks);
+        return this;
+    }
+
+    Set<Check> resolve(String path) {
+        Set<Check> result = defaultChecks;
+        Node node = root;
+        for (int i = 0; i < path.length() && node != null; i++) {
+            node = node.getChild(path.charAt(i));
+            if (node != null && node.checks != null) {
+                result = node.checks;
+            }
+        }
+        return result;
+    }
+
+    private static Set<Check> immutableCopy(Set<Check> checks) {
+        return checks.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(checks));
+    }
+
+    private static final class Node {
+        // 자식 수가 적으므로 정렬 배열 + 이진 탐색으로 박싱 없이 조회
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private Set<Check> checks;
+
+        Node getChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrCreateChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+    }
+}
@@ -1,18 +1,318 @@
 package com.snippethub.api.security;
 
+import com.snippethub.api.util.BloomFilter;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import java.util.Set;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * 로그아웃 등으로 무효화된 액세스 토큰 목록.
+ * 서명이 검증된 토큰만, 토큰 원문 대신 SHA-256 해시를 키로 토큰 만료 시각까지만 보관하고, 주기적으로 만료 항목을 정리한다.
+ * 메모리 항목 수는 max-entries 로 제한한다.
+ * 대부분의 요청은 블랙리스트에 없으므로 Bloom filter로 먼저 걸러 해시 계산과 맵 조회를 생략한다.
+ * security.token-blacklist.redis.enabled=true 이면 Redis에 저장하고 pub/sub으로 다른 노드에 전파한다.
+ */
 @Component
+@Slf4j
 public class TokenBlacklist {
-    private final Set<String> blacklist = ConcurrentHashMap.newKeySet();
 
+    private static final String REDIS_KEY_PREFIX = "token-blacklist:";
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.001;
+    // Bloom filter 해시에 사용할 서명 끝부분 길이 (서명은 무작위 값이므로 일부만으로 충분)
+    private static final int BLOOM_HASH_CHARS = 16;
+
+    private final JwtUtil jwtUtil;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectProvider<RedisConnectionFactory> redisConnectionFactoryProvider;
+
+    @Value("${jwt.access-token-validity-in-seconds:86400}")
+    private long maxTokenValiditySeconds;
+
+    @Value("${security.token-blacklist.expected-size:100000}")
+    private long expectedSize;
+
+    // 메모리에 둘 최대 항목 수. 넘으면 가장 먼저 만료될 항목부터 내보낸다
+    @Value("${security.token-blacklist.max-entries:200000}")
+    private int maxEntries = 200_000;
+
+    @Value("${security.token-blacklist.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${security.token-blacklist.redis.channel:token-blacklist}")
+    private String redisChannel;
+
+    // 토큰 해시 -> 만료 시각(epoch ms)
+    private final Map<String, Long> entries = new ConcurrentHashMap<>();
+    // entries 를 만료 시각순으로 정렬한 색인. 정리와 용량 초과 시 앞에서부터 꺼낸다
+    private final NavigableSet<Expiry> byExpiry = new ConcurrentSkipListSet<>();
+    // 토큰 해시 -> Bloom filter 해시 (재구성 시 원문 토큰 없이 다시 넣기 위해 보관)
+    private final Map<String, Long> bloomKeys = new ConcurrentHashMap<>();
+    // 추가는 동시에, Bloom filter 재구성은 단독으로 수행
+    private final ReentrantReadWriteLock bloomLock = new ReentrantReadWriteLock();
+    private volatile BloomFilter bloomFilter;
+    private RedisMessageListenerContainer listenerContainer;
+
+    public TokenBlacklist(JwtUtil jwtUtil,
+                          ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                          ObjectProvider<RedisConnectionFactory> redisConnectionFactoryProvider) {
+        this.jwtUtil = jwtUtil;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.redisConnectionFactoryProvider = redisConnectionFactoryProvider;
+    }
+
+    @PostConstruct
+    void init() {
+        bloomFilter = new BloomFilter(expectedSize, BLOOM_FALSE_POSITIVE_RATE);
+        if (redisEnabled) {
+            try {
+                loadFromRedis();
+                subscribe();
+            } catch (Exception e) {
+                log.warn("토큰 블랙리스트 Redis 동기화 초기화 실패, 로컬 모드로 동작합니다: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    void destroy() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * 서명이 검증된 토큰만 그 토큰의 만료 시각까지 보관한다.
+     * 로그아웃은 인증 없이 호출되므로, 검증되지 않는 문자열은 어차피 인증에 쓸 수 없어 저장하지 않는다.
+     */
     public void blacklist(String token) {
-        blacklist.add(token);
+        long expiresAt;
+        try {
+            expiresAt = jwtUtil.extractExpiration(token).getTime();
+        } catch (ExpiredJwtException e) {
+            // 이미 만료된 토큰은 검증 단계에서 거부되므로 보관할 필요 없음
+            return;
+        } catch (JwtException | IllegalArgumentException e) {
+            // 형식이 잘못되었거나 서명이 맞지 않는 토큰
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (expiresAt <= now) {
+            return;
+        }
+        expiresAt = Math.min(expiresAt, now + maxTokenValiditySeconds * 1000);
+
+        String tokenHash = hash(token);
+        long bloomHash = bloomHash(token);
+        add(tokenHash, bloomHash, expiresAt);
+        jwtUtil.evictClaims(token);
+        if (redisEnabled) {
+            publish(tokenHash, bloomHash, expiresAt);
+        }
     }
 
     public boolean isBlacklisted(String token) {
-        return blacklist.contains(token);
+        if (!bloomFilter.mightContain(bloomHash(token))) {
+            return false;
+        }
+        Long expiresAt = entries.get(hash(token));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 항목을 제거하고 남은 항목으로 Bloom filter를 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${security.token-blacklist.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int removed = removeExpired(System.currentTimeMillis());
+        if (removed == 0) {
+            return;
+        }
+
+        bloomLock.writeLock().lock();
+        try {
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedSize, entries.size() * 2L), BLOOM_FALSE_POSITIVE_RATE);
+            for (Map.Entry<String, Long> entry : bloomKeys.entrySet()) {
+                if (entries.containsKey(entry.getKey())) {
+                    rebuilt.put(entry.getValue());
+                }
+            }
+            bloomKeys.keySet().retainAll(entries.keySet());
+            bloomFilter = rebuilt;
+        } finally {
+            bloomLock.writeLock().unlock();
+        }
+        log.debug("토큰 블랙리스트 만료 항목 {}건 정리, 남은 항목 {}건", removed, entries.size());
+    }
+
+    private void add(String tokenHash, long bloomHash, long expiresAt) {
+        if (entries.size() >= maxEntries && !entries.containsKey(tokenHash)) {
+            evictForCapacity();
+        }
+        bloomLock.readLock().lock();
+        try {
+            bloomKeys.put(tokenHash, bloomHash);
+            entries.compute(tokenHash, (key, current) -> {
+                long next = current == null ? expiresAt : Math.max(current, expiresAt);
+                if (current != null && current != next) {
+                    byExpiry.remove(new Expiry(current, key));
+                }
+                byExpiry.add(new Expiry(next, key));
+                return next;
+            });
+            bloomFilter.put(bloomHash);
+        } finally {
+            bloomLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 만료 시각순 색인의 앞에서부터 내보낸다. 이미 만료된 항목이 먼저 빠지고, 그래도 가득 차 있으면 가장 먼저 만료될 항목이 빠진다.
+     * Bloom filter 에 남은 비트는 다음 정리 때 재구성으로 사라진다.
+     */
+    private void evictForCapacity() {
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        while (entries.size() >= maxEntries) {
+            Expiry soonest = byExpiry.pollFirst();
+            if (soonest == null) {
+                break;
+            }
+            if (removeEntry(soonest) && soonest.expiresAt() > now) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.warn("토큰 블랙리스트가 가득 차 가장 먼저 만료될 항목 {}건을 내보냈습니다 (최대 {}건)", evicted, maxEntries);
+        }
+    }
+
+    private int removeExpired(long now) {
+        int removed = 0;
+        for (Iterator<Expiry> it = byExpiry.iterator(); it.hasNext(); ) {
+            Expiry expiry = it.next();
+            if (expiry.expiresAt() > now) {
+                break;
+            }
+            it.remove();
+            if (removeEntry(expiry)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 색인 항목이 가리키는 값이 그대로일 때만 지운다 (그 사이 만료 시각이 늘었으면 새 색인 항목이 남아 있음)
+     */
+    private boolean removeEntry(Expiry expiry) {
+        if (!entries.remove(expiry.tokenHash(), expiry.expiresAt())) {
+            return false;
+        }
+        bloomKeys.remove(expiry.tokenHash());
+        return true;
+    }
+
+    private void publish(String tokenHash, long bloomHash, long expiresAt) {
+        try {
+            StringRedisTemplate redisTemplate = redisTemplateProvider.getObject();
+            long ttlMillis = expiresAt - System.currentTimeMillis();
+            String value = bloomHash + ":" + expiresAt;
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + tokenHash, value, Duration.ofMillis(ttlMillis));
+            redisTemplate.convertAndSend(redisChannel, tokenHash + ":" + value);
+        } catch (Exception e) {
+            log.warn("토큰 블랙리스트 Redis 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    private void loadFromRedis() {
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getObject();
+        int loaded = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(REDIS_KEY_PREFIX + "*").count(1000).build())) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String value = redisTemplate.opsForValue().get(key);
+                if (value != null) {
+                    onRemoteEntry(key.substring(REDIS_KEY_PREFIX.length()) + ":" + value);
+                    loaded++;
+                }
+            }
+        }
+        log.info("Redis에서 토큰 블랙리스트 {}건을 불러왔습니다.", loaded);
+    }
+
+    private void subscribe() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisConnectionFactoryProvider.getObject());
+        listenerContainer.addMessageListener((Message message, byte[] pattern) ->
+                onRemoteEntry(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(redisChannel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    /**
+     * 다른 노드에서 전파된 항목 ("토큰해시:Bloom해시:만료시각")
+     */
+    private void onRemoteEntry(String entry) {
+        String[] parts = entry.split(":");
+        if (parts.length != 3) {
+            return;
+        }
+        long expiresAt = Long.parseLong(parts[2]);
+        if (expiresAt > System.currentTimeMillis()) {
+            add(parts[0], Long.parseLong(parts[1]), expiresAt);
+        }
+    }
+
+    private record Expiry(long expiresAt, String tokenHash) implements Comparable<Expiry> {
+
+        @Override
+        public int compareTo(Expiry other) {
+            int byTime = Long.compare(expiresAt, other.expiresAt);
+            return byTime != 0 ? byTime : tokenHash.compareTo(other.tokenHash);
+        }
+    }
+
+    private static long bloomHash(String token) {
+        int signatureStart = token.lastIndexOf('.') + 1;
+        int from = Math.max(signatureStart, token.length() - BLOOM_HASH_CHARS);
+        return BloomFilter.hash64(token, from, token.length());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-} 
\ No newline at end of file
+}
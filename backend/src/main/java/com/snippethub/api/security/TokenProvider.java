@@ -25,7 +25,8 @@ import java.util.stream.Collectors;
 public class TokenProvider {
 
     private final Logger log = LoggerFactory.getLogger(TokenProvider.class);
-    private static final String AUTHORITIES_KEY = "auth";
+    public static final String AUTHORITIES_KEY = "auth";
+    public static final String USER_ID_KEY = "uid";
     private static final String BEARER_TYPE = "Bearer";
 
     private final long accessTokenValidityInMilliseconds;
@@ -50,7 +51,11 @@ public class TokenProvider {
         long now = (new Date()).getTime();
 
         String email = null;
+        Long userId = null;
         Object principal = authentication.getPrincipal();
+        if (principal instanceof JwtUserDetails) {
+            userId = ((JwtUserDetails) principal).getUserId();
+        }
         if (principal instanceof org.springframework.security.core.userdetails.UserDetails) {
             email = ((org.springframework.security.core.userdetails.UserDetails) principal).getUsername();
         } else if (principal instanceof org.springframework.security.oauth2.core.user.OAuth2User) {
@@ -68,9 +73,13 @@ public class TokenProvider {
         }
 
         Date accessTokenExpiresIn = new Date(now + this.accessTokenValidityInMilliseconds);
-        String accessToken = Jwts.builder()
+        JwtBuilder accessTokenBuilder = Jwts.builder()
                 .setSubject(email)
-                .claim(AUTHORITIES_KEY, authorities)
+                .claim(AUTHORITIES_KEY, authorities);
+        if (userId != null) {
+            accessTokenBuilder.claim(USER_ID_KEY, userId);
+        }
+        String accessToken = accessTokenBuilder
                 .setExpiration(accessTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
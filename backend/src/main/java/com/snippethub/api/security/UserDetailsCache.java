@@ -0,0 +1,82 @@
+package com.snippethub.api.security;
+
+import com.snippethub.api.domain.User;
+import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.service.CustomUserDetailsService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stateless JWT 인증용 사용자 상태 캐시.
+ * 토큰 클레임만으로 인증 주체를 만들되, 탈퇴/비활성화된 사용자를 걸러내고 권한 변경을 반영하기 위해
+ * 사용자 존재 여부, 활성 상태, 현재 권한을 짧은 TTL 동안만 보관한다.
+ * 활성 상태나 권한을 바꾸는 경로가 애플리케이션 안에 없어(DB 에서 직접 변경) 개별 무효화는 두지 않으며,
+ * 변경이 인증에 반영되기까지 최대 TTL(user-cache-ttl-seconds) 만큼 걸린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${jwt.stateless-auth.user-cache-ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${jwt.stateless-auth.user-cache-max-size:10000}")
+    private int maxSize;
+
+    private final ConcurrentHashMap<String, CachedUser> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 사용자 상태를 반환한다. 없거나 만료되었으면 DB에서 다시 읽는다.
+     * 존재하지 않는 사용자는 null.
+     */
+    public CachedUser get(String email) {
+        long now = System.currentTimeMillis();
+        CachedUser cached = cache.get(email);
+        if (cached != null && cached.getExpiresAt() > now) {
+            return cached;
+        }
+
+        CachedUser loaded = userRepository.findByEmail(email)
+                .map(user -> toCachedUser(user, now))
+                .orElse(null);
+        if (loaded == null) {
+            cache.remove(email);
+            return null;
+        }
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(entry -> entry.getExpiresAt() <= now);
+            if (cache.size() >= maxSize) {
+                cache.clear();
+            }
+        }
+        cache.put(email, loaded);
+        return loaded;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private CachedUser toCachedUser(User user, long now) {
+        return new CachedUser(user.getId(), user.getEmail(), user.isActive(),
+                CustomUserDetailsService.authoritiesOf(user), now + ttlSeconds * 1000);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CachedUser {
+        private final Long userId;
+        private final String email;
+        private final boolean active;
+        private final List<GrantedAuthority> authorities;
+        private final long expiresAt;
+    }
+}
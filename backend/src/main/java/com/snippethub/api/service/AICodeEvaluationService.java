@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.snippethub.api.domain.Problem;
 import com.snippethub.api.domain.ProblemSubmission;
 import com.snippethub.api.domain.SubmissionStatus;
+import com.snippethub.api.security.CostBasedRateLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,6 +25,7 @@ public class AICodeEvaluationService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final CostBasedRateLimiter costBasedRateLimiter;
 
     @Value("${ai.openai.api.key}")
     private String openaiApiKey;
@@ -265,6 +267,12 @@ public class AICodeEvaluationService {
      * OpenAI API 호출
      */
     private String callOpenAI(String prompt) {
+        // AI 토큰 예산 확인 (초과 시 null을 반환해 기본 응답으로 대체)
+        if (!costBasedRateLimiter.tryAcquire(CostBasedRateLimiter.CostType.AI_TOKENS, null)) {
+            log.warn("AI 토큰 예산 초과로 OpenAI API 호출을 건너뜁니다.");
+            return null;
+        }
+
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setBearerAuth(openaiApiKey);
@@ -291,6 +299,8 @@ public class AICodeEvaluationService {
             log.info("OpenAI API 응답 상태: {}", response.getStatusCode());
             log.info("응답 본문: {}", responseBody);
             
+            recordTokenUsage(responseBody);
+
             if (responseBody != null && responseBody.containsKey("choices")) {
                 var choices = (java.util.List<Map<String, Object>>) responseBody.get("choices");
                 if (!choices.isEmpty()) {
@@ -309,6 +319,18 @@ public class AICodeEvaluationService {
         return null;
     }
 
+    /**
+     * 응답의 usage.total_tokens 만큼 AI 토큰 예산 차감
+     */
+    private void recordTokenUsage(Map<String, Object> responseBody) {
+        if (responseBody == null || !(responseBody.get("usage") instanceof Map<?, ?> usage)) {
+            return;
+        }
+        if (usage.get("total_tokens") instanceof Number totalTokens) {
+            costBasedRateLimiter.recordCost(CostBasedRateLimiter.CostType.AI_TOKENS, null, totalTokens.longValue());
+        }
+    }
+
     /**
      * Mock AI 응답 생성 (테스트용)
      */
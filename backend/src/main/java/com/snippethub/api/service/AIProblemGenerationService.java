@@ -4,6 +4,7 @@ import com.snippethub.api.domain.Problem;
 import com.snippethub.api.domain.ProblemCategory;
 import com.snippethub.api.domain.ProblemDifficulty;
 import com.snippethub.api.repository.ProblemRepository;
+import com.snippethub.api.security.CostBasedRateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,7 @@ public class AIProblemGenerationService {
     private final ProblemRepository problemRepository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final CostBasedRateLimiter costBasedRateLimiter;
 
     @Value("${ai.openai.api.key}")
     private String openaiApiKey;
@@ -167,6 +169,12 @@ public class AIProblemGenerationService {
      * OpenAI API 호출
      */
     private String callOpenAI(String prompt) {
+        // AI 토큰 예산 확인 (초과 시 null을 반환해 기본 응답으로 대체)
+        if (!costBasedRateLimiter.tryAcquire(CostBasedRateLimiter.CostType.AI_TOKENS, null)) {
+            log.warn("AI 토큰 예산 초과로 OpenAI API 호출을 건너뜁니다.");
+            return null;
+        }
+
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setBearerAuth(openaiApiKey);
@@ -192,6 +200,8 @@ public class AIProblemGenerationService {
             log.info("OpenAI API 응답 상태: {}", response.getStatusCode());
             log.debug("응답 본문: {}", responseBody);
             
+            recordTokenUsage(responseBody);
+
             if (responseBody != null && responseBody.containsKey("choices")) {
                 var choices = (java.util.List<Map<String, Object>>) responseBody.get("choices");
                 if (!choices.isEmpty()) {
@@ -210,6 +220,18 @@ public class AIProblemGenerationService {
         return null;
     }
 
+    /**
+     * 응답의 usage.total_tokens 만큼 AI 토큰 예산 차감
+     */
+    private void recordTokenUsage(Map<String, Object> responseBody) {
+        if (responseBody == null || !(responseBody.get("usage") instanceof Map<?, ?> usage)) {
+            return;
+        }
+        if (usage.get("total_tokens") instanceof Number totalTokens) {
+            costBasedRateLimiter.recordCost(CostBasedRateLimiter.CostType.AI_TOKENS, null, totalTokens.longValue());
+        }
+    }
+
     /**
      * Claude API 호출
      */
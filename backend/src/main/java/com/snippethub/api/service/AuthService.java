@@ -15,6 +15,7 @@ import com.snippethub.api.repository.PasswordResetTokenRepository;
 import com.snippethub.api.repository.RefreshTokenRepository;
 import com.snippethub.api.repository.UserRepository;
 import com.snippethub.api.repository.VerificationTokenRepository;
+import com.snippethub.api.security.TokenBlacklist;
 import com.snippethub.api.security.TokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -42,6 +43,8 @@ public class AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final PointService pointService;
+    private final TokenBlacklist tokenBlacklist;
+    private final LevelStatsTracker levelStatsTracker;
 
     @Transactional
     public User register(UserRegisterRequestDto requestDto) {
@@ -64,6 +67,7 @@ public class AuthService {
         newUser.setIsVerified(true);
 
         User savedUser = userRepository.save(newUser);
+        levelStatsTracker.recordNewUser(savedUser.getId(), savedUser.getLevel());
 
         VerificationToken verificationToken = new VerificationToken(savedUser);
         verificationTokenRepository.save(verificationToken);
@@ -145,6 +149,11 @@ public class AuthService {
         return tokenDto;
     }
 
+    public void logout(String accessToken) {
+        // 남은 유효기간 동안 액세스 토큰 사용 차단
+        tokenBlacklist.blacklist(accessToken);
+    }
+
     @Transactional
     public void forgotPassword(String email) {
         User user = userRepository.findByEmail(email)
@@ -0,0 +1,136 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.Badge;
+import com.snippethub.api.domain.BadgeCategory;
+import com.snippethub.api.repository.BadgeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 뱃지 카탈로그 메모리 캐시.
+ * 뱃지 정의는 배포 시에만 바뀌므로 전체를 한 번 읽어 ID/이름/카테고리로 색인해 두고 읽기는 모두 메모리에서 처리한다.
+ * 내용 해시로 만든 버전 값을 응답 헤더로 내려 클라이언트도 캐시할 수 있게 하고,
+ * 관리자 재로딩이나 주기 점검에서 내용이 바뀐 경우에만 버전이 바뀐다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BadgeCatalog {
+
+    private final BadgeRepository badgeRepository;
+
+    private volatile Snapshot snapshot;
+
+    public List<Badge> getAll() {
+        return snapshot().all;
+    }
+
+    public List<Badge> getByCategory(BadgeCategory category) {
+        return snapshot().byCategory.getOrDefault(category, Collections.emptyList());
+    }
+
+    public Badge getById(Long id) {
+        return snapshot().byId.get(id);
+    }
+
+    public Badge getByName(String name) {
+        return snapshot().byName.get(name);
+    }
+
+    public String getVersion() {
+        return snapshot().version;
+    }
+
+    /**
+     * DB에서 카탈로그를 다시 읽는다. 내용이 같으면 기존 스냅샷(버전)을 유지하고 false 를 돌려준다.
+     */
+    public synchronized boolean reload() {
+        Snapshot loaded = Snapshot.of(badgeRepository.findAll());
+        Snapshot previous = snapshot;
+        if (previous != null && previous.version.equals(loaded.version)) {
+            return false;
+        }
+        snapshot = loaded;
+        log.info("뱃지 카탈로그 로드 - 뱃지 {}개, 버전 {}", loaded.all.size(), loaded.version);
+        return true;
+    }
+
+    /**
+     * 운영 중 직접 수정된 경우를 대비한 주기 점검 (뱃지 테이블은 수십 행 수준)
+     */
+    @Scheduled(fixedDelayString = "${badges.catalog.refresh-interval-ms:600000}",
+               initialDelayString = "${badges.catalog.refresh-interval-ms:600000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("뱃지 카탈로그 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        final List<Badge> all;
+        final Map<Long, Badge> byId;
+        final Map<String, Badge> byName;
+        final Map<BadgeCategory, List<Badge>> byCategory;
+        final String version;
+
+        private Snapshot(List<Badge> all, Map<Long, Badge> byId, Map<String, Badge> byName,
+                         Map<BadgeCategory, List<Badge>> byCategory, String version) {
+            this.all = all;
+            this.byId = byId;
+            this.byName = byName;
+            this.byCategory = byCategory;
+            this.version = version;
+        }
+
+        static Snapshot of(List<Badge> badges) {
+            List<Badge> all = new ArrayList<>(badges);
+            all.sort(Comparator.comparing(Badge::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+            Map<Long, Badge> byId = new HashMap<>();
+            Map<String, Badge> byName = new HashMap<>();
+            Map<BadgeCategory, List<Badge>> grouped = new EnumMap<>(BadgeCategory.class);
+            CRC32 crc = new CRC32();
+            for (Badge badge : all) {
+                byId.put(badge.getId(), badge);
+                byName.putIfAbsent(badge.getName(), badge); // 중복 이름은 가장 작은 ID 우선
+                grouped.computeIfAbsent(badge.getCategory(), c -> new ArrayList<>()).add(badge);
+                String row = badge.getId() + "|" + badge.getName() + "|" + badge.getDescription() + "|"
+                        + badge.getIcon() + "|" + badge.getColor() + "|" + badge.getCategory() + "|"
+                        + badge.getRequiredCount() + "|" + badge.getPointsReward() + "|" + badge.isHidden() + "\n";
+                crc.update(row.getBytes(StandardCharsets.UTF_8));
+            }
+
+            Map<BadgeCategory, List<Badge>> byCategory = new EnumMap<>(BadgeCategory.class);
+            grouped.forEach((category, list) -> byCategory.put(category, Collections.unmodifiableList(list)));
+            String version = Integer.toHexString(all.size()) + "-" + Long.toHexString(crc.getValue());
+            return new Snapshot(Collections.unmodifiableList(all), byId, byName, byCategory, version);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.Badge;
+import com.snippethub.api.domain.UserBadge;
+import com.snippethub.api.domain.UserLevel;
+import com.snippethub.api.repository.BadgeRepository;
+import com.snippethub.api.repository.UserBadgeRepository;
+import com.snippethub.api.repository.UserRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 기반 뱃지 판정기.
+ * 뱃지 정의는 {@link BadgeCatalog} 에서 "어떤 카운터의 몇 번째 값에서 획득하는가" 로 색인해 두고 (카탈로그 버전이 바뀌면 재색인),
+ * 사용자가 이미 획득한 뱃지는 비트셋으로 캐시한다. 활동이 반영될 때 이번 증분으로 넘어선
+ * 임계값만 확인하므로, 새로 획득하는 뱃지가 없으면 DB 조회가 전혀 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BadgeEngine {
+
+    private final BadgeCatalog badgeCatalog;
+    private final BadgeRepository badgeRepository;
+    private final UserBadgeRepository userBadgeRepository;
+    private final UserRepository userRepository;
+
+    @Value("${badges.earned-cache.max-size:50000}")
+    private int earnedCacheMaxSize = 50000;
+
+    private final ConcurrentHashMap<Long, BitSet> earnedByUser = new ConcurrentHashMap<>();
+
+    private volatile Index index;
+
+    /**
+     * 뱃지 판정 기준 카운터
+     */
+    public enum Trigger {
+        POSTS, SNIPPETS, COMMENTS, LIKES_RECEIVED, CODE_EXECUTIONS, LOGIN_STREAK, POINTS, LEVEL, MEMBERSHIP_DAYS
+    }
+
+    /**
+     * 이번 활동으로 이동한 카운터 구간 (before, after]
+     */
+    public static class Progress {
+        private final Map<Trigger, long[]> ranges = new EnumMap<>(Trigger.class);
+
+        public Progress record(Trigger trigger, long before, long after) {
+            if (after > before) {
+                ranges.put(trigger, new long[]{before, after});
+            }
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return ranges.isEmpty();
+        }
+    }
+
+    /**
+     * 이번 구간에서 넘어선 임계값의 뱃지 중 아직 없는 뱃지를 지급하고, 지급한 뱃지 목록을 돌려준다.
+     * 포인트 보상은 호출자가 포인트 원장에 등록한다.
+     */
+    public List<BadgeRule> award(Long userId, Progress progress) {
+        if (progress.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Index current = index();
+
+        List<BadgeRule> crossed = new ArrayList<>();
+        progress.ranges.forEach((trigger, range) -> current.collectCrossed(trigger, range[0], range[1], crossed));
+        if (crossed.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        BitSet earned = earnedBits(userId, current);
+        List<BadgeRule> awarded = new ArrayList<>();
+        synchronized (earned) {
+            for (BadgeRule rule : crossed) {
+                if (!earned.get(rule.bit)) {
+                    awarded.add(rule);
+                }
+            }
+        }
+        if (awarded.isEmpty()) {
+            return awarded;
+        }
+
+        List<UserBadge> userBadges = new ArrayList<>(awarded.size());
+        for (BadgeRule rule : awarded) {
+            userBadges.add(UserBadge.builder()
+                    .user(userRepository.getReferenceById(userId))
+                    .badge(badgeRepository.getReferenceById(rule.badgeId))
+                    .build());
+        }
+        userBadgeRepository.saveAll(userBadges);
+        awarded.forEach(rule -> log.info("User {} earned badge: {}", userId, rule.name));
+        markEarned(earned, awarded);
+        return awarded;
+    }
+
+    /**
+     * 사용자의 획득 뱃지 캐시 무효화 (뱃지 회수 등 외부 변경 시)
+     */
+    public void invalidate(Long userId) {
+        earnedByUser.remove(userId);
+    }
+
+    public int getCachedUserCount() {
+        return earnedByUser.size();
+    }
+
+    private Index index() {
+        String version = badgeCatalog.getVersion();
+        Index current = index;
+        if (current == null || !current.version.equals(version)) {
+            synchronized (this) {
+                if (index == current) {
+                    // 비트 위치가 바뀔 수 있으므로 획득 비트셋도 함께 비운다
+                    index = Index.build(badgeCatalog.getAll(), version);
+                    earnedByUser.clear();
+                    log.info("뱃지 판정 색인 구성 - 판정 대상 {}개, 카탈로그 버전 {}", index.size, version);
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    private BitSet earnedBits(Long userId, Index current) {
+        BitSet cached = earnedByUser.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        BitSet loaded = new BitSet(current.size);
+        for (Long badgeId : userBadgeRepository.findBadgeIdsByUserId(userId)) {
+            Integer bit = current.bitByBadgeId.get(badgeId);
+            if (bit != null) {
+                loaded.set(bit);
+            }
+        }
+        if (earnedByUser.size() >= earnedCacheMaxSize) {
+            earnedByUser.clear();
+        }
+        BitSet existing = earnedByUser.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void markEarned(BitSet earned, List<BadgeRule> awarded) {
+        Runnable mark = () -> {
+            synchronized (earned) {
+                for (BadgeRule rule : awarded) {
+                    earned.set(rule.bit);
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 롤백되면 비트를 세우지 않도록 커밋 후 반영
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mark.run();
+                }
+            });
+        } else {
+            mark.run();
+        }
+    }
+
+    /**
+     * 뱃지 하나의 판정 규칙: trigger 카운터가 threshold 에 도달하면 획득
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class BadgeRule {
+        private final Trigger trigger;
+        private final long threshold;
+        private final int bit;
+        private final Long badgeId;
+        private final String name;
+        private final String description;
+        private final int pointsReward;
+    }
+
+    /**
+     * 트리거별로 임계값 오름차순 정렬된 규칙 배열
+     */
+    static final class Index {
+        final Map<Trigger, BadgeRule[]> rulesByTrigger;
+        final Map<Long, Integer> bitByBadgeId;
+        final int size;
+        final String version;
+
+        private Index(Map<Trigger, BadgeRule[]> rulesByTrigger, Map<Long, Integer> bitByBadgeId, int size, String version) {
+            this.rulesByTrigger = rulesByTrigger;
+            this.bitByBadgeId = bitByBadgeId;
+            this.size = size;
+            this.version = version;
+        }
+
+        static Index build(List<Badge> badges, String version) {
+            Map<Trigger, List<BadgeRule>> grouped = new EnumMap<>(Trigger.class);
+            Map<Long, Integer> bitByBadgeId = new HashMap<>();
+            Map<String, Boolean> seenNames = new HashMap<>();
+            int bit = 0;
+            for (Badge badge : badges) {
+                // 같은 이름이 중복 등록된 경우 첫 번째(카탈로그는 ID 순)만 사용
+                if (seenNames.putIfAbsent(badge.getName(), Boolean.TRUE) != null) {
+                    continue;
+                }
+                Rule rule = Rule.of(badge.getName());
+                if (rule == null) {
+                    continue;
+                }
+                bitByBadgeId.put(badge.getId(), bit);
+                grouped.computeIfAbsent(rule.trigger, t -> new ArrayList<>()).add(new BadgeRule(
+                        rule.trigger, rule.threshold, bit, badge.getId(), badge.getName(),
+                        badge.getDescription(), badge.getPointsReward()));
+                bit++;
+            }
+
+            Map<Trigger, BadgeRule[]> rulesByTrigger = new EnumMap<>(Trigger.class);
+            grouped.forEach((trigger, rules) -> {
+                rules.sort((a, b) -> Long.compare(a.threshold, b.threshold));
+                rulesByTrigger.put(trigger, rules.toArray(new BadgeRule[0]));
+            });
+            return new Index(rulesByTrigger, bitByBadgeId, bit, version);
+        }
+
+        void collectCrossed(Trigger trigger, long before, long after, List<BadgeRule> out) {
+            BadgeRule[] rules = rulesByTrigger.get(trigger);
+            if (rules == null) {
+                return;
+            }
+            // threshold > before 인 첫 규칙부터 threshold <= after 까지
+            int lo = 0;
+            int hi = rules.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (rules[mid].threshold <= before) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            for (int i = lo; i < rules.length && rules[i].threshold <= after; i++) {
+                out.add(rules[i]);
+            }
+        }
+    }
+
+    /**
+     * 뱃지 이름 규칙에서 판정 기준 추출 (예: POST_WRITER_10 → 게시글 10개, GOLD_ACHIEVER → 골드 등급)
+     */
+    private static final class Rule {
+        private static final Map<String, Trigger> COUNT_PREFIXES = Map.of(
+                "POST_WRITER_", Trigger.POSTS,
+                "SNIPPET_CREATOR_", Trigger.SNIPPETS,
+                "COMMENTATOR_", Trigger.COMMENTS,
+                "POPULAR_", Trigger.LIKES_RECEIVED,
+                "CODE_RUNNER_", Trigger.CODE_EXECUTIONS,
+                "LOGIN_STREAK_", Trigger.LOGIN_STREAK,
+                "POINT_COLLECTOR_", Trigger.POINTS);
+
+        final Trigger trigger;
+        final long threshold;
+
+        private Rule(Trigger trigger, long threshold) {
+            this.trigger = trigger;
+            this.threshold = threshold;
+        }
+
+        static Rule of(String name) {
+            switch (name) {
+                case "FIRST_POST":
+                    return new Rule(Trigger.POSTS, 1);
+                case "FIRST_SNIPPET":
+                    return new Rule(Trigger.SNIPPETS, 1);
+                case "FIRST_COMMENT":
+                    return new Rule(Trigger.COMMENTS, 1);
+                case "WEEK_MEMBER":
+                    return new Rule(Trigger.MEMBERSHIP_DAYS, 7);
+                case "MONTH_MEMBER":
+                    return new Rule(Trigger.MEMBERSHIP_DAYS, 30);
+                case "ONE_YEAR_MEMBER":
+                    return new Rule(Trigger.MEMBERSHIP_DAYS, 365);
+                default:
+                    break;
+            }
+            if (name.endsWith("_ACHIEVER")) {
+                try {
+                    UserLevel level = UserLevel.valueOf(name.substring(0, name.length() - "_ACHIEVER".length()));
+                    return new Rule(Trigger.LEVEL, level.ordinal());
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+            for (Map.Entry<String, Trigger> prefix : COUNT_PREFIXES.entrySet()) {
+                if (name.startsWith(prefix.getKey())) {
+                    try {
+                        return new Rule(prefix.getValue(), Long.parseLong(name.substring(prefix.getKey().length())));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                }
+            }
+            return null; // 숨겨진 특별 뱃지 등 카운터로 판정하지 않는 뱃지
+        }
+    }
+}
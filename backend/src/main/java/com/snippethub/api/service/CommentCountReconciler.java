@@ -0,0 +1,133 @@
+package com.snippethub.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 수 재집계.
+ * 스니펫/게시글 comment_count 와 댓글 reply_count 는 작성/삭제 시 원자적 UPDATE 로 증감하고,
+ * 이 작업이 주기적으로 comments 에서 실제 수를 다시 세어 어긋난 행만 고친다.
+ * ID 범위별로 일반 SELECT (잠금 없는 읽기) 로 저장된 값과 실제 값을 읽고, 고칠 때는 읽었던 값과 같을 때만 바꾸므로
+ * 테이블을 잠그지 않고, 그 사이 들어온 증감을 덮어쓰지 않는다 (그런 행은 다음 주기에 다시 본다).
+ * 시작할 때도 한 번 돌아, 컬럼이 새로 추가되어 0 으로 채워진 기존 행을 바로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentCountReconciler {
+
+    private enum Counter {
+        SNIPPET("snippets", "id", "comment_count", "snippet_id"),
+        POST("posts", "id", "comment_count", "post_id"),
+        REPLY("comments", "comment_id", "reply_count", "parent_comment_id");
+
+        private final String table;
+        private final String idColumn;
+        private final String countColumn;
+        private final String refColumn;    // comments 에서 대상을 가리키는 컬럼
+
+        Counter(String table, String idColumn, String countColumn, String refColumn) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.countColumn = countColumn;
+            this.refColumn = refColumn;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 번에 확인할 대상 ID 범위
+    @Value("${comment-counts.batch-size:5000}")
+    private int batchSize = 5000;
+
+    @Async("domainEventExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        reconcile();
+    }
+
+    /**
+     * 모든 댓글 수를 다시 세어 어긋난 행을 고치고 고친 행 수를 돌려준다
+     */
+    @Scheduled(fixedDelayString = "${comment-counts.reconcile-interval-ms:3600000}",
+               initialDelayString = "${comment-counts.reconcile-interval-ms:3600000}")
+    public synchronized int reconcile() {
+        long startedAt = System.currentTimeMillis();
+        int fixed = 0;
+        for (Counter counter : Counter.values()) {
+            try {
+                int rows = reconcile(counter);
+                if (rows > 0) {
+                    log.warn("댓글 수 재집계 - {}.{} {}행이 어긋나 바로잡음", counter.table, counter.countColumn, rows);
+                }
+                fixed += rows;
+            } catch (Exception e) {
+                log.error("댓글 수 재집계 실패 - {}.{}: {}", counter.table, counter.countColumn, e.getMessage());
+            }
+        }
+        log.info("댓글 수 재집계 - {}행 수정, {}ms", fixed, System.currentTimeMillis() - startedAt);
+        return fixed;
+    }
+
+    private int reconcile(Counter counter) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + counter.idColumn + ") FROM " + counter.table, Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+        int fixed = 0;
+        for (long from = 0; from < maxId; from += batchSize) {
+            fixed += reconcileRange(counter, from, from + batchSize);
+        }
+        return fixed;
+    }
+
+    /**
+     * (from, to] 범위. 저장된 값을 먼저 읽어야 그 뒤에 커밋된 증감이 비교 조건에 걸려 덮어쓰이지 않는다.
+     */
+    private int reconcileRange(Counter counter, long from, long to) {
+        Map<Long, Integer> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT " + counter.idColumn + ", " + counter.countColumn + " FROM " + counter.table +
+                        " WHERE " + counter.idColumn + " > ? AND " + counter.idColumn + " <= ?",
+                (RowCallbackHandler) rs -> stored.put(rs.getLong(1), rs.getInt(2)), from, to);
+        if (stored.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Integer> actual = new HashMap<>();
+        jdbcTemplate.query("SELECT " + counter.refColumn + ", COUNT(*) FROM comments" +
+                        " WHERE " + counter.refColumn + " > ? AND " + counter.refColumn + " <= ?" +
+                        " GROUP BY " + counter.refColumn,
+                (RowCallbackHandler) rs -> actual.put(rs.getLong(1), rs.getInt(2)), from, to);
+
+        List<Object[]> args = new ArrayList<>();
+        stored.forEach((id, count) -> {
+            int real = actual.getOrDefault(id, 0);
+            if (real != count) {
+                args.add(new Object[]{real, id, count});
+            }
+        });
+        if (args.isEmpty()) {
+            return 0;
+        }
+        int[] updated = jdbcTemplate.batchUpdate("UPDATE " + counter.table + " SET " + counter.countColumn + " = ?" +
+                " WHERE " + counter.idColumn + " = ? AND " + counter.countColumn + " = ?", args);
+        int fixed = 0;
+        for (int rows : updated) {
+            fixed += Math.max(rows, 0);
+        }
+        return fixed;
+    }
+}
@@ -4,13 +4,19 @@ import com.snippethub.api.domain.Comment;
 import com.snippethub.api.domain.Post;
 import com.snippethub.api.domain.Snippet;
 import com.snippethub.api.domain.User;
+import com.snippethub.api.dto.CursorPageResponseDto;
 import com.snippethub.api.dto.CommentDto;
+import com.snippethub.api.event.CommentCreatedEvent;
+import com.snippethub.api.event.CommentDeletedEvent;
 import com.snippethub.api.repository.CommentRepository;
 import com.snippethub.api.repository.PostRepository;
 import com.snippethub.api.repository.SnippetRepository;
 import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,9 +35,9 @@ public class CommentService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final SnippetRepository snippetRepository;
-    private final NotificationService notificationService; // 알림 서비스 주입
-    private final PointService pointService;
-    private final BadgeService badgeService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String COMMENT_FEED_SORT = "OLDEST";
 
     // 게시글에 댓글 생성
     public CommentDto.CommentResponseDto createPostComment(Long postId, CommentDto.CommentRequestDto requestDto, String userEmail) {
@@ -68,52 +74,17 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
-
-        // 포인트 지급 및 뱃지 체크 (원댓글인 경우에만)
-        if (parentComment == null) {
-            try {
-                pointService.awardPointsForComment(user.getId(), savedComment.getId());
-                badgeService.checkAndAwardBadges(user.getId());
-            } catch (Exception e) {
-                // 포인트/뱃지 시스템 오류가 댓글 작성에 영향을 주지 않도록 처리
-                System.err.println("포인트/뱃지 시스템 오류: " + e.getMessage());
-            }
-        }
-
-        // 알림 생성 (자기 자신에게는 보내지 않음)
         if (parentComment != null) {
-            // 대댓글인 경우 부모 댓글 작성자에게 알림
-            if (!parentComment.getAuthor().getId().equals(user.getId())) {
-                String message = user.getNickname() + "님이 회원님의 댓글에 답글을 남겼습니다.";
-                log.info("대댓글 알림 생성 - 대상: {}, 메시지: {}", parentComment.getAuthor().getEmail(), message);
-                notificationService.createNotification(
-                    parentComment.getAuthor(), 
-                    message,
-                    com.snippethub.api.domain.NotificationType.COMMENT,
-                    "COMMENT",
-                    comment.getId(), // 댓글 ID
-                    post.getId()     // 게시글 ID (부모)
-                );
-            } else {
-                log.info("자기 자신에게는 알림을 보내지 않음 - 사용자: {}", user.getEmail());
-            }
-        } else {
-            // 원댓글인 경우 게시글 작성자에게 알림
-            if (!post.getAuthor().getId().equals(user.getId())) {
-                String message = user.getNickname() + "님이 회원님의 게시글에 댓글을 남겼습니다: " + post.getTitle();
-                log.info("원댓글 알림 생성 - 대상: {}, 메시지: {}", post.getAuthor().getEmail(), message);
-                notificationService.createNotification(
-                    post.getAuthor(), 
-                    message,
-                    com.snippethub.api.domain.NotificationType.COMMENT,
-                    "POST",
-                    post.getId(),    // 게시글 ID
-                    null            // 부모 ID 없음
-                );
-            } else {
-                log.info("자기 자신에게는 알림을 보내지 않음 - 사용자: {}", user.getEmail());
-            }
+            commentRepository.addReplyCount(parentComment.getId(), 1);
         }
+        postRepository.addCommentCount(postId, 1);
+
+        // 포인트 지급(원댓글만)과 알림은 커밋 후 비동기 처리
+        eventPublisher.publishEvent(new CommentCreatedEvent(
+                savedComment.getId(), user.getId(), user.getNickname(),
+                "POST", post.getId(), post.getTitle(), post.getAuthor().getId(),
+                parentComment != null ? parentComment.getId() : null,
+                parentComment != null ? parentComment.getAuthor().getId() : null));
 
         return CommentDto.CommentResponseDto.from(savedComment);
     }
@@ -153,46 +124,17 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
-
-        // 포인트 지급 및 뱃지 체크 (원댓글인 경우에만)
-        if (parentComment == null) {
-            try {
-                pointService.awardPointsForComment(user.getId(), savedComment.getId());
-                badgeService.checkAndAwardBadges(user.getId());
-            } catch (Exception e) {
-                // 포인트/뱃지 시스템 오류가 댓글 작성에 영향을 주지 않도록 처리
-                System.err.println("포인트/뱃지 시스템 오류: " + e.getMessage());
-            }
-        }
-
-        // 알림 생성 (자기 자신에게는 보내지 않음)
         if (parentComment != null) {
-            // 대댓글인 경우 부모 댓글 작성자에게 알림
-            if (!parentComment.getAuthor().getId().equals(user.getId())) {
-                String message = user.getNickname() + "님이 회원님의 댓글에 답글을 남겼습니다.";
-                notificationService.createNotification(
-                    parentComment.getAuthor(), 
-                    message,
-                    com.snippethub.api.domain.NotificationType.COMMENT,
-                    "COMMENT",
-                    comment.getId(), // 댓글 ID
-                    snippet.getId()  // 스니펫 ID (부모)
-                );
-            }
-        } else {
-            // 원댓글인 경우 스니펫 작성자에게 알림
-            if (!snippet.getAuthor().getId().equals(user.getId())) {
-                String message = user.getNickname() + "님이 회원님의 스니펫에 댓글을 남겼습니다: " + snippet.getTitle();
-                notificationService.createNotification(
-                    snippet.getAuthor(), 
-                    message,
-                    com.snippethub.api.domain.NotificationType.COMMENT,
-                    "SNIPPET",
-                    snippet.getId(), // 스니펫 ID
-                    null           // 부모 ID 없음
-                );
-            }
+            commentRepository.addReplyCount(parentComment.getId(), 1);
         }
+        snippetRepository.addCommentCount(snippetId, 1);
+
+        // 포인트 지급(원댓글만)과 알림은 커밋 후 비동기 처리
+        eventPublisher.publishEvent(new CommentCreatedEvent(
+                savedComment.getId(), user.getId(), user.getNickname(),
+                "SNIPPET", snippet.getId(), snippet.getTitle(), snippet.getAuthor().getId(),
+                parentComment != null ? parentComment.getId() : null,
+                parentComment != null ? parentComment.getAuthor().getId() : null));
 
         return CommentDto.CommentResponseDto.from(savedComment);
     }
@@ -210,13 +152,27 @@ public class CommentService {
         return CommentDto.CommentResponseDto.from(comment);
     }
 
-    // 댓글 삭제
+    // 댓글 삭제 (대댓글도 함께 지워지므로 대상의 댓글 수는 지워지는 댓글 전체만큼 줄인다)
     public void deleteComment(Long commentId, String userEmail) {
-        Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new IllegalArgumentException("Comment not found"));
+        Comment comment = commentRepository.findWithAuthorById(commentId).orElseThrow(() -> new IllegalArgumentException("Comment not found"));
         if (!comment.getAuthor().getEmail().equals(userEmail)) {
             throw new IllegalStateException("You are not the author of this comment");
         }
+        int removed = commentRepository.countSubtree(commentId);
+        if (comment.getParentComment() != null) {
+            commentRepository.addReplyCount(comment.getParentComment().getId(), -1);
+        }
         commentRepository.delete(comment);
+        if (comment.getPost() != null) {
+            postRepository.addCommentCount(comment.getPost().getId(), -removed);
+        } else {
+            snippetRepository.addCommentCount(comment.getSnippet().getId(), -removed);
+        }
+
+        // 상세 화면 캐시 무효화 등은 커밋 후 처리
+        eventPublisher.publishEvent(comment.getPost() != null
+                ? new CommentDeletedEvent(commentId, "POST", comment.getPost().getId())
+                : new CommentDeletedEvent(commentId, "SNIPPET", comment.getSnippet().getId()));
     }
 
     // 게시글의 댓글 목록 조회 (페이징)
@@ -231,28 +187,46 @@ public class CommentService {
         return commentRepository.findBySnippetId(snippetId, pageable).map(CommentDto.CommentResponseDto::from);
     }
 
-    // 게시글의 모든 댓글 목록 조회 (페이징 없음, 대댓글 포함)
+    // 게시글의 댓글 커서 페이지 (작성순)
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentDto.CommentResponseDto> getPostCommentFeed(Long postId, String cursor, int size) {
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, COMMENT_FEED_SORT);
+        List<Comment> rows = commentRepository.findPostCommentsAfter(postId,
+                KeysetCursor.timeAfter(after), KeysetCursor.idAfter(after), PageRequest.of(0, limit + 1));
+        return CursorPageResponseDto.of(rows, limit, CommentService::commentCursor, CommentDto.CommentResponseDto::from);
+    }
+
+    // 스니펫의 댓글 커서 페이지 (작성순)
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentDto.CommentResponseDto> getSnippetCommentFeed(Long snippetId, String cursor, int size) {
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, COMMENT_FEED_SORT);
+        List<Comment> rows = commentRepository.findSnippetCommentsAfter(snippetId,
+                KeysetCursor.timeAfter(after), KeysetCursor.idAfter(after), PageRequest.of(0, limit + 1));
+        return CursorPageResponseDto.of(rows, limit, CommentService::commentCursor, CommentDto.CommentResponseDto::from);
+    }
+
+    private static String commentCursor(Comment comment) {
+        return KeysetCursor.encode(COMMENT_FEED_SORT, comment.getCreatedAt(), comment.getId());
+    }
+
+    // 게시글의 모든 댓글 목록 조회 (페이징 없음, 대댓글 포함). 작성자까지 쿼리 한 번으로 읽고 트리는 메모리에서 조립
     @Transactional(readOnly = true)
     public List<CommentDto.CommentResponseDto> getAllPostComments(Long postId) {
-        return commentRepository.findByPostIdAndParentCommentIsNullOrderByCreatedAtAsc(postId)
-                .stream()
-                .map(CommentDto.CommentResponseDto::fromWithReplies)
-                .collect(Collectors.toList());
+        return CommentDto.CommentResponseDto.tree(commentRepository.findThreadByPostId(postId));
     }
 
-    // 스니펫의 모든 댓글 목록 조회 (페이징 없음, 대댓글 포함)
+    // 스니펫의 모든 댓글 목록 조회 (페이징 없음, 대댓글 포함). 작성자까지 쿼리 한 번으로 읽고 트리는 메모리에서 조립
     @Transactional(readOnly = true)
     public List<CommentDto.CommentResponseDto> getAllSnippetComments(Long snippetId) {
-        return commentRepository.findBySnippetIdAndParentCommentIsNullOrderByCreatedAtAsc(snippetId)
-                .stream()
-                .map(CommentDto.CommentResponseDto::fromWithReplies)
-                .collect(Collectors.toList());
+        return CommentDto.CommentResponseDto.tree(commentRepository.findThreadBySnippetId(snippetId));
     }
 
     // 특정 댓글의 대댓글 목록 조회
     @Transactional(readOnly = true)
     public List<CommentDto.CommentResponseDto> getRepliesByCommentId(Long commentId) {
-        return commentRepository.findByParentCommentIdOrderByCreatedAtAsc(commentId)
+        return commentRepository.findRepliesWithAuthor(commentId)
                 .stream()
                 .map(CommentDto.CommentResponseDto::from)
                 .collect(Collectors.toList());
@@ -4,7 +4,9 @@ import com.snippethub.api.domain.User;
 import com.snippethub.api.exception.BusinessException;
 import com.snippethub.api.exception.ErrorCode;
 import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.security.JwtUserDetails;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,24 +15,26 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private static final List<GrantedAuthority> DEFAULT_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
     private final UserRepository userRepository;
 
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        System.out.println("[CustomUserDetailsService] email로 유저 조회 시도: " + username);
+        log.debug("email로 유저 조회 시도: {}", username);
         User user = userRepository.findByEmail(username)
                 .orElseThrow(() -> {
-                    System.out.println("[CustomUserDetailsService] 유저를 찾을 수 없음: " + username);
+                    log.debug("유저를 찾을 수 없음: {}", username);
                     return new BusinessException(ErrorCode.LOGIN_INPUT_INVALID);
                 });
-        System.out.println("[CustomUserDetailsService] 유저 조회 성공: " + user.getEmail());
 
         // 개발 환경에서는 이메일 인증 체크를 비활성화
         // if (!user.isVerified()) {
@@ -40,17 +44,23 @@ public class CustomUserDetailsService implements UserDetailsService {
         return createUserDetails(user);
     }
 
+    /**
+     * 사용자의 현재 권한. stateless 인증도 토큰 클레임 대신 이 값을 캐시해서 쓴다.
+     */
+    public static List<GrantedAuthority> authoritiesOf(User user) {
+        return DEFAULT_AUTHORITIES; // 기본 권한
+    }
+
     // DB 에 User 값이 존재한다면 UserDetails 객체로 만들어서 리턴
     private UserDetails createUserDetails(User user) {
-        GrantedAuthority grantedAuthority = new SimpleGrantedAuthority("ROLE_USER"); // 기본 권한
-
         // 소셜 로그인 사용자의 경우 password가 null일 수 있음
         String password = user.getPassword() != null ? user.getPassword() : "";
 
-        return new org.springframework.security.core.userdetails.User(
+        return new JwtUserDetails(
+                user.getId(),
                 user.getEmail(),
                 password,
-                Collections.singleton(grantedAuthority)
+                authoritiesOf(user)
         );
     }
 }
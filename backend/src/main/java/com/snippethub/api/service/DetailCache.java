@@ -0,0 +1,377 @@
+package com.snippethub.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.snippethub.api.dto.RawJson;
+import com.snippethub.api.event.CommentCreatedEvent;
+import com.snippethub.api.event.CommentDeletedEvent;
+import com.snippethub.api.event.LikeToggledEvent;
+import com.snippethub.api.event.SearchDocumentChangedEvent;
+import com.snippethub.api.search.SearchDocument;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 스니펫/게시글 상세 응답 캐시.
+ * 상세 DTO 를 JSON 문자열로 직렬화해 두고 적중하면 엔티티 조회, 연관 로딩, 직렬화를 모두 건너뛴다.
+ * 로컬은 항목 수와 크기로 제한한 LRU 이고, detail-cache.redis.enabled=true 이면 Redis 를 노드 간 공유 2차 캐시로 쓴다.
+ * 수정/삭제/좋아요/댓글 이벤트가 커밋되면 해당 항목을 지우고 pub/sub 으로 다른 노드의 로컬 캐시도 지운다.
+ * 조회수처럼 이벤트 없이 바뀌는 값은 ttl-seconds 만큼 늦게 반영될 수 있다.
+ */
+@Component
+@Slf4j
+public class DetailCache {
+
+    public enum Kind {
+        SNIPPET, POST
+    }
+
+    private static final String REDIS_KEY_PREFIX = "detail-cache:";
+    private static final int GENERATION_STRIPES = 256;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectProvider<RedisConnectionFactory> redisConnectionFactoryProvider;
+
+    @Value("${detail-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${detail-cache.max-entries:5000}")
+    private int maxEntries = 5000;
+
+    // JSON 문자 수 기준 (String 은 대략 문자당 1~2바이트)
+    @Value("${detail-cache.max-chars:33554432}")
+    private long maxChars = 32L * 1024 * 1024;
+
+    @Value("${detail-cache.ttl-seconds:300}")
+    private long ttlSeconds = 300;
+
+    @Value("${detail-cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${detail-cache.redis.channel:detail-cache-invalidation}")
+    private String redisChannel = "detail-cache-invalidation";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // 접근 순서 LinkedHashMap: 맨 앞이 가장 오래 안 쓴 항목
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalChars;
+    // 무효화될 때마다 증가. 읽어 온 값을 넣기 전에 그 사이 무효화가 있었는지 확인해 오래된 값이 다시 들어가지 않게 한다
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder serializeNanos = new LongAdder();
+
+    public DetailCache(ObjectMapper objectMapper,
+                       ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                       ObjectProvider<RedisConnectionFactory> redisConnectionFactoryProvider) {
+        this.objectMapper = objectMapper;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.redisConnectionFactoryProvider = redisConnectionFactoryProvider;
+    }
+
+    @PostConstruct
+    void init() {
+        if (enabled && redisEnabled) {
+            try {
+                subscribe();
+            } catch (Exception e) {
+                log.warn("상세 캐시 Redis 무효화 구독 실패, 로컬 캐시만 사용합니다: {}", e.getMessage());
+                redisEnabled = false;
+            }
+        }
+    }
+
+    @PreDestroy
+    void destroy() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * 캐시된 상세 응답. 없으면 loader 로 DTO 를 만들어 직렬화해 넣는다 (loader 의 예외는 그대로 전파).
+     */
+    public RawJson get(Kind kind, Long id, Supplier<?> loader) {
+        String key = key(kind, id);
+        if (!enabled) {
+            return new RawJson(serialize(loader.get()));
+        }
+        String json = getLocal(key);
+        if (json != null) {
+            localHits.increment();
+            return new RawJson(json);
+        }
+
+        long generation = generations.get(stripe(key));
+        if (redisEnabled) {
+            json = getRemote(key);
+            if (json != null) {
+                redisHits.increment();
+                putLocal(key, json, generation);
+                return new RawJson(json);
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        Object dto = loader.get();
+        long loadedAt = System.nanoTime();
+        json = serialize(dto);
+        loadNanos.add(loadedAt - startedAt);
+        serializeNanos.add(System.nanoTime() - loadedAt);
+        misses.increment();
+
+        if (putLocal(key, json, generation) && redisEnabled) {
+            putRemote(key, json);
+        }
+        return new RawJson(json);
+    }
+
+    public void invalidate(Kind kind, Long id) {
+        String key = key(kind, id);
+        removeLocal(key);
+        invalidations.increment();
+        if (redisEnabled) {
+            try {
+                StringRedisTemplate redisTemplate = redisTemplateProvider.getObject();
+                redisTemplate.delete(REDIS_KEY_PREFIX + key);
+                redisTemplate.convertAndSend(redisChannel, key);
+            } catch (Exception e) {
+                log.warn("상세 캐시 Redis 무효화 실패 - {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDocumentChanged(SearchDocumentChangedEvent event) {
+        invalidate(event.getType() == SearchDocument.Type.SNIPPET ? Kind.SNIPPET : Kind.POST, event.getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeToggled(LikeToggledEvent event) {
+        invalidate(Kind.valueOf(event.getTargetType()), event.getTargetId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        invalidate(Kind.valueOf(event.getTargetType()), event.getTargetId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        invalidate(Kind.valueOf(event.getTargetType()), event.getTargetId());
+    }
+
+    public Stats getStats() {
+        lock.lock();
+        try {
+            return new Stats(localHits.sum(), redisHits.sum(), misses.sum(), evictions.sum(), invalidations.sum(),
+                    loadNanos.sum(), serializeNanos.sum(), entries.size(), totalChars);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${detail-cache.report-interval-ms:300000}",
+               initialDelayString = "${detail-cache.report-interval-ms:300000}")
+    public void report() {
+        Stats stats = getStats();
+        if (stats.getRequests() == 0) {
+            return;
+        }
+        log.info("상세 캐시 - 요청 {}건, 적중률 {}% (로컬 {}, Redis {}), 항목 {}개 / {}KB, 절약 추정: 조회 {}ms, 직렬화 {}ms",
+                stats.getRequests(), String.format("%.1f", stats.getHitRatio() * 100),
+                stats.getLocalHits(), stats.getRedisHits(), stats.getEntries(), stats.getChars() / 1024,
+                stats.getLoadMillisSaved(), stats.getSerializeMillisSaved());
+    }
+
+    private String getLocal(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                removeEntry(key);
+                return null;
+            }
+            return entry.json;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * generation 을 읽은 뒤 무효화가 없었을 때만 넣는다. 넣었으면 true.
+     */
+    private boolean putLocal(String key, String json, long generation) {
+        if (json.length() > maxChars) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (generations.get(stripe(key)) != generation) {
+                return false;
+            }
+            removeEntry(key);
+            entries.put(key, new Entry(json, System.currentTimeMillis() + ttlSeconds * 1000));
+            totalChars += json.length();
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || totalChars > maxChars) && eldest.hasNext()) {
+                totalChars -= eldest.next().getValue().json.length();
+                eldest.remove();
+                evictions.increment();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeLocal(String key) {
+        lock.lock();
+        try {
+            generations.incrementAndGet(stripe(key));
+            removeEntry(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeEntry(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalChars -= removed.json.length();
+        }
+    }
+
+    private String getRemote(String key) {
+        try {
+            return redisTemplateProvider.getObject().opsForValue().get(REDIS_KEY_PREFIX + key);
+        } catch (Exception e) {
+            log.warn("상세 캐시 Redis 조회 실패 - {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String key, String json) {
+        try {
+            redisTemplateProvider.getObject().opsForValue()
+                    .set(REDIS_KEY_PREFIX + key, json, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("상세 캐시 Redis 저장 실패 - {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void subscribe() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisConnectionFactoryProvider.getObject());
+        listenerContainer.addMessageListener((Message message, byte[] pattern) ->
+                removeLocal(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(redisChannel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    private String serialize(Object dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상세 응답 직렬화 실패", e);
+        }
+    }
+
+    private static String key(Kind kind, Long id) {
+        return kind.name() + ":" + id;
+    }
+
+    private static int stripe(String key) {
+        return (key.hashCode() & 0x7fffffff) % GENERATION_STRIPES;
+    }
+
+    private static final class Entry {
+        private final String json;
+        private final long expiresAt;
+
+        private Entry(String json, long expiresAt) {
+            this.json = json;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 누적 통계. 절약 시간은 적중 건수 × 미스 때 측정한 평균 조회/직렬화 시간으로 추정한다.
+     */
+    @Getter
+    public static class Stats {
+
+        private final long localHits;
+        private final long redisHits;
+        private final long misses;
+        private final long evictions;
+        private final long invalidations;
+        private final long loadNanos;
+        private final long serializeNanos;
+        private final int entries;
+        private final long chars;
+
+        public Stats(long localHits, long redisHits, long misses, long evictions, long invalidations,
+                     long loadNanos, long serializeNanos, int entries, long chars) {
+            this.localHits = localHits;
+            this.redisHits = redisHits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.invalidations = invalidations;
+            this.loadNanos = loadNanos;
+            this.serializeNanos = serializeNanos;
+            this.entries = entries;
+            this.chars = chars;
+        }
+
+        public long getRequests() {
+            return localHits + redisHits + misses;
+        }
+
+        public double getHitRatio() {
+            long requests = getRequests();
+            return requests == 0 ? 0 : (double) (localHits + redisHits) / requests;
+        }
+
+        public long getLoadMillisSaved() {
+            return misses == 0 ? 0 : (localHits + redisHits) * (loadNanos / misses) / 1_000_000;
+        }
+
+        public long getSerializeMillisSaved() {
+            return misses == 0 ? 0 : (localHits + redisHits) * (serializeNanos / misses) / 1_000_000;
+        }
+    }
+}
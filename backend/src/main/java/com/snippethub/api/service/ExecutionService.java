@@ -5,6 +5,7 @@ import com.snippethub.api.domain.Snippet;
 import com.snippethub.api.domain.User;
 import com.snippethub.api.dto.ExecutionRequest;
 import com.snippethub.api.dto.ExecutionResponse;
+import com.snippethub.api.event.CodeExecutedEvent;
 import com.snippethub.api.exception.BusinessException;
 import com.snippethub.api.exception.ErrorCode;
 import com.snippethub.api.repository.CodeExecutionRepository;
@@ -12,9 +13,11 @@ import com.snippethub.api.repository.SnippetRepository;
 import com.snippethub.api.repository.UserRepository;
 import com.snippethub.api.security.CodeExecutionSecurityFilter;
 import com.snippethub.api.security.CodeExecutionSandbox;
+import com.snippethub.api.security.CostBasedRateLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,9 +51,10 @@ public class ExecutionService {
     private final CodeExecutionRepository codeExecutionRepository;
     private final UserRepository userRepository;
     private final SnippetRepository snippetRepository;
-    private final PointService pointService;
+    private final ApplicationEventPublisher eventPublisher;
     private final CodeExecutionSecurityFilter codeExecutionSecurityFilter;
     private final CodeExecutionSandbox codeExecutionSandbox;
+    private final CostBasedRateLimiter costBasedRateLimiter;
 
     public ExecutionResponse execute(ExecutionRequest request, String email) {
         // 보안 검증
@@ -63,6 +67,14 @@ public class ExecutionService {
                     .build();
         }
 
+        // 실행 시간 예산 확인 (사용자별, 비로그인은 IP별)
+        if (!costBasedRateLimiter.tryAcquire(CostBasedRateLimiter.CostType.CODE_EXECUTION, email)) {
+            return ExecutionResponse.builder()
+                    .status(CodeExecution.Status.ERROR.name())
+                    .error("Execution time budget exceeded. Please try again later.")
+                    .build();
+        }
+
         User user = null;
         if (email != null) {
             user = userRepository.findByEmail(email)
@@ -90,6 +102,7 @@ public class ExecutionService {
                     .build();
         }
         
+        long startedAt = System.currentTimeMillis();
         try {
             
         switch (language) {
@@ -124,6 +137,10 @@ public class ExecutionService {
             }
         }
 
+        // 실제 실행 시간만큼 예산 차감 (시간 초과/실패도 그만큼 자원을 썼으므로 차감)
+        costBasedRateLimiter.recordCost(CostBasedRateLimiter.CostType.CODE_EXECUTION, email,
+                chargeableExecutionTime(response, System.currentTimeMillis() - startedAt));
+
         // 코드 실행 기록 저장
         CodeExecution codeExecution = CodeExecution.builder()
                 .user(user)
@@ -140,19 +157,28 @@ public class ExecutionService {
 
         codeExecutionRepository.save(codeExecution);
 
-        // 포인트 지급 (로그인한 사용자인 경우에만)
+        // 포인트 지급 (로그인한 사용자인 경우에만, 커밋 후 비동기 처리)
         if (user != null) {
-            try {
-                pointService.awardPointsForCodeExecution(user.getId(), codeExecution.getId());
-            } catch (Exception e) {
-                // 포인트 시스템 오류가 코드 실행에 영향을 주지 않도록 처리
-                System.err.println("포인트 지급 중 오류 발생: " + e.getMessage());
-            }
+            eventPublisher.publishEvent(new CodeExecutedEvent(codeExecution.getId(), user.getId()));
         }
 
         return response;
     }
 
+    /**
+     * 예산에서 차감할 실행 시간 (ms).
+     * 시간 초과는 설정된 최대 실행 시간을, 실행 시간이 없는 실패(컴파일 오류 등)는 샌드박스에서 보낸 실제 시간을 차감한다.
+     */
+    long chargeableExecutionTime(ExecutionResponse response, long elapsedMs) {
+        if (CodeExecution.Status.TIMEOUT.name().equals(response.getStatus())) {
+            return Math.max(maxExecutionTime, elapsedMs);
+        }
+        if (response.getExecutionTime() != null) {
+            return response.getExecutionTime();
+        }
+        return elapsedMs;
+    }
+
     private ExecutionResponse executeJava(String code, String input) {
         Path tempDir = null;
         long startTime = System.currentTimeMillis();
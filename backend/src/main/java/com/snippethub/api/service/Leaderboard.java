@@ -0,0 +1,204 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.UserLevel;
+import com.snippethub.api.util.RankedSkipList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 포인트 랭킹 메모리 색인.
+ * 전체 사용자의 (포인트, ID) 를 순위 스킵 리스트로 유지해 상위 N명, 내 순위, 내 주변 순위를 모두 O(log n) 에 답한다.
+ * 포인트 원장이 사용자 포인트를 반영할 때마다 증분 갱신하고, 다른 노드에서 반영된 변경은 주기적인 재구성으로 맞춘다.
+ * 등급은 포인트 구간으로 정해지므로 등급별 랭킹도 같은 색인의 연속 구간으로 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class Leaderboard {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private RankedSkipList index = new RankedSkipList();
+    // 재구성 중에 들어온 갱신 (새 색인으로 교체하기 전에 다시 적용)
+    private Map<Long, Long> pendingDuringRebuild;
+    private volatile boolean loaded;
+
+    /**
+     * 사용자의 현재 포인트 반영
+     */
+    public void update(Long userId, long points) {
+        lock.writeLock().lock();
+        try {
+            index.put(userId, points);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(userId, points);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long getTotal() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 랭킹의 offset 번째부터 limit 명
+     */
+    public List<RankedSkipList.Entry> range(long offset, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return index.range(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 등급 구간 안에서 offset 번째부터 limit 명 (rank 는 전체 순위)
+     */
+    public List<RankedSkipList.Entry> range(UserLevel level, long offset, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            long[] bounds = levelBounds(level);
+            long remaining = bounds[1] - bounds[0] - offset;
+            if (offset < 0 || remaining <= 0) {
+                return Collections.emptyList();
+            }
+            return index.range(bounds[0] + offset, (int) Math.min(limit, remaining));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long countInLevel(UserLevel level) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            long[] bounds = levelBounds(level);
+            return bounds[1] - bounds[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자의 전체 순위. 색인에 없으면 (방금 가입한 사용자 등) DB 에서 포인트를 읽어 등록한다.
+     * 존재하지 않는 사용자면 null.
+     */
+    public RankedSkipList.Entry rankOf(Long userId) {
+        ensureLoaded();
+        RankedSkipList.Entry entry = find(userId);
+        if (entry != null) {
+            return entry;
+        }
+        List<Long> points = jdbcTemplate.queryForList(
+                "SELECT COALESCE(points, 0) FROM users WHERE user_id = ?", Long.class, userId);
+        if (points.isEmpty()) {
+            return null;
+        }
+        update(userId, points.get(0));
+        return find(userId);
+    }
+
+    /**
+     * 사용자 앞뒤 radius 명씩 (사용자 본인 포함)
+     */
+    public List<RankedSkipList.Entry> around(Long userId, int radius) {
+        RankedSkipList.Entry me = rankOf(userId);
+        if (me == null) {
+            return Collections.emptyList();
+        }
+        long start = Math.max(0, me.getRank() - 1 - radius);
+        long end = me.getRank() + radius;
+        return range(start, (int) (end - start));
+    }
+
+    /**
+     * DB 에서 전체 색인을 다시 만든다. 만드는 동안의 증분 갱신은 유실되지 않도록 새 색인에 다시 적용한다.
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.rebuild-interval-ms:600000}",
+               initialDelayString = "${leaderboard.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        RankedSkipList rebuilt = new RankedSkipList();
+        try {
+            jdbcTemplate.query("SELECT user_id, COALESCE(points, 0) AS points FROM users",
+                    (RowCallbackHandler) rs -> rebuilt.put(rs.getLong("user_id"), rs.getLong("points")));
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("랭킹 색인 재구성 실패: {}", e.getMessage());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(rebuilt::put);
+            pendingDuringRebuild = null;
+            index = rebuilt;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("랭킹 색인 재구성 - 사용자 {}명, {}ms", rebuilt.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private RankedSkipList.Entry find(Long userId) {
+        lock.readLock().lock();
+        try {
+            Long points = index.getScore(userId);
+            return points == null ? null : new RankedSkipList.Entry(userId, points, index.rank(userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 등급 구간의 [시작 offset, 끝 offset)
+    private long[] levelBounds(UserLevel level) {
+        UserLevel next = level.getNextLevel();
+        long start = next == level ? 0 : index.countAbove(next.getRequiredPoints() - 1L);
+        long end = index.countAbove(level.getRequiredPoints() - 1L);
+        return new long[]{start, end};
+    }
+}
@@ -0,0 +1,240 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.UserLevel;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 등급별 사용자 수 메모리 집계.
+ * 가입, 등급 변경, 탈퇴 시점(커밋 후)에 증분으로 갱신하고, GROUP BY 한 번으로 주기적으로 DB 와 맞춘다.
+ * 점검 도중 증분이 들어온 사용자는 GROUP BY 와 같은 스냅샷에서 그 사용자의 등급을 다시 읽어,
+ * 스냅샷에 이미 반영된 변경인지와 관계없이 마지막으로 알려진 등급으로 한 번만 센다.
+ * 스냅샷 조회는 증분 잠금 밖에서 하므로 점검 중에도 증분 반영이 DB 조회를 기다리지 않는다.
+ * 점검이 끝날 때까지 기록되지 않았거나 마지막 조회 이후에 들어온 변경만 다음 점검에서 바로잡힌다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LevelStatsTracker {
+
+    private static final UserLevel[] LEVELS = UserLevel.values();
+    private static final int LOOKUP_BATCH_SIZE = 500;
+    // 조회 중에도 증분이 계속 들어오면 이 회차 이후 들어온 사용자는 다음 점검에서 바로잡는다
+    private static final int MAX_LOOKUP_ROUNDS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicLongArray counts = new AtomicLongArray(LEVELS.length);
+    // 증분 반영과 점검 결과 교체를 직렬화 (둘 다 드물게 일어남)
+    private final Object deltaLock = new Object();
+    // 점검 중 증분이 들어온 사용자 → 마지막으로 알려진 등급 (탈퇴면 null). 점검 중이 아니면 null
+    private Map<Long, UserLevel> inFlight;
+    private volatile boolean loaded;
+
+    private TransactionTemplate snapshotTemplate;
+
+    @PostConstruct
+    void init() {
+        // GROUP BY 와 개별 사용자 조회가 같은 스냅샷을 보도록
+        snapshotTemplate = new TransactionTemplate(transactionManager);
+        snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        snapshotTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 신규 가입 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void recordNewUser(Long userId, UserLevel level) {
+        afterCommit(() -> apply(userId, null, orDefault(level)));
+    }
+
+    /**
+     * 등급 변경 (커밋 이후 호출)
+     */
+    public void recordLevelChange(Long userId, UserLevel from, UserLevel to) {
+        if (orDefault(from) == orDefault(to)) {
+            return;
+        }
+        apply(userId, orDefault(from), orDefault(to));
+    }
+
+    /**
+     * 사용자 삭제 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void recordUserDeleted(Long userId, UserLevel level) {
+        afterCommit(() -> apply(userId, orDefault(level), null));
+    }
+
+    public long getCount(UserLevel level) {
+        ensureLoaded();
+        return counts.get(level.ordinal());
+    }
+
+    public long getTotal() {
+        ensureLoaded();
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${users.level-stats.reconcile-interval-ms:300000}",
+               initialDelayString = "${users.level-stats.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        Map<Long, UserLevel> pending = new HashMap<>();
+        synchronized (deltaLock) {
+            inFlight = pending;
+        }
+        try {
+            snapshotTemplate.executeWithoutResult(status -> {
+                long[] fromDb = countByLevel();
+                // 점검 중 바뀐 사용자는 스냅샷의 등급을 빼고 마지막으로 알려진 등급으로 센다.
+                // 조회는 잠금 밖에서 하고, 조회하는 동안 새로 들어온 사용자는 다음 회차에서 조회한다
+                Set<Long> lookedUp = new HashSet<>();
+                for (int round = 0; round < MAX_LOOKUP_ROUNDS; round++) {
+                    List<Long> late;
+                    synchronized (deltaLock) {
+                        late = new ArrayList<>(pending.keySet());
+                    }
+                    late.removeAll(lookedUp);
+                    if (late.isEmpty()) {
+                        break;
+                    }
+                    for (UserLevel level : levelsInSnapshot(late)) {
+                        fromDb[level.ordinal()]--;
+                    }
+                    lookedUp.addAll(late);
+                }
+                synchronized (deltaLock) {
+                    inFlight = null;
+                    for (Long userId : lookedUp) {
+                        UserLevel level = pending.get(userId);
+                        if (level != null) {
+                            fromDb[level.ordinal()]++;
+                        }
+                    }
+                    replaceCounts(fromDb);
+                }
+            });
+        } catch (Exception e) {
+            log.error("등급 통계 점검 실패: {}", e.getMessage());
+        } finally {
+            synchronized (deltaLock) {
+                inFlight = null;
+            }
+        }
+    }
+
+    private long[] countByLevel() {
+        long[] fromDb = new long[LEVELS.length];
+        jdbcTemplate.query("SELECT level, COUNT(*) AS user_count FROM users GROUP BY level",
+                (RowCallbackHandler) rs -> {
+                    UserLevel level = parseLevel(rs.getString("level"));
+                    fromDb[level.ordinal()] += rs.getLong("user_count");
+                });
+        return fromDb;
+    }
+
+    private List<UserLevel> levelsInSnapshot(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<UserLevel> levels = new ArrayList<>(userIds.size());
+        for (int from = 0; from < userIds.size(); from += LOOKUP_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, userIds.size()));
+            String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+            jdbcTemplate.query("SELECT level FROM users WHERE user_id IN (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> levels.add(parseLevel(rs.getString("level"))),
+                    batch.toArray());
+        }
+        return levels;
+    }
+
+    private void replaceCounts(long[] reconciled) {
+        boolean drifted = false;
+        for (int i = 0; i < LEVELS.length; i++) {
+            long previous = counts.getAndSet(i, reconciled[i]);
+            drifted |= loaded && previous != reconciled[i];
+        }
+        if (drifted) {
+            log.info("등급 통계 보정 - DB 기준으로 재설정");
+        }
+        loaded = true;
+    }
+
+    /**
+     * from 이 null 이면 새 사용자, to 가 null 이면 삭제된 사용자
+     */
+    private void apply(Long userId, UserLevel from, UserLevel to) {
+        synchronized (deltaLock) {
+            if (from != null) {
+                counts.decrementAndGet(from.ordinal());
+            }
+            if (to != null) {
+                counts.incrementAndGet(to.ordinal());
+            }
+            if (inFlight != null && userId != null) {
+                inFlight.put(userId, to);
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reconcile();
+                }
+            }
+        }
+    }
+
+    private static UserLevel orDefault(UserLevel level) {
+        return level != null ? level : UserLevel.BRONZE; // 엔티티 기본값
+    }
+
+    private static UserLevel parseLevel(String value) {
+        if (value == null) {
+            return UserLevel.BRONZE; // 엔티티 기본값
+        }
+        try {
+            return UserLevel.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            return UserLevel.BRONZE;
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
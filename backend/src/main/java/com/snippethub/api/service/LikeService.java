@@ -5,6 +5,7 @@ import com.snippethub.api.domain.Notification;
 import com.snippethub.api.domain.Post;
 import com.snippethub.api.domain.Snippet;
 import com.snippethub.api.domain.User;
+import com.snippethub.api.event.LikeToggledEvent;
 import com.snippethub.api.exception.BusinessException;
 import com.snippethub.api.exception.ErrorCode;
 import com.snippethub.api.repository.LikeRepository;
@@ -12,6 +13,7 @@ import com.snippethub.api.repository.PostRepository;
 import com.snippethub.api.repository.SnippetRepository;
 import com.snippethub.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,8 +26,7 @@ public class LikeService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final SnippetRepository snippetRepository;
-    private final NotificationService notificationService;
-    private final PointService pointService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public boolean toggleLikeForPost(Long postId, String email) {
@@ -37,32 +38,17 @@ public class LikeService {
         return likeRepository.findByUserIdAndPostId(user.getId(), postId).map(existingLike -> {
             likeRepository.delete(existingLike);
             post.decreaseLikeCount();
+            eventPublisher.publishEvent(new LikeToggledEvent(existingLike.getId(), user.getId(), user.getNickname(),
+                    "POST", post.getId(), post.getTitle(), post.getAuthor().getId(), false));
             return false; // 좋아요 취소
         }).orElseGet(() -> {
             Like newLike = Like.builder().user(user).post(post).build();
             Like savedLike = likeRepository.save(newLike);
             post.increaseLikeCount();
 
-            // 좋아요 받은 사용자에게 포인트 지급
-            try {
-                pointService.awardPointsForLikeReceived(post.getAuthor().getId(), savedLike.getId());
-            } catch (Exception e) {
-                // 포인트 시스템 오류가 좋아요에 영향을 주지 않도록 처리
-                System.err.println("포인트 지급 중 오류 발생: " + e.getMessage());
-            }
-
-            // 알림 생성
-            if (!post.getAuthor().getId().equals(user.getId())) { // 본인 게시물에 좋아요는 알림 X
-                String message = String.format("%s님이 회원님의 게시물 \"%s\"에 좋아요를 눌렀습니다.", user.getNickname(), post.getTitle());
-                notificationService.createNotification(
-                    post.getAuthor(), 
-                    message,
-                    com.snippethub.api.domain.NotificationType.LIKE,
-                    "POST",
-                    post.getId(), // 게시글 ID
-                    null         // 부모 ID 없음
-                );
-            }
+            // 포인트 지급과 알림은 커밋 후 비동기 처리
+            eventPublisher.publishEvent(new LikeToggledEvent(savedLike.getId(), user.getId(), user.getNickname(),
+                    "POST", post.getId(), post.getTitle(), post.getAuthor().getId(), true));
             return true; // 좋아요 추가
         });
     }
@@ -77,32 +63,17 @@ public class LikeService {
         return likeRepository.findByUserIdAndSnippetId(user.getId(), snippetId).map(existingLike -> {
             likeRepository.delete(existingLike);
             snippet.decreaseLikeCount();
+            eventPublisher.publishEvent(new LikeToggledEvent(existingLike.getId(), user.getId(), user.getNickname(),
+                    "SNIPPET", snippet.getId(), snippet.getTitle(), snippet.getAuthor().getId(), false));
             return false; // 좋아요 취소
         }).orElseGet(() -> {
             Like newLike = Like.builder().user(user).snippet(snippet).build();
             Like savedLike = likeRepository.save(newLike);
             snippet.increaseLikeCount();
 
-            // 좋아요 받은 사용자에게 포인트 지급
-            try {
-                pointService.awardPointsForLikeReceived(snippet.getAuthor().getId(), savedLike.getId());
-            } catch (Exception e) {
-                // 포인트 시스템 오류가 좋아요에 영향을 주지 않도록 처리
-                System.err.println("포인트 지급 중 오류 발생: " + e.getMessage());
-            }
-
-            // 알림 생성
-            if (!snippet.getAuthor().getId().equals(user.getId())) { // 본인 스니펫에 좋아요는 알림 X
-                String message = String.format("%s님이 회원님의 스니펫 \"%s\"에 좋아요를 눌렀습니다.", user.getNickname(), snippet.getTitle());
-                notificationService.createNotification(
-                    snippet.getAuthor(), 
-                    message,
-                    com.snippethub.api.domain.NotificationType.LIKE,
-                    "SNIPPET",
-                    snippet.getId(), // 스니펫 ID
-                    null           // 부모 ID 없음
-                );
-            }
+            // 포인트 지급과 알림은 커밋 후 비동기 처리
+            eventPublisher.publishEvent(new LikeToggledEvent(savedLike.getId(), user.getId(), user.getNickname(),
+                    "SNIPPET", snippet.getId(), snippet.getTitle(), snippet.getAuthor().getId(), true));
             return true; // 좋아요 추가
         });
     }
@@ -0,0 +1,352 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.PointHistory;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일일 로그인 보상 배치.
+ * 로그인 시점에는 (사용자, 날짜) 기록 한 줄만 INSERT IGNORE 하고, 연속 로그인 계산과 일일/주간/월간 보상은
+ * 배치가 모아서 처리한다. 이벤트 선점(processed 갱신), 포인트 반영, 연속 일수 갱신이 한 트랜잭션이라
+ * 실패 후 재시도하거나 여러 노드가 동시에 돌아도 사용자-날짜당 한 번만 지급된다.
+ * 배치가 실패하면 한 건씩 다시 처리하고, 그래도 실패한 행은 failed 로 표시해 뒤의 기록을 막지 않게 한다.
+ * 처리된 행은 보관 기간이 지나면 지운다 (failed 행은 확인을 위해 남긴다).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoginRewardBatch {
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT IGNORE INTO daily_login_events (user_id, login_date, logged_in_at, processed, failed) " +
+            "VALUES (?, ?, ?, false, false)";
+    private static final String SELECT_PENDING_SQL =
+            "SELECT event_id, user_id, login_date, logged_in_at FROM daily_login_events " +
+            "WHERE processed = false ORDER BY event_id LIMIT ?";
+    private static final String CLAIM_EVENT_SQL =
+            "UPDATE daily_login_events SET processed = true WHERE event_id = ? AND processed = false";
+    private static final String MARK_FAILED_SQL =
+            "UPDATE daily_login_events SET processed = true, failed = true WHERE event_id = ? AND processed = false";
+    private static final String PURGE_PROCESSED_SQL =
+            "DELETE FROM daily_login_events WHERE processed = true AND failed = false AND login_date < ? LIMIT ?";
+    private static final String SELECT_STREAKS_SQL =
+            "SELECT user_id, consecutive_login_days, last_login_date, created_at FROM users WHERE user_id IN (%s)";
+    private static final String UPDATE_STREAK_SQL =
+            "UPDATE users SET consecutive_login_days = ?, last_login_date = ?, last_login_at = ? WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PointLedger pointLedger;
+    private final BadgeEngine badgeEngine;
+
+    @Value("${points.login-batch.size:1000}")
+    private int batchSize = 1000;
+
+    // 처리된 로그인 기록 보관 일수
+    @Value("${points.login-batch.retention-days:30}")
+    private int retentionDays = 30;
+
+    // 오늘 이미 기록한 사용자 (같은 날 반복 로그인 시 INSERT 생략)
+    private final ConcurrentHashMap<Long, LocalDate> recordedToday = new ConcurrentHashMap<>();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 로그인 기록 (사용자-날짜당 한 행, users 테이블은 건드리지 않음)
+     */
+    public void record(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        if (today.equals(recordedToday.put(userId, today))) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_EVENT_SQL, userId, Date.valueOf(today), Timestamp.valueOf(now));
+        } catch (RuntimeException e) {
+            recordedToday.remove(userId, today);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${points.login-batch.interval-ms:60000}",
+               initialDelayString = "${points.login-batch.interval-ms:60000}")
+    public void scheduledProcess() {
+        LocalDate today = LocalDate.now();
+        recordedToday.values().removeIf(date -> date.isBefore(today));
+        try {
+            int processed = processPending();
+            if (processed > 0) {
+                log.info("일일 로그인 보상 처리 - {}건", processed);
+            }
+        } catch (Exception e) {
+            log.error("일일 로그인 보상 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 쌓인 로그인 기록을 모두 처리하고 처리한 건수를 돌려준다.
+     */
+    public int processPending() {
+        int total = 0;
+        while (true) {
+            List<LoginEvent> pending = jdbcTemplate.query(SELECT_PENDING_SQL, (rs, rowNum) -> new LoginEvent(
+                    rs.getLong("event_id"),
+                    rs.getLong("user_id"),
+                    rs.getDate("login_date").toLocalDate(),
+                    rs.getTimestamp("logged_in_at").toLocalDateTime()), batchSize);
+            if (pending.isEmpty()) {
+                return total;
+            }
+
+            BatchResult result;
+            try {
+                result = transactionTemplate.execute(status -> processBatch(pending));
+            } catch (RuntimeException e) {
+                log.warn("로그인 보상 배치 실패, 한 건씩 다시 처리 - {}건: {}", pending.size(), e.getMessage());
+                result = null;
+                total += processOneByOne(pending);
+            }
+            if (result != null) {
+                total += result.claimed;
+                afterCommit(result);
+            }
+            if (pending.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * 한 건씩 별도 트랜잭션으로 처리하고, 실패한 행은 failed 로 표시한다.
+     * 표시조차 실패하면 (DB 장애 등) 예외를 던져 다음 주기에 다시 시도한다.
+     */
+    private int processOneByOne(List<LoginEvent> pending) {
+        int processed = 0;
+        for (LoginEvent event : pending) {
+            BatchResult result;
+            try {
+                result = transactionTemplate.execute(status -> processBatch(List.of(event)));
+            } catch (RuntimeException e) {
+                log.error("로그인 보상 처리 실패, 건너뜀 - 이벤트 ID: {}, 사용자: {}, 오류: {}",
+                        event.eventId, event.userId, e.getMessage());
+                jdbcTemplate.update(MARK_FAILED_SQL, event.eventId);
+                continue;
+            }
+            if (result != null) {
+                processed += result.claimed;
+                afterCommit(result);
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 기록을 나눠서 지우고 지운 행 수를 돌려준다.
+     */
+    @Scheduled(fixedDelayString = "${points.login-batch.purge-interval-ms:3600000}",
+               initialDelayString = "${points.login-batch.purge-interval-ms:3600000}")
+    public int purgeProcessed() {
+        Date cutoff = Date.valueOf(LocalDate.now().minusDays(retentionDays));
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(PURGE_PROCESSED_SQL, cutoff, batchSize);
+                total += deleted;
+            } while (deleted >= batchSize);
+        } catch (Exception e) {
+            log.error("로그인 기록 정리 실패: {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("처리된 로그인 기록 정리 - {}건", total);
+        }
+        return total;
+    }
+
+    private BatchResult processBatch(List<LoginEvent> pending) {
+        // 다른 노드가 먼저 가져간 이벤트는 건너뛴다
+        List<Object[]> claimRows = new ArrayList<>(pending.size());
+        for (LoginEvent event : pending) {
+            claimRows.add(new Object[]{event.eventId});
+        }
+        int[] claimedCounts = jdbcTemplate.batchUpdate(CLAIM_EVENT_SQL, claimRows);
+        Map<Long, List<LoginEvent>> eventsByUser = new LinkedHashMap<>();
+        int claimed = 0;
+        for (int i = 0; i < pending.size(); i++) {
+            if (claimedCounts[i] > 0) {
+                LoginEvent event = pending.get(i);
+                eventsByUser.computeIfAbsent(event.userId, id -> new ArrayList<>()).add(event);
+                claimed++;
+            }
+        }
+        if (eventsByUser.isEmpty()) {
+            return new BatchResult(0, Collections.emptyList(), Collections.emptyList());
+        }
+
+        Map<Long, StreakState> states = loadStreaks(eventsByUser.keySet());
+        List<PointLedger.PointAward> awards = new ArrayList<>();
+        List<Object[]> streakRows = new ArrayList<>();
+        List<StreakState> changed = new ArrayList<>();
+        for (Map.Entry<Long, List<LoginEvent>> entry : eventsByUser.entrySet()) {
+            StreakState state = states.get(entry.getKey());
+            if (state == null) {
+                continue; // 탈퇴 등으로 사용자가 없는 경우
+            }
+            List<PointLedger.PointAward> rewards = rewardsFor(state, entry.getValue());
+            if (rewards.isEmpty()) {
+                continue;
+            }
+            awards.addAll(rewards);
+            Timestamp lastLogin = Timestamp.valueOf(state.lastLogin);
+            streakRows.add(new Object[]{state.streak, lastLogin, lastLogin, state.userId});
+            changed.add(state);
+        }
+
+        List<PointLedger.AppliedUser> applied = pointLedger.applyAwards(awards);
+        if (!streakRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_STREAK_SQL, streakRows);
+        }
+        return new BatchResult(claimed, applied, changed);
+    }
+
+    private Map<Long, StreakState> loadStreaks(Iterable<Long> userIds) {
+        List<Object> params = new ArrayList<>();
+        userIds.forEach(params::add);
+        String placeholders = String.join(",", Collections.nCopies(params.size(), "?"));
+        Map<Long, StreakState> states = new LinkedHashMap<>();
+        jdbcTemplate.query(String.format(SELECT_STREAKS_SQL, placeholders), (RowCallbackHandler) rs -> {
+            Timestamp lastLogin = rs.getTimestamp("last_login_date");
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            StreakState state = new StreakState(
+                    rs.getLong("user_id"),
+                    rs.getInt("consecutive_login_days"),
+                    lastLogin != null ? lastLogin.toLocalDateTime() : null,
+                    createdAt != null ? createdAt.toLocalDateTime() : null);
+            states.put(state.userId, state);
+        }, params.toArray());
+        return states;
+    }
+
+    /**
+     * 커밋 이후: 레벨업 알림/활동 뱃지, 연속 로그인과 가입 기간 뱃지
+     */
+    private void afterCommit(BatchResult result) {
+        pointLedger.afterApply(result.applied);
+        LocalDateTime now = LocalDateTime.now();
+        for (StreakState state : result.changed) {
+            try {
+                long daysSinceJoin = state.joinedAt != null ? Duration.between(state.joinedAt, now).toDays() : 0;
+                BadgeEngine.Progress progress = new BadgeEngine.Progress()
+                        .record(BadgeEngine.Trigger.LOGIN_STREAK, state.previousStreak, state.streak)
+                        .record(BadgeEngine.Trigger.MEMBERSHIP_DAYS, 0, daysSinceJoin);
+                for (BadgeEngine.BadgeRule badge : badgeEngine.award(state.userId, progress)) {
+                    pointLedger.appendBadgeReward(state.userId, badge);
+                }
+            } catch (Exception e) {
+                log.error("로그인 뱃지 판정 실패 - 사용자 {}: {}", state.userId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 한 사용자의 로그인 기록을 날짜순으로 적용해 연속 일수를 갱신하고 지급할 보상을 만든다.
+     * 이미 반영된 날짜(마지막 로그인 날짜 이전/당일)는 보상하지 않는다.
+     */
+    static List<PointLedger.PointAward> rewardsFor(StreakState state, List<LoginEvent> events) {
+        List<LoginEvent> ordered = new ArrayList<>(events);
+        ordered.sort(Comparator.comparing(event -> event.loginDate));
+
+        List<PointLedger.PointAward> awards = new ArrayList<>();
+        for (LoginEvent event : ordered) {
+            LocalDate lastDate = state.lastLogin != null ? state.lastLogin.toLocalDate() : null;
+            if (lastDate != null && !event.loginDate.isAfter(lastDate)) {
+                continue;
+            }
+            state.streak = lastDate != null && lastDate.plusDays(1).equals(event.loginDate) ? state.streak + 1 : 1;
+            state.lastLogin = event.loggedInAt;
+
+            awards.add(loginAward(state.userId, PointHistory.PointType.DAILY_LOGIN,
+                    PointService.POINTS_FOR_DAILY_LOGIN, "일일 로그인으로 포인트 획득"));
+            if (state.streak == 7) {
+                awards.add(loginAward(state.userId, PointHistory.PointType.CONSECUTIVE_LOGIN,
+                        PointService.POINTS_FOR_WEEKLY_LOGIN, "7일 연속 로그인 보너스"));
+            } else if (state.streak == 30) {
+                awards.add(loginAward(state.userId, PointHistory.PointType.CONSECUTIVE_LOGIN,
+                        PointService.POINTS_FOR_MONTHLY_LOGIN, "30일 연속 로그인 보너스"));
+            }
+        }
+        return awards;
+    }
+
+    private static PointLedger.PointAward loginAward(Long userId, PointHistory.PointType type, int points, String description) {
+        return new PointLedger.PointAward(userId, type, points, description, null, "LOGIN", PointLedger.Counter.NONE);
+    }
+
+    static final class LoginEvent {
+        final long eventId;
+        final Long userId;
+        final LocalDate loginDate;
+        final LocalDateTime loggedInAt;
+
+        LoginEvent(long eventId, Long userId, LocalDate loginDate, LocalDateTime loggedInAt) {
+            this.eventId = eventId;
+            this.userId = userId;
+            this.loginDate = loginDate;
+            this.loggedInAt = loggedInAt;
+        }
+    }
+
+    static final class StreakState {
+        final Long userId;
+        final int previousStreak;
+        final LocalDateTime joinedAt;
+        int streak;
+        LocalDateTime lastLogin;
+
+        StreakState(Long userId, int streak, LocalDateTime lastLogin, LocalDateTime joinedAt) {
+            this.userId = userId;
+            this.previousStreak = streak;
+            this.streak = streak;
+            this.lastLogin = lastLogin;
+            this.joinedAt = joinedAt;
+        }
+    }
+
+    private static final class BatchResult {
+        final int claimed;
+        final List<PointLedger.AppliedUser> applied;
+        final List<StreakState> changed;
+
+        BatchResult(int claimed, List<PointLedger.AppliedUser> applied, List<StreakState> changed) {
+            this.claimed = claimed;
+            this.applied = applied;
+            this.changed = changed;
+        }
+    }
+}
@@ -3,11 +3,14 @@ package com.snippethub.api.service;
 import com.snippethub.api.domain.Notification;
 import com.snippethub.api.domain.NotificationType;
 import com.snippethub.api.domain.User;
+import com.snippethub.api.dto.CursorPageResponseDto;
 import com.snippethub.api.dto.NotificationDto;
 import com.snippethub.api.dto.WebSocketNotificationDto;
 import com.snippethub.api.repository.NotificationRepository;
 import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -96,6 +99,18 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    // 내 알림 커서 페이지 (최신순)
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<NotificationDto> getMyNotificationFeed(String userEmail, String cursor, int size) {
+        User user = userRepository.findByEmail(userEmail).orElseThrow(() -> new IllegalArgumentException("User not found"));
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, "LATEST");
+        List<Notification> rows = notificationRepository.findCreatedBefore(user.getId(),
+                KeysetCursor.timeBefore(after), KeysetCursor.idBefore(after), PageRequest.of(0, limit + 1));
+        return CursorPageResponseDto.of(rows, limit,
+                n -> KeysetCursor.encode("LATEST", n.getCreatedAt(), n.getId()), NotificationDto::from);
+    }
+
     // 알림 읽음 처리
     public void markAsRead(Long notificationId, String userEmail) {
         User user = userRepository.findByEmail(userEmail).orElseThrow(() -> new IllegalArgumentException("User not found"));
@@ -0,0 +1,530 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.NotificationType;
+import com.snippethub.api.domain.PointAwardDeadLetter;
+import com.snippethub.api.domain.PointHistory;
+import com.snippethub.api.domain.UserLevel;
+import com.snippethub.api.repository.PointAwardDeadLetterRepository;
+import com.snippethub.api.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 지급 원장 (write-behind).
+ * 호출 트랜잭션이 커밋된 뒤 지급 내역은 메모리 큐에, 포인트/활동 카운터 증분은 {@link UserActivityAccumulator} 에 쌓아 두고,
+ * 주기적으로 point_history 배치 INSERT 와 사용자당 한 번의 원자적 {@code UPDATE users SET points = points + ?} 로 반영한다.
+ * 레벨 갱신은 같은 트랜잭션에서, 레벨업 알림과 뱃지 판정, 첫 작성 보상은 커밋 후 처리한다.
+ * 배치 반영이 실패하면 한 건씩 다시 넣어 문제가 된 내역만 골라내고, 끝내 반영하지 못한 내역은 dead-letter 테이블에 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PointLedger {
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO point_history (user_id, point_type, point_change, description, related_id, related_type, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_LEVEL_SQL = "UPDATE users SET level = ? WHERE user_id = ?";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final BadgeEngine badgeEngine;
+    private final UserActivityAccumulator activityAccumulator;
+    private final Leaderboard leaderboard;
+    private final LevelStatsTracker levelStatsTracker;
+    private final PointAwardDeadLetterRepository deadLetterRepository;
+
+    @Value("${points.ledger.batch-size:2000}")
+    private int batchSize = 2000;
+
+    @Value("${points.ledger.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    private final Queue<PointAward> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 지급 내역 등록. 트랜잭션 안이면 커밋 후에만 큐에 들어가므로 롤백된 작업에는 포인트가 지급되지 않는다.
+     */
+    public void append(PointAward award) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(award);
+                }
+            });
+        } else {
+            enqueue(award);
+        }
+    }
+
+    private void enqueue(PointAward award) {
+        activityAccumulator.add(award.getUserId(), award.getPoints(), award.getCounter());
+        enqueueHistory(award);
+    }
+
+    private void enqueueHistory(PointAward award) {
+        queue.offer(award);
+        pending.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${points.ledger.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        while (pending.get() > 0 && flush() > 0) {
+            // 남은 내역을 모두 반영
+        }
+    }
+
+    /**
+     * 큐에 쌓인 내역을 최대 batchSize 건까지 반영하고, 반영한 건수를 돌려준다.
+     */
+    public int flush() {
+        if (!flushLock.tryLock()) {
+            return 0;
+        }
+        try {
+            List<PointAward> batch = drain();
+            Map<Long, UserActivityAccumulator.ActivityDelta> deltas = activityAccumulator.drain();
+            if (batch.isEmpty() && deltas.isEmpty()) {
+                return 0;
+            }
+
+            List<AppliedUser> appliedUsers;
+            try {
+                appliedUsers = transactionTemplate.execute(status -> {
+                    insertHistory(batch);
+                    return applyDeltas(deltas);
+                });
+            } catch (Exception e) {
+                log.error("포인트 원장 반영 실패 ({}건, 사용자 {}명): {}", batch.size(), deltas.size(), e.getMessage());
+                // 증분은 다음 주기에 다시 반영하고, 이력은 한 건씩 넣어 문제가 된 내역만 골라낸다
+                activityAccumulator.restore(deltas);
+                int inserted = batch.size() > 1 ? insertOneByOne(batch) : handleFailure(batch, e);
+                flushed.add(inserted);
+                return inserted;
+            }
+            flushed.add(batch.size());
+
+            afterApply(appliedUsers != null ? appliedUsers : Collections.emptyList());
+            return batch.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 지급 내역을 현재 트랜잭션에서 즉시 반영한다 (배치 작업 등에서 직접 호출).
+     * 반영된 사용자 상태를 돌려주며, 레벨업 알림과 뱃지 판정은 호출자가 커밋 후 {@link #afterApply} 로 처리한다.
+     */
+    public List<AppliedUser> applyAwards(List<PointAward> awards) {
+        if (awards.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, UserActivityAccumulator.ActivityDelta> deltas = new LinkedHashMap<>();
+        for (PointAward award : awards) {
+            deltas.computeIfAbsent(award.getUserId(), id -> new UserActivityAccumulator.ActivityDelta())
+                    .add(award.getPoints(), award.getCounter(), 1);
+        }
+        insertHistory(awards);
+        return applyDeltas(deltas);
+    }
+
+    private void insertHistory(List<PointAward> awards) {
+        if (awards.isEmpty()) {
+            return;
+        }
+        List<Object[]> historyRows = new ArrayList<>(awards.size());
+        for (PointAward award : awards) {
+            historyRows.add(new Object[]{
+                    award.getUserId(),
+                    award.getPointType().name(),
+                    award.getPoints(),
+                    award.getDescription(),
+                    award.getRelatedId(),
+                    award.getRelatedType(),
+                    Timestamp.valueOf(award.getCreatedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, historyRows);
+    }
+
+    private List<AppliedUser> applyDeltas(Map<Long, UserActivityAccumulator.ActivityDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return Collections.emptyList();
+        }
+        deltas.forEach((userId, delta) -> userRepository.incrementActivity(userId,
+                delta.getPoints(), delta.getPosts(), delta.getSnippets(), delta.getComments(),
+                delta.getLikesReceived(), delta.getCodeExecutions()));
+        return loadApplied(deltas);
+    }
+
+    /**
+     * 반영 후 카운터 값을 한 번에 읽어 레벨을 맞추고, 뱃지 판정에 쓸 이전/이후 값을 만든다.
+     */
+    private List<AppliedUser> loadApplied(Map<Long, UserActivityAccumulator.ActivityDelta> deltas) {
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < deltas.size(); i++) {
+            placeholders.append(i == 0 ? "?" : ",?");
+        }
+
+        List<AppliedUser> applied = new ArrayList<>(deltas.size());
+        jdbcTemplate.query("SELECT user_id, points, level, total_posts, total_snippets, total_comments, " +
+                        "total_likes_received, total_code_executions FROM users WHERE user_id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> {
+                    long userId = rs.getLong("user_id");
+                    String stored = rs.getString("level");
+                    applied.add(new AppliedUser(
+                            userId,
+                            deltas.get(userId),
+                            rs.getInt("points"),
+                            rs.getInt("total_posts"),
+                            rs.getInt("total_snippets"),
+                            rs.getInt("total_comments"),
+                            rs.getInt("total_likes_received"),
+                            rs.getInt("total_code_executions"),
+                            stored != null ? UserLevel.valueOf(stored) : null));
+                },
+                deltas.keySet().toArray());
+
+        List<Object[]> levelRows = new ArrayList<>();
+        for (AppliedUser user : applied) {
+            if (user.getStoredLevel() != user.getCurrentLevel()) {
+                levelRows.add(new Object[]{user.getCurrentLevel().name(), user.getUserId()});
+            }
+        }
+        if (!levelRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_LEVEL_SQL, levelRows);
+        }
+        return applied;
+    }
+
+    /**
+     * 반영 커밋 이후 처리: 랭킹 색인과 등급 통계 갱신, 레벨업 알림, 이번 증분으로 넘어선 임계값의 뱃지 지급과 보상 포인트 등록.
+     */
+    public void afterApply(List<AppliedUser> appliedUsers) {
+        for (AppliedUser applied : appliedUsers) {
+            leaderboard.update(applied.getUserId(), applied.getPoints());
+            levelStatsTracker.recordLevelChange(applied.getUserId(), applied.getStoredLevel(), applied.getCurrentLevel());
+            if (applied.isLevelUp()) {
+                notifyLevelUp(applied);
+            }
+            awardFirstCreationBonus(applied);
+            try {
+                for (BadgeEngine.BadgeRule badge : badgeEngine.award(applied.getUserId(), applied.toProgress())) {
+                    appendBadgeReward(applied.getUserId(), badge);
+                }
+            } catch (Exception e) {
+                log.error("뱃지 판정 실패 - 사용자 {}: {}", applied.getUserId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 뱃지 보상 포인트 등록 (보상이 없는 뱃지는 무시)
+     */
+    public void appendBadgeReward(Long userId, BadgeEngine.BadgeRule badge) {
+        if (badge.getPointsReward() <= 0) {
+            return;
+        }
+        append(new PointAward(userId, PointHistory.PointType.BADGE_EARN, badge.getPointsReward(),
+                "'" + badge.getDescription() + "' 뱃지 획득 보상", badge.getBadgeId(), "BADGE", Counter.NONE));
+    }
+
+    /**
+     * 이번 반영으로 게시글/스니펫 수가 0에서 늘어난 사용자에게 첫 작성 보상 (기본 지급분과의 차액) 을 등록한다.
+     * 카운터 UPDATE 와 같은 트랜잭션에서 읽은 값이라 행 잠금 순서대로 한 번의 반영만 0을 넘기므로,
+     * 여러 노드나 연속 작성에서도 보상은 한 번만 지급된다.
+     */
+    private void awardFirstCreationBonus(AppliedUser applied) {
+        UserActivityAccumulator.ActivityDelta delta = applied.getDelta();
+        if (delta.getPosts() > 0 && applied.getTotalPosts() == delta.getPosts()) {
+            appendFirstCreationBonus(applied.getUserId(), PointService.POINTS_FOR_FIRST_POST,
+                    PointService.POINTS_FOR_FIRST_POST - PointService.POINTS_FOR_POST,
+                    "첫 게시글 작성으로 특별 보상 포인트 획득!", "첫 게시글");
+        }
+        if (delta.getSnippets() > 0 && applied.getTotalSnippets() == delta.getSnippets()) {
+            appendFirstCreationBonus(applied.getUserId(), PointService.POINTS_FOR_FIRST_SNIPPET,
+                    PointService.POINTS_FOR_FIRST_SNIPPET - PointService.POINTS_FOR_SNIPPET,
+                    "첫 스니펫 작성으로 특별 보상 포인트 획득!", "첫 스니펫");
+        }
+    }
+
+    private void appendFirstCreationBonus(Long userId, int totalPoints, int bonus, String description, String what) {
+        append(new PointAward(userId, PointHistory.PointType.SPECIAL_AWARD, bonus, description, userId, "USER", Counter.NONE));
+        try {
+            userRepository.findById(userId).ifPresent(user -> notificationService.createNotification(
+                    user,
+                    String.format("축하합니다! %s 작성으로 %d포인트를 획득했습니다! 🎉", what, totalPoints),
+                    NotificationType.POINT_EARNED,
+                    "USER",
+                    userId,
+                    null));
+        } catch (Exception e) {
+            log.error("첫 작성 보상 알림 생성 실패 - 사용자 {}: {}", userId, e.getMessage());
+        }
+        log.info("User {} earned first creation bonus: {} (+{})", userId, what, bonus);
+    }
+
+    private void notifyLevelUp(AppliedUser applied) {
+        UserLevel previous = applied.getPreviousLevel();
+        UserLevel current = applied.getCurrentLevel();
+        try {
+            userRepository.findById(applied.getUserId()).ifPresent(user -> {
+                String message = String.format("🎉 축하합니다! %s에서 %s로 레벨업했습니다!",
+                        previous.getDisplayName(), current.getDisplayName());
+                notificationService.createNotification(user, message, NotificationType.LEVEL_UP, "USER", user.getId(), null);
+                log.info("User {} leveled up from {} to {}",
+                        user.getNickname(), previous.getDisplayName(), current.getDisplayName());
+            });
+        } catch (Exception e) {
+            log.error("레벨업 알림 생성 실패 - 사용자 {}: {}", applied.getUserId(), e.getMessage());
+        }
+    }
+
+    private List<PointAward> drain() {
+        List<PointAward> batch = new ArrayList<>(Math.min(pending.get(), batchSize));
+        PointAward award;
+        while (batch.size() < batchSize && (award = queue.poll()) != null) {
+            pending.decrementAndGet();
+            batch.add(award);
+        }
+        return batch;
+    }
+
+    /**
+     * 배치 실패 후 이력을 한 건씩 각자의 트랜잭션으로 넣는다. 넣은 건수를 돌려준다.
+     * 제약 조건 위반처럼 그 내역 자체가 문제면 바로 dead-letter 로, DB 장애처럼 보이면 남은 내역을 다음 주기로 미룬다.
+     */
+    private int insertOneByOne(List<PointAward> batch) {
+        int inserted = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            PointAward award = batch.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertHistory(List.of(award)));
+                inserted++;
+            } catch (Exception e) {
+                if (e instanceof DataIntegrityViolationException) {
+                    deadLetter(award, e);
+                } else {
+                    handleFailure(batch.subList(i, batch.size()), e);
+                    break;
+                }
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * 반영하지 못한 내역을 다음 주기에 다시 시도하고, 최대 시도 횟수를 넘기거나 내역 자체가 문제면 dead-letter 로 넘긴다.
+     */
+    private int handleFailure(List<PointAward> awards, Exception cause) {
+        for (PointAward award : awards) {
+            if (cause instanceof DataIntegrityViolationException || ++award.attempts >= maxAttempts) {
+                deadLetter(award, cause);
+            } else {
+                enqueueHistory(award);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * dead-letter 테이블에 남기고 포인트/카운터 증분을 되돌린다.
+     * 남기지 못하면 (DB 장애 등) 내역을 잃지 않도록 큐에 다시 넣어 다음 주기에 처음부터 시도한다.
+     */
+    private void deadLetter(PointAward award, Exception cause) {
+        try {
+            String error = String.valueOf(cause.getMessage());
+            deadLetterRepository.save(PointAwardDeadLetter.builder()
+                    .userId(award.getUserId())
+                    .pointType(award.getPointType().name())
+                    .pointChange(award.getPoints())
+                    .description(award.getDescription())
+                    .relatedId(award.getRelatedId())
+                    .relatedType(award.getRelatedType())
+                    .activityCounter(award.getCounter().name())
+                    .attempts(award.attempts)
+                    .lastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error)
+                    .awardedAt(award.getCreatedAt())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            log.error("포인트 지급 내역 dead-letter 저장 실패, 다시 시도 예정 - 사용자: {}, 유형: {}, 포인트: {}, 오류: {}",
+                    award.getUserId(), award.getPointType(), award.getPoints(), e.getMessage());
+            award.attempts = 0;
+            enqueueHistory(award);
+            return;
+        }
+        // 이력을 남길 수 없으면 포인트/카운터 증분도 되돌린다 (재처리 시 함께 다시 반영)
+        activityAccumulator.subtract(award.getUserId(), award.getPoints(), award.getCounter());
+        deadLettered.increment();
+        log.error("포인트 지급 내역 dead-letter 이동 - 사용자: {}, 유형: {}, 포인트: {}, 관련: {}:{}, 오류: {}",
+                award.getUserId(), award.getPointType(), award.getPoints(), award.getRelatedType(), award.getRelatedId(),
+                cause.getMessage());
+    }
+
+    /**
+     * dead-letter 로 넘어간 내역을 오래된 순으로 최대 limit 건 원장에 다시 등록하고, 등록한 건수를 돌려준다.
+     * 다시 실패하면 새 dead-letter 로 남는다.
+     */
+    public int replayDeadLetters(int limit) {
+        List<PointAwardDeadLetter> deadLetters = transactionTemplate.execute(status -> {
+            List<PointAwardDeadLetter> rows = deadLetterRepository.findAllByOrderByIdAsc(PageRequest.of(0, limit));
+            deadLetterRepository.deleteAllInBatch(rows);
+            return rows;
+        });
+        if (deadLetters == null) {
+            return 0;
+        }
+        for (PointAwardDeadLetter deadLetter : deadLetters) {
+            enqueue(new PointAward(deadLetter.getUserId(),
+                    PointHistory.PointType.valueOf(deadLetter.getPointType()),
+                    deadLetter.getPointChange(),
+                    deadLetter.getDescription(),
+                    deadLetter.getRelatedId(),
+                    deadLetter.getRelatedType(),
+                    Counter.valueOf(deadLetter.getActivityCounter()),
+                    deadLetter.getAwardedAt()));
+        }
+        log.info("포인트 지급 dead-letter 재처리 등록 - {}건", deadLetters.size());
+        return deadLetters.size();
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public long getFlushedCount() {
+        return flushed.sum();
+    }
+
+    public long getDeadLetteredCount() {
+        return deadLettered.sum();
+    }
+
+    /**
+     * 사용자 활동 카운터 (지급과 함께 증가시킬 users 컬럼)
+     */
+    public enum Counter {
+        NONE, POSTS, SNIPPETS, COMMENTS, LIKES_RECEIVED, CODE_EXECUTIONS
+    }
+
+    @Getter
+    public static class PointAward {
+        private final Long userId;
+        private final PointHistory.PointType pointType;
+        private final int points;
+        private final String description;
+        private final Long relatedId;
+        private final String relatedType;
+        private final Counter counter;
+        private final LocalDateTime createdAt;
+        private int attempts;
+
+        public PointAward(Long userId, PointHistory.PointType pointType, int points, String description,
+                          Long relatedId, String relatedType, Counter counter) {
+            this(userId, pointType, points, description, relatedId, relatedType, counter, LocalDateTime.now());
+        }
+
+        PointAward(Long userId, PointHistory.PointType pointType, int points, String description,
+                   Long relatedId, String relatedType, Counter counter, LocalDateTime createdAt) {
+            this.userId = userId;
+            this.pointType = pointType;
+            this.points = points;
+            this.description = description;
+            this.relatedId = relatedId;
+            this.relatedType = relatedType;
+            this.counter = counter;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * 반영 직후 사용자 상태 (반영 후 카운터 값과 이번 증분)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class AppliedUser {
+        private final Long userId;
+        private final UserActivityAccumulator.ActivityDelta delta;
+        private final int points;
+        private final int totalPosts;
+        private final int totalSnippets;
+        private final int totalComments;
+        private final int totalLikesReceived;
+        private final int totalCodeExecutions;
+        private final UserLevel storedLevel;
+
+        public UserLevel getCurrentLevel() {
+            return UserLevel.getLevelByPoints(points);
+        }
+
+        public UserLevel getPreviousLevel() {
+            return UserLevel.getLevelByPoints(points - delta.getPoints());
+        }
+
+        public boolean isLevelUp() {
+            return getCurrentLevel().ordinal() > getPreviousLevel().ordinal();
+        }
+
+        BadgeEngine.Progress toProgress() {
+            return new BadgeEngine.Progress()
+                    .record(BadgeEngine.Trigger.POSTS, totalPosts - delta.getPosts(), totalPosts)
+                    .record(BadgeEngine.Trigger.SNIPPETS, totalSnippets - delta.getSnippets(), totalSnippets)
+                    .record(BadgeEngine.Trigger.COMMENTS, totalComments - delta.getComments(), totalComments)
+                    .record(BadgeEngine.Trigger.LIKES_RECEIVED, totalLikesReceived - delta.getLikesReceived(), totalLikesReceived)
+                    .record(BadgeEngine.Trigger.CODE_EXECUTIONS, totalCodeExecutions - delta.getCodeExecutions(), totalCodeExecutions)
+                    .record(BadgeEngine.Trigger.POINTS, points - delta.getPoints(), points)
+                    .record(BadgeEngine.Trigger.LEVEL, getPreviousLevel().ordinal(), getCurrentLevel().ordinal());
+        }
+    }
+}
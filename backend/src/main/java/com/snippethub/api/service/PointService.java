@@ -1,14 +1,15 @@
 package com.snippethub.api.service;
 
-import com.snippethub.api.domain.NotificationType;
 import com.snippethub.api.domain.PointHistory;
 import com.snippethub.api.domain.User;
-import com.snippethub.api.domain.UserLevel;
+import com.snippethub.api.dto.CursorPageResponseDto;
 import com.snippethub.api.repository.PointHistoryRepository;
 import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,7 +24,8 @@ public class PointService {
 
     private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
-    private final NotificationService notificationService;
+    private final PointLedger pointLedger;
+    private final LoginRewardBatch loginRewardBatch;
 
     // 포인트 획득 기준
     public static final int POINTS_FOR_POST = 10;           // 게시글 작성
@@ -46,202 +48,89 @@ public class PointService {
     public static final int POINTS_FOR_EXPERT_PROBLEM = 50; // 전문가 문제 해결
 
     /**
-     * 게시글 작성 포인트 지급
+     * 게시글 작성 포인트 지급. 첫 게시글 보상은 원장 반영 시 카운터가 0에서 늘어났는지로 판정한다 ({@link PointLedger}).
      */
     public void awardPointsForPost(Long userId, Long postId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // 레벨 업 체크를 위한 이전 레벨 저장
-        UserLevel previousLevel = user.getCurrentLevel();
-        
-        // 첫 게시글 작성인지 확인
-        boolean isFirstPost = user.getTotalPosts() == 0;
-        int pointsToAward = isFirstPost ? POINTS_FOR_FIRST_POST : POINTS_FOR_POST;
-        
-        user.addPoints(pointsToAward);
-        user.incrementTotalPosts();
-        userRepository.save(user);
-        
-        // 포인트 히스토리 저장
-        PointHistory pointHistory = PointHistory.builder()
-                .user(user)
-                .pointType(isFirstPost ? PointHistory.PointType.SPECIAL_AWARD : PointHistory.PointType.POST_CREATE)
-                .pointChange(pointsToAward)
-                .description(isFirstPost ? "첫 게시글 작성으로 특별 보상 포인트 획득!" : "게시글 작성으로 포인트 획득")
-                .relatedId(postId)
-                .relatedType("POST")
-                .build();
-        pointHistoryRepository.save(pointHistory);
-        
-        // 실시간 알림 생성 (첫 게시글인 경우에만)
-        if (isFirstPost) {
-            notificationService.createNotification(
-                user, 
-                String.format("축하합니다! 첫 게시글 작성으로 %d포인트를 획득했습니다! 🎉", pointsToAward),
-                NotificationType.POINT_EARNED,
-                "POST",
+        pointLedger.append(new PointLedger.PointAward(
+                userId,
+                PointHistory.PointType.POST_CREATE,
+                POINTS_FOR_POST,
+                "게시글 작성으로 포인트 획득",
                 postId,
-                null
-            );
-        }
-        
-        // 레벨 업 알림 생성
-        checkAndCreateLevelUpNotification(user, previousLevel);
-        
-        log.info("User {} earned {} points for posting (first post: {})", user.getNickname(), pointsToAward, isFirstPost);
+                "POST",
+                PointLedger.Counter.POSTS));
+
+        log.debug("User {} earned {} points for posting", userId, POINTS_FOR_POST);
     }
 
     /**
-     * 스니펫 작성 포인트 지급
+     * 스니펫 작성 포인트 지급. 첫 스니펫 보상은 원장 반영 시 카운터가 0에서 늘어났는지로 판정한다 ({@link PointLedger}).
      */
     public void awardPointsForSnippet(Long userId, Long snippetId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // 레벨 업 체크를 위한 이전 레벨 저장
-        UserLevel previousLevel = user.getCurrentLevel();
-        
-        // 첫 스니펫 작성인지 확인
-        boolean isFirstSnippet = user.getTotalSnippets() == 0;
-        int pointsToAward = isFirstSnippet ? POINTS_FOR_FIRST_SNIPPET : POINTS_FOR_SNIPPET;
-        
-        user.addPoints(pointsToAward);
-        user.incrementTotalSnippets();
-        userRepository.save(user);
-        
-        // 포인트 히스토리 저장
-        PointHistory pointHistory = PointHistory.builder()
-                .user(user)
-                .pointType(isFirstSnippet ? PointHistory.PointType.SPECIAL_AWARD : PointHistory.PointType.SNIPPET_CREATE)
-                .pointChange(pointsToAward)
-                .description(isFirstSnippet ? "첫 스니펫 작성으로 특별 보상 포인트 획득!" : "스니펫 작성으로 포인트 획득")
-                .relatedId(snippetId)
-                .relatedType("SNIPPET")
-                .build();
-        pointHistoryRepository.save(pointHistory);
-        
-        // 실시간 알림 생성 (첫 스니펫인 경우에만)
-        if (isFirstSnippet) {
-            notificationService.createNotification(
-                user, 
-                String.format("축하합니다! 첫 스니펫 작성으로 %d포인트를 획득했습니다! 🎉", pointsToAward),
-                NotificationType.POINT_EARNED,
-                "SNIPPET",
+        pointLedger.append(new PointLedger.PointAward(
+                userId,
+                PointHistory.PointType.SNIPPET_CREATE,
+                POINTS_FOR_SNIPPET,
+                "스니펫 작성으로 포인트 획득",
                 snippetId,
-                null
-            );
-        }
-        
-        // 레벨 업 알림 생성
-        checkAndCreateLevelUpNotification(user, previousLevel);
-        
-        log.info("User {} earned {} points for creating snippet (first snippet: {})", user.getNickname(), pointsToAward, isFirstSnippet);
+                "SNIPPET",
+                PointLedger.Counter.SNIPPETS));
+
+        log.debug("User {} earned {} points for creating snippet", userId, POINTS_FOR_SNIPPET);
     }
 
     /**
      * 댓글 작성 포인트 지급
      */
     public void awardPointsForComment(Long userId, Long commentId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // 레벨 업 체크를 위한 이전 레벨 저장
-        UserLevel previousLevel = user.getCurrentLevel();
-        
-        user.addPoints(POINTS_FOR_COMMENT);
-        user.incrementTotalComments();
-        userRepository.save(user);
-        
-        // 포인트 히스토리 저장
-        PointHistory pointHistory = PointHistory.builder()
-                .user(user)
-                .pointType(PointHistory.PointType.COMMENT_CREATE)
-                .pointChange(POINTS_FOR_COMMENT)
-                .description("댓글 작성으로 포인트 획득")
-                .relatedId(commentId)
-                .relatedType("COMMENT")
-                .build();
-        pointHistoryRepository.save(pointHistory);
-        
-        // 레벨 업 알림 생성
-        checkAndCreateLevelUpNotification(user, previousLevel);
-        
-        log.info("User {} earned {} points for commenting", user.getNickname(), POINTS_FOR_COMMENT);
+        pointLedger.append(new PointLedger.PointAward(
+                userId,
+                PointHistory.PointType.COMMENT_CREATE,
+                POINTS_FOR_COMMENT,
+                "댓글 작성으로 포인트 획득",
+                commentId,
+                "COMMENT",
+                PointLedger.Counter.COMMENTS));
+        
+        log.debug("User {} earned {} points for commenting", userId, POINTS_FOR_COMMENT);
     }
 
     /**
      * 좋아요 받음 포인트 지급
      */
     public void awardPointsForLikeReceived(Long userId, Long likeId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // 레벨 업 체크를 위한 이전 레벨 저장
-        UserLevel previousLevel = user.getCurrentLevel();
-        
-        user.addPoints(POINTS_FOR_LIKE_RECEIVED);
-        user.incrementTotalLikesReceived();
-        userRepository.save(user);
-        
-        // 포인트 히스토리 저장
-        PointHistory pointHistory = PointHistory.builder()
-                .user(user)
-                .pointType(PointHistory.PointType.LIKE_RECEIVE)
-                .pointChange(POINTS_FOR_LIKE_RECEIVED)
-                .description("좋아요를 받아서 포인트 획득")
-                .relatedId(likeId)
-                .relatedType("LIKE")
-                .build();
-        pointHistoryRepository.save(pointHistory);
-        
-        // 레벨 업 알림 생성
-        checkAndCreateLevelUpNotification(user, previousLevel);
-        
-        log.info("User {} earned {} points for receiving like", user.getNickname(), POINTS_FOR_LIKE_RECEIVED);
+        pointLedger.append(new PointLedger.PointAward(
+                userId,
+                PointHistory.PointType.LIKE_RECEIVE,
+                POINTS_FOR_LIKE_RECEIVED,
+                "좋아요를 받아서 포인트 획득",
+                likeId,
+                "LIKE",
+                PointLedger.Counter.LIKES_RECEIVED));
+        
+        log.debug("User {} earned {} points for receiving like", userId, POINTS_FOR_LIKE_RECEIVED);
     }
 
     /**
      * 코드 실행 포인트 지급
      */
     public void awardPointsForCodeExecution(Long userId, Long executionId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // 레벨 업 체크를 위한 이전 레벨 저장
-        UserLevel previousLevel = user.getCurrentLevel();
-        
-        user.addPoints(POINTS_FOR_CODE_EXECUTION);
-        user.incrementTotalCodeExecutions();
-        userRepository.save(user);
-        
-        // 포인트 히스토리 저장
-        PointHistory pointHistory = PointHistory.builder()
-                .user(user)
-                .pointType(PointHistory.PointType.CODE_EXECUTION)
-                .pointChange(POINTS_FOR_CODE_EXECUTION)
-                .description("코드 실행으로 포인트 획득")
-                .relatedId(executionId)
-                .relatedType("EXECUTION")
-                .build();
-        pointHistoryRepository.save(pointHistory);
-        
-        // 레벨 업 알림 생성
-        checkAndCreateLevelUpNotification(user, previousLevel);
-        
-        log.info("User {} earned {} points for code execution", user.getNickname(), POINTS_FOR_CODE_EXECUTION);
+        pointLedger.append(new PointLedger.PointAward(
+                userId,
+                PointHistory.PointType.CODE_EXECUTION,
+                POINTS_FOR_CODE_EXECUTION,
+                "코드 실행으로 포인트 획득",
+                executionId,
+                "EXECUTION",
+                PointLedger.Counter.CODE_EXECUTIONS));
+        
+        log.debug("User {} earned {} points for code execution", userId, POINTS_FOR_CODE_EXECUTION);
     }
 
     /**
      * 문제 해결 포인트 지급 (난이도별)
      */
     public void awardPointsForProblemSolved(Long userId, com.snippethub.api.domain.ProblemDifficulty difficulty, Long submissionId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // 레벨 업 체크를 위한 이전 레벨 저장
-        UserLevel previousLevel = user.getCurrentLevel();
-        
         int points = switch (difficulty) {
             case EASY -> POINTS_FOR_EASY_PROBLEM;
             case MEDIUM -> POINTS_FOR_MEDIUM_PROBLEM;
@@ -249,123 +138,40 @@ public class PointService {
             case EXPERT -> POINTS_FOR_EXPERT_PROBLEM;
         };
         
-        user.addPoints(points);
-        userRepository.save(user);
-        
-        // 포인트 히스토리 저장
-        PointHistory pointHistory = PointHistory.builder()
-                .user(user)
-                .pointType(PointHistory.PointType.PROBLEM_SOLVE)
-                .pointChange(points)
-                .description(difficulty.getDisplayName() + " 난이도 문제 해결로 포인트 획득")
-                .relatedId(submissionId)
-                .relatedType("SUBMISSION")
-                .build();
-        pointHistoryRepository.save(pointHistory);
-        
-        // 레벨 업 알림 생성
-        checkAndCreateLevelUpNotification(user, previousLevel);
+        pointLedger.append(new PointLedger.PointAward(
+                userId,
+                PointHistory.PointType.PROBLEM_SOLVE,
+                points,
+                difficulty.getDisplayName() + " 난이도 문제 해결로 포인트 획득",
+                submissionId,
+                "SUBMISSION",
+                PointLedger.Counter.NONE));
         
-        log.info("User {} earned {} points for solving {} problem", user.getNickname(), points, difficulty.getDisplayName());
+        log.info("User {} earned {} points for solving {} problem", userId, points, difficulty.getDisplayName());
     }
 
     /**
-     * 로그인 포인트 지급 (연속 로그인 체크 포함)
+     * 로그인 포인트 지급. 로그인 시점에는 사용자-날짜 기록만 남기고,
+     * 연속 로그인 보너스와 뱃지 판정은 LoginRewardBatch 가 모아서 처리한다.
      */
     public void awardPointsForLogin(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // 레벨 업 체크를 위한 이전 레벨 저장
-        UserLevel previousLevel = user.getCurrentLevel();
-        
-        // 기존 로그인 통계 업데이트
-        user.updateLoginStats();
-        
-        // 일일 로그인 포인트
-        user.addPoints(POINTS_FOR_DAILY_LOGIN);
-        
-        // 포인트 히스토리 저장 (일일 로그인)
-        PointHistory dailyLoginHistory = PointHistory.builder()
-                .user(user)
-                .pointType(PointHistory.PointType.DAILY_LOGIN)
-                .pointChange(POINTS_FOR_DAILY_LOGIN)
-                .description("일일 로그인으로 포인트 획득")
-                .relatedId(null)
-                .relatedType("LOGIN")
-                .build();
-        pointHistoryRepository.save(dailyLoginHistory);
-        
-        // 연속 로그인 보너스 포인트
-        int consecutiveDays = user.getConsecutiveLoginDays();
-        if (consecutiveDays == 7) {
-            user.addPoints(POINTS_FOR_WEEKLY_LOGIN);
-            
-            // 포인트 히스토리 저장 (주간 보너스)
-            PointHistory weeklyBonusHistory = PointHistory.builder()
-                    .user(user)
-                    .pointType(PointHistory.PointType.CONSECUTIVE_LOGIN)
-                    .pointChange(POINTS_FOR_WEEKLY_LOGIN)
-                    .description("7일 연속 로그인 보너스")
-                    .relatedId(null)
-                    .relatedType("LOGIN")
-                    .build();
-            pointHistoryRepository.save(weeklyBonusHistory);
-            
-            log.info("User {} earned weekly login bonus: {} points", user.getNickname(), POINTS_FOR_WEEKLY_LOGIN);
-        } else if (consecutiveDays == 30) {
-            user.addPoints(POINTS_FOR_MONTHLY_LOGIN);
-            
-            // 포인트 히스토리 저장 (월간 보너스)
-            PointHistory monthlyBonusHistory = PointHistory.builder()
-                    .user(user)
-                    .pointType(PointHistory.PointType.CONSECUTIVE_LOGIN)
-                    .pointChange(POINTS_FOR_MONTHLY_LOGIN)
-                    .description("30일 연속 로그인 보너스")
-                    .relatedId(null)
-                    .relatedType("LOGIN")
-                    .build();
-            pointHistoryRepository.save(monthlyBonusHistory);
-            
-            log.info("User {} earned monthly login bonus: {} points", user.getNickname(), POINTS_FOR_MONTHLY_LOGIN);
-        }
-        
-        userRepository.save(user);
-        
-        // 레벨 업 알림 생성
-        checkAndCreateLevelUpNotification(user, previousLevel);
-        
-        log.info("User {} earned {} points for daily login", user.getNickname(), POINTS_FOR_DAILY_LOGIN);
+        loginRewardBatch.record(userId);
     }
 
     /**
      * 특별 활동 포인트 지급
      */
     public void awardSpecialPoints(Long userId, int points, String reason) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // 레벨 업 체크를 위한 이전 레벨 저장
-        UserLevel previousLevel = user.getCurrentLevel();
-        
-        user.addPoints(points);
-        userRepository.save(user);
-        
-        // 포인트 히스토리 저장
-        PointHistory pointHistory = PointHistory.builder()
-                .user(user)
-                .pointType(PointHistory.PointType.SPECIAL_AWARD)
-                .pointChange(points)
-                .description(reason)
-                .relatedId(null)
-                .relatedType("SPECIAL")
-                .build();
-        pointHistoryRepository.save(pointHistory);
-        
-        // 레벨 업 알림 생성
-        checkAndCreateLevelUpNotification(user, previousLevel);
-        
-        log.info("User {} earned {} special points for: {}", user.getNickname(), points, reason);
+        pointLedger.append(new PointLedger.PointAward(
+                userId,
+                PointHistory.PointType.SPECIAL_AWARD,
+                points,
+                reason,
+                null,
+                "SPECIAL",
+                PointLedger.Counter.NONE));
+        
+        log.info("User {} earned {} special points for: {}", userId, points, reason);
     }
 
     /**
@@ -376,22 +182,17 @@ public class PointService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
         
         int currentPoints = user.getPoints();
-        int newPoints = Math.max(0, currentPoints - points); // 포인트는 0 이하로 내려가지 않음
-        int actualDeduction = currentPoints - newPoints; // 실제 차감된 포인트
-        
-        user.addPoints(newPoints - currentPoints); // 음수 값을 더해서 차감 효과
-        userRepository.save(user);
-        
-        // 포인트 히스토리 저장 (차감)
-        PointHistory pointHistory = PointHistory.builder()
-                .user(user)
-                .pointType(PointHistory.PointType.PENALTY)
-                .pointChange(-actualDeduction) // 음수로 저장
-                .description(reason)
-                .relatedId(null)
-                .relatedType("PENALTY")
-                .build();
-        pointHistoryRepository.save(pointHistory);
+        int actualDeduction = Math.min(currentPoints, points); // 포인트는 0 이하로 내려가지 않음
+        
+        // 포인트 차감 (반영 시에도 0 미만으로 내려가지 않도록 처리됨)
+        pointLedger.append(new PointLedger.PointAward(
+                userId,
+                PointHistory.PointType.PENALTY,
+                -actualDeduction, // 음수로 저장
+                reason,
+                null,
+                "PENALTY",
+                PointLedger.Counter.NONE));
         
         log.info("User {} lost {} points for: {}", user.getNickname(), actualDeduction, reason);
     }
@@ -425,28 +226,15 @@ public class PointService {
     }
 
     /**
-     * 레벨 업 알림 생성
+     * 사용자의 포인트 히스토리 커서 페이지 (최신순)
      */
-    private void checkAndCreateLevelUpNotification(User user, UserLevel previousLevel) {
-        UserLevel currentLevel = user.getCurrentLevel();
-        
-        // 레벨이 올라갔는지 확인
-        if (currentLevel != previousLevel) {
-            String message = String.format("🎉 축하합니다! %s에서 %s로 레벨업했습니다!", 
-                previousLevel.getDisplayName(), currentLevel.getDisplayName());
-            
-            notificationService.createNotification(
-                user,
-                message,
-                NotificationType.LEVEL_UP,
-                "USER",
-                user.getId(),
-                null
-            );
-            
-            log.info("User {} leveled up from {} to {}", 
-                user.getNickname(), previousLevel.getDisplayName(), currentLevel.getDisplayName());
-        }
+    public CursorPageResponseDto<PointHistory> getUserPointHistoryFeed(Long userId, String cursor, int size) {
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, "LATEST");
+        List<PointHistory> rows = pointHistoryRepository.findCreatedBefore(userId,
+                KeysetCursor.timeBefore(after), KeysetCursor.idBefore(after), PageRequest.of(0, limit + 1));
+        return CursorPageResponseDto.of(rows, limit,
+                h -> KeysetCursor.encode("LATEST", h.getCreatedAt(), h.getId()), h -> h);
     }
 
     /**
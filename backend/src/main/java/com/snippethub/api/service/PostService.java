@@ -3,20 +3,39 @@ package com.snippethub.api.service;
 import com.snippethub.api.domain.Post;
 import com.snippethub.api.domain.Tag;
 import com.snippethub.api.domain.User;
+import com.snippethub.api.dto.CursorPageResponseDto;
+import com.snippethub.api.dto.RawJson;
 import com.snippethub.api.dto.post.PostCreateRequestDto;
+import com.snippethub.api.dto.post.PostResponseDto;
 import com.snippethub.api.dto.post.PostUpdateRequestDto;
+import com.snippethub.api.event.PostCreatedEvent;
+import com.snippethub.api.event.SearchDocumentChangedEvent;
 import com.snippethub.api.exception.BusinessException;
 import com.snippethub.api.exception.ErrorCode;
 import com.snippethub.api.repository.PostRepository;
 import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.search.SearchDocument;
+import com.snippethub.api.search.SearchIndex;
+import com.snippethub.api.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -25,8 +44,10 @@ public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final TagService tagService;
-    private final PointService pointService;
-    private final BadgeService badgeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchIndex searchIndex;
+    private final ViewCounter viewCounter;
+    private final DetailCache detailCache;
 
     @Transactional
     public Post createPost(PostCreateRequestDto requestDto, String email) {
@@ -47,30 +68,76 @@ public class PostService {
         }
 
         Post savedPost = postRepository.save(post);
-        
-        // 포인트 지급 및 뱃지 체크
-        try {
-            pointService.awardPointsForPost(author.getId(), savedPost.getId());
-            badgeService.checkAndAwardBadges(author.getId());
-        } catch (Exception e) {
-            // 포인트/뱃지 시스템 오류가 게시글 작성에 영향을 주지 않도록 처리
-            System.err.println("포인트/뱃지 시스템 오류: " + e.getMessage());
-        }
+
+        // 포인트 지급은 커밋 후 비동기 처리
+        eventPublisher.publishEvent(new PostCreatedEvent(savedPost.getId(), author.getId()));
+        eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocument.Type.POST, savedPost.getId()));
 
         return savedPost;
     }
 
-    @Transactional
+    /**
+     * 상세 조회 (읽기 전용, 조회수는 ViewCounter 가 모아서 반영)
+     */
     public Post getPost(Long postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        viewCounter.record(ViewCounter.Target.POST, postId);
         return post;
     }
 
+    /**
+     * 상세 응답 JSON. 캐시에 없을 때만 엔티티를 읽어 직렬화한다.
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다 (연관 로딩은 요청 범위 영속성 컨텍스트에서 처리).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RawJson getPostDetail(Long postId) {
+        RawJson detail = detailCache.get(DetailCache.Kind.POST, postId, () -> new PostResponseDto(
+                postRepository.findById(postId).orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND))));
+        viewCounter.record(ViewCounter.Target.POST, postId);
+        return detail;
+    }
+
+    /**
+     * 커서 기반 목록 (LATEST 최신순, POPULAR 인기순).
+     */
+    public CursorPageResponseDto<PostResponseDto> getPostFeed(String sort, String category, String cursor, int size) {
+        if (category != null && category.isBlank()) {
+            category = null;
+        }
+        int limit = KeysetCursor.clampSize(size);
+        Pageable fetch = PageRequest.of(0, limit + 1);
+        if ("POPULAR".equals(sort)) {
+            KeysetCursor after = KeysetCursor.decode(cursor, "POPULAR");
+            List<Post> rows = category == null
+                    ? postRepository.findLikedBelow(KeysetCursor.intBefore(after), KeysetCursor.idBefore(after), fetch)
+                    : postRepository.findInCategoryLikedBelow(category,
+                            KeysetCursor.intBefore(after), KeysetCursor.idBefore(after), fetch);
+            return CursorPageResponseDto.of(rows, limit,
+                    p -> KeysetCursor.encode("POPULAR", p.getLikeCount(), p.getId()), PostResponseDto::new);
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor, "LATEST");
+        List<Post> rows = category == null
+                ? postRepository.findCreatedBefore(KeysetCursor.timeBefore(after), KeysetCursor.idBefore(after), fetch)
+                : postRepository.findInCategoryCreatedBefore(category,
+                        KeysetCursor.timeBefore(after), KeysetCursor.idBefore(after), fetch);
+        return CursorPageResponseDto.of(rows, limit,
+                p -> KeysetCursor.encode("LATEST", p.getCreatedAt(), p.getId()), PostResponseDto::new);
+    }
+
+    /**
+     * 검색어가 있으면 전문 검색 색인에서 관련도순으로, 색인을 쓸 수 없으면 제목 LIKE 검색으로 조회한다.
+     */
     public Page<Post> getPosts(Pageable pageable, String category, String search) {
         if (search != null && search.trim().isEmpty()) {
             search = null;
         }
+        SearchIndex.Hits hits = search != null ? searchHits(search, category, pageable) : null;
+        if (hits != null) {
+            List<Post> posts = hits.getIds().isEmpty() ? new ArrayList<>()
+                    : inHitOrder(postRepository.findAllById(hits.getIds()), hits.getIds());
+            return new PageImpl<>(posts, pageable, hits.getTotal());
+        }
         if (category != null && search != null) {
             return postRepository.findByCategoryAndTitleContainingIgnoreCase(category, search, pageable);
         } else if (category != null) {
@@ -82,6 +149,22 @@ public class PostService {
         }
     }
 
+    /**
+     * 색인 검색 결과. 색인이 준비되지 않았거나 읽다 실패하면 null 을 돌려 호출부가 제목 LIKE 검색으로 대신하게 한다.
+     */
+    private SearchIndex.Hits searchHits(String search, String category, Pageable pageable) {
+        if (!searchIndex.isReady()) {
+            return null;
+        }
+        try {
+            return searchIndex.search(SearchDocument.Type.POST, search, category,
+                    pageable.getOffset(), pageable.getPageSize());
+        } catch (UncheckedIOException e) {
+            log.warn("게시글 검색 색인 조회 실패, 제목 LIKE 검색으로 대신합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
     @Transactional
     public Post updatePost(Long postId, PostUpdateRequestDto requestDto, String email) {
         User user = userRepository.findByEmail(email)
@@ -101,6 +184,7 @@ public class PostService {
             post.getTags().addAll(tags);
         }
 
+        eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocument.Type.POST, postId));
         return post;
     }
 
@@ -116,5 +200,18 @@ public class PostService {
         }
 
         postRepository.delete(post);
+        eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocument.Type.POST, postId));
+    }
+
+    private static List<Post> inHitOrder(List<Post> posts, List<Long> ids) {
+        Map<Long, Post> byId = posts.stream().collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Post post = byId.get(id);
+            if (post != null) { // 색인 반영 전에 삭제된 게시글은 건너뜀
+                ordered.add(post);
+            }
+        }
+        return ordered;
     }
 }
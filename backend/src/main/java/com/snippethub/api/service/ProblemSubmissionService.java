@@ -4,22 +4,28 @@ import com.snippethub.api.domain.Problem;
 import com.snippethub.api.domain.ProblemSubmission;
 import com.snippethub.api.domain.SubmissionStatus;
 import com.snippethub.api.domain.User;
+import com.snippethub.api.dto.CursorPageResponseDto;
 import com.snippethub.api.dto.ExecutionRequest;
 import com.snippethub.api.dto.ExecutionResponse;
 import com.snippethub.api.dto.problem.ProblemSubmissionRequestDto;
 import com.snippethub.api.dto.problem.ProblemSubmissionResponseDto;
+import com.snippethub.api.event.ProblemSolvedEvent;
 import com.snippethub.api.exception.BusinessException;
 import com.snippethub.api.exception.ErrorCode;
 import com.snippethub.api.repository.ProblemRepository;
 import com.snippethub.api.repository.ProblemSubmissionRepository;
 import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -32,7 +38,7 @@ public class ProblemSubmissionService {
     private final ProblemRepository problemRepository;
     private final UserRepository userRepository;
     private final ExecutionService executionService;
-    private final PointService pointService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 코드 제출 처리
@@ -76,14 +82,10 @@ public class ProblemSubmissionService {
         // 문제 통계 업데이트
         problem.incrementSubmissions(result.getStatus() == SubmissionStatus.ACCEPTED);
 
-        // 포인트 지급 (정답인 경우)
+        // 포인트 지급 (정답인 경우, 커밋 후 비동기 처리)
         if (result.getStatus() == SubmissionStatus.ACCEPTED) {
-            try {
-                pointService.awardPointsForProblemSolved(userId, problem.getDifficulty(), savedSubmission.getId());
-            } catch (Exception e) {
-                // 포인트 시스템 오류가 제출에 영향을 주지 않도록 처리
-                log.error("포인트 지급 중 오류 발생: {}", e.getMessage());
-            }
+            eventPublisher.publishEvent(new ProblemSolvedEvent(
+                    savedSubmission.getId(), userId, problem.getId(), problem.getDifficulty()));
         }
 
         log.info("사용자 {}가 문제 {}에 코드를 제출했습니다. 결과: {}", 
@@ -118,6 +120,18 @@ public class ProblemSubmissionService {
         return submissions.map(ProblemSubmissionResponseDto::new);
     }
 
+    /**
+     * 사용자의 제출 이력 커서 페이지 (최신순)
+     */
+    public CursorPageResponseDto<ProblemSubmissionResponseDto> getUserSubmissionFeed(Long userId, String cursor, int size) {
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, "LATEST");
+        List<ProblemSubmission> rows = submissionRepository.findSubmittedBefore(userId,
+                KeysetCursor.timeBefore(after), KeysetCursor.idBefore(after), PageRequest.of(0, limit + 1));
+        return CursorPageResponseDto.of(rows, limit,
+                s -> KeysetCursor.encode("LATEST", s.getSubmittedAt(), s.getId()), ProblemSubmissionResponseDto::new);
+    }
+
     /**
      * 특정 문제의 사용자 제출 이력 조회
      */
@@ -4,22 +4,44 @@ import com.snippethub.api.domain.File;
 import com.snippethub.api.domain.Snippet;
 import com.snippethub.api.domain.Tag;
 import com.snippethub.api.domain.User;
+import com.snippethub.api.dto.CursorPageResponseDto;
+import com.snippethub.api.dto.RawJson;
+import com.snippethub.api.dto.snippet.CodeSearchResponseDto;
 import com.snippethub.api.dto.snippet.SnippetCreateRequestDto;
+import com.snippethub.api.dto.snippet.SnippetResponseDto;
+import com.snippethub.api.dto.snippet.SnippetSummaryDto;
 import com.snippethub.api.dto.snippet.SnippetUpdateRequestDto;
+import com.snippethub.api.event.SearchDocumentChangedEvent;
+import com.snippethub.api.event.SnippetCreatedEvent;
 import com.snippethub.api.exception.BusinessException;
 import com.snippethub.api.exception.ErrorCode;
 import com.snippethub.api.repository.SnippetRepository;
 import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.search.CodeSearchIndex;
+import com.snippethub.api.search.SearchDocument;
+import com.snippethub.api.search.SearchIndex;
+import com.snippethub.api.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -29,8 +51,12 @@ public class SnippetService {
     private final UserRepository userRepository;
     private final FileService fileService;
     private final TagService tagService;
-    private final PointService pointService;
-    private final BadgeService badgeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchIndex searchIndex;
+    private final CodeSearchIndex codeSearchIndex;
+    private final ViewCounter viewCounter;
+    private final DetailCache detailCache;
+    private final TagStatistics tagStatistics;
 
     @Transactional
     public Snippet createSnippet(SnippetCreateRequestDto requestDto, String email) {
@@ -77,14 +103,9 @@ public class SnippetService {
                 System.out.println("파일 업로드 완료");
             }
 
-            // 포인트 지급 및 뱃지 체크
-            try {
-                pointService.awardPointsForSnippet(author.getId(), savedSnippet.getId());
-                badgeService.checkAndAwardBadges(author.getId());
-            } catch (Exception e) {
-                // 포인트/뱃지 시스템 오류가 스니펫 작성에 영향을 주지 않도록 처리
-                System.err.println("포인트/뱃지 시스템 오류: " + e.getMessage());
-            }
+            // 포인트 지급은 커밋 후 비동기 처리
+            eventPublisher.publishEvent(new SnippetCreatedEvent(savedSnippet.getId(), author.getId()));
+            eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocument.Type.SNIPPET, savedSnippet.getId()));
 
             System.out.println("=== 스니펫 생성 서비스 완료 ===");
             return savedSnippet;
@@ -97,14 +118,28 @@ public class SnippetService {
         }
     }
 
-    @Transactional
+    /**
+     * 상세 조회 (읽기 전용, 조회수는 ViewCounter 가 모아서 반영)
+     */
     public Snippet getSnippet(Long snippetId) {
         Snippet snippet = snippetRepository.findById(snippetId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SNIPPET_NOT_FOUND));
-        snippet.increaseViewCount();
+        viewCounter.record(ViewCounter.Target.SNIPPET, snippetId);
         return snippet;
     }
 
+    /**
+     * 상세 응답 JSON. 캐시에 없을 때만 엔티티를 읽어 직렬화한다.
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다 (연관 로딩은 요청 범위 영속성 컨텍스트에서 처리).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RawJson getSnippetDetail(Long snippetId) {
+        RawJson detail = detailCache.get(DetailCache.Kind.SNIPPET, snippetId, () -> new SnippetResponseDto(
+                snippetRepository.findById(snippetId).orElseThrow(() -> new BusinessException(ErrorCode.SNIPPET_NOT_FOUND))));
+        viewCounter.record(ViewCounter.Target.SNIPPET, snippetId);
+        return detail;
+    }
+
     public Page<Snippet> getSnippets(Pageable pageable, String language, String search) {
         // 검색어가 비어있거나 null인 경우 처리
         if (search != null && search.trim().isEmpty()) {
@@ -126,6 +161,134 @@ public class SnippetService {
         }
     }
 
+    /**
+     * 목록용 요약 조회: 요약 한 번 + 페이지 전체 태그 한 번 (본문/작성자/태그 지연 로딩 없음).
+     * 검색어가 있으면 전문 검색 색인에서 관련도순 ID 를 받아오고, 색인을 쓸 수 없으면 제목 LIKE 검색으로 대신한다.
+     */
+    public Page<SnippetSummaryDto> getSnippetSummaries(Pageable pageable, String language, String search) {
+        if (search != null && search.trim().isEmpty()) {
+            search = null;
+        }
+        SearchIndex.Hits hits = search != null ? searchHits(search, language, pageable) : null;
+        if (hits != null) {
+            List<SnippetSummaryDto> summaries = hits.getIds().isEmpty() ? new ArrayList<>()
+                    : inHitOrder(snippetRepository.findSummariesByIds(hits.getIds()), hits.getIds());
+            attachTags(summaries);
+            return new PageImpl<>(summaries, pageable, hits.getTotal());
+        }
+        Page<SnippetSummaryDto> page = snippetRepository.findSummaries(language, search, pageable);
+        attachTags(page.getContent());
+        return page;
+    }
+
+    /**
+     * 색인 검색 결과. 색인이 준비되지 않았거나 읽다 실패하면 null 을 돌려 호출부가 제목 LIKE 검색으로 대신하게 한다.
+     */
+    private SearchIndex.Hits searchHits(String search, String language, Pageable pageable) {
+        if (!searchIndex.isReady()) {
+            return null;
+        }
+        try {
+            return searchIndex.search(SearchDocument.Type.SNIPPET, search, language,
+                    pageable.getOffset(), pageable.getPageSize());
+        } catch (UncheckedIOException e) {
+            log.warn("스니펫 검색 색인 조회 실패, 제목 LIKE 검색으로 대신합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 커서 기반 목록 (LATEST 최신순, POPULAR 인기순). 깊이 스크롤해도 첫 페이지와 비용이 같다. 인기순은 스크롤 중 좋아요 수가 바뀐 스니펫이 빠지거나 겹칠 수 있다.
+     */
+    public CursorPageResponseDto<SnippetSummaryDto> getSnippetFeed(String sort, String language, String cursor, int size) {
+        if (language != null && language.isBlank()) {
+            language = null;
+        }
+        int limit = KeysetCursor.clampSize(size);
+        Pageable fetch = PageRequest.of(0, limit + 1);
+        CursorPageResponseDto<SnippetSummaryDto> page;
+        if ("POPULAR".equals(sort)) {
+            KeysetCursor after = KeysetCursor.decode(cursor, "POPULAR");
+            List<SnippetSummaryDto> rows = language == null
+                    ? snippetRepository.findSummariesLikedBelow(KeysetCursor.intBefore(after), KeysetCursor.idBefore(after), fetch)
+                    : snippetRepository.findSummariesInLanguageLikedBelow(language,
+                            KeysetCursor.intBefore(after), KeysetCursor.idBefore(after), fetch);
+            page = CursorPageResponseDto.of(rows, limit,
+                    s -> KeysetCursor.encode("POPULAR", s.getLikeCount(), s.getSnippetId()), Function.identity());
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor, "LATEST");
+            List<SnippetSummaryDto> rows = language == null
+                    ? snippetRepository.findSummariesCreatedBefore(KeysetCursor.timeBefore(after), KeysetCursor.idBefore(after), fetch)
+                    : snippetRepository.findSummariesInLanguageCreatedBefore(language,
+                            KeysetCursor.timeBefore(after), KeysetCursor.idBefore(after), fetch);
+            page = CursorPageResponseDto.of(rows, limit,
+                    s -> KeysetCursor.encode("LATEST", s.getCreatedAt(), s.getSnippetId()), Function.identity());
+        }
+        attachTags(page.getContent());
+        return page;
+    }
+
+    /**
+     * 태그가 붙은 공개 스니펫 (최신순 커서 목록). 스니펫 ID 는 태그 통계의 최근 목록에서, 오래된 페이지는 DB 에서 찾는다.
+     */
+    public CursorPageResponseDto<SnippetSummaryDto> getTaggedSnippetFeed(String tag, String cursor, int size) {
+        if (tag == null || tag.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, "TAG");
+        List<Long> ids = tagStatistics.getTaggedSnippetIds(tag.trim(), KeysetCursor.idBefore(after), limit + 1);
+        CursorPageResponseDto<Long> page = CursorPageResponseDto.of(ids, limit,
+                id -> KeysetCursor.encode("TAG", id, id), Function.identity());
+        List<SnippetSummaryDto> summaries = page.getContent().isEmpty() ? new ArrayList<>()
+                : inHitOrder(snippetRepository.findSummariesByIds(page.getContent()), page.getContent());
+        attachTags(summaries);
+        return new CursorPageResponseDto<>(summaries, page.getNextCursor());
+    }
+
+    /**
+     * 코드 본문 검색 (trigram 색인으로 후보를 좁히고 원문으로 확인, 최신순)
+     */
+    public CodeSearchResponseDto searchCode(String query, boolean regex, boolean ignoreCase, String language,
+                                            int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        long offset = (long) page * size;
+        CodeSearchIndex.Result result = codeSearchIndex.search(query, regex, ignoreCase, language, offset, size);
+        List<SnippetSummaryDto> summaries = result.getSnippetIds().isEmpty() ? new ArrayList<>()
+                : inHitOrder(snippetRepository.findSummariesByIds(result.getSnippetIds()), result.getSnippetIds());
+        attachTags(summaries);
+        return new CodeSearchResponseDto(summaries, page, size, result);
+    }
+
+    private static List<SnippetSummaryDto> inHitOrder(List<SnippetSummaryDto> summaries, List<Long> ids) {
+        Map<Long, SnippetSummaryDto> byId = summaries.stream()
+                .collect(Collectors.toMap(SnippetSummaryDto::getSnippetId, Function.identity()));
+        List<SnippetSummaryDto> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            SnippetSummaryDto summary = byId.get(id);
+            if (summary != null) { // 색인 반영 전에 삭제된 스니펫은 건너뜀
+                ordered.add(summary);
+            }
+        }
+        return ordered;
+    }
+
+    private void attachTags(List<SnippetSummaryDto> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> tagsBySnippet = new HashMap<>();
+        List<Long> ids = summaries.stream().map(SnippetSummaryDto::getSnippetId).collect(Collectors.toList());
+        for (Object[] row : snippetRepository.findTagNamesBySnippetIds(ids)) {
+            tagsBySnippet.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        for (SnippetSummaryDto summary : summaries) {
+            summary.attachTags(tagsBySnippet.getOrDefault(summary.getSnippetId(), List.of()));
+        }
+    }
+
     @Transactional
     public Snippet updateSnippet(Long snippetId, SnippetUpdateRequestDto requestDto, String email) {
         User user = userRepository.findByEmail(email)
@@ -147,6 +310,7 @@ public class SnippetService {
 
         // TODO: Handle file updates (add/remove)
 
+        eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocument.Type.SNIPPET, snippetId));
         return snippet;
     }
 
@@ -167,6 +331,7 @@ public class SnippetService {
             
             // 스니펫 삭제
             snippetRepository.delete(snippet);
+            eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocument.Type.SNIPPET, snippetId));
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.SNIPPET_DELETE_FAILED);
         }
@@ -3,24 +3,166 @@ package com.snippethub.api.service;
 import com.snippethub.api.domain.Tag;
 import com.snippethub.api.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 태그 이름 → 엔티티 변환.
+ * 자주 쓰는 태그는 이름 → ID 를 메모리에 두고 프록시 참조(getReferenceById)로 돌려줘 조회 없이 연결하고,
+ * 나머지는 IN 조회 한 번, 없는 태그는 INSERT IGNORE 한 번으로 만든다 (같은 태그를 동시에 만들어도 유니크 키로 하나만 남음).
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class TagService {
 
+    public static final int MAX_NAME_LENGTH = 50;
+
     private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${tags.cache-max-entries:50000}")
+    private int cacheMaxEntries = 50000;
+
+    // 소문자 이름 → ID. 태그는 삭제하지 않으므로 만료 없이 두고, 가득 차면 더 넣지 않는다
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
 
+    /**
+     * 이름 목록에 해당하는 태그 (없으면 생성). 공백은 다듬고, 빈 이름과 대소문자만 다른 중복은 합친다.
+     */
     @Transactional
     public List<Tag> findOrCreateTags(List<String> tagNames) {
-        return tagNames.stream()
-                .map(tagName -> tagRepository.findByName(tagName)
-                        .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build())))
-                .collect(Collectors.toList());
+        Map<String, String> wanted = normalize(tagNames);
+        if (wanted.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Tag> resolved = new HashMap<>();
+        List<String> unknown = new ArrayList<>();
+        wanted.forEach((key, name) -> {
+            Long id = idsByName.get(key);
+            if (id != null) {
+                resolved.put(key, tagRepository.getReferenceById(id));
+            } else {
+                unknown.add(name);
+            }
+        });
+
+        if (!unknown.isEmpty()) {
+            Map<String, Long> found = new HashMap<>();
+            for (Tag tag : tagRepository.findByNameIn(unknown)) {
+                resolved.put(key(tag.getName()), tag);
+                found.put(key(tag.getName()), tag.getId());
+            }
+            List<String> missing = new ArrayList<>();
+            for (String name : unknown) {
+                if (!resolved.containsKey(key(name))) {
+                    missing.add(name);
+                }
+            }
+            if (!missing.isEmpty()) {
+                // 요청마다 같은 순서로 잠가야 서로 다른 순서로 태그를 만드는 요청끼리 교착되지 않는다
+                missing.sort(Comparator.comparing(TagService::key));
+                insertIgnore(missing);
+                for (Tag tag : tagRepository.findByNameInForShare(missing)) {
+                    resolved.put(key(tag.getName()), tag);
+                    found.put(key(tag.getName()), tag.getId());
+                }
+            }
+            rememberAfterCommit(found);
+        }
+
+        List<Tag> tags = new ArrayList<>(wanted.size());
+        for (String key : wanted.keySet()) {
+            Tag tag = resolved.get(key);
+            if (tag != null) {
+                tags.add(tag);
+            }
+        }
+        if (tags.size() < wanted.size()) {
+            log.warn("태그 이름을 찾지 못함 (collation 차이 등): {}", wanted.values());
+        }
+        return tags;
+    }
+
+    public int getCachedCount() {
+        return idsByName.size();
+    }
+
+    private void insertIgnore(List<String> names) {
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "(?)"));
+        int inserted = jdbcTemplate.update("INSERT IGNORE INTO tags (name) VALUES " + placeholders, names.toArray());
+        if (inserted < names.size()) {
+            log.debug("태그 {}개 중 {}개는 다른 요청이 먼저 생성함", names.size(), names.size() - inserted);
+        }
+    }
+
+    /**
+     * 롤백되면 새로 만든 태그가 사라지므로 ID 는 커밋된 뒤에만 캐시한다
+     */
+    private void rememberAfterCommit(Map<String, Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(ids);
+            }
+        });
+    }
+
+    private void remember(Map<String, Long> ids) {
+        ids.forEach((key, id) -> {
+            if (idsByName.size() < cacheMaxEntries) {
+                idsByName.put(key, id);
+            }
+        });
+    }
+
+    /**
+     * 소문자 키 → 처음 나온 표기 (입력 순서 유지). 컬럼 길이를 넘는 이름은 자른다.
+     */
+    private static Map<String, String> normalize(List<String> tagNames) {
+        Map<String, String> wanted = new LinkedHashMap<>();
+        if (tagNames == null) {
+            return wanted;
+        }
+        for (String tagName : tagNames) {
+            if (tagName == null || tagName.isBlank()) {
+                continue;
+            }
+            String name = tagName.trim();
+            if (name.length() > MAX_NAME_LENGTH) {
+                name = name.substring(0, MAX_NAME_LENGTH);
+            }
+            wanted.putIfAbsent(key(name), name);
+        }
+        return wanted;
+    }
+
+    // DB 의 기본 collation 이 대소문자를 구분하지 않으므로 같은 기준으로 맞춘다
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,430 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.event.DomainEventRetrier;
+import com.snippethub.api.event.SearchDocumentChangedEvent;
+import com.snippethub.api.search.SearchDocument;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그별 사용 수와 최근 스니펫 목록.
+ * 태그 클라우드와 태그별 스니펫 목록을 요청마다 snippet_tags 를 조인/집계하지 않고 메모리에서 응답한다.
+ * 스니펫/게시글 생성, 수정, 삭제 이벤트가 오면 그 문서의 태그만 다시 읽어 이전 태그와의 차이를 반영하고,
+ * 주기적으로 DB 에서 전체를 다시 세어 어긋난 값을 바로잡는다. 비공개 스니펫은 태그가 없는 것으로 센다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagStatistics {
+
+    private static final String HANDLER = "tag-stats";
+
+    private static final String SELECT_SNIPPET_TAGS_SQL =
+            "SELECT st.snippet_id, t.id, t.name FROM snippet_tags st JOIN tags t ON t.id = st.tag_id " +
+            "JOIN snippets s ON s.id = st.snippet_id WHERE s.is_public = true AND ";
+    private static final String SELECT_POST_TAGS_SQL =
+            "SELECT pt.post_id, t.id, t.name FROM post_tags pt JOIN tags t ON t.id = pt.tag_id WHERE ";
+    private static final String SELECT_TAGGED_SNIPPETS_SQL =
+            "SELECT st.snippet_id FROM snippet_tags st JOIN tags t ON t.id = st.tag_id " +
+            "JOIN snippets s ON s.id = st.snippet_id " +
+            "WHERE t.name = ? AND st.snippet_id < ? AND s.is_public = true ORDER BY st.snippet_id DESC LIMIT ?";
+    private static final String SELECT_CLOUD_SQL =
+            "SELECT t.name, " +
+            "(SELECT COUNT(*) FROM snippet_tags st JOIN snippets s ON s.id = st.snippet_id " +
+            "WHERE st.tag_id = t.id AND s.is_public = true) AS snippet_count, " +
+            "(SELECT COUNT(*) FROM post_tags pt WHERE pt.tag_id = t.id) AS post_count " +
+            "FROM tags t HAVING snippet_count + post_count > 0 " +
+            "ORDER BY snippet_count + post_count DESC, t.name LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventRetrier retrier;
+
+    // 태그마다 메모리에 둘 최근 스니펫 수. 더 오래된 페이지는 DB 에서 읽는다
+    @Value("${tag-stats.recent-per-tag:500}")
+    private int recentPerTag = 500;
+
+    // 재집계 시 한 번에 읽을 문서 ID 범위
+    @Value("${tag-stats.build-batch-size:10000}")
+    private int buildBatchSize = 10000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Counts counts = new Counts(500);
+    // 재집계 중에 들어온 변경 (문서 ID → 현재 태그, 없으면 빈 맵). 새 집계로 교체하기 전에 다시 적용
+    private Map<Long, Map<Long, String>> pendingSnippets;
+    private Map<Long, Map<Long, String>> pendingPosts;
+    private volatile boolean ready;
+
+    @PostConstruct
+    void registerReplays() {
+        retrier.registerReplay(HANDLER, SearchDocumentChangedEvent.class, this::onDocumentChanged);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 사용 수(스니펫 + 게시글) 상위 limit 개 태그. 첫 집계 전에는 DB 에서 센다.
+     */
+    public List<TagCount> getTagCloud(int limit) {
+        if (!ready) {
+            return jdbcTemplate.query(SELECT_CLOUD_SQL, (rs, rowNum) -> new TagCount(
+                    rs.getString("name"), rs.getInt("snippet_count"), rs.getInt("post_count")), limit);
+        }
+        // 상위 limit 개만 남기는 최소 힙 (사용 수가 같으면 이름순)
+        Comparator<TagEntry> order = Comparator.comparingInt(TagEntry::total)
+                .thenComparing(entry -> entry.name, Comparator.reverseOrder());
+        PriorityQueue<TagEntry> top = new PriorityQueue<>(order);
+        List<TagCount> cloud = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (TagEntry entry : counts.tags.values()) {
+                if (entry.total() == 0) {
+                    continue;
+                }
+                top.add(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            while (!top.isEmpty()) {
+                TagEntry entry = top.poll();
+                cloud.add(new TagCount(entry.name, entry.snippetCount, entry.postCount));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Collections.reverse(cloud);
+        return cloud;
+    }
+
+    /**
+     * 태그가 붙은 공개 스니펫 ID (최신순) 중 beforeId 보다 작은 것 limit 건.
+     * 메모리의 최근 목록으로 채울 수 있으면 그대로 쓰고, 목록보다 오래된 페이지이거나 첫 집계 전이면 DB 에서 읽는다.
+     */
+    public List<Long> getTaggedSnippetIds(String name, long beforeId, int limit) {
+        if (ready) {
+            lock.readLock().lock();
+            try {
+                TagEntry entry = counts.byName(name);
+                if (entry == null) {
+                    return new ArrayList<>();
+                }
+                List<Long> ids = new ArrayList<>(limit);
+                for (Long id : entry.recentSnippets.tailSet(beforeId, false)) {
+                    if (ids.size() == limit) {
+                        break;
+                    }
+                    ids.add(id);
+                }
+                if (ids.size() == limit || entry.coveredFrom == 0) {
+                    return ids;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return jdbcTemplate.queryForList(SELECT_TAGGED_SNIPPETS_SQL, Long.class, name, beforeId, limit);
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDocumentChanged(SearchDocumentChangedEvent event) {
+        retrier.execute(HANDLER, event, () -> {
+            if (event.getType() == SearchDocument.Type.SNIPPET) {
+                applySnippet(event.getId(), readTags(SELECT_SNIPPET_TAGS_SQL + "st.snippet_id = ?", event.getId()));
+            } else {
+                applyPost(event.getId(), readTags(SELECT_POST_TAGS_SQL + "pt.post_id = ?", event.getId()));
+            }
+        });
+    }
+
+    private Map<Long, String> readTags(String sql, Long documentId) {
+        Map<Long, String> tags = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> tags.put(rs.getLong(2), rs.getString(3)), documentId);
+        return tags;
+    }
+
+    /**
+     * 스니펫의 현재 태그 반영 (삭제되었거나 비공개면 빈 맵)
+     */
+    public void applySnippet(Long snippetId, Map<Long, String> tags) {
+        lock.writeLock().lock();
+        try {
+            counts.applySnippet(snippetId, tags);
+            if (pendingSnippets != null) {
+                pendingSnippets.put(snippetId, tags);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글의 현재 태그 반영 (삭제되었으면 빈 맵)
+     */
+    public void applyPost(Long postId, Map<Long, String> tags) {
+        lock.writeLock().lock();
+        try {
+            counts.applyPost(postId, tags);
+            if (pendingPosts != null) {
+                pendingPosts.put(postId, tags);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Async("domainEventExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        reconcile();
+    }
+
+    /**
+     * DB 의 전체 태그 사용을 문서 ID 범위별로 다시 읽어 새 집계를 만들고 교체한다.
+     * 만드는 동안의 변경은 새 집계에 다시 적용한다. 증분 집계와 어긋났던 태그 수를 돌려준다.
+     */
+    @Scheduled(fixedDelayString = "${tag-stats.reconcile-interval-ms:3600000}",
+               initialDelayString = "${tag-stats.reconcile-interval-ms:3600000}")
+    public synchronized int reconcile() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingSnippets = new LinkedHashMap<>();
+            pendingPosts = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Counts rebuilt = new Counts(recentPerTag);
+        try {
+            // 문서 ID 오름차순으로 넣어야 최근 목록이 가장 큰 ID 들로 채워진다
+            scan("snippets", SELECT_SNIPPET_TAGS_SQL + "st.snippet_id > ? AND st.snippet_id <= ?", rebuilt::applySnippet);
+            scan("posts", SELECT_POST_TAGS_SQL + "pt.post_id > ? AND pt.post_id <= ?", rebuilt::applyPost);
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                pendingSnippets = null;
+                pendingPosts = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("태그 통계 재집계 실패: {}", e.getMessage());
+            return 0;
+        }
+
+        int drifted;
+        lock.writeLock().lock();
+        try {
+            pendingSnippets.forEach(rebuilt::applySnippet);
+            pendingPosts.forEach(rebuilt::applyPost);
+            pendingSnippets = null;
+            pendingPosts = null;
+            drifted = ready ? counts.countDrift(rebuilt) : 0;
+            counts = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (drifted > 0) {
+            log.warn("태그 통계 재집계 - 증분 집계와 어긋난 태그 {}개를 바로잡음", drifted);
+        }
+        log.info("태그 통계 재집계 - 태그 {}개, {}ms", rebuilt.tags.size(), System.currentTimeMillis() - startedAt);
+        return drifted;
+    }
+
+    /**
+     * 문서 ID 를 buildBatchSize 범위씩 나눠 읽는다. LIMIT 대신 ID 범위로 나누므로 한 문서의 태그가 두 묶음에 걸치지 않는다.
+     */
+    private void scan(String table, String rangeSql, DocumentTags consumer) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        for (long from = 0; from < maxId; from += buildBatchSize) {
+            Map<Long, Map<Long, String>> batch = new HashMap<>();
+            jdbcTemplate.query(rangeSql, (RowCallbackHandler) rs -> batch
+                    .computeIfAbsent(rs.getLong(1), id -> new HashMap<>())
+                    .put(rs.getLong(2), rs.getString(3)), from, from + buildBatchSize);
+            List<Long> ids = new ArrayList<>(batch.keySet());
+            Collections.sort(ids);
+            for (Long id : ids) {
+                consumer.accept(id, batch.get(id));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface DocumentTags {
+        void accept(Long documentId, Map<Long, String> tags);
+    }
+
+    /**
+     * 태그 사용 수
+     */
+    @Getter
+    public static class TagCount {
+
+        private final String name;
+        private final int snippetCount;
+        private final int postCount;
+
+        public TagCount(String name, int snippetCount, int postCount) {
+            this.name = name;
+            this.snippetCount = snippetCount;
+            this.postCount = postCount;
+        }
+    }
+
+    private static final class TagEntry {
+        private final long id;
+        private final String name;
+        private int snippetCount;
+        private int postCount;
+        // 최신(큰 ID)순 최근 스니펫. coveredFrom 이상인 스니펫은 빠짐없이 들어 있다 (0 이면 전부)
+        private final TreeSet<Long> recentSnippets = new TreeSet<>(Comparator.reverseOrder());
+        private long coveredFrom;
+
+        private TagEntry(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        private int total() {
+            return snippetCount + postCount;
+        }
+    }
+
+    /**
+     * 집계 본체 (잠금은 바깥에서 건다)
+     */
+    private static final class Counts {
+        private final int recentPerTag;
+        private final Map<Long, TagEntry> tags = new HashMap<>();
+        private final Map<String, TagEntry> tagsByName = new HashMap<>();
+        // 문서별 현재 태그 ID (정렬됨). 변경 시 이전 태그와의 차이만 반영한다
+        private final Map<Long, long[]> snippetTags = new HashMap<>();
+        private final Map<Long, long[]> postTags = new HashMap<>();
+
+        private Counts(int recentPerTag) {
+            this.recentPerTag = recentPerTag;
+        }
+
+        private TagEntry entry(long id, String name) {
+            return tags.computeIfAbsent(id, key -> {
+                TagEntry entry = new TagEntry(key, name);
+                tagsByName.put(name.toLowerCase(Locale.ROOT), entry);
+                return entry;
+            });
+        }
+
+        private TagEntry byName(String name) {
+            return tagsByName.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        private void applySnippet(Long snippetId, Map<Long, String> current) {
+            long[] before = snippetTags.getOrDefault(snippetId, new long[0]);
+            long[] after = sortedIds(current);
+            for (long tagId : before) {
+                if (Arrays.binarySearch(after, tagId) < 0) {
+                    TagEntry entry = tags.get(tagId);
+                    entry.snippetCount--;
+                    entry.recentSnippets.remove(snippetId);
+                }
+            }
+            for (long tagId : after) {
+                if (Arrays.binarySearch(before, tagId) < 0) {
+                    TagEntry entry = entry(tagId, current.get(tagId));
+                    entry.snippetCount++;
+                    if (snippetId >= entry.coveredFrom) {
+                        entry.recentSnippets.add(snippetId);
+                        if (entry.recentSnippets.size() > recentPerTag) {
+                            entry.coveredFrom = entry.recentSnippets.pollLast() + 1;
+                        }
+                    }
+                }
+            }
+            put(snippetTags, snippetId, after);
+        }
+
+        private void applyPost(Long postId, Map<Long, String> current) {
+            long[] before = postTags.getOrDefault(postId, new long[0]);
+            long[] after = sortedIds(current);
+            for (long tagId : before) {
+                if (Arrays.binarySearch(after, tagId) < 0) {
+                    tags.get(tagId).postCount--;
+                }
+            }
+            for (long tagId : after) {
+                if (Arrays.binarySearch(before, tagId) < 0) {
+                    entry(tagId, current.get(tagId)).postCount++;
+                }
+            }
+            put(postTags, postId, after);
+        }
+
+        /**
+         * other 와 사용 수가 다른 태그 수
+         */
+        private int countDrift(Counts other) {
+            int drifted = 0;
+            for (TagEntry entry : tags.values()) {
+                TagEntry fresh = other.tags.get(entry.id);
+                if (fresh == null ? entry.total() != 0
+                        : fresh.snippetCount != entry.snippetCount || fresh.postCount != entry.postCount) {
+                    drifted++;
+                }
+            }
+            for (TagEntry fresh : other.tags.values()) {
+                if (!tags.containsKey(fresh.id) && fresh.total() != 0) {
+                    drifted++;
+                }
+            }
+            return drifted;
+        }
+
+        private static void put(Map<Long, long[]> documents, Long documentId, long[] tagIds) {
+            if (tagIds.length == 0) {
+                documents.remove(documentId);
+            } else {
+                documents.put(documentId, tagIds);
+            }
+        }
+
+        private static long[] sortedIds(Map<Long, String> tags) {
+            long[] ids = new long[tags.size()];
+            int i = 0;
+            for (Long id : tags.keySet()) {
+                ids[i++] = id;
+            }
+            Arrays.sort(ids);
+            return ids;
+        }
+    }
+}
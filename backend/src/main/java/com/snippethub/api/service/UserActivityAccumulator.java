@@ -0,0 +1,162 @@
+package com.snippethub.api.service;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 포인트/활동 카운터 증분 누산기.
+ * 사용자 ID 기준으로 나눈 스트라이프마다 별도 락을 두어, 인기 작성자에게 좋아요가 몰려도
+ * 요청 스레드끼리 users 행 락이나 하나의 전역 락을 두고 경합하지 않는다.
+ * 누적된 증분은 {@link PointLedger} 가 주기적으로 꺼내 사용자당 한 번의 원자적 UPDATE 로 반영한다.
+ */
+@Component
+public class UserActivityAccumulator {
+
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public UserActivityAccumulator() {
+        this(DEFAULT_STRIPES);
+    }
+
+    UserActivityAccumulator(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+    }
+
+    public void add(Long userId, int points, PointLedger.Counter counter) {
+        Stripe stripe = stripeFor(userId);
+        stripe.lock.lock();
+        try {
+            stripe.deltas.computeIfAbsent(userId, id -> new ActivityDelta()).add(points, counter, 1);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 지급 취소 (반영하지 못하고 폐기된 내역을 되돌릴 때 사용)
+     */
+    public void subtract(Long userId, int points, PointLedger.Counter counter) {
+        Stripe stripe = stripeFor(userId);
+        stripe.lock.lock();
+        try {
+            stripe.deltas.computeIfAbsent(userId, id -> new ActivityDelta()).add(points, counter, -1);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 누적된 증분을 모두 꺼낸다. 스트라이프별로 맵을 교체하므로 꺼내는 동안에도 누적은 계속된다.
+     */
+    public Map<Long, ActivityDelta> drain() {
+        Map<Long, ActivityDelta> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<Long, ActivityDelta> taken;
+            stripe.lock.lock();
+            try {
+                if (stripe.deltas.isEmpty()) {
+                    continue;
+                }
+                taken = stripe.deltas;
+                stripe.deltas = new HashMap<>();
+            } finally {
+                stripe.lock.unlock();
+            }
+            taken.forEach((userId, delta) -> {
+                if (!delta.isEmpty()) {
+                    drained.put(userId, delta);
+                }
+            });
+        }
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 증분을 다시 누적한다.
+     */
+    public void restore(Map<Long, ActivityDelta> deltas) {
+        deltas.forEach((userId, delta) -> {
+            Stripe stripe = stripeFor(userId);
+            stripe.lock.lock();
+            try {
+                stripe.deltas.computeIfAbsent(userId, id -> new ActivityDelta()).merge(delta);
+            } finally {
+                stripe.lock.unlock();
+            }
+        });
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.deltas.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(Long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h ^ (h >>> 32)) & mask];
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        Map<Long, ActivityDelta> deltas = new HashMap<>();
+    }
+
+    /**
+     * 사용자 한 명에 대한 포인트/카운터 증분
+     */
+    @Getter
+    public static class ActivityDelta {
+        private int points;
+        private int posts;
+        private int snippets;
+        private int comments;
+        private int likesReceived;
+        private int codeExecutions;
+
+        public void add(int points, PointLedger.Counter counter, int sign) {
+            this.points += sign * points;
+            switch (counter) {
+                case POSTS -> posts += sign;
+                case SNIPPETS -> snippets += sign;
+                case COMMENTS -> comments += sign;
+                case LIKES_RECEIVED -> likesReceived += sign;
+                case CODE_EXECUTIONS -> codeExecutions += sign;
+                case NONE -> { }
+            }
+        }
+
+        public void merge(ActivityDelta other) {
+            points += other.points;
+            posts += other.posts;
+            snippets += other.snippets;
+            comments += other.comments;
+            likesReceived += other.likesReceived;
+            codeExecutions += other.codeExecutions;
+        }
+
+        public boolean isEmpty() {
+            return points == 0 && posts == 0 && snippets == 0 && comments == 0
+                    && likesReceived == 0 && codeExecutions == 0;
+        }
+    }
+}
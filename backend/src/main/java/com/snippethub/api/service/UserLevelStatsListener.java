@@ -0,0 +1,21 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.User;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 엔티티 삭제를 등급 통계에 반영 (커밋 후). JPQL 일괄 삭제처럼 엔티티를 거치지 않는 삭제는 주기 점검이 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLevelStatsListener {
+
+    private final LevelStatsTracker levelStatsTracker;
+
+    @PostRemove
+    void onRemove(User user) {
+        levelStatsTracker.recordUserDeleted(user.getId(), user.getLevel());
+    }
+}
@@ -3,6 +3,7 @@ package com.snippethub.api.service;
 import com.snippethub.api.domain.Post;
 import com.snippethub.api.domain.Snippet;
 import com.snippethub.api.domain.User;
+import com.snippethub.api.domain.UserLevel;
 import com.snippethub.api.dto.user.UserPasswordChangeRequestDto;
 import com.snippethub.api.dto.user.UserProfileUpdateRequestDto;
 import com.snippethub.api.dto.user.UserProfileResponseDto.UserStatsDto;
@@ -11,8 +12,10 @@ import com.snippethub.api.exception.ErrorCode;
 import com.snippethub.api.repository.PostRepository;
 import com.snippethub.api.repository.SnippetRepository;
 import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.util.RankedSkipList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -20,6 +23,11 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import com.snippethub.api.service.FileService;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -30,6 +38,8 @@ public class UserService {
     private final SnippetRepository snippetRepository;
     private final PostRepository postRepository;
     private final FileService fileService;
+    private final Leaderboard leaderboard;
+    private final LevelStatsTracker levelStatsTracker;
 
     public User getUserProfile(String email) {
         return userRepository.findByEmail(email)
@@ -112,7 +122,9 @@ public class UserService {
                         .password(null) // 소셜 로그인 사용자는 비밀번호 null
                         .nickname(finalNickname)
                         .build();
-                return userRepository.save(user);
+                User savedUser = userRepository.save(user);
+                levelStatsTracker.recordNewUser(savedUser.getId(), savedUser.getLevel());
+                return savedUser;
             });
     }
 
@@ -154,29 +166,103 @@ public class UserService {
     }
 
     /**
-     * 사용자 랭킹 조회
+     * 사용자 랭킹 조회 (랭킹 색인에서 해당 페이지의 사용자 ID만 뽑아 조회하므로 깊은 페이지도 비용이 같다)
      */
     public Page<User> getUserRanking(Pageable pageable, String level) {
+        List<RankedSkipList.Entry> entries;
+        long total;
         if ("ALL".equals(level)) {
-            return userRepository.findAllByOrderByPointsDesc(pageable);
+            entries = leaderboard.range(pageable.getOffset(), pageable.getPageSize());
+            total = leaderboard.getTotal();
         } else {
-            return userRepository.findByLevelOrderByPointsDesc(level, pageable);
+            UserLevel userLevel;
+            try {
+                userLevel = UserLevel.valueOf(level);
+            } catch (IllegalArgumentException e) {
+                return Page.empty(pageable);
+            }
+            entries = leaderboard.range(userLevel, pageable.getOffset(), pageable.getPageSize());
+            total = leaderboard.countInLevel(userLevel);
+        }
+        return new PageImpl<>(findUsersInOrder(entries), pageable, total);
+    }
+
+    /**
+     * 내 전체 순위
+     */
+    public RankedUser getMyRank(String email) {
+        User user = getUserByEmail(email);
+        RankedSkipList.Entry entry = leaderboard.rankOf(user.getId());
+        if (entry == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
+        return new RankedUser(user, entry.getRank());
+    }
+
+    public long getRankedUserCount() {
+        return leaderboard.getTotal();
     }
 
     /**
-     * 등급별 통계 조회
+     * 사용자 앞뒤 radius 명의 순위 (사용자 본인 포함)
+     */
+    public List<RankedUser> getRankingNeighbors(Long userId, int radius) {
+        List<RankedSkipList.Entry> entries = leaderboard.around(userId, radius);
+        if (entries.isEmpty()) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        return toRankedUsers(entries);
+    }
+
+    private List<RankedUser> toRankedUsers(List<RankedSkipList.Entry> entries) {
+        Map<Long, User> users = findUsersById(entries);
+        List<RankedUser> ranked = new ArrayList<>(entries.size());
+        for (RankedSkipList.Entry entry : entries) {
+            User user = users.get(entry.getId());
+            if (user != null) {
+                ranked.add(new RankedUser(user, entry.getRank()));
+            }
+        }
+        return ranked;
+    }
+
+    private List<User> findUsersInOrder(List<RankedSkipList.Entry> entries) {
+        Map<Long, User> users = findUsersById(entries);
+        List<User> ordered = new ArrayList<>(entries.size());
+        for (RankedSkipList.Entry entry : entries) {
+            User user = users.get(entry.getId());
+            if (user != null) {
+                ordered.add(user);
+            }
+        }
+        return ordered;
+    }
+
+    private Map<Long, User> findUsersById(List<RankedSkipList.Entry> entries) {
+        List<Long> ids = new ArrayList<>(entries.size());
+        for (RankedSkipList.Entry entry : entries) {
+            ids.add(entry.getId());
+        }
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(ids)) {
+            users.put(user.getId(), user);
+        }
+        return users;
+    }
+
+    /**
+     * 등급별 통계 조회 (메모리 집계)
      */
     public LevelStatsResponseDto getLevelStats() {
-        long totalUsers = userRepository.count();
-        long bronzeUsers = userRepository.countByLevel("BRONZE");
-        long silverUsers = userRepository.countByLevel("SILVER");
-        long goldUsers = userRepository.countByLevel("GOLD");
-        long platinumUsers = userRepository.countByLevel("PLATINUM");
-        long diamondUsers = userRepository.countByLevel("DIAMOND");
-        long masterUsers = userRepository.countByLevel("MASTER");
-        long grandmasterUsers = userRepository.countByLevel("GRANDMASTER");
-        long legendUsers = userRepository.countByLevel("LEGEND");
+        long totalUsers = levelStatsTracker.getTotal();
+        long bronzeUsers = levelStatsTracker.getCount(UserLevel.BRONZE);
+        long silverUsers = levelStatsTracker.getCount(UserLevel.SILVER);
+        long goldUsers = levelStatsTracker.getCount(UserLevel.GOLD);
+        long platinumUsers = levelStatsTracker.getCount(UserLevel.PLATINUM);
+        long diamondUsers = levelStatsTracker.getCount(UserLevel.DIAMOND);
+        long masterUsers = levelStatsTracker.getCount(UserLevel.MASTER);
+        long grandmasterUsers = levelStatsTracker.getCount(UserLevel.GRANDMASTER);
+        long legendUsers = levelStatsTracker.getCount(UserLevel.LEGEND);
 
         return new LevelStatsResponseDto(
                 totalUsers, bronzeUsers, silverUsers, goldUsers, 
@@ -221,4 +307,17 @@ public class UserService {
         public long getGrandmasterUsers() { return grandmasterUsers; }
         public long getLegendUsers() { return legendUsers; }
     }
+
+    public static class RankedUser {
+        private final User user;
+        private final long rank;
+
+        public RankedUser(User user, long rank) {
+            this.user = user;
+            this.rank = rank;
+        }
+
+        public User getUser() { return user; }
+        public long getRank() { return rank; }
+    }
 }
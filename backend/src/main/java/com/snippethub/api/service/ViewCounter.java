@@ -0,0 +1,256 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.security.ClientIpResolver;
+import com.snippethub.api.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 스니펫/게시글 조회수 버퍼.
+ * 상세 조회마다 행을 UPDATE 하지 않고 ID 기준 스트라이프별 메모리 카운터에 더해 두었다가,
+ * 주기적으로 대상별 batch UPDATE (view_count = view_count + ?) 로 반영한다.
+ * 같은 사용자(비로그인은 IP)가 짧은 시간 안에 다시 본 것은 교대로 비우는 Bloom filter 두 개로 걸러 한 번만 센다.
+ */
+@Component
+@Slf4j
+public class ViewCounter {
+
+    public enum Target {
+        SNIPPET("snippets"), POST("posts");
+
+        private final String table;
+
+        Target(String table) {
+            this.table = table;
+        }
+    }
+
+    private static final int STRIPES = 64;
+    private static final double DEDUP_FALSE_POSITIVE_RATE = 0.01;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ClientIpResolver clientIpResolver;
+    private final Map<Target, Stripe[]> stripes = new EnumMap<>(Target.class);
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 0 이면 중복 제거 없이 모든 조회를 센다
+    @Value("${views.dedup-window-minutes:30}")
+    private long dedupWindowMinutes = 30;
+
+    @Value("${views.dedup-expected-views:1000000}")
+    private long dedupExpectedViews = 1_000_000;
+
+    // 최근 조회 (current 는 채우는 중, previous 는 직전 구간). 구간마다 교대하므로 같은 조회는 window/2 ~ window 동안 한 번만 센다
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile long rotatedAt;
+
+    private TransactionTemplate transactionTemplate;
+
+    public ViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                       ClientIpResolver clientIpResolver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.clientIpResolver = clientIpResolver;
+        for (Target target : Target.values()) {
+            Stripe[] array = new Stripe[STRIPES];
+            for (int i = 0; i < STRIPES; i++) {
+                array[i] = new Stripe();
+            }
+            stripes.put(target, array);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (dedupWindowMinutes > 0) {
+            current = new BloomFilter(dedupExpectedViews, DEDUP_FALSE_POSITIVE_RATE);
+            previous = new BloomFilter(dedupExpectedViews, DEDUP_FALSE_POSITIVE_RATE);
+            rotatedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 현재 요청의 사용자가 대상을 조회함. 중복 조회로 걸러지면 false.
+     */
+    public boolean record(Target target, Long id) {
+        return record(target, id, resolveViewer());
+    }
+
+    boolean record(Target target, Long id, String viewer) {
+        if (viewer != null && isDuplicate(target, id, viewer)) {
+            return false;
+        }
+        Stripe stripe = stripeFor(target, id);
+        stripe.lock.lock();
+        try {
+            stripe.counts.merge(id, 1, Integer::sum);
+        } finally {
+            stripe.lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public int getPending(Target target, Long id) {
+        Stripe stripe = stripeFor(target, id);
+        stripe.lock.lock();
+        try {
+            return stripe.counts.getOrDefault(id, 0);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${views.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        rotateIfDue();
+        flush();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * 쌓인 조회수를 대상별 batch UPDATE 한 번으로 반영하고 반영한 행 수를 돌려준다.
+     * 대상별 batch 는 한 트랜잭션으로 실행하므로, 실패하면 전부 롤백된 것이고 꺼낸 증분을 모두 되돌려 다음 주기에 다시 시도한다.
+     */
+    public int flush() {
+        if (!flushLock.tryLock()) {
+            return 0;
+        }
+        try {
+            int rows = 0;
+            for (Target target : Target.values()) {
+                // ID 순으로 갱신해 다른 batch 와 행 잠금 순서를 맞춘다
+                Map<Long, Integer> drained = new TreeMap<>(drain(target));
+                if (drained.isEmpty()) {
+                    continue;
+                }
+                List<Object[]> args = new ArrayList<>(drained.size());
+                drained.forEach((id, views) -> args.add(new Object[]{views, id}));
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                            "UPDATE " + target.table + " SET view_count = view_count + ? WHERE id = ?", args));
+                    rows += args.size();
+                } catch (Exception e) {
+                    log.error("조회수 반영 실패 - 대상: {}, {}건: {}", target, args.size(), e.getMessage());
+                    restore(target, drained);
+                }
+            }
+            return rows;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private Map<Long, Integer> drain(Target target) {
+        Map<Long, Integer> drained = new HashMap<>();
+        for (Stripe stripe : stripes.get(target)) {
+            Map<Long, Integer> taken;
+            stripe.lock.lock();
+            try {
+                if (stripe.counts.isEmpty()) {
+                    continue;
+                }
+                taken = stripe.counts;
+                stripe.counts = new HashMap<>();
+            } finally {
+                stripe.lock.unlock();
+            }
+            drained.putAll(taken);
+        }
+        return drained;
+    }
+
+    private void restore(Target target, Map<Long, Integer> drained) {
+        drained.forEach((id, views) -> {
+            Stripe stripe = stripeFor(target, id);
+            stripe.lock.lock();
+            try {
+                stripe.counts.merge(id, views, Integer::sum);
+            } finally {
+                stripe.lock.unlock();
+            }
+        });
+    }
+
+    private boolean isDuplicate(Target target, Long id, String viewer) {
+        BloomFilter filled = current;
+        if (filled == null) {
+            return false;
+        }
+        long hash = BloomFilter.hash64(target.name() + ":" + id + ":" + viewer);
+        if (filled.mightContain(hash) || previous.mightContain(hash)) {
+            return true;
+        }
+        filled.put(hash);
+        return false;
+    }
+
+    void rotateIfDue() {
+        if (current == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - rotatedAt >= dedupWindowMinutes * 60_000L / 2) {
+            BloomFilter retired = previous;
+            previous = current;
+            retired.clear();
+            current = retired;
+            rotatedAt = now;
+        }
+    }
+
+    /**
+     * 로그인 사용자는 이름(이메일), 비로그인은 클라이언트 IP. 요청 밖(스케줄러 등)이면 null
+     */
+    private String resolveViewer() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return "ip:" + clientIpResolver.resolve(servletAttributes.getRequest());
+        }
+        return null;
+    }
+
+    private Stripe stripeFor(Target target, Long id) {
+        return stripes.get(target)[(int) (BloomFilter.mix64(id) & (STRIPES - 1))];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<Long, Integer> counts = new HashMap<>();
+    }
+}
@@ -0,0 +1,117 @@
+package com.snippethub.api.util;
+
+import com.snippethub.api.exception.BusinessException;
+import com.snippethub.api.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션의 커서.
+ * 앞 페이지 마지막 행의 (정렬 키, ID) 를 담아 다음 페이지를 "이 값 다음부터" 로 찾게 한다.
+ * OFFSET 으로 앞 행을 건너뛰지 않고 (정렬 키, id) 인덱스를 바로 탐색하므로 몇 번째 페이지든 비용이 같고, COUNT 도 하지 않는다.
+ * 클라이언트에는 정렬 이름까지 base64url 로 감싼 불투명한 문자열로 준다 (다른 정렬의 커서는 거부).
+ */
+public final class KeysetCursor {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    // 첫 페이지의 경계값. 내림차순은 어떤 행보다 큰 값, 오름차순은 어떤 행보다 작은 값에서 시작한다 (MySQL DATETIME 범위)
+    public static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    public static final LocalDateTime MIN_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private final String sort;
+    private final String value;
+    private final long id;
+
+    private KeysetCursor(String sort, String value, long id) {
+        this.sort = sort;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * sort 정렬에서 (value, id) 다음부터 이어지는 커서 문자열
+     */
+    public static String encode(String sort, Object value, long id) {
+        String raw = sort + "|" + value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 풀어 돌려준다. 비어 있으면 첫 페이지라는 뜻으로 null.
+     */
+    public static KeysetCursor decode(String cursor, String sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = raw.indexOf('|');
+            int last = raw.lastIndexOf('|');
+            if (first < 0 || first == last || !raw.substring(0, first).equals(sort)) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(sort, raw.substring(first + 1, last), Long.parseLong(raw.substring(last + 1)));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 base64, 숫자
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 요청 크기를 1 ~ MAX_SIZE 로 맞춘다
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public LocalDateTime timeValue() {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public int intValue() {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    // 커서가 없으면(첫 페이지) 정렬 방향의 경계값
+
+    public static LocalDateTime timeBefore(KeysetCursor cursor) {
+        return cursor == null ? MAX_TIME : cursor.timeValue();
+    }
+
+    public static LocalDateTime timeAfter(KeysetCursor cursor) {
+        return cursor == null ? MIN_TIME : cursor.timeValue();
+    }
+
+    public static int intBefore(KeysetCursor cursor) {
+        return cursor == null ? Integer.MAX_VALUE : cursor.intValue();
+    }
+
+    public static long idBefore(KeysetCursor cursor) {
+        return cursor == null ? Long.MAX_VALUE : cursor.id;
+    }
+
+    public static long idAfter(KeysetCursor cursor) {
+        return cursor == null ? 0 : cursor.id;
+    }
+}
@@ -0,0 +1,177 @@
+package com.snippethub.api.util;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순 ID 목록을 압축해 담는 불변 posting list.
+ * 앞 값과의 차이를 varint 로 기록하고 (작은 차이는 1바이트), SKIP_INTERVAL 개마다 건너뛰기 지점을 두어
+ * 교집합을 구할 때 advance(target) 가 앞부분을 모두 풀지 않고 바로 근처로 이동할 수 있다.
+ */
+public final class PostingList {
+
+    public static final long NO_MORE = -1;
+    static final int SKIP_INTERVAL = 64;
+
+    public static final PostingList EMPTY = new PostingList(new byte[0], 0, new long[0], new int[0]);
+
+    private final byte[] data;
+    private final int size;
+    // k 번째 건너뛰기 지점: (k * SKIP_INTERVAL) 번째 값과, 그 다음 값이 시작하는 바이트 위치
+    private final long[] skipValues;
+    private final int[] skipOffsets;
+
+    private PostingList(byte[] data, int size, long[] skipValues, int[] skipOffsets) {
+        this.data = data;
+        this.size = size;
+        this.skipValues = skipValues;
+        this.skipOffsets = skipOffsets;
+    }
+
+    public static PostingList of(long... sortedIds) {
+        Builder builder = new Builder();
+        for (long id : sortedIds) {
+            builder.add(id);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 압축된 본문 크기 (바이트)
+     */
+    public int byteSize() {
+        return data.length;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public long[] toArray() {
+        long[] ids = new long[size];
+        Cursor cursor = cursor();
+        for (int i = 0; i < size; i++) {
+            ids[i] = cursor.next();
+        }
+        return ids;
+    }
+
+    /**
+     * 앞에서부터 순서대로 읽는 커서 (스레드마다 따로 만들어 쓴다)
+     */
+    public final class Cursor {
+
+        private int offset;
+        private int index;      // 다음에 읽을 값의 순번
+        private long current = NO_MORE;
+
+        /**
+         * 다음 값, 없으면 NO_MORE
+         */
+        public long next() {
+            if (index >= size) {
+                current = NO_MORE;
+                return NO_MORE;
+            }
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            current = index == 0 ? delta : current + delta;
+            index++;
+            return current;
+        }
+
+        /**
+         * target 이상인 첫 값 (현재 위치 이후), 없으면 NO_MORE
+         */
+        public long advance(long target) {
+            if (index > 0 && current == NO_MORE) {
+                return NO_MORE;
+            }
+            if (index > 0 && current >= target) {
+                return current;
+            }
+            int skip = lastSkipAtOrBelow(target);
+            if (skip >= 0 && (long) skip * SKIP_INTERVAL >= index) {
+                offset = skipOffsets[skip];
+                index = skip * SKIP_INTERVAL + 1;
+                current = skipValues[skip];
+                if (current >= target) {
+                    return current;
+                }
+            }
+            long value;
+            do {
+                value = next();
+            } while (value != NO_MORE && value < target);
+            return value;
+        }
+
+        private int lastSkipAtOrBelow(long target) {
+            int found = Arrays.binarySearch(skipValues, target);
+            return found >= 0 ? found : -found - 2;
+        }
+    }
+
+    /**
+     * 오름차순으로 값을 붙여 만드는 빌더
+     */
+    public static final class Builder {
+
+        private byte[] data = new byte[16];
+        private int length;
+        private int size;
+        private long last = NO_MORE;
+        private long[] skipValues = new long[4];
+        private int[] skipOffsets = new int[4];
+        private int skips;
+
+        public Builder add(long id) {
+            if (id < 0 || (size > 0 && id <= last)) {
+                throw new IllegalArgumentException("ID 는 0 이상 오름차순이어야 합니다: " + id);
+            }
+            long delta = size == 0 ? id : id - last;
+            ensureCapacity(length + 10);
+            while ((delta & ~0x7FL) != 0) {
+                data[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            data[length++] = (byte) delta;
+            if (size % SKIP_INTERVAL == 0) {
+                if (skips == skipValues.length) {
+                    skipValues = Arrays.copyOf(skipValues, skips * 2);
+                    skipOffsets = Arrays.copyOf(skipOffsets, skips * 2);
+                }
+                skipValues[skips] = id;
+                skipOffsets[skips] = length;
+                skips++;
+            }
+            last = id;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public PostingList build() {
+            return new PostingList(Arrays.copyOf(data, length), size,
+                    Arrays.copyOf(skipValues, skips), Arrays.copyOf(skipOffsets, skips));
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > data.length) {
+                data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+            }
+        }
+    }
+}
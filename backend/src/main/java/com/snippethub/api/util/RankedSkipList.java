@@ -0,0 +1,239 @@
+package com.snippethub.api.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 점수 내림차순(동점이면 ID 오름차순)으로 정렬된 순위 색인.
+ * Redis sorted set 과 같은 방식으로 각 링크에 건너뛰는 원소 수(span)를 기록해 두어
+ * 갱신, 순위 조회, N번째 원소 조회가 모두 O(log n) 이다. 깊은 페이지도 앞 페이지와 비용이 같다.
+ * 스레드 안전하지 않으므로 호출자가 잠금을 관리한다.
+ */
+public class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private final Node head = new Node(0, 0, MAX_LEVEL);
+    private final Map<Long, Long> scores = new HashMap<>();
+    private int level = 1;
+    private int size;
+
+    /**
+     * 순위 조회 결과 (rank 는 1부터 시작)
+     */
+    public static final class Entry {
+        private final long id;
+        private final long score;
+        private final long rank;
+
+        public Entry(long id, long score, long rank) {
+            this.id = id;
+            this.score = score;
+            this.rank = rank;
+        }
+
+        public long getId() { return id; }
+        public long getScore() { return score; }
+        public long getRank() { return rank; }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(long id) {
+        return scores.containsKey(id);
+    }
+
+    public Long getScore(long id) {
+        return scores.get(id);
+    }
+
+    /**
+     * 점수를 등록하거나 바꾼다. 점수가 같으면 아무것도 하지 않는다.
+     */
+    public void put(long id, long score) {
+        Long previous = scores.put(id, score);
+        if (previous != null) {
+            if (previous == score) {
+                return;
+            }
+            delete(id, previous);
+        }
+        insert(id, score);
+    }
+
+    public boolean remove(long id) {
+        Long previous = scores.remove(id);
+        if (previous == null) {
+            return false;
+        }
+        delete(id, previous);
+        return true;
+    }
+
+    /**
+     * 1부터 시작하는 순위, 없으면 0
+     */
+    public long rank(long id) {
+        Long score = scores.get(id);
+        if (score == null) {
+            return 0;
+        }
+        long rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && !before(id, score, x.next[i].id, x.next[i].score)) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x != head && x.id == id) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * offset(0부터) 번째부터 최대 limit 개
+     */
+    public List<Entry> range(long offset, int limit) {
+        if (offset < 0 || offset >= size || limit <= 0) {
+            return Collections.emptyList();
+        }
+        Node x = nodeAt(offset + 1);
+        List<Entry> entries = new ArrayList<>(Math.min(limit, size));
+        long rank = offset + 1;
+        while (x != null && entries.size() < limit) {
+            entries.add(new Entry(x.id, x.score, rank++));
+            x = x.next[0];
+        }
+        return entries;
+    }
+
+    /**
+     * score 보다 높은 점수를 가진 원소 수 (해당 점수대가 시작되는 offset)
+     */
+    public long countAbove(long score) {
+        long count = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].score > score) {
+                count += x.span[i];
+                x = x.next[i];
+            }
+        }
+        return count;
+    }
+
+    private Node nodeAt(long rank) {
+        long traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private void insert(long id, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && before(x.next[i].id, x.next[i].score, id, score)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(id, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    private void delete(long id, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && before(x.next[i].id, x.next[i].score, id, score)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        Node target = x.next[0];
+        if (target == null || target.id != id) {
+            return;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    // (id1, score1) 이 (id2, score2) 보다 앞 순위인가
+    private static boolean before(long id1, long score1, long id2, long score2) {
+        return score1 > score2 || (score1 == score2 && id1 < id2);
+    }
+
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (nodeLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    private static final class Node {
+        final long id;
+        final long score;
+        final Node[] next;
+        final int[] span;
+
+        Node(long id, long score, int level) {
+            this.id = id;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
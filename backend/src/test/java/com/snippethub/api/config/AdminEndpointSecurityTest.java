@@ -0,0 +1,128 @@
+package com.snippethub.api.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringJUnitWebConfig(AdminEndpointSecurityTest.TestConfig.class)
+class AdminEndpointSecurityTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("일반 사용자는 데드레터 재처리를 호출할 수 없다")
+    void deadLetterReplay_forbiddenForUser() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/dead-letters/events/replay"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/admin/dead-letters/points/replay"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("관리자는 데드레터 재처리를 호출할 수 있다")
+    void deadLetterReplay_allowedForAdmin() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/dead-letters/events/replay"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("일반 사용자는 상세 캐시 통계를 조회할 수 없다")
+    void cacheStats_forbiddenForUser() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/cache/detail/stats"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("관리자는 상세 캐시 통계를 조회할 수 있다")
+    void cacheStats_allowedForAdmin() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/cache/detail/stats"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("일반 사용자는 배지 정의를 다시 불러올 수 없다")
+    void badgeReload_forbiddenForUser() throws Exception {
+        mockMvc.perform(post("/api/badges/admin/reload"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("관리자는 배지 정의를 다시 불러올 수 있다")
+    void badgeReload_allowedForAdmin() throws Exception {
+        mockMvc.perform(post("/api/badges/admin/reload"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("관리 경로가 아닌 요청은 일반 사용자도 통과한다")
+    void nonAdminPath_allowedForUser() throws Exception {
+        mockMvc.perform(get("/api/v1/users/me"))
+                .andExpect(status().isOk());
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @EnableWebSecurity
+    static class TestConfig {
+
+        @Bean
+        SecurityFilterChain testFilterChain(HttpSecurity http) throws Exception {
+            http
+                .csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(authorize -> SecurityConfig.adminEndpoints(authorize)
+                    .anyRequest().authenticated()
+                );
+            return http.build();
+        }
+
+        @Bean
+        StubController stubController() {
+            return new StubController();
+        }
+    }
+
+    @RestController
+    static class StubController {
+
+        @RequestMapping("/**")
+        String ok() {
+            return "ok";
+        }
+    }
+}
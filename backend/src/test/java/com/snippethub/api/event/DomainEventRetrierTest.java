@@ -0,0 +1,167 @@
+package com.snippethub.api.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.snippethub.api.domain.DomainEventDeadLetter;
+import com.snippethub.api.repository.DomainEventDeadLetterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DomainEventRetrierTest {
+
+    @Mock
+    private DomainEventDeadLetterRepository deadLetterRepository;
+
+    private DomainEventRetrier retrier;
+
+    @BeforeEach
+    void setUp() {
+        retrier = new DomainEventRetrier(deadLetterRepository, new ObjectMapper().registerModule(new ParameterNamesModule()));
+        ReflectionTestUtils.setField(retrier, "maxAttempts", 3);
+        ReflectionTestUtils.setField(retrier, "initialBackoffMs", 1L);
+        ReflectionTestUtils.setField(retrier, "maxBackoffMs", 2L);
+        ReflectionTestUtils.setField(retrier, "schedulerThreads", 1);
+        retrier.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        retrier.shutdown();
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 스케줄러에서 재시도해서 처리하고 dead-letter 를 남기지 않는다")
+    void execute_transientFailure_succeedsOnRetry() {
+        AtomicInteger calls = new AtomicInteger();
+        Thread caller = Thread.currentThread();
+        List<Thread> retryThreads = new CopyOnWriteArrayList<>();
+
+        boolean handled = retrier.execute("points", new CodeExecutedEvent(10L, 1L), () -> {
+            if (calls.incrementAndGet() > 1) {
+                retryThreads.add(Thread.currentThread());
+            }
+            if (calls.get() < 3) {
+                throw new IllegalStateException("잠시 실패");
+            }
+        });
+
+        // 첫 시도만 호출한 스레드에서 하고 재시도는 기다리지 않는다
+        assertThat(handled).isFalse();
+        awaitUntil(() -> calls.get() == 3);
+        assertThat(retryThreads).isNotEmpty().doesNotContain(caller);
+        verify(deadLetterRepository, never()).save(any());
+        assertThat(retrier.getDeadLetteredCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 이벤트를 JSON 으로 dead-letter 에 저장한다")
+    void execute_persistentFailure_storesDeadLetter() {
+        AtomicInteger calls = new AtomicInteger();
+
+        boolean handled = retrier.execute("notification", new LikeToggledEvent(5L, 1L, "liker", "POST", 7L, "제목", 2L, true), () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("DB down");
+        });
+
+        ArgumentCaptor<DomainEventDeadLetter> captor = ArgumentCaptor.forClass(DomainEventDeadLetter.class);
+        verify(deadLetterRepository, timeout(2000)).save(captor.capture());
+        DomainEventDeadLetter deadLetter = captor.getValue();
+
+        assertThat(handled).isFalse();
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(deadLetter.getEventType()).isEqualTo("LikeToggledEvent");
+        assertThat(deadLetter.getHandler()).isEqualTo("notification");
+        assertThat(deadLetter.getAttempts()).isEqualTo(3);
+        assertThat(deadLetter.getLastError()).isEqualTo("DB down");
+        assertThat(deadLetter.getPayload()).contains("\"likeId\":5", "\"targetType\":\"POST\"", "\"liked\":true");
+        assertThat(retrier.getDeadLetteredCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 시 아직 예약된 재시도는 기다리지 않고 dead-letter 로 남긴다")
+    void shutdown_deadLettersPendingRetries() {
+        ReflectionTestUtils.setField(retrier, "initialBackoffMs", 60_000L);
+        ReflectionTestUtils.setField(retrier, "maxBackoffMs", 60_000L);
+        AtomicInteger calls = new AtomicInteger();
+
+        retrier.execute("points", new CodeExecutedEvent(10L, 1L), () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("잠시 실패");
+        });
+        retrier.shutdown();
+
+        ArgumentCaptor<DomainEventDeadLetter> captor = ArgumentCaptor.forClass(DomainEventDeadLetter.class);
+        verify(deadLetterRepository).save(captor.capture());
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(captor.getValue().getAttempts()).isEqualTo(1);
+        assertThat(captor.getValue().getEventType()).isEqualTo("CodeExecutedEvent");
+    }
+
+    @Test
+    @DisplayName("dead-letter 재처리는 이벤트를 복원해 등록된 리스너에 넘기고 처리한 행을 지운다")
+    void replayDeadLetters_dispatchesToRegisteredListener() {
+        List<CodeExecutedEvent> received = new ArrayList<>();
+        retrier.registerReplay("points", CodeExecutedEvent.class, received::add);
+        DomainEventDeadLetter deadLetter = DomainEventDeadLetter.builder()
+                .eventType("CodeExecutedEvent")
+                .handler("points")
+                .payload("{\"executionId\":10,\"userId\":1}")
+                .attempts(3)
+                .lastError("DB down")
+                .createdAt(LocalDateTime.now())
+                .build();
+        DomainEventDeadLetter unknown = DomainEventDeadLetter.builder()
+                .eventType("CodeExecutedEvent")
+                .handler("unknown")
+                .payload("{\"executionId\":11,\"userId\":1}")
+                .attempts(3)
+                .lastError("DB down")
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(deadLetterRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of(deadLetter, unknown));
+
+        int replayed = retrier.replayDeadLetters(100);
+
+        assertThat(replayed).isEqualTo(1);
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).getExecutionId()).isEqualTo(10L);
+        assertThat(received.get(0).getUserId()).isEqualTo(1L);
+        verify(deadLetterRepository).delete(deadLetter);
+        verify(deadLetterRepository, never()).delete(unknown);
+    }
+
+    private void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
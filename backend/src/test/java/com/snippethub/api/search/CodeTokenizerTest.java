@@ -0,0 +1,25 @@
+package com.snippethub.api.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodeTokenizerTest {
+
+    @Test
+    @DisplayName("식별자는 통째로, camelCase/snake_case 조각으로도 내보낸다")
+    void tokenize_splitsIdentifiers() {
+        assertThat(CodeTokenizer.tokenize("int n = Integer.parseInt(MAX_VALUE); HTTPServer s;", "java"))
+                .containsExactly("integer", "parseint", "parse", "int", "max_value", "max", "value",
+                        "httpserver", "http", "server");
+    }
+
+    @Test
+    @DisplayName("언어별 예약어는 색인하지 않는다")
+    void tokenize_dropsLanguageKeywords() {
+        assertThat(CodeTokenizer.tokenize("def load_user(self):\n    return None", "PYTHON"))
+                .containsExactly("load_user", "load", "user");
+        assertThat(CodeTokenizer.tokenize("def self", "java")).containsExactly("def", "self");
+    }
+}
@@ -0,0 +1,33 @@
+package com.snippethub.api.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineCharSequenceTest {
+
+    @Test
+    @DisplayName("역추적이 폭발하는 정규식은 마감 시각이 지나면 매칭 도중 끊긴다")
+    void catastrophicRegex_isInterrupted() {
+        String text = "a".repeat(30) + "#";
+        long startedAt = System.nanoTime();
+
+        assertThatThrownBy(() -> Pattern.compile("(.*a){20}")
+                .matcher(new DeadlineCharSequence(text, System.nanoTime() + 100_000_000L)).find())
+                .isInstanceOf(DeadlineCharSequence.TimeoutException.class);
+        assertThat(System.nanoTime() - startedAt).isLessThan(5_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("마감 전이면 감싸지 않은 문자열과 같은 결과를 낸다")
+    void normalRegex_matchesAsUsual() {
+        DeadlineCharSequence code = new DeadlineCharSequence("System.out.println(x);", System.nanoTime() + 1_000_000_000L);
+
+        assertThat(Pattern.compile("println\\((\\w)\\)").matcher(code).find()).isTrue();
+        assertThat(code.toString()).isEqualTo("System.out.println(x);");
+    }
+}
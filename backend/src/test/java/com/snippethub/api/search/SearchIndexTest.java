@@ -0,0 +1,141 @@
+package com.snippethub.api.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+        ReflectionTestUtils.setField(index, "indexDir", indexDir.toString());
+        index.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("빈 색인은 초기 적재 전까지 검색에 쓰지 않는다")
+    void emptyIndex_isNotReadyUntilLoaded() {
+        assertThat(index.isAvailable()).isTrue();
+        assertThat(index.isReady()).isFalse();
+
+        index.markReady();
+
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("제목, 태그, 코드 토큰으로 찾고 언어와 종류로 거른다")
+    void search_matchesTitleTagsAndCodeTokens() {
+        index.upsert(snippet(1L, "빠른 정렬", "quick sort 예제", "void quickSort(int[] arr) {}", "java", List.of("algorithm"), 0));
+        index.upsert(snippet(2L, "HTTP client", "요청 보내기", "requests.get(url)", "python", List.of("network"), 0));
+        index.upsert(SearchDocument.builder().type(SearchDocument.Type.POST).id(1L)
+                .title("정렬 질문").body("quickSort 가 느려요").category("QNA").likeCount(0).build());
+        index.markReady();
+
+        assertThat(index.search(SearchDocument.Type.SNIPPET, "quickSort", null, 0, 10).getIds()).containsExactly(1L);
+        assertThat(index.search(SearchDocument.Type.SNIPPET, "sort", null, 0, 10).getIds()).containsExactly(1L);
+        assertThat(index.search(SearchDocument.Type.SNIPPET, "algorithm", null, 0, 10).getIds()).containsExactly(1L);
+        assertThat(index.search(SearchDocument.Type.SNIPPET, "requests", "PYTHON", 0, 10).getIds()).containsExactly(2L);
+        assertThat(index.search(SearchDocument.Type.SNIPPET, "requests", "java", 0, 10).getIds()).isEmpty();
+        assertThat(index.search(SearchDocument.Type.POST, "정렬", null, 0, 10).getIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("관련도가 같으면 좋아요가 많은 문서가 앞선다")
+    void search_boostsByLikes() {
+        index.upsert(snippet(1L, "binary search", "설명", "", "java", List.of(), 0));
+        index.upsert(snippet(2L, "binary search", "설명", "", "java", List.of(), 0));
+        index.markReady();
+
+        index.updateLikes(SearchDocument.Type.SNIPPET, 2L, 50);
+        index.refresh();
+
+        SearchIndex.Hits hits = index.search(SearchDocument.Type.SNIPPET, "binary search", null, 0, 10);
+        assertThat(hits.getIds()).containsExactly(2L, 1L);
+        assertThat(hits.getTotal()).isEqualTo(2);
+        assertThat(index.search(SearchDocument.Type.SNIPPET, "binary search", null, 1, 10).getIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수정은 같은 문서를 교체하고 삭제하면 더 이상 검색되지 않는다")
+    void upsertAndDelete_replaceDocument() {
+        index.upsert(snippet(1L, "old title", "설명", "", "java", List.of(), 0));
+        index.upsert(snippet(1L, "new title", "설명", "", "java", List.of(), 0));
+        index.markReady();
+
+        assertThat(index.search(SearchDocument.Type.SNIPPET, "old", null, 0, 10).getIds()).isEmpty();
+        assertThat(index.search(SearchDocument.Type.SNIPPET, "title", null, 0, 10).getTotal()).isEqualTo(1);
+
+        index.delete(SearchDocument.Type.SNIPPET, 1L);
+        index.refresh();
+
+        assertThat(index.search(SearchDocument.Type.SNIPPET, "title", null, 0, 10).getIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초기 적재 도중 커밋된 색인은 다시 열어도 준비되지 않은 상태로 본다")
+    void reopen_partialBootstrap_isNotReady() {
+        index.upsert(snippet(1L, "binary search", "설명", "", "java", List.of(), 0));
+        index.commit();
+        index.close();
+
+        index = reopen();
+
+        assertThat(index.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("초기 적재 완료 표시와 동기화 시각은 커밋과 함께 남아 재시작 후에도 유지된다")
+    void reopen_completedBootstrap_isReady() {
+        index.upsert(snippet(1L, "binary search", "설명", "", "java", List.of(), 0));
+        index.markSynced(1_700_000_000_000L);
+        index.markReady();
+        index.close();
+
+        index = reopen();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.getSyncedThrough()).isEqualTo(1_700_000_000_000L);
+        assertThat(index.search(SearchDocument.Type.SNIPPET, "binary", null, 0, 10).getIds()).containsExactly(1L);
+    }
+
+    private SearchIndex reopen() {
+        SearchIndex reopened = new SearchIndex();
+        ReflectionTestUtils.setField(reopened, "indexDir", indexDir.toString());
+        reopened.init();
+        return reopened;
+    }
+
+    private static SearchDocument snippet(Long id, String title, String description, String code, String language,
+                                          List<String> tags, int likes) {
+        return SearchDocument.builder()
+                .type(SearchDocument.Type.SNIPPET)
+                .id(id)
+                .title(title)
+                .body(description)
+                .code(code)
+                .category(language)
+                .tags(tags)
+                .likeCount(likes)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.snippethub.api.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTest {
+
+    @Test
+    @DisplayName("정규식에서 반드시 나오는 최상위 리터럴만 뽑는다")
+    void requiredLiterals_areConservative() {
+        assertThat(TrigramIndex.requiredLiterals("System\\.out\\.println")).containsExactly("System.out.println");
+        assertThat(TrigramIndex.requiredLiterals("\\bparseInt\\s*\\(")).containsExactly("parseInt");
+        assertThat(TrigramIndex.requiredLiterals("get(User)?Name")).containsExactly("get", "Name");
+        assertThat(TrigramIndex.requiredLiterals("colou?r_name")).containsExactly("colo", "r_name");
+        assertThat(TrigramIndex.requiredLiterals("a[bc]def+gh")).containsExactly("def");
+        assertThat(TrigramIndex.requiredLiterals("foo|barbaz")).isEmpty();
+        assertThat(TrigramIndex.requiredTrigrams(".*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인자가 붙는 escape 는 인자까지 리터럴이 끊기는 곳으로 본다")
+    void requiredLiterals_skipEscapeArguments() {
+        assertThat(TrigramIndex.requiredLiterals("\\u0070rintln")).containsExactly("rintln");
+        assertThat(TrigramIndex.requiredLiterals("\\x70rintln")).containsExactly("rintln");
+        assertThat(TrigramIndex.requiredLiterals("\\x{70}rintln")).containsExactly("rintln");
+        assertThat(TrigramIndex.requiredLiterals("\\0160rintln")).containsExactly("rintln");
+        assertThat(TrigramIndex.requiredLiterals("foo\\cJbarbaz")).containsExactly("foo", "barbaz");
+        assertThat(TrigramIndex.requiredLiterals("(?<q>a)\\k<q>println")).containsExactly("println");
+        assertThat(TrigramIndex.requiredLiterals("\\p{Lu}ppercase\\pLetter")).containsExactly("ppercase", "etter");
+        assertThat(TrigramIndex.requiredLiterals("(ab)\\12345xyz")).containsExactly("xyz");
+
+        // 추출한 리터럴로 거른 후보가 실제 일치를 놓치지 않는다
+        for (String regex : new String[]{"\\u0070rintln", "\\x70rint", "\\0160rintln", "\\x{70}rintln"}) {
+            TrigramIndex index = new TrigramIndex.Builder().add(1, "System.out.println(x);").build();
+            assertThat(Pattern.compile(regex).matcher("System.out.println(x);").find()).isTrue();
+            assertThat(index.candidates(TrigramIndex.requiredTrigrams(regex))).containsExactly(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("증분 수정/삭제 후에도 후보는 실제 일치 문서를 모두 포함한다")
+    void candidates_neverMissMatchingDocuments() {
+        String[] words = {"parseInt", "HashMap", "foo", "bar", "print", "System.out", "List<String>", "getUser", "lambda"};
+        Random random = new Random(1);
+        Map<Long, String> documents = new TreeMap<>();
+        TrigramIndex.Builder builder = new TrigramIndex.Builder();
+        for (long id = 1; id <= 2000; id++) {
+            StringBuilder code = new StringBuilder();
+            for (int k = 0; k < 5; k++) {
+                code.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            documents.put(id, code.toString());
+            builder.add(id, code.toString());
+        }
+        TrigramIndex index = builder.build();
+        for (int k = 0; k < 300; k++) {
+            long id = 1 + random.nextInt(2500);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                documents.remove(id);
+            } else {
+                String code = words[random.nextInt(words.length)] + " changed";
+                index.put(id, code);
+                documents.put(id, code);
+            }
+        }
+
+        for (String regex : new String[]{"parseInt", "HashMap\\(", "System\\.out\\.print", "getUser.*Int", "List<String>"}) {
+            Pattern pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+            Set<Long> candidates = new HashSet<>();
+            for (long id : index.candidates(TrigramIndex.requiredTrigrams(regex))) {
+                candidates.add(id);
+            }
+            documents.forEach((id, code) -> {
+                if (pattern.matcher(code).find()) {
+                    assertThat(candidates).contains(id);
+                }
+            });
+            assertThat(candidates).allMatch(documents::containsKey); // 삭제된 문서는 후보가 아님
+        }
+    }
+}
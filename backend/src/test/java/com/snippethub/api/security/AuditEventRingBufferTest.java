@@ -0,0 +1,61 @@
+package com.snippethub.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditEventRingBufferTest {
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 이벤트를 버리고 드롭 카운터를 증가시킨다")
+    void offer_dropsWhenFull() {
+        AuditEventRingBuffer<Integer> buffer = new AuditEventRingBuffer<>(4);
+
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 10);
+        assertThat(drained).containsExactly(0, 1, 2, 3);
+        assertThat(buffer.getDroppedCount()).isEqualTo(2);
+        assertThat(buffer.offer(6)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 이벤트가 유실되거나 중복되지 않는다")
+    void offer_concurrentProducers() throws Exception {
+        AuditEventRingBuffer<Long> buffer = new AuditEventRingBuffer<>(1024);
+        int producers = 4;
+        int eventsPerProducer = 100_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * eventsPerProducer;
+            executor.submit(() -> {
+                for (long i = 0; i < eventsPerProducer; i++) {
+                    buffer.offer(base + i);
+                }
+                done.countDown();
+            });
+        }
+
+        List<Long> drained = new ArrayList<>();
+        while (done.getCount() > 0 || buffer.size() > 0) {
+            buffer.drainTo(drained, 256);
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(drained.size() + buffer.getDroppedCount()).isEqualTo((long) producers * eventsPerProducer);
+        assertThat(drained).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,106 @@
+package com.snippethub.api.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CostBasedRateLimiterTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    private CostBasedRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        ClientIpResolver clientIpResolver = new ClientIpResolver();
+        ReflectionTestUtils.setField(clientIpResolver, "trustedProxies", "127.0.0.1,::1");
+        clientIpResolver.init();
+
+        // 저장소 없이 노드 로컬 버킷만 사용
+        limiter = new CostBasedRateLimiter(new DistributedRateLimiter(null, Duration.ofSeconds(30)), clientIpResolver);
+        ReflectionTestUtils.setField(limiter, "rateLimitingEnabled", true);
+        ReflectionTestUtils.setField(limiter, "executionBudgetMs", 1000L);
+        ReflectionTestUtils.setField(limiter, "executionWindow", 3600);
+        ReflectionTestUtils.setField(limiter, "aiTokenBudget", 100L);
+        ReflectionTestUtils.setField(limiter, "aiWindow", 3600);
+        limiter.initBucketConfigurations();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("실행 후 기록한 실제 비용만큼 예산이 줄어 예산을 다 쓰면 이후 요청이 거절된다")
+    void recordCost_consumesBudget() {
+        assertThat(limiter.tryAcquire(CostBasedRateLimiter.CostType.CODE_EXECUTION, EMAIL)).isTrue();
+        limiter.recordCost(CostBasedRateLimiter.CostType.CODE_EXECUTION, EMAIL, 600);
+
+        assertThat(limiter.tryAcquire(CostBasedRateLimiter.CostType.CODE_EXECUTION, EMAIL)).isTrue();
+        limiter.recordCost(CostBasedRateLimiter.CostType.CODE_EXECUTION, EMAIL, 400);
+
+        assertThat(limiter.tryAcquire(CostBasedRateLimiter.CostType.CODE_EXECUTION, EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 번의 비용이 예산을 넘으면 잔량이 음수가 되어 충전될 때까지 거절된다")
+    void recordCost_beyondBudget_blocksUntilRefill() {
+        assertThat(limiter.tryAcquire(CostBasedRateLimiter.CostType.CODE_EXECUTION, EMAIL)).isTrue();
+        limiter.recordCost(CostBasedRateLimiter.CostType.CODE_EXECUTION, EMAIL, 5000);
+
+        assertThat(limiter.tryAcquire(CostBasedRateLimiter.CostType.CODE_EXECUTION, EMAIL)).isFalse();
+        assertThat(limiter.tryAcquire(CostBasedRateLimiter.CostType.CODE_EXECUTION, "other@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("비용 종류별로 예산을 따로 관리한다")
+    void budgets_areSeparatedByCostType() {
+        limiter.tryAcquire(CostBasedRateLimiter.CostType.AI_TOKENS, EMAIL);
+        limiter.recordCost(CostBasedRateLimiter.CostType.AI_TOKENS, EMAIL, 100);
+
+        assertThat(limiter.tryAcquire(CostBasedRateLimiter.CostType.AI_TOKENS, EMAIL)).isFalse();
+        assertThat(limiter.tryAcquire(CostBasedRateLimiter.CostType.CODE_EXECUTION, EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("직접 연결한 클라이언트가 보낸 X-Forwarded-For 는 무시하고 연결 주소로 예산을 관리한다")
+    void resolveSubject_ignoresSpoofedForwardedFor() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertThat(limiter.resolveSubject(null)).isEqualTo("ip:203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시를 거친 요청은 프록시가 덧붙인 클라이언트 주소로 예산을 관리한다")
+    void resolveSubject_usesForwardedForFromTrustedProxy() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+        request.addHeader("X-Forwarded-For", "10.9.9.9, 198.51.100.1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertThat(limiter.resolveSubject(null)).isEqualTo("ip:198.51.100.1");
+    }
+
+    @Test
+    @DisplayName("요청 컨텍스트가 없는 내부 작업은 제한하지 않는다")
+    void systemSubject_isNotLimited() {
+        limiter.recordCost(CostBasedRateLimiter.CostType.CODE_EXECUTION, null, 5000);
+
+        assertThat(limiter.tryAcquire(CostBasedRateLimiter.CostType.CODE_EXECUTION, null)).isTrue();
+    }
+}
@@ -0,0 +1,139 @@
+package com.snippethub.api.security;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DistributedRateLimiterTest {
+
+    private static final BucketConfiguration FIVE_PER_MINUTE = BucketConfiguration.builder()
+            .addLimit(Bandwidth.classic(5, Refill.greedy(5, Duration.ofMinutes(1))))
+            .build();
+
+    @Test
+    @DisplayName("여러 노드가 같은 저장소를 공유하면 한도가 클러스터 전체에 적용된다")
+    void sharedStore_limitAppliesAcrossNodes() {
+        InMemoryBucketStore redis = new InMemoryBucketStore();
+        DistributedRateLimiter node1 = new DistributedRateLimiter(redis, Duration.ofSeconds(30));
+        DistributedRateLimiter node2 = new DistributedRateLimiter(redis, Duration.ofSeconds(30));
+
+        int consumed = 0;
+        for (int i = 0; i < 5; i++) {
+            DistributedRateLimiter node = i % 2 == 0 ? node1 : node2;
+            if (node.tryConsume("1.1.1.1:/api/posts:GET", FIVE_PER_MINUTE).isConsumed()) {
+                consumed++;
+            }
+        }
+
+        assertThat(consumed).isEqualTo(5);
+        assertThat(node1.tryConsume("1.1.1.1:/api/posts:GET", FIVE_PER_MINUTE).isConsumed()).isFalse();
+        assertThat(node2.tryConsume("1.1.1.1:/api/posts:GET", FIVE_PER_MINUTE).isConsumed()).isFalse();
+        assertThat(node1.getBackendName()).isEqualTo("in-memory");
+    }
+
+    @Test
+    @DisplayName("저장소 장애 시 로컬 버킷으로 대체하고 재시도 간격 동안 저장소를 호출하지 않는다")
+    void storeFailure_fallsBackToLocalBuckets() {
+        FailingBucketStore redis = new FailingBucketStore();
+        DistributedRateLimiter limiter = new DistributedRateLimiter(redis, Duration.ofMinutes(1));
+
+        int consumed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (limiter.tryConsume("1.1.1.1:/api/auth/login:POST", FIVE_PER_MINUTE).isConsumed()) {
+                consumed++;
+            }
+        }
+
+        assertThat(consumed).isEqualTo(5);
+        assertThat(redis.calls.get()).isEqualTo(1);
+        assertThat(limiter.isStoreAvailable()).isFalse();
+        assertThat(limiter.getBackendName()).isEqualTo("local");
+    }
+
+    @Test
+    @DisplayName("저장소 없이 생성하면 로컬 버킷만 사용한다")
+    void withoutStore_usesLocalBuckets() {
+        DistributedRateLimiter limiter = new DistributedRateLimiter(null, Duration.ofSeconds(30));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryConsume("key", FIVE_PER_MINUTE).isConsumed()).isTrue();
+        }
+
+        assertThat(limiter.tryConsume("key", FIVE_PER_MINUTE).isConsumed()).isFalse();
+        assertThat(limiter.getBackendName()).isEqualTo("local");
+    }
+
+    @Test
+    @DisplayName("초기화하면 조건에 맞는 키의 버킷이 다시 채워진다")
+    void reset_removesMatchingBuckets() {
+        InMemoryBucketStore redis = new InMemoryBucketStore();
+        DistributedRateLimiter limiter = new DistributedRateLimiter(redis, Duration.ofSeconds(30));
+        for (int i = 0; i < 5; i++) {
+            limiter.tryConsume("1.1.1.1:/api/posts:GET", FIVE_PER_MINUTE);
+            limiter.tryConsume("2.2.2.2:/api/posts:GET", FIVE_PER_MINUTE);
+        }
+
+        int removed = limiter.reset(key -> key.startsWith("1.1.1.1:"));
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(limiter.tryConsume("1.1.1.1:/api/posts:GET", FIVE_PER_MINUTE).isConsumed()).isTrue();
+        assertThat(limiter.tryConsume("2.2.2.2:/api/posts:GET", FIVE_PER_MINUTE).isConsumed()).isFalse();
+    }
+
+    /**
+     * Redis 대역. 모든 노드가 같은 버킷 인스턴스를 공유한다.
+     */
+    private static class InMemoryBucketStore implements RateLimitBucketStore {
+
+        private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+        @Override
+        public Bucket resolve(String key, BucketConfiguration configuration) {
+            return buckets.computeIfAbsent(key, k -> Bucket.builder()
+                    .addLimit(configuration.getBandwidths()[0])
+                    .build());
+        }
+
+        @Override
+        public void remove(String key) {
+            buckets.remove(key);
+        }
+
+        @Override
+        public String name() {
+            return "in-memory";
+        }
+    }
+
+    private static class FailingBucketStore implements RateLimitBucketStore {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Bucket resolve(String key, BucketConfiguration configuration) {
+            calls.incrementAndGet();
+            throw new IllegalStateException("Unable to connect to localhost:6379");
+        }
+
+        @Override
+        public void remove(String key) {
+            calls.incrementAndGet();
+            throw new IllegalStateException("Unable to connect to localhost:6379");
+        }
+
+        @Override
+        public String name() {
+            return "redis";
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.snippethub.api.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InputValidationFilterTest {
+
+    private static final String BROWSER_USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36";
+
+    private InputValidationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new InputValidationFilter();
+        ReflectionTestUtils.setField(filter, "inputValidationEnabled", true);
+    }
+
+    @Test
+    @DisplayName("허용 경로는 쿼리 스트링과 관계없이 통과한다")
+    void whitelistedPath_skipsChecks() throws Exception {
+        MockHttpServletResponse response = doFilter("/api/snippets", "search=select%20*", "evil.example.com");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("허용 prefix가 아닌 경로는 Path Traversal을 차단한다")
+    void pathTraversal_isBlocked() throws Exception {
+        MockHttpServletResponse response = doFilter("/api/auth/../etc/passwd", null, "localhost:8080");
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("Invalid request path");
+    }
+
+    @Test
+    @DisplayName("SQL/XSS 패턴이 포함된 쿼리 스트링을 차단한다")
+    void maliciousQuery_isBlocked() throws Exception {
+        assertThat(doFilter("/api/auth/verify", "token=1%20OR%201=1", "localhost:8080").getStatus()).isEqualTo(200);
+        assertThat(doFilter("/api/auth/verify", "token=1 OR 1=1", "localhost:8080").getStatus()).isEqualTo(400);
+        assertThat(doFilter("/api/ai/evaluate", "q=<script>alert(1)", "localhost:8080").getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("정상 쿼리 스트링은 캐시된 후에도 같은 결과를 반환한다")
+    void benignQuery_isCached() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(doFilter("/api/auth/verify", "token=abc123", "localhost:8080").getStatus()).isEqualTo(200);
+        }
+        assertThat(doFilter("/api/auth/verify", "token=abc123;", "localhost:8080").getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 Host 헤더를 차단한다")
+    void invalidHost_isBlocked() throws Exception {
+        MockHttpServletResponse response = doFilter("/api/auth/login", null, "evil.example.com");
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("Invalid headers");
+    }
+
+    @Test
+    @DisplayName("경로 트라이와 합친 패턴은 기존 경로 목록/패턴 목록 방식과 같은 판정을 내린다")
+    void decisions_matchPatternLists() throws Exception {
+        MockHttpServletRequest[] requests = {
+                createRequest("/api/posts", "page=0&size=10&sort=createdAt,desc", "localhost:8080"),
+                createRequest("/api/snippets", "search=select%20*", "evil.example.com"),
+                createRequest("/api/auth/verify", "token=2f1c9a7e-55b1-4a0e-9d8a-1e2b3c4d5e6f", "localhost:8080"),
+                createRequest("/api/auth/verify", "token=1 OR 1=1", "localhost:8080"),
+                createRequest("/api/auth/verify", "token=abc' --", "localhost:8080"),
+                createRequest("/api/auth/verify", "q=1 UNION SELECT password", "localhost:8080"),
+                createRequest("/api/auth/login", null, "evil.example.com"),
+                createRequest("/api/auth/../etc/passwd", null, "localhost:8080"),
+                createRequest("/api/code/execute", null, "localhost:3000"),
+                createRequest("/api/code/execute", "lang=js&q=window.location", "localhost:3000"),
+                createRequest("/api/ai/problems", "difficulty=EASY&category=ARRAY", "snippethub.co.kr"),
+                createRequest("/api/ai/evaluate", "q=<ScRiPt>alert(1)", "snippethub.co.kr"),
+                createRequest("/api/ai/evaluate", "q=%3Ciframe%3E", "snippethub.co.kr")
+        };
+        LegacyValidator legacy = new LegacyValidator();
+
+        // 두 번째 바퀴는 통과 캐시를 거친 판정
+        for (int round = 0; round < 2; round++) {
+            for (MockHttpServletRequest request : requests) {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                filter.doFilter(request, response, new MockFilterChain());
+
+                assertThat(response.getStatus() == 200)
+                        .as("%s?%s (Host: %s)", request.getRequestURI(), request.getQueryString(), request.getHeader("Host"))
+                        .isEqualTo(legacy.isValid(request));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("User-Agent 에 스크립트가 있으면 차단하고, 정상 User-Agent 는 캐시된 후에도 통과한다")
+    void maliciousUserAgent_isBlocked() throws Exception {
+        MockHttpServletRequest malicious = createRequest("/api/auth/login", null, "localhost:8080");
+        malicious.removeHeader("User-Agent");
+        malicious.addHeader("User-Agent", "<script>alert(1)</script>");
+        MockHttpServletResponse blocked = new MockHttpServletResponse();
+        filter.doFilter(malicious, blocked, new MockFilterChain());
+
+        assertThat(blocked.getStatus()).isEqualTo(400);
+        for (int i = 0; i < 2; i++) {
+            assertThat(doFilter("/api/auth/login", null, "localhost:8080").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletRequest createRequest(String uri, String queryString, String host) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setQueryString(queryString);
+        request.addHeader("Host", host);
+        request.addHeader("User-Agent", BROWSER_USER_AGENT);
+        return request;
+    }
+
+    private MockHttpServletResponse doFilter(String uri, String queryString, String host) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(createRequest(uri, queryString, host), response, new MockFilterChain());
+        return response;
+    }
+
+    /**
+     * 변경 전 검증 방식 (경로 startsWith 체인 + 패턴 목록 순회). 판정 비교 기준으로만 쓴다
+     */
+    private static class LegacyValidator {
+
+        private static final List<Pattern> SQL_INJECTION_PATTERNS = Arrays.asList(
+                Pattern.compile("(?i)\\b(SELECT|INSERT|UPDATE|DELETE|DROP|CREATE|ALTER|EXEC)\\b"),
+                Pattern.compile("(?i)\\b(UNION\\s+ALL|UNION\\s+SELECT)\\b"),
+                Pattern.compile("(?i)(--|;|'|\"|/\\*|\\*/)"),
+                Pattern.compile("(?i)\\b(xp_cmdshell|sp_executesql|EXECUTE)\\b"),
+                Pattern.compile("(?i)\\b(OR|AND)\\s*=\\s*['\"]?\\d+['\"]?"),
+                Pattern.compile("(?i)\\b(OR|AND)\\s+\\d+\\s*=\\s*\\d+")
+        );
+
+        private static final List<Pattern> XSS_PATTERNS = Arrays.asList(
+                Pattern.compile("(?i)(<script|javascript:|vbscript:|onload=|onerror=|onclick=)"),
+                Pattern.compile("(?i)(<iframe|<object|<embed|<form)"),
+                Pattern.compile("(?i)(document\\.|window\\.|eval\\(|alert\\()")
+        );
+
+        private static final List<Pattern> PATH_TRAVERSAL_PATTERNS = Arrays.asList(
+                Pattern.compile("(?i)(\\.\\./|\\.\\.\\\\|%2e%2e%2f|%2e%2e%5c)"),
+                Pattern.compile("(?i)(/etc/|/var/|/tmp/|/home/|/root/)")
+        );
+
+        boolean isValid(HttpServletRequest request) {
+            String path = request.getRequestURI();
+            String queryString = request.getQueryString();
+            String host = request.getHeader("Host");
+            String userAgent = request.getHeader("User-Agent");
+            if (path.startsWith("/api/posts") || path.startsWith("/api/snippets") || path.startsWith("/api/problems")
+                    || path.startsWith("/api/users") || path.startsWith("/api/comments") || path.startsWith("/api/likes")
+                    || path.startsWith("/api/notifications") || path.startsWith("/api/badges")
+                    || path.startsWith("/api/points") || path.startsWith("/api/languages")
+                    || path.startsWith("/api/daily-problems") || path.startsWith("/api/submissions")
+                    || path.startsWith("/api/executions") || path.startsWith("/api/files")
+                    || path.startsWith("/api/security") || path.startsWith("/actuator") || path.startsWith("/ws")) {
+                return true;
+            }
+            if (matches(path, PATH_TRAVERSAL_PATTERNS)) {
+                return false;
+            }
+            if (queryString != null && (matches(queryString, SQL_INJECTION_PATTERNS) || matches(queryString, XSS_PATTERNS))) {
+                return false;
+            }
+            List<String> allowedHosts = Arrays.asList("snippethub.co.kr",
+                    "snippethub-frontend.s3-website.ap-northeast-2.amazonaws.com", "localhost:8080", "localhost:3000");
+            if (allowedHosts.stream().noneMatch(host::contains)) {
+                return false;
+            }
+            return !matches(userAgent, XSS_PATTERNS);
+        }
+
+        private boolean matches(String input, List<Pattern> patterns) {
+            return patterns.stream().anyMatch(pattern -> pattern.matcher(input).find());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.snippethub.api.security;
+
+import com.snippethub.api.domain.User;
+import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtRequestFilterTest {
+
+    // 테스트용 HS512 키 (64바이트, Base64)
+    private static final String SECRET =
+            "c25pcHBldGh1Yi10ZXN0LXNlY3JldC1rZXktZm9yLWp3dC1maWx0ZXItdGVzdHMtbXVzdC1iZS02NC1ieXRlcy1sb25nISE=";
+    private static final String EMAIL = "test@example.com";
+    private static final int REQUESTS = 500;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenBlacklist tokenBlacklist;
+
+    private JwtRequestFilter filter;
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+
+        UserDetailsCache userDetailsCache = new UserDetailsCache(userRepository);
+        ReflectionTestUtils.setField(userDetailsCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(userDetailsCache, "maxSize", 100);
+
+        filter = new JwtRequestFilter(new CustomUserDetailsService(userRepository), jwtUtil, tokenBlacklist, userDetailsCache);
+
+        JwtUserDetails principal = new JwtUserDetails(1L, EMAIL, "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+        accessToken = new TokenProvider(SECRET, 3600, 86400).generateTokenDto(authentication).getAccessToken();
+
+        User user = User.builder()
+                .email(EMAIL)
+                .password("password")
+                .nickname("testuser")
+                .build();
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("기존 모드는 인증 요청마다 사용자 DB 조회가 발생한다")
+    void legacyMode_queriesUserPerRequest() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessAuthEnabled", false);
+
+        assertThat(runRequests()).isEqualTo(REQUESTS);
+    }
+
+    @Test
+    @DisplayName("Stateless 모드는 캐시 TTL 동안 사용자 DB 조회가 한 번만 발생한다")
+    void statelessMode_queriesUserOncePerTtl() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessAuthEnabled", true);
+
+        assertThat(runRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Stateless 모드의 인증 주체는 토큰 클레임의 이메일과 캐시된 사용자 권한을 가진다")
+    void statelessMode_buildsPrincipalFromClaims() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessAuthEnabled", true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo(EMAIL);
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("Stateless 모드는 토큰에 남은 관리자 권한이 아니라 현재 사용자 권한으로 인증한다")
+    void statelessMode_ignoresStaleAuthoritiesClaim() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessAuthEnabled", true);
+        JwtUserDetails admin = new JwtUserDetails(1L, EMAIL, "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+        String adminToken = new TokenProvider(SECRET, 3600, 86400)
+                .generateTokenDto(new UsernamePasswordAuthenticationToken(admin, "", admin.getAuthorities()))
+                .getAccessToken();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/dead-letters/events/replay");
+        request.addHeader("Authorization", "Bearer " + adminToken);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("클레임 캐시에 적중하면 서명 검증과 파싱 없이 인증한다")
+    void claimsCacheHit_skipsParsing() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessAuthEnabled", true);
+        runRequests();
+        JwtParser parser = mock(JwtParser.class);
+        ReflectionTestUtils.setField(jwtUtil, "parser", parser);
+
+        runRequests();
+
+        verifyNoInteractions(parser);
+    }
+
+    @Test
+    @DisplayName("캐시된 클레임은 요청마다 사본으로 받아 한 요청의 수정이 다른 요청에 보이지 않는다")
+    void cachedClaims_areCopiedPerCaller() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessAuthEnabled", true);
+        runRequests();
+
+        Claims first = jwtUtil.parseClaims(accessToken);
+        first.setSubject("attacker@example.com");
+        first.put(TokenProvider.AUTHORITIES_KEY, "ROLE_ADMIN");
+
+        Claims second = jwtUtil.parseClaims(accessToken);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getSubject()).isEqualTo(EMAIL);
+        assertThat(second.get(TokenProvider.AUTHORITIES_KEY)).isEqualTo("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("캐시된 클레임이 있어도 블랙리스트에 등록된 토큰은 거부된다")
+    void blacklistedToken_rejectedEvenWhenCached() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessAuthEnabled", true);
+        runRequests();
+        when(tokenBlacklist.isBlacklisted(accessToken)).thenReturn(true);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private long runRequests() throws Exception {
+        for (int i = 0; i < REQUESTS; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+            request.addHeader("Authorization", "Bearer " + accessToken);
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+            SecurityContextHolder.clearContext();
+        }
+        return mockingDetails(userRepository).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("findByEmail"))
+                .count();
+    }
+}
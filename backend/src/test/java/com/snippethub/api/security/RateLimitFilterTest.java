@@ -0,0 +1,82 @@
+package com.snippethub.api.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final String BROWSER_USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36";
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // 기본 신뢰 프록시 (루프백 + 사설 대역)
+        ClientIpResolver clientIpResolver = new ClientIpResolver();
+        clientIpResolver.init();
+
+        filter = new RateLimitFilter(new DistributedRateLimiter(null, Duration.ofSeconds(30)), clientIpResolver);
+        ReflectionTestUtils.setField(filter, "rateLimitingEnabled", true);
+        ReflectionTestUtils.setField(filter, "defaultLimit", 100);
+        ReflectionTestUtils.setField(filter, "defaultWindow", 60);
+        ReflectionTestUtils.setField(filter, "aiApiLimit", 10);
+        ReflectionTestUtils.setField(filter, "aiApiWindow", 60);
+        ReflectionTestUtils.setField(filter, "codeExecutionLimit", 5);
+        ReflectionTestUtils.setField(filter, "codeExecutionWindow", 60);
+        ReflectionTestUtils.setField(filter, "authLimit", 5);
+        ReflectionTestUtils.setField(filter, "authWindow", 300);
+        filter.initBucketConfigurations();
+    }
+
+    @Test
+    @DisplayName("사설망 로드밸런서를 거친 요청은 X-Forwarded-For 의 클라이언트 주소로 통과한다")
+    void privateLoadBalancer_withPublicForwardedFor_isAllowed() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = doFilter("10.0.0.5", "198.51.100.1", chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(filter.getRateLimitStatusForIp("198.51.100.1").get("totalBuckets")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프록시 헤더 없이 설정된 프록시 주소에서 온 요청(헬스 체크 등)은 거부하지 않는다")
+    void trustedProxyHop_withoutForwardedFor_isAllowed() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = doFilter("10.0.0.5", null, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("직접 연결한 공인 주소가 보낸 X-Forwarded-For 는 무시하고 연결 주소로 제한한다")
+    void untrustedRemote_ignoresForwardedFor() throws Exception {
+        doFilter("203.0.113.7", "198.51.100.1", new MockFilterChain());
+
+        assertThat(filter.getRateLimitStatusForIp("203.0.113.7").get("totalBuckets")).isEqualTo(1);
+        assertThat(filter.getRateLimitStatusForIp("198.51.100.1").get("totalBuckets")).isEqualTo(0);
+    }
+
+    private MockHttpServletResponse doFilter(String remoteAddr, String forwardedFor, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/snippets");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("User-Agent", BROWSER_USER_AGENT);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -66,6 +66,9 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private LevelStatsTracker levelStatsTracker;
+
     private UserRegisterRequestDto registerRequestDto;
     private UserLoginRequestDto loginRequestDto;
     private User user;
@@ -0,0 +1,76 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.Badge;
+import com.snippethub.api.domain.BadgeCategory;
+import com.snippethub.api.repository.BadgeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BadgeCatalogTest {
+
+    @InjectMocks
+    private BadgeCatalog badgeCatalog;
+
+    @Mock
+    private BadgeRepository badgeRepository;
+
+    @Test
+    @DisplayName("처음 한 번만 DB에서 읽고 이후 조회는 모두 메모리에서 처리한다")
+    void reads_areServedFromMemory() {
+        when(badgeRepository.findAll()).thenReturn(List.of(
+                badge(2L, "COMMENTATOR_10", BadgeCategory.ENGAGEMENT, 15),
+                badge(1L, "FIRST_POST", BadgeCategory.CREATION, 10),
+                badge(3L, "FIRST_COMMENT", BadgeCategory.ENGAGEMENT, 5)));
+
+        assertThat(badgeCatalog.getAll()).extracting(Badge::getId).containsExactly(1L, 2L, 3L);
+        assertThat(badgeCatalog.getByCategory(BadgeCategory.ENGAGEMENT)).extracting(Badge::getName)
+                .containsExactly("COMMENTATOR_10", "FIRST_COMMENT");
+        assertThat(badgeCatalog.getByCategory(BadgeCategory.SPECIAL)).isEmpty();
+        assertThat(badgeCatalog.getById(1L).getName()).isEqualTo("FIRST_POST");
+        assertThat(badgeCatalog.getByName("FIRST_COMMENT").getId()).isEqualTo(3L);
+
+        verify(badgeRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 재로딩해도 버전이 유지되고, 바뀌면 버전이 바뀐다")
+    void reload_changesVersionOnlyWhenContentChanges() {
+        when(badgeRepository.findAll())
+                .thenReturn(List.of(badge(1L, "FIRST_POST", BadgeCategory.CREATION, 10)))
+                .thenReturn(List.of(badge(1L, "FIRST_POST", BadgeCategory.CREATION, 10)))
+                .thenReturn(List.of(badge(1L, "FIRST_POST", BadgeCategory.CREATION, 20)));
+
+        String initial = badgeCatalog.getVersion();
+
+        assertThat(badgeCatalog.reload()).isFalse();
+        assertThat(badgeCatalog.getVersion()).isEqualTo(initial);
+
+        assertThat(badgeCatalog.reload()).isTrue();
+        assertThat(badgeCatalog.getVersion()).isNotEqualTo(initial);
+        assertThat(badgeCatalog.getById(1L).getPointsReward()).isEqualTo(20);
+    }
+
+    private Badge badge(Long id, String name, BadgeCategory category, int reward) {
+        Badge badge = Badge.builder()
+                .name(name)
+                .description(name)
+                .category(category)
+                .pointsReward(reward)
+                .build();
+        ReflectionTestUtils.setField(badge, "id", id);
+        return badge;
+    }
+}
@@ -0,0 +1,112 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.Badge;
+import com.snippethub.api.domain.BadgeCategory;
+import com.snippethub.api.repository.BadgeRepository;
+import com.snippethub.api.repository.UserBadgeRepository;
+import com.snippethub.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BadgeEngineTest {
+
+    @InjectMocks
+    private BadgeEngine badgeEngine;
+
+    @Mock
+    private BadgeCatalog badgeCatalog;
+
+    @Mock
+    private BadgeRepository badgeRepository;
+
+    @Mock
+    private UserBadgeRepository userBadgeRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(badgeCatalog.getVersion()).thenReturn("6-test");
+        when(badgeCatalog.getAll()).thenReturn(List.of(
+                badge(1L, "FIRST_COMMENT", BadgeCategory.ENGAGEMENT, 5),
+                badge(2L, "COMMENTATOR_10", BadgeCategory.ENGAGEMENT, 15),
+                badge(3L, "COMMENTATOR_25", BadgeCategory.ENGAGEMENT, 25),
+                badge(4L, "POPULAR_10", BadgeCategory.ENGAGEMENT, 20),
+                badge(5L, "SILVER_ACHIEVER", BadgeCategory.MILESTONE, 50),
+                badge(6L, "NIGHT_OWL", BadgeCategory.SPECIAL, 100)));
+    }
+
+    @Test
+    @DisplayName("넘어선 임계값이 없으면 DB를 전혀 조회하지 않는다")
+    void award_noThresholdCrossed_issuesNoQueries() {
+        List<BadgeEngine.BadgeRule> awarded = badgeEngine.award(1L, new BadgeEngine.Progress()
+                .record(BadgeEngine.Trigger.COMMENTS, 3, 4)
+                .record(BadgeEngine.Trigger.LIKES_RECEIVED, 5, 9));
+
+        assertThat(awarded).isEmpty();
+        verifyNoInteractions(userBadgeRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("이번 증분으로 넘어선 임계값의 뱃지만 지급하고, 이미 받은 뱃지는 다시 조회하지 않는다")
+    void award_crossedThreshold_awardsOnceAndCachesEarnedBits() {
+        when(userBadgeRepository.findBadgeIdsByUserId(1L)).thenReturn(List.of(1L));
+
+        List<BadgeEngine.BadgeRule> awarded = badgeEngine.award(1L, new BadgeEngine.Progress()
+                .record(BadgeEngine.Trigger.COMMENTS, 0, 10));
+
+        // FIRST_COMMENT 는 이미 보유 → COMMENTATOR_10 만 지급
+        assertThat(awarded).extracting(BadgeEngine.BadgeRule::getName).containsExactly("COMMENTATOR_10");
+        verify(userBadgeRepository).saveAll(anyList());
+
+        List<BadgeEngine.BadgeRule> again = badgeEngine.award(1L, new BadgeEngine.Progress()
+                .record(BadgeEngine.Trigger.COMMENTS, 9, 10));
+
+        assertThat(again).isEmpty();
+        verify(userBadgeRepository, times(1)).findBadgeIdsByUserId(1L);
+        verify(userBadgeRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("등급 이정표 뱃지는 레벨 구간으로 판정하고, 카운터가 없는 특별 뱃지는 판정하지 않는다")
+    void award_levelMilestone() {
+        when(userBadgeRepository.findBadgeIdsByUserId(2L)).thenReturn(List.of());
+
+        List<BadgeEngine.BadgeRule> awarded = badgeEngine.award(2L, new BadgeEngine.Progress()
+                .record(BadgeEngine.Trigger.LEVEL, 0, 1)
+                .record(BadgeEngine.Trigger.POINTS, 0, 100_000));
+
+        assertThat(awarded).extracting(BadgeEngine.BadgeRule::getName).containsExactly("SILVER_ACHIEVER");
+        assertThat(awarded.get(0).getPointsReward()).isEqualTo(50);
+        verify(badgeRepository, never()).findFirstByName("NIGHT_OWL");
+    }
+
+    private Badge badge(Long id, String name, BadgeCategory category, int reward) {
+        Badge badge = Badge.builder()
+                .name(name)
+                .description(name)
+                .category(category)
+                .pointsReward(reward)
+                .build();
+        ReflectionTestUtils.setField(badge, "id", id);
+        return badge;
+    }
+}
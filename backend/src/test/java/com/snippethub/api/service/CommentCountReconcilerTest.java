@@ -0,0 +1,68 @@
+package com.snippethub.api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentCountReconcilerTest {
+
+    @InjectMocks
+    private CommentCountReconciler reconciler;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    // 각 행을 (id, count) 로 넘겨주는 RowCallbackHandler 응답
+    private void stubRows(String sqlPrefix, long[][] rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (long[] row : rows) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong(1)).thenReturn(row[0]);
+                when(rs.getInt(2)).thenReturn((int) row[1]);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith(sqlPrefix), any(RowCallbackHandler.class), eq(0L), eq(5000L));
+    }
+
+    @Test
+    @DisplayName("저장된 댓글 수와 실제 수가 다른 행만, 읽었던 값과 같을 때 고친다")
+    void reconcile_fixesOnlyDriftedRowsWithCompareAndSet() {
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM snippets", Long.class)).thenReturn(3L);
+        stubRows("SELECT id, comment_count FROM snippets", new long[][]{{1, 2}, {2, 0}, {3, 5}});
+        stubRows("SELECT snippet_id, COUNT(*) FROM comments", new long[][]{{1, 2}, {2, 1}});
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 0});
+
+        int fixed = reconciler.reconcile();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(
+                eq("UPDATE snippets SET comment_count = ? WHERE id = ? AND comment_count = ?"), args.capture());
+        assertThat(args.getValue()).containsExactlyInAnyOrder(new Object[]{1, 2L, 0}, new Object[]{0, 3L, 5});
+        // 두 번째 행은 그 사이 값이 바뀌어 건너뜀
+        assertThat(fixed).isEqualTo(1);
+    }
+}
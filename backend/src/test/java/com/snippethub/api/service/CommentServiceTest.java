@@ -21,6 +21,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
@@ -50,6 +52,9 @@ class CommentServiceTest {
     @Mock
     private SnippetRepository snippetRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User testUser;
     private Post testPost;
     private Snippet testSnippet;
@@ -140,4 +145,54 @@ class CommentServiceTest {
         assertThat(comments).hasSize(2);
         assertThat(comments.getContent().get(0).getContent()).isEqualTo("Comment 1");
     }
+
+    @Test
+    @DisplayName("게시글 댓글 스레드는 쿼리 한 번으로 읽어 메모리에서 트리로 조립한다")
+    void getAllPostCommentsBuildsTreeFromOneQuery() {
+        Comment root = Comment.builder().id(1L).author(testUser).post(testPost).content("root").build();
+        Comment other = Comment.builder().id(2L).author(testUser).post(testPost).content("other").build();
+        Comment reply = Comment.builder().id(3L).author(testUser).post(testPost).parentComment(root).depth(1).content("reply").build();
+        Comment nested = Comment.builder().id(4L).author(testUser).post(testPost).parentComment(reply).depth(2).content("nested").build();
+        when(commentRepository.findThreadByPostId(1L)).thenReturn(Arrays.asList(root, other, reply, nested));
+
+        List<CommentDto.CommentResponseDto> thread = commentService.getAllPostComments(1L);
+
+        assertThat(thread).extracting(CommentDto.CommentResponseDto::getCommentId).containsExactly(1L, 2L);
+        assertThat(thread.get(0).getReplyCount()).isEqualTo(1);
+        assertThat(thread.get(0).getReplies().get(0).getReplies())
+                .extracting(CommentDto.CommentResponseDto::getContent).containsExactly("nested");
+        assertThat(thread.get(1).getReplies()).isEmpty();
+        verify(commentRepository, times(1)).findThreadByPostId(1L);
+        verifyNoMoreInteractions(commentRepository);
+    }
+
+    @Test
+    @DisplayName("대댓글 작성 시 부모 댓글의 대댓글 수를 원자적으로 늘린다")
+    void createReplyIncrementsParentReplyCount() {
+        Comment parent = Comment.builder().id(10L).author(testUser).post(testPost).content("parent").build();
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(postRepository.findById(anyLong())).thenReturn(Optional.of(testPost));
+        when(commentRepository.findById(10L)).thenReturn(Optional.of(parent));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ReflectionTestUtils.setField(testPost, "id", 1L);
+
+        commentService.createPostComment(1L, new CommentDto.CommentRequestDto("reply", 10L), "test@example.com");
+
+        verify(commentRepository).addReplyCount(10L, 1);
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 시 함께 지워지는 대댓글까지 대상의 댓글 수에서 원자적으로 뺀다")
+    void deleteCommentDecrementsCountBySubtree() {
+        ReflectionTestUtils.setField(testPost, "id", 1L);
+        Comment root = Comment.builder().id(10L).author(testUser).post(testPost).content("root").build();
+        when(commentRepository.findWithAuthorById(10L)).thenReturn(Optional.of(root));
+        when(commentRepository.countSubtree(10L)).thenReturn(3);
+
+        commentService.deleteComment(10L, "test@example.com");
+
+        verify(commentRepository).delete(root);
+        verify(postRepository).addCommentCount(1L, -3);
+        verify(commentRepository, never()).addReplyCount(anyLong(), anyInt());
+    }
 }
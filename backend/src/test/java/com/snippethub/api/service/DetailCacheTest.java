@@ -0,0 +1,158 @@
+package com.snippethub.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.snippethub.api.dto.ApiResponse;
+import com.snippethub.api.dto.RawJson;
+import com.snippethub.api.event.LikeToggledEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DetailCacheTest {
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    @Mock
+    private ObjectProvider<RedisConnectionFactory> redisConnectionFactoryProvider;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private DetailCache detailCache;
+
+    @BeforeEach
+    void setUp() {
+        detailCache = new DetailCache(objectMapper, redisTemplateProvider, redisConnectionFactoryProvider);
+    }
+
+    private RawJson get(DetailCache.Kind kind, long id) {
+        return detailCache.get(kind, id, () -> {
+            loads.incrementAndGet();
+            return Map.of("id", id, "title", "제목 " + id);
+        });
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 loader 를 부르지 않고 캐시된 JSON 을 그대로 응답에 넣는다")
+    void get_servesCachedJson() throws Exception {
+        RawJson first = get(DetailCache.Kind.SNIPPET, 1L);
+        RawJson second = get(DetailCache.Kind.SNIPPET, 1L);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.getJson()).isEqualTo(first.getJson());
+        assertThat(objectMapper.writeValueAsString(ApiResponse.success(second)))
+                .isEqualTo("{\"success\":true,\"message\":null,\"data\":" + first.getJson() + "}");
+
+        DetailCache.Stats stats = detailCache.getStats();
+        assertThat(stats.getLocalHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("스니펫과 게시글은 같은 ID 라도 따로 캐시된다")
+    void get_separatesKinds() {
+        get(DetailCache.Kind.SNIPPET, 1L);
+        get(DetailCache.Kind.POST, 1L);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 다시 읽는다")
+    void invalidate_forcesReload() {
+        get(DetailCache.Kind.POST, 1L);
+        detailCache.invalidate(DetailCache.Kind.POST, 1L);
+        get(DetailCache.Kind.POST, 1L);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("좋아요 이벤트가 커밋되면 대상 항목을 지운다")
+    void onLikeToggled_invalidatesTarget() {
+        get(DetailCache.Kind.SNIPPET, 7L);
+        detailCache.onLikeToggled(new LikeToggledEvent(1L, 2L, "liker", "SNIPPET", 7L, "제목", 3L, true));
+        get(DetailCache.Kind.SNIPPET, 7L);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("항목 수를 넘으면 가장 오래 안 쓴 항목부터 내보낸다")
+    void put_evictsLeastRecentlyUsed() {
+        ReflectionTestUtils.setField(detailCache, "maxEntries", 2);
+        get(DetailCache.Kind.SNIPPET, 1L);
+        get(DetailCache.Kind.SNIPPET, 2L);
+        get(DetailCache.Kind.SNIPPET, 1L);      // 1 을 최근 사용으로
+        get(DetailCache.Kind.SNIPPET, 3L);      // 2 가 밀려남
+
+        get(DetailCache.Kind.SNIPPET, 1L);
+        assertThat(loads.get()).isEqualTo(3);
+        get(DetailCache.Kind.SNIPPET, 2L);
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(detailCache.getStats().getEvictions()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 무효화되면 읽은 값은 캐시에 넣지 않는다")
+    void get_skipsStaleFill() {
+        detailCache.get(DetailCache.Kind.POST, 1L, () -> {
+            loads.incrementAndGet();
+            detailCache.invalidate(DetailCache.Kind.POST, 1L);
+            return Map.of("title", "수정 전");
+        });
+        get(DetailCache.Kind.POST, 1L);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis 2차 캐시에 있으면 loader 없이 로컬에도 채우고, 없으면 읽은 값을 Redis 에 저장한다")
+    @SuppressWarnings("unchecked")
+    void get_usesRedisSecondTier() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplateProvider.getObject()).thenReturn(redisTemplate);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("detail-cache:SNIPPET:1")).thenReturn("{\"id\":1}");
+        ReflectionTestUtils.setField(detailCache, "redisEnabled", true);
+
+        assertThat(get(DetailCache.Kind.SNIPPET, 1L).getJson()).isEqualTo("{\"id\":1}");
+        assertThat(get(DetailCache.Kind.SNIPPET, 1L).getJson()).isEqualTo("{\"id\":1}");
+        assertThat(loads.get()).isZero();
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+
+        get(DetailCache.Kind.SNIPPET, 2L);
+        assertThat(loads.get()).isEqualTo(1);
+        verify(valueOperations).set(eq("detail-cache:SNIPPET:2"), anyString(), any(Duration.class));
+
+        DetailCache.Stats stats = detailCache.getStats();
+        assertThat(stats.getRedisHits()).isEqualTo(1);
+        assertThat(stats.getLocalHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+    }
+}
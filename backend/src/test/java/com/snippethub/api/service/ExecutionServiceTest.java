@@ -16,6 +16,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -40,6 +42,9 @@ class ExecutionServiceTest {
     @Mock
     private SnippetRepository snippetRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User testUser;
     private Snippet testSnippet;
     private ExecutionRequest javaRequest;
@@ -170,4 +175,32 @@ class ExecutionServiceTest {
         assertThat(response.getError()).contains("Unsupported language");
         verify(codeExecutionRepository, times(1)).save(any(CodeExecution.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("시간 초과된 실행은 설정된 최대 실행 시간만큼 예산을 차감한다")
+    void chargeableExecutionTime_timeoutChargesMaxExecutionTime() {
+        ReflectionTestUtils.setField(executionService, "maxExecutionTime", 10000L);
+        ExecutionResponse timedOut = ExecutionResponse.builder()
+                .status(CodeExecution.Status.TIMEOUT.name())
+                .error("Execution timed out.")
+                .build();
+
+        assertThat(executionService.chargeableExecutionTime(timedOut, 120)).isEqualTo(10000L);
+    }
+
+    @Test
+    @DisplayName("실행 시간이 없는 실패는 실제로 걸린 시간만큼 예산을 차감한다")
+    void chargeableExecutionTime_failureChargesElapsedTime() {
+        ExecutionResponse compileFailed = ExecutionResponse.builder()
+                .status(CodeExecution.Status.ERROR.name())
+                .error("Compilation failed")
+                .build();
+        ExecutionResponse finished = ExecutionResponse.builder()
+                .status(CodeExecution.Status.SUCCESS.name())
+                .executionTime(300)
+                .build();
+
+        assertThat(executionService.chargeableExecutionTime(compileFailed, 850)).isEqualTo(850L);
+        assertThat(executionService.chargeableExecutionTime(finished, 900)).isEqualTo(300L);
+    }
+}
@@ -0,0 +1,210 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.UserLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LevelStatsTrackerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LevelStatsTracker tracker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tracker = new LevelStatsTracker(jdbcTemplate, transactionManager);
+        tracker.init();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ResultSet bronze = levelRow("BRONZE", 7);
+        ResultSet silver = levelRow("SILVER", 2);
+        ResultSet unset = levelRow(null, 1);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(bronze);
+            handler.processRow(silver);
+            handler.processRow(unset);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT level, COUNT(*)"), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 GROUP BY 한 번으로 적재하고 이후에는 메모리에서 답한다")
+    void getCount_loadsOnceWithSingleGroupBy() {
+        assertThat(tracker.getCount(UserLevel.BRONZE)).isEqualTo(8); // level 이 비어 있으면 브론즈
+        assertThat(tracker.getCount(UserLevel.SILVER)).isEqualTo(2);
+        assertThat(tracker.getCount(UserLevel.LEGEND)).isZero();
+        assertThat(tracker.getTotal()).isEqualTo(10);
+
+        verify(jdbcTemplate, times(1)).query(startsWith("SELECT level, COUNT(*)"), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("등급 변경과 가입은 증분 반영되고, 가입은 커밋 후에만 집계된다")
+    void recordChanges_updateHistogramIncrementally() {
+        tracker.getTotal();
+
+        tracker.recordLevelChange(1L, UserLevel.BRONZE, UserLevel.SILVER);
+        tracker.recordLevelChange(2L, UserLevel.GOLD, UserLevel.GOLD);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tracker.recordNewUser(11L, UserLevel.BRONZE);
+            assertThat(tracker.getCount(UserLevel.BRONZE)).isEqualTo(7);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(tracker.getCount(UserLevel.BRONZE)).isEqualTo(8);
+        assertThat(tracker.getCount(UserLevel.SILVER)).isEqualTo(3);
+        assertThat(tracker.getCount(UserLevel.GOLD)).isZero();
+        assertThat(tracker.getTotal()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("주기 점검은 DB 집계로 어긋난 값을 바로잡는다")
+    void reconcile_resetsDriftToDatabaseCounts() {
+        tracker.getTotal();
+        tracker.recordLevelChange(3L, UserLevel.SILVER, UserLevel.GOLD); // 롤백 등으로 DB 에는 반영되지 않은 변경
+
+        tracker.reconcile();
+
+        assertThat(tracker.getCount(UserLevel.SILVER)).isEqualTo(2);
+        assertThat(tracker.getCount(UserLevel.GOLD)).isZero();
+    }
+
+    @Test
+    @DisplayName("점검 중 기록된 변경은 스냅샷에 이미 반영됐든 아니든 한 번만 센다")
+    void reconcile_countsInFlightChangesOnce() throws Exception {
+        tracker.getTotal();
+        ResultSet bronze = levelRow("BRONZE", 8);
+        ResultSet silver = levelRow("SILVER", 2);
+        doAnswer(invocation -> {
+            // 스냅샷 전에 커밋된 가입(11)과 스냅샷 이후 커밋된 가입(12), 스냅샷 이후 커밋된 승급(1)이 점검 중에 기록됨
+            tracker.recordNewUser(11L, UserLevel.BRONZE);
+            tracker.recordNewUser(12L, UserLevel.BRONZE);
+            tracker.recordLevelChange(1L, UserLevel.BRONZE, UserLevel.SILVER);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(bronze); // 사용자 11 포함, 사용자 1은 아직 브론즈
+            handler.processRow(silver);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT level, COUNT(*)"), any(RowCallbackHandler.class));
+        ResultSet user11 = userRow("BRONZE");
+        ResultSet user1 = userRow("BRONZE");
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(user11);
+            handler.processRow(user1);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT level FROM users WHERE user_id IN"),
+                any(RowCallbackHandler.class), any(Object[].class));
+
+        tracker.reconcile();
+
+        assertThat(tracker.getCount(UserLevel.BRONZE)).isEqualTo(8); // 8 - 11 - 1 + 11 + 12
+        assertThat(tracker.getCount(UserLevel.SILVER)).isEqualTo(3);
+        assertThat(tracker.getTotal()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 중에도 증분은 잠금을 기다리지 않고, 그 사이 바뀐 사용자는 다음 회차에서 조회한다")
+    void reconcile_looksUpSnapshotOutsideDeltaLock() throws Exception {
+        tracker.getTotal();
+        ResultSet bronze = levelRow("BRONZE", 8);
+        ResultSet silver = levelRow("SILVER", 2);
+        doAnswer(invocation -> {
+            tracker.recordNewUser(11L, UserLevel.BRONZE); // 스냅샷에 포함된 가입
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(bronze);
+            handler.processRow(silver);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT level, COUNT(*)"), any(RowCallbackHandler.class));
+        ResultSet user11 = userRow("BRONZE");
+        ResultSet user2 = userRow("BRONZE");
+        AtomicInteger lookups = new AtomicInteger();
+        AtomicBoolean appliedDuringLookup = new AtomicBoolean();
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            if (lookups.getAndIncrement() == 0) {
+                // 다른 스레드의 승급(2)이 조회가 끝나기를 기다리지 않고 반영되어야 한다
+                Thread writer = new Thread(() -> tracker.recordLevelChange(2L, UserLevel.BRONZE, UserLevel.GOLD));
+                writer.start();
+                writer.join(1000);
+                appliedDuringLookup.set(!writer.isAlive());
+                handler.processRow(user11);
+            } else {
+                handler.processRow(user2); // 스냅샷에는 아직 브론즈
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT level FROM users WHERE user_id IN"),
+                any(RowCallbackHandler.class), any(Object[].class));
+
+        tracker.reconcile();
+
+        assertThat(appliedDuringLookup).isTrue();
+        assertThat(lookups).hasValue(2);
+        assertThat(tracker.getCount(UserLevel.BRONZE)).isEqualTo(7); // 8 - 11 - 2 + 11
+        assertThat(tracker.getCount(UserLevel.GOLD)).isEqualTo(1);
+        assertThat(tracker.getTotal()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("사용자 삭제는 커밋 후 해당 등급에서 뺀다")
+    void recordUserDeleted_decrementsAfterCommit() {
+        tracker.getTotal();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tracker.recordUserDeleted(5L, UserLevel.SILVER);
+            assertThat(tracker.getCount(UserLevel.SILVER)).isEqualTo(2);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(tracker.getCount(UserLevel.SILVER)).isEqualTo(1);
+        assertThat(tracker.getTotal()).isEqualTo(9);
+    }
+
+    private ResultSet levelRow(String level, long count) throws Exception {
+        ResultSet rs = userRow(level);
+        when(rs.getLong("user_count")).thenReturn(count);
+        return rs;
+    }
+
+    private ResultSet userRow(String level) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("level")).thenReturn(level);
+        return rs;
+    }
+}
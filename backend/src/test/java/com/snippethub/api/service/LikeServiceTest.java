@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -43,6 +44,9 @@ class LikeServiceTest {
     @Mock
     private SnippetRepository snippetRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User testUser;
     private Post testPost;
     private Snippet testSnippet;
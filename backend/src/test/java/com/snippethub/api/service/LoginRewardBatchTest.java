@@ -0,0 +1,162 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.PointHistory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoginRewardBatchTest {
+
+    private static final LocalDate DAY_1 = LocalDate.of(2026, 3, 1);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PointLedger pointLedger;
+
+    @Mock
+    private BadgeEngine badgeEngine;
+
+    private LoginRewardBatch batch;
+
+    @BeforeEach
+    void setUp() {
+        batch = new LoginRewardBatch(jdbcTemplate, transactionManager, pointLedger, badgeEngine);
+        batch.init();
+    }
+
+    @Test
+    @DisplayName("연속 로그인 7일째에 주간 보너스를 함께 지급한다")
+    void rewardsFor_weeklyBonusOnSeventhDay() {
+        LoginRewardBatch.StreakState state = new LoginRewardBatch.StreakState(1L, 5, DAY_1.atTime(9, 0), null);
+
+        List<PointLedger.PointAward> awards = LoginRewardBatch.rewardsFor(state, List.of(
+                event(2L, DAY_1.plusDays(2)),
+                event(1L, DAY_1.plusDays(1))));
+
+        assertThat(state.streak).isEqualTo(7);
+        assertThat(state.lastLogin).isEqualTo(DAY_1.plusDays(2).atTime(9, 0));
+        assertThat(awards).extracting(PointLedger.PointAward::getPointType).containsExactly(
+                PointHistory.PointType.DAILY_LOGIN,
+                PointHistory.PointType.DAILY_LOGIN,
+                PointHistory.PointType.CONSECUTIVE_LOGIN);
+        assertThat(awards.get(2).getPoints()).isEqualTo(PointService.POINTS_FOR_WEEKLY_LOGIN);
+    }
+
+    @Test
+    @DisplayName("이미 반영된 날짜는 다시 지급하지 않고, 하루 이상 비면 연속 일수를 1로 되돌린다")
+    void rewardsFor_skipsProcessedDaysAndResetsAfterGap() {
+        LoginRewardBatch.StreakState state = new LoginRewardBatch.StreakState(1L, 12, DAY_1.atTime(23, 0), null);
+
+        List<PointLedger.PointAward> replayed = LoginRewardBatch.rewardsFor(state, List.of(event(1L, DAY_1)));
+        assertThat(replayed).isEmpty();
+        assertThat(state.streak).isEqualTo(12);
+
+        List<PointLedger.PointAward> afterGap = LoginRewardBatch.rewardsFor(state, List.of(event(2L, DAY_1.plusDays(3))));
+        assertThat(afterGap).hasSize(1);
+        assertThat(state.streak).isEqualTo(1);
+        assertThat(state.previousStreak).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("첫 로그인부터 30일 연속이면 7일째 주간, 30일째 월간 보너스를 지급한다")
+    void rewardsFor_monthlyBonusOnThirtiethDay() {
+        LoginRewardBatch.StreakState state = new LoginRewardBatch.StreakState(1L, 0, null, null);
+        List<LoginRewardBatch.LoginEvent> events = new ArrayList<>();
+        for (int day = 0; day < 30; day++) {
+            events.add(event(day + 1L, DAY_1.plusDays(day)));
+        }
+
+        List<PointLedger.PointAward> awards = LoginRewardBatch.rewardsFor(state, events);
+
+        assertThat(state.streak).isEqualTo(30);
+        assertThat(awards).filteredOn(award -> award.getPointType() == PointHistory.PointType.CONSECUTIVE_LOGIN)
+                .extracting(PointLedger.PointAward::getPoints)
+                .containsExactly(PointService.POINTS_FOR_WEEKLY_LOGIN, PointService.POINTS_FOR_MONTHLY_LOGIN);
+        assertThat(awards).hasSize(32);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("배치가 실패하면 한 건씩 다시 처리하고, 계속 실패하는 행만 failed 로 표시해 뒤의 기록을 막지 않는다")
+    void processPending_isolatesFailingRow() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.query(startsWith("SELECT event_id"), any(RowMapper.class), any(Object[].class)))
+                .thenReturn(List.of(
+                        new LoginRewardBatch.LoginEvent(1L, 1L, DAY_1, DAY_1.atTime(9, 0)),
+                        new LoginRewardBatch.LoginEvent(2L, 2L, DAY_1, DAY_1.atTime(9, 5))));
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE daily_login_events SET processed = true WHERE"), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("batch failed"))
+                .thenReturn(new int[]{1});
+        ResultSet user1 = mock(ResultSet.class);
+        when(user1.getLong("user_id")).thenReturn(1L);
+        when(user1.getInt("consecutive_login_days")).thenReturn(0);
+        doAnswer(invocation -> {
+            Object userId = invocation.getArgument(2);
+            if (Long.valueOf(2L).equals(userId)) {
+                throw new DataAccessResourceFailureException("bad row");
+            }
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(user1);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT user_id, consecutive_login_days"),
+                any(RowCallbackHandler.class), any(Object[].class));
+        when(pointLedger.applyAwards(anyList())).thenReturn(List.of());
+
+        int processed = batch.processPending();
+
+        assertThat(processed).isEqualTo(1);
+        verify(pointLedger).applyAwards(anyList());
+        verify(jdbcTemplate).update(startsWith("UPDATE daily_login_events SET processed = true, failed = true"), eq(2L));
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE daily_login_events SET processed = true, failed = true"), eq(1L));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 처리 완료 기록을 배치 크기만큼 나눠 지운다")
+    void purgeProcessed_deletesInChunks() {
+        ReflectionTestUtils.setField(batch, "batchSize", 2);
+        when(jdbcTemplate.update(startsWith("DELETE FROM daily_login_events"), any(), eq(2))).thenReturn(2, 1);
+
+        assertThat(batch.purgeProcessed()).isEqualTo(3);
+
+        verify(jdbcTemplate, times(2)).update(startsWith("DELETE FROM daily_login_events"), any(), eq(2));
+    }
+
+    private LoginRewardBatch.LoginEvent event(long eventId, LocalDate date) {
+        LocalDateTime loggedInAt = date.atTime(9, 0);
+        return new LoginRewardBatch.LoginEvent(eventId, 1L, date, loggedInAt);
+    }
+}
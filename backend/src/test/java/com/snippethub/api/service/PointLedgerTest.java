@@ -0,0 +1,292 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.NotificationType;
+import com.snippethub.api.domain.PointHistory;
+import com.snippethub.api.domain.User;
+import com.snippethub.api.domain.PointAwardDeadLetter;
+import com.snippethub.api.domain.UserLevel;
+import com.snippethub.api.repository.PointAwardDeadLetterRepository;
+import com.snippethub.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PointLedgerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private BadgeEngine badgeEngine;
+
+    @Mock
+    private Leaderboard leaderboard;
+
+    @Mock
+    private LevelStatsTracker levelStatsTracker;
+
+    @Mock
+    private PointAwardDeadLetterRepository deadLetterRepository;
+
+    private PointLedger pointLedger;
+
+    @BeforeEach
+    void setUp() {
+        pointLedger = new PointLedger(jdbcTemplate, transactionManager, userRepository, notificationService, badgeEngine,
+                new UserActivityAccumulator(), leaderboard, levelStatsTracker, deadLetterRepository);
+        pointLedger.init();
+    }
+
+    @Test
+    @DisplayName("사용자별로 합산해 이력은 배치 INSERT, 사용자는 한 번씩만 UPDATE 한다")
+    void flush_coalescesAwardsPerUser() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // 반영 후 상태: 사용자 1은 91 → 110 포인트로 실버 승급, 사용자 2는 변화 없음
+        ResultSet user1 = userRow(1L, 110, "BRONZE", 0, 0, 3, 2, 0);
+        ResultSet user2 = userRow(2L, 1, "BRONZE", 0, 0, 0, 0, 1);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(user1);
+            handler.processRow(user2);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT user_id, points"), any(RowCallbackHandler.class), any(Object[].class));
+        User author = User.builder().email("author@example.com").nickname("author").build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(badgeEngine.award(any(), any())).thenReturn(Collections.emptyList());
+        for (int i = 0; i < 3; i++) {
+            pointLedger.append(award(1L, PointHistory.PointType.COMMENT_CREATE, 5, PointLedger.Counter.COMMENTS));
+        }
+        for (int i = 0; i < 2; i++) {
+            pointLedger.append(award(1L, PointHistory.PointType.LIKE_RECEIVE, 2, PointLedger.Counter.LIKES_RECEIVED));
+        }
+        pointLedger.append(award(2L, PointHistory.PointType.CODE_EXECUTION, 1, PointLedger.Counter.CODE_EXECUTIONS));
+
+        int flushed = pointLedger.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> historyRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO point_history"), historyRows.capture());
+
+        assertThat(flushed).isEqualTo(6);
+        assertThat(historyRows.getValue()).hasSize(6);
+        // userId, points, posts, snippets, comments, likesReceived, codeExecutions
+        verify(userRepository).incrementActivity(1L, 19, 0, 0, 3, 2, 0);
+        verify(userRepository).incrementActivity(2L, 1, 0, 0, 0, 0, 1);
+        assertThat(pointLedger.getPendingCount()).isZero();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> levelRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE users SET level"), levelRows.capture());
+        assertThat(levelRows.getValue()).hasSize(1);
+        assertThat(levelRows.getValue().get(0)).containsExactly("SILVER", 1L);
+        verify(notificationService).createNotification(eq(author), anyString(), eq(NotificationType.LEVEL_UP), eq("USER"), any(), any());
+        verify(badgeEngine).award(eq(1L), any(BadgeEngine.Progress.class));
+        verify(badgeEngine).award(eq(2L), any(BadgeEngine.Progress.class));
+        verify(leaderboard).update(1L, 110);
+        verify(leaderboard).update(2L, 1);
+        verify(levelStatsTracker).recordLevelChange(1L, UserLevel.BRONZE, UserLevel.SILVER);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 등록한 내역은 커밋 후에만 큐에 들어간다")
+    void append_insideTransaction_waitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            pointLedger.append(award(1L, PointHistory.PointType.LIKE_RECEIVE, 2, PointLedger.Counter.LIKES_RECEIVED));
+            assertThat(pointLedger.getPendingCount()).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(pointLedger.getPendingCount()).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 재시도하고, 최대 시도 횟수를 넘으면 dead-letter 테이블에 남긴다")
+    void flush_failure_requeuesThenDeadLetters() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO point_history"), anyList()))
+                .thenThrow(new RuntimeException("DB down"));
+        pointLedger.append(award(1L, PointHistory.PointType.COMMENT_CREATE, 5, PointLedger.Counter.COMMENTS));
+
+        assertThat(pointLedger.flush()).isZero();
+        assertThat(pointLedger.getPendingCount()).isEqualTo(1);
+
+        pointLedger.flush();
+        pointLedger.flush();
+
+        assertThat(pointLedger.getPendingCount()).isZero();
+        assertThat(pointLedger.getDeadLetteredCount()).isEqualTo(1);
+        verify(jdbcTemplate, times(3)).batchUpdate(startsWith("INSERT INTO point_history"), anyList());
+        ArgumentCaptor<PointAwardDeadLetter> deadLetter = ArgumentCaptor.forClass(PointAwardDeadLetter.class);
+        verify(deadLetterRepository).save(deadLetter.capture());
+        assertThat(deadLetter.getValue().getUserId()).isEqualTo(1L);
+        assertThat(deadLetter.getValue().getPointChange()).isEqualTo(5);
+        assertThat(deadLetter.getValue().getActivityCounter()).isEqualTo("COMMENTS");
+        assertThat(deadLetter.getValue().getAttempts()).isEqualTo(3);
+        verify(userRepository, never()).incrementActivity(any(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(badgeEngine, never()).award(any(), any());
+    }
+
+    @Test
+    @DisplayName("배치 반영이 실패하면 한 건씩 다시 넣어 문제가 된 내역만 dead-letter 로 넘긴다")
+    void flush_batchFailure_isolatesBadRow() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO point_history"), anyList()))
+                .thenThrow(new RuntimeException("batch failed"))
+                .thenThrow(new DataIntegrityViolationException("user_id fk"))
+                .thenReturn(new int[]{1});
+        pointLedger.append(award(99L, PointHistory.PointType.COMMENT_CREATE, 5, PointLedger.Counter.COMMENTS));
+        pointLedger.append(award(1L, PointHistory.PointType.COMMENT_CREATE, 5, PointLedger.Counter.COMMENTS));
+
+        int flushed = pointLedger.flush();
+
+        assertThat(flushed).isEqualTo(1);
+        assertThat(pointLedger.getPendingCount()).isZero();
+        assertThat(pointLedger.getDeadLetteredCount()).isEqualTo(1);
+        verify(jdbcTemplate, times(3)).batchUpdate(startsWith("INSERT INTO point_history"), anyList());
+        ArgumentCaptor<PointAwardDeadLetter> deadLetter = ArgumentCaptor.forClass(PointAwardDeadLetter.class);
+        verify(deadLetterRepository).save(deadLetter.capture());
+        assertThat(deadLetter.getValue().getUserId()).isEqualTo(99L);
+    }
+
+    @Test
+    @DisplayName("dead-letter 저장도 실패하면 내역을 잃지 않도록 큐에 다시 넣는다")
+    void flush_deadLetterFailure_keepsAward() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO point_history"), anyList()))
+                .thenThrow(new DataIntegrityViolationException("too long"));
+        when(deadLetterRepository.save(any())).thenThrow(new RuntimeException("DB down"));
+        pointLedger.append(award(1L, PointHistory.PointType.COMMENT_CREATE, 5, PointLedger.Counter.COMMENTS));
+
+        pointLedger.flush();
+
+        assertThat(pointLedger.getPendingCount()).isEqualTo(1);
+        assertThat(pointLedger.getDeadLetteredCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영으로 게시글 수가 0에서 늘어난 경우에만 첫 게시글 보상을 등록한다")
+    void flush_firstPost_appendsBonusOnce() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ResultSet first = userRow(1L, 10, "BRONZE", 1, 0, 0, 0, 0);
+        ResultSet second = userRow(2L, 30, "BRONZE", 3, 0, 0, 0, 0);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(first);
+            handler.processRow(second);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT user_id, points"), any(RowCallbackHandler.class), any(Object[].class));
+        User author = User.builder().email("author@example.com").nickname("author").build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(badgeEngine.award(any(), any())).thenReturn(Collections.emptyList());
+        pointLedger.append(award(1L, PointHistory.PointType.POST_CREATE, PointService.POINTS_FOR_POST, PointLedger.Counter.POSTS));
+        pointLedger.append(award(2L, PointHistory.PointType.POST_CREATE, PointService.POINTS_FOR_POST, PointLedger.Counter.POSTS));
+
+        pointLedger.flush();
+
+        // 사용자 1의 첫 게시글 보상 (기본 지급분과의 차액) 만 다시 등록된다
+        assertThat(pointLedger.getPendingCount()).isEqualTo(1);
+        verify(notificationService).createNotification(eq(author), anyString(), eq(NotificationType.POINT_EARNED), eq("USER"), eq(1L), any());
+        verify(userRepository, never()).findById(2L);
+    }
+
+    @Test
+    @DisplayName("dead-letter 재처리는 원래 지급 내역을 큐에 다시 넣고 행을 지운다")
+    void replayDeadLetters_requeuesAwards() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        PointAwardDeadLetter deadLetter = PointAwardDeadLetter.builder()
+                .userId(1L)
+                .pointType("COMMENT_CREATE")
+                .pointChange(5)
+                .description("댓글 작성으로 포인트 획득")
+                .relatedId(100L)
+                .relatedType("COMMENT")
+                .activityCounter("COMMENTS")
+                .attempts(3)
+                .awardedAt(LocalDateTime.now().minusHours(1))
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(deadLetterRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of(deadLetter));
+
+        int replayed = pointLedger.replayDeadLetters(100);
+
+        assertThat(replayed).isEqualTo(1);
+        assertThat(pointLedger.getPendingCount()).isEqualTo(1);
+        verify(deadLetterRepository).deleteAllInBatch(List.of(deadLetter));
+    }
+
+    @Test
+    @DisplayName("새로 획득한 뱃지의 보상 포인트는 원장에 다시 등록된다")
+    void appendBadgeReward_enqueuesBadgeEarnAward() {
+        BadgeEngine.BadgeRule badge = new BadgeEngine.BadgeRule(BadgeEngine.Trigger.COMMENTS, 10, 0, 17L,
+                "COMMENTATOR_10", "10개의 댓글을 작성했습니다!", 15);
+        BadgeEngine.BadgeRule noReward = new BadgeEngine.BadgeRule(BadgeEngine.Trigger.POINTS, 100, 1, 18L,
+                "POINT_COLLECTOR_100", "100포인트를 획득했습니다!", 0);
+
+        pointLedger.appendBadgeReward(1L, badge);
+        pointLedger.appendBadgeReward(1L, noReward);
+
+        assertThat(pointLedger.getPendingCount()).isEqualTo(1);
+    }
+
+    private ResultSet userRow(long userId, int points, String level, int posts, int snippets,
+                              int comments, int likesReceived, int codeExecutions) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("user_id")).thenReturn(userId);
+        when(rs.getInt("points")).thenReturn(points);
+        when(rs.getString("level")).thenReturn(level);
+        when(rs.getInt("total_posts")).thenReturn(posts);
+        when(rs.getInt("total_snippets")).thenReturn(snippets);
+        when(rs.getInt("total_comments")).thenReturn(comments);
+        when(rs.getInt("total_likes_received")).thenReturn(likesReceived);
+        when(rs.getInt("total_code_executions")).thenReturn(codeExecutions);
+        return rs;
+    }
+
+    private PointLedger.PointAward award(Long userId, PointHistory.PointType type, int points, PointLedger.Counter counter) {
+        return new PointLedger.PointAward(userId, type, points, type.getDisplayName(), 100L, "TEST", counter);
+    }
+}
@@ -3,9 +3,12 @@ package com.snippethub.api.service;
 import com.snippethub.api.domain.Post;
 import com.snippethub.api.domain.User;
 import com.snippethub.api.dto.post.PostCreateRequestDto;
+import com.snippethub.api.event.PostCreatedEvent;
 import com.snippethub.api.exception.BusinessException;
 import com.snippethub.api.repository.PostRepository;
 import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.search.SearchDocument;
+import com.snippethub.api.search.SearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,11 +16,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -43,6 +49,18 @@ class PostServiceTest {
     @Mock
     private TagService tagService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private ViewCounter viewCounter;
+
+    @Mock
+    private DetailCache detailCache;
+
     private User testUser;
     private PostCreateRequestDto createRequestDto;
     private Post testPost;
@@ -85,6 +103,7 @@ class PostServiceTest {
         assertThat(createdPost.getAuthor()).isEqualTo(testUser);
         verify(postRepository, times(1)).save(any(Post.class));
         verify(tagService, times(1)).findOrCreateTags(anyList());
+        verify(eventPublisher).publishEvent(any(PostCreatedEvent.class)); // 포인트는 커밋 후 이벤트로 지급
     }
 
     @Test
@@ -106,7 +125,7 @@ class PostServiceTest {
 
         assertThat(foundPost).isNotNull();
         assertThat(foundPost.getTitle()).isEqualTo(testPost.getTitle());
-        assertThat(foundPost.getViewCount()).isEqualTo(testPost.getViewCount() + 1); // 조회수 증가 확인
+        verify(viewCounter).record(ViewCounter.Target.POST, 1L); // 조회수는 버퍼에 누적
     }
 
     @Test
@@ -180,4 +199,20 @@ class PostServiceTest {
         assertThat(result.getContent().get(0).getCategory()).isEqualTo("GENERAL");
         assertThat(result.getContent().get(0).getTitle()).containsIgnoringCase("test");
     }
+
+    @Test
+    @DisplayName("게시글 검색 - 색인을 읽다 실패하면 제목 LIKE 검색으로 대신한다")
+    void getPosts_fallsBackWhenIndexFails() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Post> postPage = new PageImpl<>(List.of(testPost), pageable, 1);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(SearchDocument.Type.POST, "test", null, 0L, 10))
+                .thenThrow(new UncheckedIOException(new IOException("segment missing")));
+        when(postRepository.findByTitleContainingIgnoreCase("test", pageable)).thenReturn(postPage);
+
+        Page<Post> result = postService.getPosts(pageable, null, "test");
+
+        assertThat(result.getContent()).containsExactly(testPost);
+        verify(postRepository, never()).findAllById(any());
+    }
 }
@@ -2,10 +2,17 @@ package com.snippethub.api.service;
 
 import com.snippethub.api.domain.Snippet;
 import com.snippethub.api.domain.User;
+import com.snippethub.api.dto.CursorPageResponseDto;
+import com.snippethub.api.dto.RawJson;
 import com.snippethub.api.dto.snippet.SnippetCreateRequestDto;
+import com.snippethub.api.dto.snippet.SnippetSummaryDto;
 import com.snippethub.api.exception.BusinessException;
 import com.snippethub.api.repository.SnippetRepository;
 import com.snippethub.api.repository.UserRepository;
+import com.snippethub.api.search.CodeSearchIndex;
+import com.snippethub.api.search.SearchDocument;
+import com.snippethub.api.search.SearchIndex;
+import com.snippethub.api.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,11 +20,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -46,6 +57,24 @@ class SnippetServiceTest {
     @Mock
     private TagService tagService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private CodeSearchIndex codeSearchIndex;
+
+    @Mock
+    private ViewCounter viewCounter;
+
+    @Mock
+    private DetailCache detailCache;
+
+    @Mock
+    private TagStatistics tagStatistics;
+
     private User testUser;
     private SnippetCreateRequestDto createRequestDto;
     private Snippet testSnippet;
@@ -111,7 +140,20 @@ class SnippetServiceTest {
 
         assertThat(foundSnippet).isNotNull();
         assertThat(foundSnippet.getTitle()).isEqualTo(testSnippet.getTitle());
-        assertThat(foundSnippet.getViewCount()).isEqualTo(testSnippet.getViewCount() + 1); // 조회수 증가 확인
+        verify(viewCounter).record(ViewCounter.Target.SNIPPET, 1L); // 조회수는 버퍼에 누적
+    }
+
+    @Test
+    @DisplayName("스니펫 상세 응답 - 캐시에서 가져와도 조회수는 센다")
+    void getSnippetDetail_recordsViewOnCacheHit() {
+        RawJson cached = new RawJson("{\"snippetId\":1}");
+        when(detailCache.get(eq(DetailCache.Kind.SNIPPET), eq(1L), any())).thenReturn(cached);
+
+        RawJson detail = snippetService.getSnippetDetail(1L);
+
+        assertThat(detail).isSameAs(cached);
+        verify(snippetRepository, never()).findById(anyLong());
+        verify(viewCounter).record(ViewCounter.Target.SNIPPET, 1L);
     }
 
     @Test
@@ -185,4 +227,103 @@ class SnippetServiceTest {
         assertThat(result.getContent().get(0).getLanguage()).isEqualTo("JAVA");
         assertThat(result.getContent().get(0).getTitle()).containsIgnoringCase("test");
     }
+
+    @Test
+    @DisplayName("목록 요약 조회 - 요약 쿼리 한 번과 태그 쿼리 한 번으로 페이지를 채운다")
+    void getSnippetSummaries_attachesTagsWithSingleQuery() {
+        Pageable pageable = PageRequest.of(0, 10);
+        LocalDateTime now = LocalDateTime.now();
+        List<SnippetSummaryDto> summaries = Arrays.asList(
+                new SnippetSummaryDto(1L, "첫 번째", "JAVA", "설명", "class A {}", 10L, "writer", null, 3, 1, 0, 2, true, now),
+                new SnippetSummaryDto(2L, "두 번째", "PYTHON", "설명", "print(1)", 10L, "writer", null, 0, 0, 0, 0, true, now));
+        when(snippetRepository.findSummaries(null, null, pageable))
+                .thenReturn(new PageImpl<>(summaries, pageable, summaries.size()));
+        when(snippetRepository.findTagNamesBySnippetIds(List.of(1L, 2L)))
+                .thenReturn(Arrays.asList(new Object[]{1L, "java"}, new Object[]{1L, "oop"}));
+
+        Page<SnippetSummaryDto> result = snippetService.getSnippetSummaries(pageable, null, " ");
+
+        assertThat(result.getContent().get(0).getTags()).containsExactly("java", "oop");
+        assertThat(result.getContent().get(1).getTags()).isEmpty();
+        assertThat(result.getContent().get(0).getAuthor().getNickname()).isEqualTo("writer");
+        verify(snippetRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("목록 검색 - 색인이 준비되면 관련도순 ID 순서대로 요약을 돌려준다")
+    void getSnippetSummaries_usesSearchIndexOrder() {
+        Pageable pageable = PageRequest.of(0, 10);
+        LocalDateTime now = LocalDateTime.now();
+        SnippetSummaryDto first = new SnippetSummaryDto(5L, "quick sort", "JAVA", "설명", "void sort() {}", 10L, "writer", null, 0, 9, 0, 0, true, now);
+        SnippetSummaryDto second = new SnippetSummaryDto(3L, "merge sort", "JAVA", "설명", "void merge() {}", 10L, "writer", null, 0, 1, 0, 0, true, now);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(SearchDocument.Type.SNIPPET, "sort", "JAVA", 0L, 10))
+                .thenReturn(new SearchIndex.Hits(2, List.of(5L, 3L)));
+        when(snippetRepository.findSummariesByIds(List.of(5L, 3L))).thenReturn(Arrays.asList(second, first));
+        when(snippetRepository.findTagNamesBySnippetIds(List.of(5L, 3L))).thenReturn(List.of());
+
+        Page<SnippetSummaryDto> result = snippetService.getSnippetSummaries(pageable, "JAVA", "sort");
+
+        assertThat(result.getContent()).extracting(SnippetSummaryDto::getSnippetId).containsExactly(5L, 3L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(snippetRepository, never()).findSummaries(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("목록 검색 - 색인을 읽다 실패하면 제목 LIKE 검색으로 대신한다")
+    void getSnippetSummaries_fallsBackWhenIndexFails() {
+        Pageable pageable = PageRequest.of(0, 10);
+        SnippetSummaryDto match = new SnippetSummaryDto(4L, "quick sort", "JAVA", "설명", "void sort() {}", 10L, "writer", null, 0, 0, 0, 0, true, LocalDateTime.now());
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(SearchDocument.Type.SNIPPET, "sort", "JAVA", 0L, 10))
+                .thenThrow(new UncheckedIOException(new IOException("segment missing")));
+        when(snippetRepository.findSummaries("JAVA", "sort", pageable))
+                .thenReturn(new PageImpl<>(List.of(match), pageable, 1));
+        when(snippetRepository.findTagNamesBySnippetIds(List.of(4L))).thenReturn(List.of());
+
+        Page<SnippetSummaryDto> result = snippetService.getSnippetSummaries(pageable, "JAVA", "sort");
+
+        assertThat(result.getContent()).extracting(SnippetSummaryDto::getSnippetId).containsExactly(4L);
+        verify(snippetRepository, never()).findSummariesByIds(any());
+    }
+
+    @Test
+    @DisplayName("커서 목록 - 한 건 더 읽어 다음 커서를 만들고, 그 커서로 이어서 조회한다")
+    void getSnippetFeed_continuesFromCursor() {
+        LocalDateTime now = LocalDateTime.now();
+        SnippetSummaryDto newest = new SnippetSummaryDto(9L, "최신", "JAVA", "설명", "a", 10L, "writer", null, 0, 0, 0, 0, true, now);
+        SnippetSummaryDto older = new SnippetSummaryDto(7L, "이전", "JAVA", "설명", "b", 10L, "writer", null, 0, 0, 0, 0, true, now.minusMinutes(1));
+        when(snippetRepository.findSummariesCreatedBefore(KeysetCursor.MAX_TIME, Long.MAX_VALUE, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(newest, older));
+        when(snippetRepository.findTagNamesBySnippetIds(List.of(9L))).thenReturn(List.of());
+
+        CursorPageResponseDto<SnippetSummaryDto> first = snippetService.getSnippetFeed("LATEST", " ", null, 1);
+
+        assertThat(first.getContent()).extracting(SnippetSummaryDto::getSnippetId).containsExactly(9L);
+        assertThat(first.isHasNext()).isTrue();
+
+        when(snippetRepository.findSummariesCreatedBefore(now, 9L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(older));
+        when(snippetRepository.findTagNamesBySnippetIds(List.of(7L))).thenReturn(List.of());
+
+        CursorPageResponseDto<SnippetSummaryDto> second = snippetService.getSnippetFeed("LATEST", null, first.getNextCursor(), 1);
+
+        assertThat(second.getContent()).extracting(SnippetSummaryDto::getSnippetId).containsExactly(7L);
+        assertThat(second.isHasNext()).isFalse();
+        verify(snippetRepository, never()).findSummaries(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("커서 목록 - 언어를 지정하면 언어별 인덱스를 쓰는 쿼리로 조회한다")
+    void getSnippetFeed_usesLanguageQueryWhenFiltered() {
+        SnippetSummaryDto popular = new SnippetSummaryDto(3L, "인기", "JAVA", "설명", "a", 10L, "writer", null, 0, 5, 0, 0, true, LocalDateTime.now());
+        when(snippetRepository.findSummariesInLanguageLikedBelow("JAVA", Integer.MAX_VALUE, Long.MAX_VALUE, PageRequest.of(0, 21)))
+                .thenReturn(List.of(popular));
+        when(snippetRepository.findTagNamesBySnippetIds(List.of(3L))).thenReturn(List.of());
+
+        CursorPageResponseDto<SnippetSummaryDto> page = snippetService.getSnippetFeed("POPULAR", "JAVA", null, 20);
+
+        assertThat(page.getContent()).extracting(SnippetSummaryDto::getSnippetId).containsExactly(3L);
+        verify(snippetRepository, never()).findSummariesLikedBelow(anyInt(), anyLong(), any(Pageable.class));
+    }
 }
@@ -0,0 +1,104 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.domain.Tag;
+import com.snippethub.api.repository.TagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TagServiceTest {
+
+    @InjectMocks
+    private TagService tagService;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private static Tag tag(long id, String name) {
+        Tag tag = new Tag(name);
+        ReflectionTestUtils.setField(tag, "id", id);
+        return tag;
+    }
+
+    @Test
+    @DisplayName("이미 있는 태그는 IN 조회 한 번으로 찾고 INSERT 하지 않는다")
+    void findOrCreateTags_existingTagsInOneQuery() {
+        when(tagRepository.findByNameIn(List.of("java", "spring")))
+                .thenReturn(Arrays.asList(tag(1L, "java"), tag(2L, "spring")));
+
+        List<Tag> tags = tagService.findOrCreateTags(Arrays.asList(" java ", "spring", "JAVA", ""));
+
+        assertThat(tags).extracting(Tag::getName).containsExactly("java", "spring");
+        verifyNoInteractions(jdbcTemplate);
+        verify(tagRepository, never()).findByName(anyString());
+    }
+
+    @Test
+    @DisplayName("없는 태그는 INSERT IGNORE 한 번으로 만들고 잠금 읽기로 ID 를 가져온다")
+    void findOrCreateTags_insertsMissingInOneBatch() {
+        when(tagRepository.findByNameIn(List.of("java", "kotlin", "rust"))).thenReturn(List.of(tag(1L, "java")));
+        when(jdbcTemplate.update("INSERT IGNORE INTO tags (name) VALUES (?), (?)", "kotlin", "rust")).thenReturn(1);
+        when(tagRepository.findByNameInForShare(List.of("kotlin", "rust")))
+                .thenReturn(Arrays.asList(tag(3L, "kotlin"), tag(4L, "rust")));
+
+        List<Tag> tags = tagService.findOrCreateTags(List.of("java", "kotlin", "rust"));
+
+        assertThat(tags).extracting(Tag::getId).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("없는 태그는 요청 순서와 관계없이 이름순으로 INSERT 하고 잠근다")
+    void findOrCreateTags_locksMissingInNameOrder() {
+        when(tagRepository.findByNameIn(List.of("Rust", "go", "kotlin"))).thenReturn(List.of());
+        when(jdbcTemplate.update("INSERT IGNORE INTO tags (name) VALUES (?), (?), (?)", "go", "kotlin", "Rust")).thenReturn(3);
+        when(tagRepository.findByNameInForShare(List.of("go", "kotlin", "Rust")))
+                .thenReturn(Arrays.asList(tag(5L, "go"), tag(6L, "kotlin"), tag(7L, "Rust")));
+
+        List<Tag> tags = tagService.findOrCreateTags(List.of("Rust", "go", "kotlin"));
+
+        assertThat(tags).extracting(Tag::getId).containsExactly(7L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("한 번 찾은 태그는 캐시된 ID 의 참조로 돌려줘 다시 조회하지 않는다")
+    void findOrCreateTags_usesCachedIds() {
+        Tag java = tag(1L, "java");
+        when(tagRepository.findByNameIn(List.of("java"))).thenReturn(List.of(java));
+        tagService.findOrCreateTags(List.of("java"));
+
+        when(tagRepository.getReferenceById(1L)).thenReturn(java);
+        List<Tag> tags = tagService.findOrCreateTags(List.of("Java"));
+
+        assertThat(tags).containsExactly(java);
+        assertThat(tagService.getCachedCount()).isEqualTo(1);
+        verify(tagRepository).findByNameIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 DB 에 접근하지 않는다")
+    void findOrCreateTags_emptyInput() {
+        assertThat(tagService.findOrCreateTags(null)).isEmpty();
+        assertThat(tagService.findOrCreateTags(List.of(" "))).isEmpty();
+        verifyNoInteractions(tagRepository, jdbcTemplate);
+    }
+}
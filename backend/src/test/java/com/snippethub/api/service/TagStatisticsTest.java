@@ -0,0 +1,93 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.event.DomainEventRetrier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TagStatisticsTest {
+
+    @InjectMocks
+    private TagStatistics tagStatistics;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DomainEventRetrier retrier;
+
+    // 빈 DB 로 첫 집계를 끝내 메모리에서 응답하게 한다
+    private void reconcileEmpty(int recentPerTag) {
+        ReflectionTestUtils.setField(tagStatistics, "recentPerTag", recentPerTag);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(null);
+        tagStatistics.reconcile();
+    }
+
+    @Test
+    @DisplayName("스니펫/게시글 태그 변경을 이전 태그와의 차이로 반영해 사용 수순 클라우드를 만든다")
+    void tagCloud_appliesIncrementalChanges() {
+        reconcileEmpty(500);
+
+        tagStatistics.applySnippet(1L, Map.of(10L, "java", 11L, "spring"));
+        tagStatistics.applySnippet(2L, Map.of(10L, "java"));
+        tagStatistics.applyPost(1L, Map.of(12L, "kotlin"));
+        // 스니펫 1 의 태그를 spring → kotlin 으로 수정
+        tagStatistics.applySnippet(1L, Map.of(10L, "java", 12L, "kotlin"));
+
+        List<TagStatistics.TagCount> cloud = tagStatistics.getTagCloud(10);
+
+        assertThat(cloud).extracting(TagStatistics.TagCount::getName).containsExactly("java", "kotlin");
+        assertThat(cloud.get(0).getSnippetCount()).isEqualTo(2);
+        assertThat(cloud.get(1).getSnippetCount()).isEqualTo(1);
+        assertThat(cloud.get(1).getPostCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("태그별 스니펫은 최근 목록에서 최신순으로 찾고 DB 를 조회하지 않는다")
+    void taggedSnippetIds_servedFromMemory() {
+        reconcileEmpty(500);
+        for (long id = 1; id <= 5; id++) {
+            tagStatistics.applySnippet(id, Map.of(10L, "java"));
+        }
+        // 비공개로 바뀐 스니펫은 빠진다
+        tagStatistics.applySnippet(4L, Map.of());
+
+        assertThat(tagStatistics.getTaggedSnippetIds("Java", Long.MAX_VALUE, 3)).containsExactly(5L, 3L, 2L);
+        assertThat(tagStatistics.getTaggedSnippetIds("java", 2L, 3)).containsExactly(1L);
+        assertThat(tagStatistics.getTaggedSnippetIds("rust", Long.MAX_VALUE, 3)).isEmpty();
+        // 첫 집계의 MAX(id) 조회 두 번 외에는 DB 를 건드리지 않는다
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("최근 목록보다 오래된 페이지는 DB 에서 읽는다")
+    void taggedSnippetIds_olderPageFallsBackToDb() {
+        reconcileEmpty(2);
+        for (long id = 1; id <= 4; id++) {
+            tagStatistics.applySnippet(id, Map.of(10L, "java"));
+        }
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("java"), eq(3L), eq(2)))
+                .thenReturn(List.of(2L, 1L));
+
+        assertThat(tagStatistics.getTaggedSnippetIds("java", Long.MAX_VALUE, 2)).containsExactly(4L, 3L);
+        assertThat(tagStatistics.getTaggedSnippetIds("java", 3L, 2)).containsExactly(2L, 1L);
+    }
+}
@@ -0,0 +1,114 @@
+package com.snippethub.api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserActivityAccumulatorTest {
+
+    private static final int THREADS = 16;
+    private static final int ADDS_PER_THREAD = 20_000;
+    private static final long[] USER_IDS = {1L, 2L, 3L, 42L, 1_000_003L};
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 누적하고 꺼내도 증분이 유실되지 않는다")
+    void concurrentAddAndDrain_losesNoUpdates() throws Exception {
+        UserActivityAccumulator accumulator = new UserActivityAccumulator(4);
+        Map<Long, UserActivityAccumulator.ActivityDelta> applied = new HashMap<>();
+        AtomicBoolean producing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+
+        try {
+            // 주기적 반영을 흉내내는 소비자: 생산 중에도 계속 꺼내서 합산
+            Future<?> drainer = executor.submit(() -> {
+                start.await();
+                while (producing.get()) {
+                    mergeInto(applied, accumulator.drain());
+                }
+                return null;
+            });
+
+            Future<?>[] producers = new Future<?>[THREADS];
+            for (int t = 0; t < THREADS; t++) {
+                final int seed = t;
+                producers[t] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                        long userId = USER_IDS[(seed + i) % USER_IDS.length];
+                        if (i % 2 == 0) {
+                            accumulator.add(userId, PointService.POINTS_FOR_LIKE_RECEIVED, PointLedger.Counter.LIKES_RECEIVED);
+                        } else {
+                            accumulator.add(userId, PointService.POINTS_FOR_COMMENT, PointLedger.Counter.COMMENTS);
+                        }
+                    }
+                    return null;
+                });
+            }
+
+            start.countDown();
+            for (Future<?> producer : producers) {
+                producer.get(30, TimeUnit.SECONDS);
+            }
+            producing.set(false);
+            drainer.get(30, TimeUnit.SECONDS);
+            mergeInto(applied, accumulator.drain());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long likes = 0;
+        long comments = 0;
+        long points = 0;
+        for (UserActivityAccumulator.ActivityDelta delta : applied.values()) {
+            likes += delta.getLikesReceived();
+            comments += delta.getComments();
+            points += delta.getPoints();
+        }
+        long total = (long) THREADS * ADDS_PER_THREAD;
+        assertThat(likes).isEqualTo(total / 2);
+        assertThat(comments).isEqualTo(total / 2);
+        assertThat(points).isEqualTo(total / 2 * (PointService.POINTS_FOR_LIKE_RECEIVED + PointService.POINTS_FOR_COMMENT));
+        assertThat(applied.keySet()).containsExactlyInAnyOrder(1L, 2L, 3L, 42L, 1_000_003L);
+        assertThat(accumulator.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패로 되돌린 증분과 취소분이 다음 drain 에 합산된다")
+    void restoreAndSubtract_areMergedIntoNextDrain() {
+        UserActivityAccumulator accumulator = new UserActivityAccumulator();
+        accumulator.add(7L, 15, PointLedger.Counter.SNIPPETS);
+        accumulator.add(7L, 1, PointLedger.Counter.CODE_EXECUTIONS);
+
+        Map<Long, UserActivityAccumulator.ActivityDelta> failed = accumulator.drain();
+        accumulator.add(7L, 5, PointLedger.Counter.COMMENTS);
+        accumulator.restore(failed);
+        accumulator.subtract(7L, 1, PointLedger.Counter.CODE_EXECUTIONS);
+
+        UserActivityAccumulator.ActivityDelta delta = accumulator.drain().get(7L);
+        assertThat(delta.getPoints()).isEqualTo(20);
+        assertThat(delta.getSnippets()).isEqualTo(1);
+        assertThat(delta.getComments()).isEqualTo(1);
+        assertThat(delta.getCodeExecutions()).isZero();
+
+        accumulator.add(8L, 2, PointLedger.Counter.LIKES_RECEIVED);
+        accumulator.subtract(8L, 2, PointLedger.Counter.LIKES_RECEIVED);
+        assertThat(accumulator.drain()).isEmpty();
+    }
+
+    private static void mergeInto(Map<Long, UserActivityAccumulator.ActivityDelta> target,
+                                  Map<Long, UserActivityAccumulator.ActivityDelta> drained) {
+        drained.forEach((userId, delta) ->
+                target.computeIfAbsent(userId, id -> new UserActivityAccumulator.ActivityDelta()).merge(delta));
+    }
+}
@@ -53,6 +53,9 @@ class UserServiceTest {
     @Mock
     private FileService fileService;
 
+    @Mock
+    private LevelStatsTracker levelStatsTracker;
+
     private User testUser;
 
     @BeforeEach
@@ -0,0 +1,136 @@
+package com.snippethub.api.service;
+
+import com.snippethub.api.security.ClientIpResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        // 신뢰하는 프록시 없음: 항상 연결 주소를 쓴다
+        viewCounter = new ViewCounter(jdbcTemplate, transactionManager, new ClientIpResolver());
+        ReflectionTestUtils.setField(viewCounter, "dedupExpectedViews", 10_000L);
+        viewCounter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 반복 조회는 한 번만 세고, 다른 사용자는 각각 센다")
+    void record_dedupesRepeatedViewsPerViewer() {
+        assertThat(viewCounter.record(ViewCounter.Target.SNIPPET, 1L, "user:a@test.com")).isTrue();
+        assertThat(viewCounter.record(ViewCounter.Target.SNIPPET, 1L, "user:a@test.com")).isFalse();
+        assertThat(viewCounter.record(ViewCounter.Target.SNIPPET, 1L, "ip:10.0.0.1")).isTrue();
+        assertThat(viewCounter.record(ViewCounter.Target.POST, 1L, "user:a@test.com")).isTrue();
+
+        assertThat(viewCounter.getPending(ViewCounter.Target.SNIPPET, 1L)).isEqualTo(2);
+        assertThat(viewCounter.getPending(ViewCounter.Target.POST, 1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자가 X-Forwarded-For 를 바꿔 보내도 연결 주소 기준으로 한 번만 센다")
+    void record_ignoresSpoofedForwardedFor() {
+        assertThat(recordAnonymous("203.0.113.7", "198.51.100.1")).isTrue();
+        assertThat(recordAnonymous("203.0.113.7", "198.51.100.2")).isFalse();
+        assertThat(recordAnonymous("203.0.113.8", "198.51.100.1")).isTrue();
+
+        assertThat(viewCounter.getPending(ViewCounter.Target.POST, 1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("두 번 교대하면 중복 제거 구간이 지나 다시 센다")
+    void rotate_expiresDedupWindow() {
+        ReflectionTestUtils.setField(viewCounter, "dedupWindowMinutes", 0L);
+        viewCounter.record(ViewCounter.Target.SNIPPET, 1L, "user:a@test.com");
+
+        viewCounter.rotateIfDue();
+        assertThat(viewCounter.record(ViewCounter.Target.SNIPPET, 1L, "user:a@test.com")).isFalse();
+        viewCounter.rotateIfDue();
+        viewCounter.rotateIfDue();
+
+        assertThat(viewCounter.record(ViewCounter.Target.SNIPPET, 1L, "user:a@test.com")).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("쌓인 조회수는 대상별 batch UPDATE 한 번으로 ID 순서대로 반영한다")
+    void flush_batchesIncrementsPerTarget() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        for (int i = 0; i < 5; i++) {
+            viewCounter.record(ViewCounter.Target.SNIPPET, 9L, null);
+        }
+        viewCounter.record(ViewCounter.Target.SNIPPET, 3L, null);
+
+        assertThat(viewCounter.flush()).isEqualTo(2);
+
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE snippets SET view_count = view_count + ? WHERE id = ?"), args.capture());
+        assertThat(args.getValue()).containsExactly(new Object[]{1, 3L}, new Object[]{5, 9L});
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE posts"), anyList());
+        assertThat(viewCounter.getPending(ViewCounter.Target.SNIPPET, 9L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증분을 되돌려 다음 주기에 다시 시도한다")
+    void flush_restoresOnFailure() {
+        TransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        viewCounter.record(ViewCounter.Target.POST, 4L, null);
+        viewCounter.record(ViewCounter.Target.POST, 4L, null);
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE posts"), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+
+        assertThat(viewCounter.flush()).isZero();
+
+        // batch 는 한 트랜잭션이라 실패하면 이미 실행된 행도 롤백된다
+        verify(transactionManager).rollback(status);
+        assertThat(viewCounter.getPending(ViewCounter.Target.POST, 4L)).isEqualTo(2);
+    }
+
+    private boolean recordAnonymous(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return viewCounter.record(ViewCounter.Target.POST, 1L);
+    }
+}
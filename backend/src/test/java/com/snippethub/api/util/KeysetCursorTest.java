@@ -0,0 +1,66 @@
+package com.snippethub.api.util;
+
+import com.snippethub.api.dto.CursorPageResponseDto;
+import com.snippethub.api.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("정렬 키와 ID 를 담은 커서를 그대로 복원한다")
+    void encode_roundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode("LATEST", createdAt, 42L), "LATEST");
+
+        assertThat(cursor.timeValue()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(42L);
+        assertThat(KeysetCursor.decode(KeysetCursor.encode("POPULAR", 17, 3L), "POPULAR").intValue()).isEqualTo(17);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 경계값을 쓴다")
+    void decode_emptyMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null, "LATEST")).isNull();
+        assertThat(KeysetCursor.decode(" ", "LATEST")).isNull();
+        assertThat(KeysetCursor.timeBefore(null)).isEqualTo(KeysetCursor.MAX_TIME);
+        assertThat(KeysetCursor.idBefore(null)).isEqualTo(Long.MAX_VALUE);
+        assertThat(KeysetCursor.idAfter(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 정렬의 커서나 깨진 커서는 거부한다")
+    void decode_rejectsInvalidCursor() {
+        String latest = KeysetCursor.encode("LATEST", LocalDateTime.now(), 1L);
+
+        assertThatThrownBy(() -> KeysetCursor.decode(latest, "POPULAR")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%", "LATEST")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.encode("POPULAR", "many", 1L), "POPULAR").intValue())
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("size + 1 건을 읽었으면 size 건만 주고 마지막 행으로 다음 커서를 만든다")
+    void cursorPage_detectsNextPage() {
+        CursorPageResponseDto<Long> full = CursorPageResponseDto.of(List.of(5L, 4L, 3L), 2,
+                id -> KeysetCursor.encode("LATEST", id, id), id -> id);
+        CursorPageResponseDto<Long> last = CursorPageResponseDto.of(List.of(2L, 1L), 2,
+                id -> KeysetCursor.encode("LATEST", id, id), id -> id);
+
+        assertThat(full.getContent()).containsExactly(5L, 4L);
+        assertThat(full.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(full.getNextCursor(), "LATEST").getId()).isEqualTo(4L);
+        assertThat(last.getContent()).containsExactly(2L, 1L);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        assertThat(KeysetCursor.clampSize(1000)).isEqualTo(KeysetCursor.MAX_SIZE);
+        assertThat(KeysetCursor.clampSize(0)).isEqualTo(1);
+    }
+}
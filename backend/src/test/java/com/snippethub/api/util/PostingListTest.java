@@ -0,0 +1,65 @@
+package com.snippethub.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostingListTest {
+
+    @Test
+    @DisplayName("차이값 varint 로 압축하고 그대로 복원한다")
+    void encode_roundTripsAndCompresses() {
+        long[] ids = new long[1000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = 1_000_000L + i * 3L;
+        }
+
+        PostingList postings = PostingList.of(ids);
+
+        assertThat(postings.toArray()).containsExactly(ids);
+        assertThat(postings.size()).isEqualTo(1000);
+        assertThat(postings.byteSize()).isLessThan(1010); // 첫 값만 여러 바이트, 나머지는 1바이트
+        assertThat(PostingList.EMPTY.cursor().next()).isEqualTo(PostingList.NO_MORE);
+    }
+
+    @Test
+    @DisplayName("advance 는 건너뛰기 지점을 써도 target 이상인 첫 값을 돌려준다")
+    void advance_matchesSortedReference() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            TreeSet<Long> reference = new TreeSet<>();
+            long value = 0;
+            int count = random.nextInt(2000);
+            for (int i = 0; i < count; i++) {
+                value += 1 + random.nextInt(random.nextBoolean() ? 3 : 100_000);
+                reference.add(value);
+            }
+            PostingList postings = PostingList.of(reference.stream().mapToLong(Long::longValue).toArray());
+
+            PostingList.Cursor cursor = postings.cursor();
+            long target = 0;
+            while (true) {
+                target += random.nextInt(50_000);
+                Long expected = reference.ceiling(target);
+                long found = cursor.advance(target);
+                assertThat(found).isEqualTo(expected == null ? PostingList.NO_MORE : expected);
+                if (found == PostingList.NO_MORE) {
+                    break;
+                }
+                target = found;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("오름차순이 아니면 거부한다")
+    void builder_rejectsUnsortedIds() {
+        assertThatThrownBy(() -> new PostingList.Builder().add(5).add(5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
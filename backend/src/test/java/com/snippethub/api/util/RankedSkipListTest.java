@@ -0,0 +1,81 @@
+package com.snippethub.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankedSkipListTest {
+
+    @Test
+    @DisplayName("점수 내림차순, 동점이면 ID 오름차순으로 순위를 매긴다")
+    void rank_ordersByScoreThenId() {
+        RankedSkipList list = new RankedSkipList();
+        list.put(10L, 50);
+        list.put(3L, 120);
+        list.put(7L, 50);
+        list.put(1L, 0);
+
+        assertThat(list.rank(3L)).isEqualTo(1);
+        assertThat(list.rank(7L)).isEqualTo(2);
+        assertThat(list.rank(10L)).isEqualTo(3);
+        assertThat(list.rank(1L)).isEqualTo(4);
+        assertThat(list.rank(99L)).isZero();
+        assertThat(list.countAbove(49)).isEqualTo(3);
+
+        list.put(1L, 200);
+        assertThat(list.rank(1L)).isEqualTo(1);
+        assertThat(list.range(1, 2)).extracting(RankedSkipList.Entry::getId).containsExactly(3L, 7L);
+        assertThat(list.range(1, 2)).extracting(RankedSkipList.Entry::getRank).containsExactly(2L, 3L);
+
+        assertThat(list.remove(3L)).isTrue();
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.rank(7L)).isEqualTo(2);
+        assertThat(list.range(3, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무작위 갱신/삭제 후에도 순위, 구간, 점수대 시작 위치가 정렬 결과와 같다")
+    void randomOperations_matchSortedReference() {
+        RankedSkipList list = new RankedSkipList();
+        Map<Long, Long> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 50_000; step++) {
+            long id = random.nextInt(300);
+            if (random.nextInt(10) < 7) {
+                long score = random.nextInt(40);
+                list.put(id, score);
+                reference.put(id, score);
+            } else {
+                list.remove(id);
+                reference.remove(id);
+            }
+
+            if (step % 1000 == 0) {
+                List<long[]> sorted = new ArrayList<>();
+                reference.forEach((key, value) -> sorted.add(new long[]{key, value}));
+                sorted.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(a[0], b[0]));
+
+                assertThat(list.size()).isEqualTo(sorted.size());
+                for (int i = 0; i < sorted.size(); i++) {
+                    assertThat(list.rank(sorted.get(i)[0])).isEqualTo(i + 1);
+                }
+                int offset = random.nextInt(sorted.size() + 1);
+                List<RankedSkipList.Entry> page = list.range(offset, 20);
+                assertThat(page).hasSize(Math.min(20, sorted.size() - offset));
+                for (int i = 0; i < page.size(); i++) {
+                    assertThat(page.get(i).getId()).isEqualTo(sorted.get(offset + i)[0]);
+                }
+                long threshold = random.nextInt(40);
+                assertThat(list.countAbove(threshold)).isEqualTo(sorted.stream().filter(e -> e[1] > threshold).count());
+            }
+        }
+    }
+}